@@ -0,0 +1,36 @@
+#!/bin/sh
+# Builds an application class-data-sharing archive (Java 11 AppCDS) for the backend.
+#
+#   scripts/build-cds-archive.sh target/backend-1.0-SNAPSHOT.jar build/cds
+#
+# The fat jar is unpacked because CDS cannot archive classes loaded from nested jars or
+# directories. A training run with the cds-training profile starts the application once,
+# records every class it loads and exits; the archive is then dumped from that list.
+# Start the application with the command printed at the end (same classpath, same order).
+set -eu
+
+JAR=${1:?usage: build-cds-archive.sh <application jar> <output dir>}
+OUT=${2:?usage: build-cds-archive.sh <application jar> <output dir>}
+MAIN_CLASS=com.employeemanagement.EmployeeManagementApplication
+
+rm -rf "$OUT"
+mkdir -p "$OUT/exploded"
+(cd "$OUT/exploded" && jar -xf "$(cd "$(dirname "$JAR")" && pwd)/$(basename "$JAR")")
+
+# Application classes must come from a jar to be archived
+jar -cf "$OUT/app-classes.jar" -C "$OUT/exploded/BOOT-INF/classes" .
+mv "$OUT/exploded/BOOT-INF/lib" "$OUT/lib"
+rm -rf "$OUT/exploded"
+
+CLASSPATH="$OUT/app-classes.jar:$(ls "$OUT"/lib/*.jar | tr '\n' ':' | sed 's/:$//')"
+echo "$CLASSPATH" > "$OUT/classpath.txt"
+
+java -Xshare:off -XX:DumpLoadedClassList="$OUT/classes.lst" \
+    -Dspring.profiles.active=cds-training \
+    -cp "$CLASSPATH" "$MAIN_CLASS"
+
+java -Xshare:dump -XX:SharedClassListFile="$OUT/classes.lst" -XX:SharedArchiveFile="$OUT/app.jsa" \
+    -cp "$CLASSPATH"
+
+echo "Archive written to $OUT/app.jsa. Start with:"
+echo "  java -Xshare:auto -XX:SharedArchiveFile=$OUT/app.jsa -cp \$(cat $OUT/classpath.txt) $MAIN_CLASS"
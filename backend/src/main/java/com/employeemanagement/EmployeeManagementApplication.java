@@ -2,12 +2,18 @@ package com.employeemanagement;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 
 @SpringBootApplication
 public class EmployeeManagementApplication {
+    
+    private static final int STARTUP_STEP_CAPACITY = 8192;
 
     public static void main(String[] args) {
-        SpringApplication.run(EmployeeManagementApplication.class, args);
+        SpringApplication application = new SpringApplication(EmployeeManagementApplication.class);
+        // Records startup steps for StartupTimelineReporter; the buffer is drained once ready
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+        application.run(args);
     }
 }
 
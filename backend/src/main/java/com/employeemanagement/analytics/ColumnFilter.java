@@ -0,0 +1,26 @@
+package com.employeemanagement.analytics;
+
+// Row predicate over the encoded columns; unset bounds match everything
+final class ColumnFilter {
+    
+    static final ColumnFilter ALL = new ColumnFilter(-1, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    
+    // Matches nothing, used when a department is not in the dictionary
+    static final ColumnFilter NONE = new ColumnFilter(-1, Integer.MAX_VALUE, Integer.MIN_VALUE);
+    
+    final int departmentCode;
+    final int joinedFromEpochDay;
+    final int joinedToEpochDay;
+    
+    ColumnFilter(int departmentCode, int joinedFromEpochDay, int joinedToEpochDay) {
+        this.departmentCode = departmentCode;
+        this.joinedFromEpochDay = joinedFromEpochDay;
+        this.joinedToEpochDay = joinedToEpochDay;
+    }
+    
+    boolean matches(int departmentCode, int joinedEpochDay) {
+        return (this.departmentCode < 0 || this.departmentCode == departmentCode)
+                && joinedEpochDay >= joinedFromEpochDay
+                && joinedEpochDay <= joinedToEpochDay;
+    }
+}
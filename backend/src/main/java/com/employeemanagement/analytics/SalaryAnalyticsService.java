@@ -0,0 +1,205 @@
+package com.employeemanagement.analytics;
+
+import com.employeemanagement.dto.DepartmentSalaryStats;
+import com.employeemanagement.dto.RaiseSimulationRequest;
+import com.employeemanagement.dto.RaiseSimulationResponse;
+import com.employeemanagement.dto.SalaryHistogramResponse;
+import com.employeemanagement.dto.SalaryPercentilesResponse;
+import com.employeemanagement.entity.Employee;
+import com.employeemanagement.event.BulkLoadCompletedEvent;
+import com.employeemanagement.event.EmployeeChangedEvent;
+import com.employeemanagement.repository.EmployeeRepository;
+import com.employeemanagement.sharding.ShardQueryExecutor;
+import com.employeemanagement.sharding.TenantContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+@Service
+public class SalaryAnalyticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SalaryAnalyticsService.class);
+    
+    // Tenants without employees share this one, which stays empty
+    private static final SalaryColumnStore EMPTY = new SalaryColumnStore();
+    
+    @Autowired
+    private EmployeeRepository employeeRepository;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Autowired
+    private ObjectProvider<ShardQueryExecutor> shardQueryExecutor;
+    
+    // One snapshot per tenant, so every query only ever scans the caller's own employees
+    private volatile Map<String, SalaryColumnStore> stores = new ConcurrentHashMap<>();
+    
+    @EventListener({ApplicationReadyEvent.class, BulkLoadCompletedEvent.class})
+    public void rebuild() {
+        long start = System.nanoTime();
+        Map<String, SalaryColumnStore> next = new ConcurrentHashMap<>();
+        ShardQueryExecutor shards = shardQueryExecutor.getIfAvailable();
+        if (shards != null) {
+            shards.mapAllShards(shard -> {
+                loadCurrentShard(next);
+                return null;
+            });
+        } else {
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setReadOnly(true);
+            transaction.execute(status -> {
+                loadCurrentShard(next);
+                return null;
+            });
+        }
+        stores = next;
+        logger.info("Salary analytics snapshot built with {} employees of {} tenant(s) in {} ms",
+                next.values().stream().mapToInt(SalaryColumnStore::size).sum(), next.size(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (event.isRemoval()) {
+            storeOf(event.getBefore().getTenantId()).remove(event.getEmployeeId());
+            return;
+        }
+        Employee employee = event.getAfter();
+        storeOf(employee.getTenantId()).upsert(employee.getId(), toCents(employee.getSalary()),
+                employee.getDepartment(), (int) employee.getDateOfJoining().toEpochDay());
+    }
+    
+    public SalaryPercentilesResponse getPercentiles(double[] percentiles, String department,
+                                                    LocalDate joinedFrom, LocalDate joinedTo) {
+        SalaryColumnStore store = currentStore();
+        ColumnFilter filter = filter(store, department, joinedFrom, joinedTo);
+        long count = store.range(filter)[0];
+        long[] values = store.percentiles(percentiles, filter);
+        Map<String, BigDecimal> result = new LinkedHashMap<>();
+        for (int i = 0; i < percentiles.length; i++) {
+            result.put("p" + BigDecimal.valueOf(percentiles[i]).stripTrailingZeros().toPlainString(),
+                    values[i] < 0 ? null : fromCents(values[i]));
+        }
+        return new SalaryPercentilesResponse(department, count, result);
+    }
+    
+    public SalaryHistogramResponse getHistogram(int bucketCount, String department,
+                                                LocalDate joinedFrom, LocalDate joinedTo) {
+        SalaryColumnStore store = currentStore();
+        ColumnFilter filter = filter(store, department, joinedFrom, joinedTo);
+        long[] range = store.range(filter);
+        List<SalaryHistogramResponse.Bucket> buckets = new ArrayList<>();
+        if (range[0] == 0) {
+            return new SalaryHistogramResponse(department, 0, BigDecimal.ZERO, buckets);
+        }
+        long min = range[1];
+        long width = Math.max(1, (range[2] - min + bucketCount) / bucketCount);
+        long[] counts = store.histogram(filter, min, width, bucketCount);
+        for (int i = 0; i < bucketCount; i++) {
+            long lower = min + i * width;
+            buckets.add(new SalaryHistogramResponse.Bucket(fromCents(lower), fromCents(lower + width), counts[i]));
+        }
+        return new SalaryHistogramResponse(department, range[0], fromCents(width), buckets);
+    }
+    
+    public List<DepartmentSalaryStats> getDepartmentStats(LocalDate joinedFrom, LocalDate joinedTo) {
+        SalaryColumnStore store = currentStore();
+        List<String> departments = store.departmentNames();
+        long[] aggregates = store.departmentAggregates(filter(store, null, joinedFrom, joinedTo));
+        List<DepartmentSalaryStats> stats = new ArrayList<>();
+        for (int code = 0; code < departments.size() && code * 4 < aggregates.length; code++) {
+            long count = aggregates[code * 4];
+            if (count == 0) {
+                continue;
+            }
+            BigDecimal total = fromCents(aggregates[code * 4 + 1]);
+            stats.add(new DepartmentSalaryStats(departments.get(code), count, total,
+                    total.divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP),
+                    fromCents(aggregates[code * 4 + 2]), fromCents(aggregates[code * 4 + 3])));
+        }
+        return stats;
+    }
+    
+    public RaiseSimulationResponse simulateRaise(RaiseSimulationRequest request) {
+        SalaryColumnStore store = currentStore();
+        List<String> departments = store.departmentNames();
+        int defaultBasisPoints = toBasisPoints(request.getDefaultRaisePercent());
+        int[] basisPoints = new int[departments.size()];
+        for (int code = 0; code < basisPoints.length; code++) {
+            BigDecimal override = request.getDepartmentRaisePercents() != null
+                    ? request.getDepartmentRaisePercents().get(departments.get(code))
+                    : null;
+            basisPoints[code] = override != null ? toBasisPoints(override) : defaultBasisPoints;
+        }
+        
+        long[] payroll = store.simulateRaise(ColumnFilter.ALL, basisPoints);
+        long currentTotal = 0;
+        long projectedTotal = 0;
+        List<RaiseSimulationResponse.DepartmentRaise> result = new ArrayList<>();
+        for (int code = 0; code < departments.size() && code * 2 < payroll.length; code++) {
+            long current = payroll[code * 2];
+            long projected = payroll[code * 2 + 1];
+            if (current == 0) {
+                continue;
+            }
+            currentTotal += current;
+            projectedTotal += projected;
+            result.add(new RaiseSimulationResponse.DepartmentRaise(departments.get(code),
+                    fromCents(current), fromCents(projected)));
+        }
+        return new RaiseSimulationResponse(fromCents(currentTotal), fromCents(projectedTotal), result);
+    }
+    
+    private void loadCurrentShard(Map<String, SalaryColumnStore> next) {
+        try (Stream<Object[]> rows = employeeRepository.streamSalaryColumns()) {
+            rows.forEach(row -> next.computeIfAbsent((String) row[4], tenant -> new SalaryColumnStore())
+                    .upsert((Long) row[0], toCents((BigDecimal) row[1]), (String) row[2],
+                            (int) ((LocalDate) row[3]).toEpochDay()));
+        }
+    }
+    
+    private SalaryColumnStore storeOf(String tenantId) {
+        return stores.computeIfAbsent(tenantId, tenant -> new SalaryColumnStore());
+    }
+    
+    private SalaryColumnStore currentStore() {
+        return stores.getOrDefault(TenantContext.getTenantIdOrDefault(), EMPTY);
+    }
+    
+    private static ColumnFilter filter(SalaryColumnStore store, String department,
+                                       LocalDate joinedFrom, LocalDate joinedTo) {
+        return store.filter(department,
+                joinedFrom != null ? (int) joinedFrom.toEpochDay() : Integer.MIN_VALUE,
+                joinedTo != null ? (int) joinedTo.toEpochDay() : Integer.MAX_VALUE);
+    }
+    
+    private static long toCents(BigDecimal amount) {
+        return amount.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+    
+    private static BigDecimal fromCents(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+    
+    private static int toBasisPoints(BigDecimal percent) {
+        return percent == null ? 0 : percent.movePointRight(2).setScale(0, RoundingMode.HALF_UP).intValueExact();
+    }
+}
@@ -0,0 +1,348 @@
+package com.employeemanagement.analytics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+/**
+ * Columnar snapshot of the employee attributes used for salary analytics.
+ * Salaries are kept in cents, departments are dictionary-encoded and joining dates are
+ * stored as epoch days, so scans touch only primitive arrays. Rows are kept dense:
+ * removing a row moves the last row into its slot.
+ */
+public class SalaryColumnStore {
+    
+    // Below this many rows a sequential scan beats the fork/join overhead
+    private static final int PARALLEL_THRESHOLD = 1 << 15;
+    private static final int CHUNK_SIZE = 1 << 14;
+    
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    // Percentile queries reuse one sort buffer; concurrent queries fall back to a private copy
+    private final ReentrantLock scratchLock = new ReentrantLock();
+    private long[] scratch = new long[0];
+    
+    private long[] ids = new long[1024];
+    private long[] salaryCents = new long[1024];
+    private int[] departmentCodes = new int[1024];
+    private int[] joinedEpochDays = new int[1024];
+    private int size;
+    
+    private final Map<Long, Integer> rowById = new HashMap<>();
+    private final Map<String, Integer> departmentDictionary = new HashMap<>();
+    private final List<String> departmentNames = new ArrayList<>();
+    
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            size = 0;
+            rowById.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public void upsert(long id, long salary, String department, int joinedEpochDay) {
+        lock.writeLock().lock();
+        try {
+            Integer row = rowById.get(id);
+            if (row == null) {
+                ensureCapacity(size + 1);
+                row = size++;
+                rowById.put(id, row);
+                ids[row] = id;
+            }
+            salaryCents[row] = salary;
+            departmentCodes[row] = encode(department);
+            joinedEpochDays[row] = joinedEpochDay;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Integer row = rowById.remove(id);
+            if (row == null) {
+                return;
+            }
+            int last = --size;
+            if (row != last) {
+                ids[row] = ids[last];
+                salaryCents[row] = salaryCents[last];
+                departmentCodes[row] = departmentCodes[last];
+                joinedEpochDays[row] = joinedEpochDays[last];
+                rowById.put(ids[row], row);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    ColumnFilter filter(String department, int joinedFromEpochDay, int joinedToEpochDay) {
+        int code = -1;
+        if (department != null) {
+            lock.readLock().lock();
+            try {
+                Integer encoded = departmentDictionary.get(department);
+                if (encoded == null) {
+                    return ColumnFilter.NONE;
+                }
+                code = encoded;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+        return new ColumnFilter(code, joinedFromEpochDay, joinedToEpochDay);
+    }
+    
+    // Nearest-rank percentiles in cents; entries are -1 when no row matches
+    public long[] percentiles(double[] percentiles, ColumnFilter filter) {
+        lock.readLock().lock();
+        boolean shared = scratchLock.tryLock();
+        try {
+            long[] values;
+            if (shared) {
+                if (scratch.length < size) {
+                    scratch = new long[size];
+                }
+                values = scratch;
+            } else {
+                values = new long[size];
+            }
+            int count = 0;
+            for (int row = 0; row < size; row++) {
+                if (filter.matches(departmentCodes[row], joinedEpochDays[row])) {
+                    values[count++] = salaryCents[row];
+                }
+            }
+            if (count >= PARALLEL_THRESHOLD) {
+                Arrays.parallelSort(values, 0, count);
+            } else {
+                Arrays.sort(values, 0, count);
+            }
+            long[] result = new long[percentiles.length];
+            for (int i = 0; i < percentiles.length; i++) {
+                if (count == 0) {
+                    result[i] = -1;
+                } else {
+                    int rank = (int) Math.ceil(percentiles[i] / 100.0 * count);
+                    result[i] = values[Math.min(count - 1, Math.max(0, rank - 1))];
+                }
+            }
+            return result;
+        } finally {
+            if (shared) {
+                scratchLock.unlock();
+            }
+            lock.readLock().unlock();
+        }
+    }
+    
+    // Returns {count, min, max} of the matching salaries
+    public long[] range(ColumnFilter filter) {
+        lock.readLock().lock();
+        try {
+            return reduceChunks(3, filter, (partial, row) -> {
+                long salary = salaryCents[row];
+                if (partial[0]++ == 0) {
+                    partial[1] = salary;
+                    partial[2] = salary;
+                } else {
+                    partial[1] = Math.min(partial[1], salary);
+                    partial[2] = Math.max(partial[2], salary);
+                }
+            }, (into, from) -> {
+                if (from[0] == 0) {
+                    return;
+                }
+                if (into[0] == 0) {
+                    into[1] = from[1];
+                    into[2] = from[2];
+                } else {
+                    into[1] = Math.min(into[1], from[1]);
+                    into[2] = Math.max(into[2], from[2]);
+                }
+                into[0] += from[0];
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    // Counts of matching salaries per fixed-width bucket starting at minCents
+    public long[] histogram(ColumnFilter filter, long minCents, long bucketWidthCents, int bucketCount) {
+        lock.readLock().lock();
+        try {
+            return reduceChunks(bucketCount, filter, (partial, row) -> {
+                long bucket = (salaryCents[row] - minCents) / bucketWidthCents;
+                partial[(int) Math.max(0, Math.min(bucketCount - 1, bucket))]++;
+            }, SalaryColumnStore::addInto);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Per-department aggregates laid out as four consecutive slots per department code:
+     * count, sum, min and max, all in cents.
+     */
+    public long[] departmentAggregates(ColumnFilter filter) {
+        lock.readLock().lock();
+        try {
+            int departments = departmentNames.size();
+            return reduceChunks(departments * 4, filter, (partial, row) -> {
+                int base = departmentCodes[row] * 4;
+                long salary = salaryCents[row];
+                if (partial[base]++ == 0) {
+                    partial[base + 2] = salary;
+                    partial[base + 3] = salary;
+                } else {
+                    partial[base + 2] = Math.min(partial[base + 2], salary);
+                    partial[base + 3] = Math.max(partial[base + 3], salary);
+                }
+                partial[base + 1] += salary;
+            }, (into, from) -> {
+                for (int base = 0; base < into.length; base += 4) {
+                    if (from[base] == 0) {
+                        continue;
+                    }
+                    if (into[base] == 0) {
+                        into[base + 2] = from[base + 2];
+                        into[base + 3] = from[base + 3];
+                    } else {
+                        into[base + 2] = Math.min(into[base + 2], from[base + 2]);
+                        into[base + 3] = Math.max(into[base + 3], from[base + 3]);
+                    }
+                    into[base] += from[base];
+                    into[base + 1] += from[base + 1];
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Applies a raise, expressed in basis points per department code, without touching
+     * the stored salaries. Returns current and projected payroll per department as
+     * two consecutive slots per department code.
+     */
+    public long[] simulateRaise(ColumnFilter filter, int[] raiseBasisPointsByDepartment) {
+        lock.readLock().lock();
+        try {
+            int departments = departmentNames.size();
+            return reduceChunks(departments * 2, filter, (partial, row) -> {
+                int code = departmentCodes[row];
+                long salary = salaryCents[row];
+                int basisPoints = code < raiseBasisPointsByDepartment.length ? raiseBasisPointsByDepartment[code] : 0;
+                partial[code * 2] += salary;
+                partial[code * 2 + 1] += salary + (salary * basisPoints + 5_000) / 10_000;
+            }, SalaryColumnStore::addInto);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public List<String> departmentNames() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(departmentNames);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public int departmentCode(String department) {
+        lock.readLock().lock();
+        try {
+            Integer code = departmentDictionary.get(department);
+            return code != null ? code : -1;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    // Splits the rows into chunks that are reduced in parallel into per-chunk accumulators
+    private long[] reduceChunks(int width, ColumnFilter filter, RowReducer reducer, Combiner combiner) {
+        int rows = size;
+        if (rows < PARALLEL_THRESHOLD) {
+            long[] result = new long[width];
+            reduceRange(result, 0, rows, filter, reducer);
+            return result;
+        }
+        int chunks = (rows + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        long[][] partials = new long[chunks][];
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            long[] partial = new long[width];
+            int from = chunk * CHUNK_SIZE;
+            reduceRange(partial, from, Math.min(rows, from + CHUNK_SIZE), filter, reducer);
+            partials[chunk] = partial;
+        });
+        long[] result = partials[0];
+        for (int chunk = 1; chunk < chunks; chunk++) {
+            combiner.combine(result, partials[chunk]);
+        }
+        return result;
+    }
+    
+    private void reduceRange(long[] partial, int from, int to, ColumnFilter filter, RowReducer reducer) {
+        for (int row = from; row < to; row++) {
+            if (filter.matches(departmentCodes[row], joinedEpochDays[row])) {
+                reducer.accept(partial, row);
+            }
+        }
+    }
+    
+    private static void addInto(long[] into, long[] from) {
+        for (int i = 0; i < into.length; i++) {
+            into[i] += from[i];
+        }
+    }
+    
+    private int encode(String department) {
+        Integer code = departmentDictionary.get(department);
+        if (code == null) {
+            code = departmentNames.size();
+            departmentDictionary.put(department, code);
+            departmentNames.add(department);
+        }
+        return code;
+    }
+    
+    private void ensureCapacity(int capacity) {
+        if (capacity <= ids.length) {
+            return;
+        }
+        int newLength = Math.max(capacity, ids.length * 2);
+        ids = Arrays.copyOf(ids, newLength);
+        salaryCents = Arrays.copyOf(salaryCents, newLength);
+        departmentCodes = Arrays.copyOf(departmentCodes, newLength);
+        joinedEpochDays = Arrays.copyOf(joinedEpochDays, newLength);
+    }
+    
+    @FunctionalInterface
+    private interface RowReducer {
+        void accept(long[] partial, int row);
+    }
+    
+    @FunctionalInterface
+    private interface Combiner {
+        void combine(long[] into, long[] from);
+    }
+}
@@ -0,0 +1,145 @@
+package com.employeemanagement.archive;
+
+import com.employeemanagement.service.EmployeeArchiveService;
+import com.employeemanagement.sharding.ShardMap;
+import com.employeemanagement.sharding.ShardQueryExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Periodically moves employees whose termination has taken effect into the archive, and purges
+ * archived employees once {@code archive.retention-years} have passed since the end of their
+ * termination year. Both run as a series of small transactions with a pause in between, so
+ * the rows and hierarchy links they touch are only ever locked briefly and regular requests
+ * interleave with a large backlog instead of queueing behind it.
+ */
+@Component
+public class ArchiveMover {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArchiveMover.class);
+    
+    @Autowired
+    private EmployeeArchiveService employeeArchiveService;
+    
+    @Autowired
+    private ObjectProvider<ShardMap> shardMapProvider;
+    
+    @Autowired
+    private ObjectProvider<ShardQueryExecutor> shardQueryExecutorProvider;
+    
+    @Value("${archive.mover.enabled:true}")
+    private boolean enabled;
+    
+    @Value("${archive.mover.interval-ms:60000}")
+    private long intervalMs;
+    
+    @Value("${archive.mover.batch-size:50}")
+    private int batchSize;
+    
+    @Value("${archive.mover.pause-ms:50}")
+    private long pauseMs;
+    
+    @Value("${archive.retention-years:7}")
+    private int retentionYears;
+    
+    private final AtomicLong archived = new AtomicLong();
+    private final AtomicLong purged = new AtomicLong();
+    private ScheduledExecutorService scheduler;
+    
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "archive-mover");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::run, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+    
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+    
+    public long getArchivedCount() {
+        return archived.get();
+    }
+    
+    public long getPurgedCount() {
+        return purged.get();
+    }
+    
+    // Runs one full pass on the calling thread; returns the number of employees archived
+    public int runNow() {
+        LocalDate today = LocalDate.now();
+        int moved = drain(() -> employeeArchiveService.archiveDueBatch(today, batchSize));
+        int removed = drain(() -> employeeArchiveService.purgeBatch(today.getYear() - retentionYears, batchSize));
+        archived.addAndGet(moved);
+        purged.addAndGet(removed);
+        if (moved > 0 || removed > 0) {
+            logger.info("Archived {} terminated employee(s), purged {} past retention", moved, removed);
+        }
+        return moved;
+    }
+    
+    private void run() {
+        try {
+            runNow();
+        } catch (RuntimeException e) {
+            logger.warn("Archive pass failed, will retry: {}", e.getMessage());
+        }
+    }
+    
+    private int drain(Supplier<Integer> batch) {
+        ShardMap shardMap = shardMapProvider.getIfAvailable();
+        ShardQueryExecutor executor = shardQueryExecutorProvider.getIfAvailable();
+        if (shardMap == null || executor == null) {
+            return drainShard(batch);
+        }
+        int total = 0;
+        for (String shardId : shardMap.getShardIds()) {
+            total += drainShard(() -> executor.executeOnShard(shardId, null, false, batch));
+        }
+        return total;
+    }
+    
+    // Each batch commits before the next one starts
+    private int drainShard(Supplier<Integer> batch) {
+        int total = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            int count = batch.get();
+            total += count;
+            if (count < batchSize) {
+                break;
+            }
+            pause();
+        }
+        return total;
+    }
+    
+    private void pause() {
+        try {
+            Thread.sleep(pauseMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
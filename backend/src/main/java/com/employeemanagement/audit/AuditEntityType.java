@@ -0,0 +1,6 @@
+package com.employeemanagement.audit;
+
+public enum AuditEntityType {
+    EMPLOYEE,
+    USER
+}
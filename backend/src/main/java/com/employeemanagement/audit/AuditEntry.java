@@ -0,0 +1,93 @@
+package com.employeemanagement.audit;
+
+import java.time.Instant;
+
+public class AuditEntry {
+
+    private AuditEntityType entityType;
+    private Long entityId;
+    private String tenantId;
+    private String action;
+    private String actor;
+    private Instant timestamp;
+    private Object before;
+    private Object after;
+    
+    public AuditEntry() {}
+    
+    public AuditEntry(AuditEntityType entityType, Long entityId, String tenantId, String action, String actor,
+                      Instant timestamp, Object before, Object after) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.tenantId = tenantId;
+        this.action = action;
+        this.actor = actor;
+        this.timestamp = timestamp;
+        this.before = before;
+        this.after = after;
+    }
+    
+    public AuditEntityType getEntityType() {
+        return entityType;
+    }
+    
+    public void setEntityType(AuditEntityType entityType) {
+        this.entityType = entityType;
+    }
+    
+    public Long getEntityId() {
+        return entityId;
+    }
+    
+    public void setEntityId(Long entityId) {
+        this.entityId = entityId;
+    }
+    
+    public String getTenantId() {
+        return tenantId;
+    }
+    
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+    
+    public String getAction() {
+        return action;
+    }
+    
+    public void setAction(String action) {
+        this.action = action;
+    }
+    
+    public String getActor() {
+        return actor;
+    }
+    
+    public void setActor(String actor) {
+        this.actor = actor;
+    }
+    
+    public Instant getTimestamp() {
+        return timestamp;
+    }
+    
+    public void setTimestamp(Instant timestamp) {
+        this.timestamp = timestamp;
+    }
+    
+    public Object getBefore() {
+        return before;
+    }
+    
+    public void setBefore(Object before) {
+        this.before = before;
+    }
+    
+    public Object getAfter() {
+        return after;
+    }
+    
+    public void setAfter(Object after) {
+        this.after = after;
+    }
+}
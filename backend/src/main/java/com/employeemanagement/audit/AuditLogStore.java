@@ -0,0 +1,107 @@
+package com.employeemanagement.audit;
+
+import com.employeemanagement.sharding.TenantContext;
+import com.employeemanagement.storage.MappedSegmentLog;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class AuditLogStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditLogStore.class);
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Value("${audit.directory:data/audit}")
+    private String directory;
+    
+    @Value("${audit.segment-size-bytes:16777216}")
+    private int segmentSize;
+    
+    private MappedSegmentLog log;
+    
+    // Tenant -> entity key -> record positions in append order
+    private final Map<String, Map<Long, List<Long>>> index = new ConcurrentHashMap<>();
+    
+    @PostConstruct
+    public void open() throws IOException {
+        log = new MappedSegmentLog(Paths.get(directory), "audit", segmentSize);
+        log.scan((key, position) -> indexRecord(tenantAt(position), key, position));
+        logger.info("Audit log opened at {} with {} segment(s) and {} indexed entities",
+                directory, log.segmentCount(), index.values().stream().mapToInt(Map::size).sum());
+    }
+    
+    @PreDestroy
+    public void close() throws IOException {
+        log.close();
+    }
+    
+    // Called only from the audit writer thread
+    public void append(AuditEntry entry) throws IOException {
+        long key = key(entry.getEntityType(), entry.getEntityId());
+        long position = log.append(key, objectMapper.writeValueAsBytes(entry));
+        indexRecord(entry.getTenantId(), key, position);
+    }
+    
+    public void force() {
+        log.force();
+    }
+    
+    public List<AuditEntry> findHistory(String tenantId, AuditEntityType entityType, Long entityId) {
+        List<Long> positions = index.getOrDefault(tenantId, Collections.emptyMap()).get(key(entityType, entityId));
+        if (positions == null) {
+            return Collections.emptyList();
+        }
+        List<Long> snapshot;
+        synchronized (positions) {
+            snapshot = new ArrayList<>(positions);
+        }
+        List<AuditEntry> entries = new ArrayList<>(snapshot.size());
+        for (Long position : snapshot) {
+            try {
+                entries.add(objectMapper.readValue(log.read(position), AuditEntry.class));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read audit record at " + position, e);
+            }
+        }
+        return entries;
+    }
+    
+    private void indexRecord(String tenantId, long key, long position) {
+        List<Long> positions = index.computeIfAbsent(tenantId, t -> new ConcurrentHashMap<>())
+                .computeIfAbsent(key, k -> new ArrayList<>());
+        synchronized (positions) {
+            positions.add(position);
+        }
+    }
+    
+    // Entries written before they carried a tenant belong to the default tenant
+    private String tenantAt(long position) {
+        try {
+            String tenantId = objectMapper.readTree(log.read(position)).path("tenantId").textValue();
+            return tenantId != null ? tenantId : TenantContext.DEFAULT_TENANT;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read audit record at " + position, e);
+        }
+    }
+    
+    private static long key(AuditEntityType entityType, Long entityId) {
+        return ((long) entityType.ordinal() << 56) | entityId;
+    }
+}
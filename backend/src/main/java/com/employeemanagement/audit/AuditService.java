@@ -0,0 +1,93 @@
+package com.employeemanagement.audit;
+
+import com.employeemanagement.entity.Employee;
+import com.employeemanagement.entity.User;
+import com.employeemanagement.event.ChangeType;
+import com.employeemanagement.event.EmployeeChangedEvent;
+import com.employeemanagement.event.UserChangedEvent;
+import com.employeemanagement.sharding.TenantContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class AuditService {
+
+    @Autowired
+    private AuditWriter auditWriter;
+    
+    @Autowired
+    private AuditLogStore auditLogStore;
+    
+    @Value("${audit.enabled:true}")
+    private boolean enabled;
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        Employee employee = event.getAfter() != null ? event.getAfter() : event.getBefore();
+        record(AuditEntityType.EMPLOYEE, event.getEmployeeId(), employee != null ? employee.getTenantId() : null,
+                event.getType(), describeEmployee(event.getBefore()), describeEmployee(event.getAfter()));
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        User user = event.getAfter() != null ? event.getAfter() : event.getBefore();
+        record(AuditEntityType.USER, event.getUserId(), user != null ? user.getTenantId() : null,
+                event.getType(), describeUser(event.getBefore()), describeUser(event.getAfter()));
+    }
+    
+    // Looked up under the caller's tenant, so guessing an id never reveals another tenant's history
+    public List<AuditEntry> getEmployeeHistory(Long employeeId) {
+        return auditLogStore.findHistory(TenantContext.getTenantIdOrDefault(), AuditEntityType.EMPLOYEE, employeeId);
+    }
+    
+    public List<AuditEntry> getUserHistory(Long userId) {
+        return auditLogStore.findHistory(TenantContext.getTenantIdOrDefault(), AuditEntityType.USER, userId);
+    }
+    
+    private void record(AuditEntityType entityType, Long entityId, String tenantId, ChangeType changeType,
+                        Object before, Object after) {
+        auditWriter.enqueue(new AuditEntry(entityType, entityId,
+                tenantId != null ? tenantId : TenantContext.getTenantIdOrDefault(), changeType.name(),
+                currentActor(), Instant.now(), before, after));
+    }
+    
+    private Employee describeEmployee(Employee employee) {
+        return employee != null ? employee.snapshot() : null;
+    }
+    
+    // Password hashes never make it into the audit log
+    private Map<String, Object> describeUser(User user) {
+        if (user == null) {
+            return null;
+        }
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("id", user.getId());
+        description.put("username", user.getUsername());
+        description.put("email", user.getEmail());
+        description.put("roles", new ArrayList<>(user.getRoles()));
+        description.put("employeeId", user.getEmployeeId());
+        description.put("enabled", user.isEnabled());
+        return description;
+    }
+    
+    private String currentActor() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : "system";
+    }
+}
@@ -0,0 +1,131 @@
+package com.employeemanagement.audit;
+
+import com.employeemanagement.util.MpscRingBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drains captured audit entries from a lock-free ring buffer on a background thread,
+ * appending them to the audit log in batches and forcing the log to disk periodically.
+ * Entries are never dropped: when the buffer is full the producer waits for the writer
+ * to make room, and fails if none is made within {@code audit.enqueue-timeout-ms}.
+ */
+@Component
+public class AuditWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditWriter.class);
+    
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    
+    @Autowired
+    private AuditLogStore auditLogStore;
+    
+    @Value("${audit.buffer-capacity:65536}")
+    private int bufferCapacity;
+    
+    @Value("${audit.batch-size:512}")
+    private int batchSize;
+    
+    @Value("${audit.fsync-interval-ms:1000}")
+    private long fsyncIntervalMs;
+    
+    @Value("${audit.enqueue-timeout-ms:5000}")
+    private long enqueueTimeoutMs;
+    
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong stalled = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    
+    private MpscRingBuffer<AuditEntry> buffer;
+    private Thread thread;
+    private volatile boolean running;
+    private boolean dirty;
+    
+    @PostConstruct
+    public void start() {
+        buffer = new MpscRingBuffer<>(bufferCapacity);
+        running = true;
+        thread = new Thread(this::run, "audit-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+    
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(thread);
+        thread.join(TimeUnit.SECONDS.toMillis(10));
+    }
+    
+    public void enqueue(AuditEntry entry) {
+        if (buffer.offer(entry)) {
+            return;
+        }
+        if (stalled.incrementAndGet() % 1000 == 1) {
+            logger.warn("Audit buffer full, producers have waited for the writer {} times so far", stalled.get());
+        }
+        LockSupport.unpark(thread);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(enqueueTimeoutMs);
+        while (!buffer.offer(entry)) {
+            if (!running || System.nanoTime() - deadline >= 0) {
+                failed.incrementAndGet();
+                throw new IllegalStateException("Audit buffer full, cannot record " + entry.getAction() + " of "
+                        + entry.getEntityType() + " " + entry.getEntityId());
+            }
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+    }
+    
+    public long getWrittenCount() {
+        return written.get();
+    }
+    
+    public long getStalledCount() {
+        return stalled.get();
+    }
+    
+    public long getFailedCount() {
+        return failed.get();
+    }
+    
+    private void run() {
+        long lastForce = System.nanoTime();
+        long fsyncIntervalNanos = TimeUnit.MILLISECONDS.toNanos(fsyncIntervalMs);
+        while (running || !buffer.isEmpty()) {
+            int drained = buffer.drain(this::write, batchSize);
+            long now = System.nanoTime();
+            if (dirty && now - lastForce >= fsyncIntervalNanos) {
+                auditLogStore.force();
+                dirty = false;
+                lastForce = now;
+            }
+            if (drained == 0 && running) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        if (dirty) {
+            auditLogStore.force();
+        }
+    }
+    
+    private void write(AuditEntry entry) {
+        try {
+            auditLogStore.append(entry);
+            written.incrementAndGet();
+            dirty = true;
+        } catch (Exception e) {
+            failed.incrementAndGet();
+            logger.error("Failed to write audit entry for {} {}: {}",
+                    entry.getEntityType(), entry.getEntityId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.employeemanagement.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Invalidation transport over a shared database table. Publishers insert rows; every node polls
+ * for rows with a higher id than it has seen. Ids are assigned at insert but become visible at
+ * commit, so a poll re-reads a short window below its high-water mark to pick up rows that
+ * committed late, remembering which ids in that window it has applied already.
+ * <p>
+ * A node that was disconnected resumes from its high-water mark. If rows it never saw have been
+ * purged in the meantime it resyncs instead.
+ */
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.database.enabled", havingValue = "true")
+public class DatabaseInvalidationTransport implements InvalidationTransport {
+    
+    private static final Logger logger = LoggerFactory.getLogger(DatabaseInvalidationTransport.class);
+    
+    private static final int LATE_COMMIT_WINDOW = 256;
+    private static final int MAX_ROWS_PER_POLL = 1000;
+    private static final int MAX_UNSENT = 10_000;
+    
+    @Autowired
+    private DataSource dataSource;
+    
+    @Value("${cache.invalidation.database.poll-interval-ms:500}")
+    private long pollIntervalMs;
+    
+    @Value("${cache.invalidation.database.retention-ms:3600000}")
+    private long retentionMs;
+    
+    private JdbcTemplate jdbcTemplate;
+    private ScheduledExecutorService poller;
+    private Receiver receiver;
+    private long nodeId;
+    private long highWaterMark;
+    private boolean connected = true;
+    private long lastPurge;
+    private final TreeSet<Long> seenInWindow = new TreeSet<>();
+    private final List<InvalidationMessage> unsent = new ArrayList<>();
+    
+    @Override
+    public String getName() {
+        return "database";
+    }
+    
+    @Override
+    public void start(long nodeId, Receiver receiver) {
+        this.nodeId = nodeId;
+        this.receiver = receiver;
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS cache_invalidations ("
+                + "id BIGINT AUTO_INCREMENT PRIMARY KEY, entity_type TINYINT NOT NULL, entity_id BIGINT NOT NULL, "
+                + "version BIGINT NOT NULL, node_id BIGINT NOT NULL, created_at TIMESTAMP NOT NULL)");
+        // Nothing is cached yet, so history before startup is irrelevant
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM cache_invalidations", Long.class);
+        highWaterMark = max != null ? max : 0;
+        poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cache-invalidation-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        poller.scheduleWithFixedDelay(this::poll, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+    }
+    
+    @Override
+    public synchronized void publish(List<InvalidationMessage> messages) {
+        unsent.addAll(messages);
+        if (unsent.size() > MAX_UNSENT) {
+            // While the database is unreachable, one flush per type replaces the backlog
+            EnumSet<InvalidationMessage.EntityType> types = EnumSet.noneOf(InvalidationMessage.EntityType.class);
+            unsent.forEach(message -> types.add(message.getEntityType()));
+            long version = unsent.get(unsent.size() - 1).getVersion();
+            unsent.clear();
+            types.forEach(type -> unsent.add(new InvalidationMessage(type, InvalidationMessage.ALL, version)));
+        }
+        flushUnsent();
+    }
+    
+    @Override
+    public void stop() {
+        if (poller != null) {
+            poller.shutdownNow();
+        }
+    }
+    
+    private synchronized void flushUnsent() {
+        if (unsent.isEmpty()) {
+            return;
+        }
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        jdbcTemplate.batchUpdate("INSERT INTO cache_invalidations (entity_type, entity_id, version, node_id, created_at) "
+                + "VALUES (?, ?, ?, ?, ?)", unsent, unsent.size(), (ps, message) -> {
+                    ps.setInt(1, message.getEntityType().ordinal());
+                    ps.setLong(2, message.getEntityId());
+                    ps.setLong(3, message.getVersion());
+                    ps.setLong(4, nodeId);
+                    ps.setTimestamp(5, now);
+                });
+        unsent.clear();
+    }
+    
+    private void poll() {
+        try {
+            flushUnsent();
+            long windowStart = Math.max(0, highWaterMark - LATE_COMMIT_WINDOW);
+            if (!connected) {
+                // Rows below the oldest retained one were purged while this node was away
+                Long min = jdbcTemplate.queryForObject("SELECT MIN(id) FROM cache_invalidations", Long.class);
+                if (min != null && min > highWaterMark + 1) {
+                    logger.warn("Missed cache invalidations while disconnected, dropping cached entities");
+                    receiver.resync();
+                }
+                connected = true;
+            }
+            List<Object[]> rows = jdbcTemplate.query("SELECT id, entity_type, entity_id, version, node_id "
+                    + "FROM cache_invalidations WHERE id > ? ORDER BY id LIMIT ?",
+                    (rs, rowNum) -> new Object[] { rs.getLong(1), rs.getInt(2), rs.getLong(3), rs.getLong(4), rs.getLong(5) },
+                    windowStart, MAX_ROWS_PER_POLL);
+            for (Object[] row : rows) {
+                long id = (Long) row[0];
+                if (id <= highWaterMark && !seenInWindow.add(id)) {
+                    continue;
+                }
+                if (id > highWaterMark) {
+                    seenInWindow.add(id);
+                    highWaterMark = id;
+                }
+                if ((Long) row[4] != nodeId) {
+                    receiver.receive(new InvalidationMessage(InvalidationMessage.EntityType.values()[(Integer) row[1]],
+                            (Long) row[2], (Long) row[3]));
+                }
+            }
+            seenInWindow.headSet(highWaterMark - LATE_COMMIT_WINDOW).clear();
+            purgeOldRows();
+        } catch (Exception e) {
+            if (connected) {
+                logger.warn("Cache invalidation poll failed, will catch up on reconnect: {}", e.getMessage());
+            }
+            connected = false;
+        }
+    }
+    
+    private void purgeOldRows() {
+        long now = System.currentTimeMillis();
+        if (now - lastPurge < retentionMs / 10) {
+            return;
+        }
+        lastPurge = now;
+        jdbcTemplate.update("DELETE FROM cache_invalidations WHERE created_at < ?", new Timestamp(now - retentionMs));
+    }
+}
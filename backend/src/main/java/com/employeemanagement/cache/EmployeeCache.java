@@ -0,0 +1,67 @@
+package com.employeemanagement.cache;
+
+import com.employeemanagement.entity.Employee;
+import com.employeemanagement.sharding.TenantContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+
+/**
+ * Detached employee snapshots by id, kept coherent across nodes by the {@link InvalidationBus}.
+ * Callers get their own copy, so nothing they do to it can leak into the cache.
+ */
+@Component
+public class EmployeeCache {
+    
+    @Autowired
+    private InvalidationBus invalidationBus;
+    
+    @Value("${cache.employees.enabled:true}")
+    private boolean enabled;
+    
+    @Value("${cache.employees.max-size:50000}")
+    private int maxSize;
+    
+    @Value("${cache.employees.ttl-ms:300000}")
+    private long ttlMs;
+    
+    private EntityCache<Long, Employee> cache;
+    
+    @PostConstruct
+    public void init() {
+        cache = new EntityCache<>(maxSize, ttlMs);
+        invalidationBus.register(InvalidationMessage.EntityType.EMPLOYEE, cache::invalidate, cache::invalidateAll);
+    }
+    
+    public Employee get(Long id) {
+        if (!enabled) {
+            return null;
+        }
+        Employee cached = cache.get(id, TenantContext.getTenantId());
+        return cached != null ? cached.snapshot() : null;
+    }
+    
+    // Take before reading from the database and pass to put
+    public long beginLoad() {
+        return cache.beginLoad();
+    }
+    
+    public void put(Employee employee, long loadGeneration) {
+        if (enabled && isCacheableRead()) {
+            cache.put(employee.getId(), TenantContext.getTenantId(), employee.snapshot(), loadGeneration);
+        }
+    }
+    
+    public EntityCache<Long, Employee> getCache() {
+        return cache;
+    }
+    
+    // A read-write transaction may still roll back or change what it read, so only other reads are cached
+    private static boolean isCacheableRead() {
+        return !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+}
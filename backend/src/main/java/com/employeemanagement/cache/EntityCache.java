@@ -0,0 +1,132 @@
+package com.employeemanagement.cache;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded in-process cache whose entries can be invalidated by another node at any time.
+ * <p>
+ * A load that races an invalidation must not put the value it read before the change: callers
+ * take a generation with {@link #beginLoad()} before reading and pass it to {@link #put}, and an
+ * invalidation leaves a tombstone stamped with a later generation that rejects such puts.
+ * Entries carry the scope they were loaded under (the routing tenant), and a lookup under a
+ * different scope is a miss, since the same id can name different rows on different shards.
+ */
+public class EntityCache<K, V> {
+    
+    private final int maxSize;
+    private final long ttlMillis;
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    // Loads older than this are never cached, set when tombstones may have been dropped
+    private volatile long floor;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    
+    public EntityCache(int maxSize, long ttlMillis) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+    }
+    
+    private static final class Entry<V> {
+        final String scope;
+        // Null for a tombstone
+        final V value;
+        final long generation;
+        final long expiresAt;
+        
+        Entry(String scope, V value, long generation, long expiresAt) {
+            this.scope = scope;
+            this.value = value;
+            this.generation = generation;
+            this.expiresAt = expiresAt;
+        }
+    }
+    
+    public V get(K key, String scope) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null || entry.value == null || !Objects.equals(entry.scope, scope)
+                || entry.expiresAt < System.currentTimeMillis()) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value;
+    }
+    
+    public long beginLoad() {
+        return generation.get();
+    }
+    
+    public void put(K key, String scope, V value, long loadGeneration) {
+        if (loadGeneration < floor) {
+            return;
+        }
+        Entry<V> entry = new Entry<>(scope, value, loadGeneration, System.currentTimeMillis() + ttlMillis);
+        entries.compute(key, (k, existing) -> existing != null && existing.value == null
+                && existing.generation > loadGeneration ? existing : entry);
+        // A flush may have cleared the map between the floor check and the insert
+        if (loadGeneration < floor) {
+            entries.remove(key, entry);
+        }
+        if (entries.size() > maxSize) {
+            evict();
+        }
+    }
+    
+    public void invalidate(K key) {
+        long stamp = generation.incrementAndGet();
+        entries.put(key, new Entry<>(null, null, stamp, System.currentTimeMillis() + ttlMillis));
+        invalidations.increment();
+    }
+    
+    // For invalidations whose key cannot be resolved: nothing read before now gets cached
+    public void rejectInFlightLoads() {
+        floor = generation.incrementAndGet();
+    }
+    
+    public void invalidateAll() {
+        floor = generation.incrementAndGet();
+        entries.clear();
+        invalidations.increment();
+    }
+    
+    public int size() {
+        return entries.size();
+    }
+    
+    public long getHits() {
+        return hits.sum();
+    }
+    
+    public long getMisses() {
+        return misses.sum();
+    }
+    
+    public long getInvalidations() {
+        return invalidations.sum();
+    }
+    
+    // Expired entries first, then arbitrary ones until a tenth of the room is free again
+    private void evict() {
+        floor = generation.incrementAndGet();
+        long now = System.currentTimeMillis();
+        int target = maxSize - maxSize / 10;
+        Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getValue().expiresAt < now) {
+                iterator.remove();
+            }
+        }
+        iterator = entries.entrySet().iterator();
+        while (entries.size() > target && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package com.employeemanagement.cache;
+
+import com.employeemanagement.dto.ExistenceFilterStats;
+import com.employeemanagement.entity.Employee;
+import com.employeemanagement.entity.User;
+import com.employeemanagement.event.BulkLoadCompletedEvent;
+import com.employeemanagement.event.EmployeeChangedEvent;
+import com.employeemanagement.event.UserChangedEvent;
+import com.employeemanagement.repository.EmployeeRepository;
+import com.employeemanagement.repository.UserRepository;
+import com.employeemanagement.sharding.ShardQueryExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+/**
+ * Bloom filters in front of the email and username existence checks. A negative answer is
+ * definite and skips the query; a possible positive falls through to the repository.
+ * <p>
+ * Values are added when the change event is published, inside the writing transaction, so a
+ * value is in the filter before any other transaction can see its row. Filters are rebuilt
+ * from the database after bulk loads and when they outgrow their sizing; puts made while a
+ * rebuild streams rows are replayed into the new filters before they replace the old ones.
+ */
+@Service
+public class ExistenceFilterService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ExistenceFilterService.class);
+    
+    public enum Kind {
+        EMPLOYEE_EMAIL, USER_EMAIL, USERNAME
+    }
+    
+    @Autowired
+    private EmployeeRepository employeeRepository;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Autowired
+    private ObjectProvider<ShardQueryExecutor> shardQueryExecutor;
+    
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private TaskExecutor taskExecutor;
+    
+    @Value("${existence-filter.enabled:true}")
+    private boolean enabled;
+    
+    // Lower bound for sizing; filters are sized for twice the current row count
+    @Value("${existence-filter.expected-insertions:100000}")
+    private long minExpectedInsertions;
+    
+    @Value("${existence-filter.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+    
+    // Null until the first build completes; every check falls through until then
+    private volatile Map<Kind, BloomFilter> filters;
+    private volatile Map<Kind, BloomFilter> building;
+    
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final AtomicBoolean rebuildRequested = new AtomicBoolean();
+    private final AtomicLong putSequence = new AtomicLong();
+    private final ConcurrentLinkedQueue<PendingPut> recentPuts = new ConcurrentLinkedQueue<>();
+    private final Map<Kind, Counters> counters = new EnumMap<>(Kind.class);
+    
+    public ExistenceFilterService() {
+        for (Kind kind : Kind.values()) {
+            counters.put(kind, new Counters());
+        }
+    }
+    
+    private static final class PendingPut {
+        final long sequence;
+        final Kind kind;
+        final String value;
+        
+        PendingPut(long sequence, Kind kind, String value) {
+            this.sequence = sequence;
+            this.kind = kind;
+            this.value = value;
+        }
+    }
+    
+    private static final class Counters {
+        final LongAdder definiteNegatives = new LongAdder();
+        final LongAdder fallThroughs = new LongAdder();
+        final LongAdder falsePositives = new LongAdder();
+    }
+    
+    // Runs lookup only if the filter cannot rule the value out
+    public boolean exists(Kind kind, String value, BooleanSupplier lookup) {
+        if (!mightExist(kind, value)) {
+            return false;
+        }
+        boolean found = lookup.getAsBoolean();
+        recordLookup(kind, found);
+        return found;
+    }
+    
+    // For callers whose repository answer is not a plain exists; follow with recordLookup
+    public boolean mightExist(Kind kind, String value) {
+        Map<Kind, BloomFilter> current = filters;
+        if (value == null || current == null || current.get(kind).mightContain(normalize(value))) {
+            return true;
+        }
+        counters.get(kind).definiteNegatives.increment();
+        return false;
+    }
+    
+    public void recordLookup(Kind kind, boolean found) {
+        Counters kindCounters = counters.get(kind);
+        kindCounters.fallThroughs.increment();
+        if (!found && filters != null) {
+            kindCounters.falsePositives.increment();
+        }
+    }
+    
+    public List<ExistenceFilterStats> getStats() {
+        Map<Kind, BloomFilter> current = filters;
+        List<ExistenceFilterStats> stats = new ArrayList<>();
+        for (Kind kind : Kind.values()) {
+            Counters kindCounters = counters.get(kind);
+            long negatives = kindCounters.definiteNegatives.sum();
+            long falsePositives = kindCounters.falsePositives.sum();
+            BloomFilter filter = current != null ? current.get(kind) : null;
+            stats.add(new ExistenceFilterStats(kind.name(), filter != null,
+                    filter != null ? filter.getInsertions() : 0,
+                    filter != null ? filter.getExpectedInsertions() : 0,
+                    filter != null ? filter.getBitCount() : 0,
+                    filter != null ? filter.getHashCount() : 0,
+                    negatives, kindCounters.fallThroughs.sum(), falsePositives,
+                    negatives + falsePositives > 0 ? (double) falsePositives / (negatives + falsePositives) : 0,
+                    filter != null ? filter.estimatedFalsePositiveRate() : 0));
+        }
+        return stats;
+    }
+    
+    // Synchronous on purpose: the value must be in the filter before the row commits
+    @EventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        Employee employee = event.getAfter();
+        if (employee != null) {
+            put(Kind.EMPLOYEE_EMAIL, employee.getEmail());
+        }
+    }
+    
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        User user = event.getAfter();
+        if (user != null) {
+            put(Kind.USER_EMAIL, user.getEmail());
+            put(Kind.USERNAME, user.getUsername());
+        }
+    }
+    
+    // A request arriving mid-rebuild is not dropped: the running rebuild goes round again
+    @EventListener({ApplicationReadyEvent.class, BulkLoadCompletedEvent.class})
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        rebuildRequested.set(true);
+        while (rebuildRequested.get() && rebuilding.compareAndSet(false, true)) {
+            try {
+                rebuildRequested.set(false);
+                buildFilters();
+            } finally {
+                rebuilding.set(false);
+            }
+        }
+    }
+    
+    private void buildFilters() {
+        long start = System.nanoTime();
+        long startSequence = putSequence.get();
+        long expected = Math.max(minExpectedInsertions, 2 * countRows());
+        Map<Kind, BloomFilter> next = new EnumMap<>(Kind.class);
+        for (Kind kind : Kind.values()) {
+            next.put(kind, new BloomFilter(expected, falsePositiveRate));
+        }
+        building = next;
+        load(next);
+        // Puts since the previous rebuild may belong to transactions the stream did not see
+        for (PendingPut pending : recentPuts) {
+            next.get(pending.kind).put(pending.value);
+        }
+        filters = next;
+        building = null;
+        while (!recentPuts.isEmpty() && recentPuts.peek().sequence <= startSequence) {
+            recentPuts.poll();
+        }
+        logger.info("Existence filters built with capacity {} in {} ms", expected,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+    
+    private void put(Kind kind, String value) {
+        if (!enabled || value == null) {
+            return;
+        }
+        String normalized = normalize(value);
+        recentPuts.add(new PendingPut(putSequence.incrementAndGet(), kind, normalized));
+        Map<Kind, BloomFilter> current = filters;
+        Map<Kind, BloomFilter> next = building;
+        if (current != null) {
+            BloomFilter filter = current.get(kind);
+            filter.put(normalized);
+            if (filter.getInsertions() > filter.getExpectedInsertions() && !rebuildRequested.getAndSet(true)) {
+                taskExecutor.execute(this::rebuild);
+            }
+        }
+        if (next != null) {
+            next.get(kind).put(normalized);
+        }
+    }
+    
+    private long countRows() {
+        ShardQueryExecutor shards = shardQueryExecutor.getIfAvailable();
+        if (shards != null) {
+            long total = 0;
+            for (Long count : shards.mapAllShards(shard -> Math.max(employeeRepository.count(),
+                    userRepository.count())).values()) {
+                total += count;
+            }
+            return total;
+        }
+        return Math.max(employeeRepository.count(), userRepository.count());
+    }
+    
+    // Every shard has to be read, or values on other shards would be reported as absent
+    private void load(Map<Kind, BloomFilter> next) {
+        ShardQueryExecutor shards = shardQueryExecutor.getIfAvailable();
+        if (shards != null) {
+            shards.mapAllShards(shard -> {
+                loadCurrentShard(next);
+                return null;
+            });
+            return;
+        }
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        transaction.execute(status -> {
+            loadCurrentShard(next);
+            return null;
+        });
+    }
+    
+    private void loadCurrentShard(Map<Kind, BloomFilter> next) {
+        try (Stream<String> emails = employeeRepository.streamEmails()) {
+            emails.forEach(email -> next.get(Kind.EMPLOYEE_EMAIL).put(normalize(email)));
+        }
+        try (Stream<Object[]> rows = userRepository.streamUsernamesAndEmails()) {
+            rows.forEach(row -> {
+                next.get(Kind.USERNAME).put(normalize((String) row[0]));
+                next.get(Kind.USER_EMAIL).put(normalize((String) row[1]));
+            });
+        }
+    }
+    
+    // Lowercasing only adds false positives, and keeps the filter valid for case-insensitive collations
+    private static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,249 @@
+package com.employeemanagement.cache;
+
+import com.employeemanagement.event.EmployeeChangedEvent;
+import com.employeemanagement.event.UserChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+/**
+ * Keeps in-process entity caches coherent across nodes. Committed changes are applied to the
+ * local caches straight away and queued for a publisher thread, which hands them in batches to
+ * every configured {@link InvalidationTransport}; invalidations arriving from other nodes are
+ * applied to the local caches only. Versions come from a hybrid logical clock, so they order
+ * changes from one node and stay close to wall-clock time across nodes.
+ */
+@Component
+public class InvalidationBus implements InvalidationTransport.Receiver {
+    
+    private static final Logger logger = LoggerFactory.getLogger(InvalidationBus.class);
+    
+    private static final int MAX_BATCH = 512;
+    
+    @Autowired(required = false)
+    private List<InvalidationTransport> transports = Collections.emptyList();
+    
+    private final long nodeId = new SecureRandom().nextLong();
+    private final AtomicLong clock = new AtomicLong();
+    private final Map<InvalidationMessage.EntityType, List<Target>> targets =
+            new EnumMap<>(InvalidationMessage.EntityType.class);
+    private final LinkedBlockingQueue<InvalidationMessage> outbound = new LinkedBlockingQueue<>();
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong resyncs = new AtomicLong();
+    private Thread publisher;
+    private volatile boolean running;
+    
+    public InvalidationBus() {
+        for (InvalidationMessage.EntityType type : InvalidationMessage.EntityType.values()) {
+            targets.put(type, new CopyOnWriteArrayList<>());
+        }
+    }
+    
+    private static final class Target {
+        final LongConsumer invalidate;
+        final Runnable invalidateAll;
+        
+        Target(LongConsumer invalidate, Runnable invalidateAll) {
+            this.invalidate = invalidate;
+            this.invalidateAll = invalidateAll;
+        }
+    }
+    
+    @PostConstruct
+    public void start() {
+        for (InvalidationTransport transport : transports) {
+            transport.start(nodeId, this);
+            logger.info("Cache invalidation transport {} started", transport.getName());
+        }
+        if (transports.isEmpty()) {
+            return;
+        }
+        running = true;
+        publisher = new Thread(this::publishLoop, "cache-invalidation-publisher");
+        publisher.setDaemon(true);
+        publisher.start();
+    }
+    
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (publisher != null) {
+            publisher.interrupt();
+            publisher.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        for (InvalidationTransport transport : transports) {
+            transport.stop();
+        }
+    }
+    
+    public void register(InvalidationMessage.EntityType type, LongConsumer invalidate, Runnable invalidateAll) {
+        targets.get(type).add(new Target(invalidate, invalidateAll));
+    }
+    
+    // Local entries go as soon as the change is made; other nodes only hear of it once it commits
+    @EventListener
+    public void onEmployeeChanging(EmployeeChangedEvent event) {
+        evictLocally(InvalidationMessage.EntityType.EMPLOYEE, event.getEmployeeId());
+    }
+    
+    @EventListener
+    public void onUserChanging(UserChangedEvent event) {
+        evictLocally(InvalidationMessage.EntityType.USER, event.getUserId());
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        publish(InvalidationMessage.EntityType.EMPLOYEE, event.getEmployeeId());
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        publish(InvalidationMessage.EntityType.USER, event.getUserId());
+    }
+    
+    // For bulk statements that change rows without publishing change events
+    public void publishAfterCommit(InvalidationMessage.EntityType type, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<Long> copy = new ArrayList<>(ids);
+        copy.forEach(id -> evictLocally(type, id));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            copy.forEach(id -> publish(type, id));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                copy.forEach(id -> publish(type, id));
+            }
+        });
+    }
+    
+    public void publishFlush(InvalidationMessage.EntityType type) {
+        publish(type, InvalidationMessage.ALL);
+    }
+    
+    @Override
+    public void receive(InvalidationMessage message) {
+        received.incrementAndGet();
+        observe(message.getVersion());
+        apply(message);
+    }
+    
+    // A transport lost track of a peer, so anything cached may be stale
+    @Override
+    public void resync() {
+        resyncs.incrementAndGet();
+        for (List<Target> typeTargets : targets.values()) {
+            typeTargets.forEach(target -> target.invalidateAll.run());
+        }
+    }
+    
+    public long getNodeId() {
+        return nodeId;
+    }
+    
+    public long getPublishedCount() {
+        return published.get();
+    }
+    
+    public long getReceivedCount() {
+        return received.get();
+    }
+    
+    public long getResyncCount() {
+        return resyncs.get();
+    }
+    
+    public int getPendingCount() {
+        return outbound.size();
+    }
+    
+    public List<String> getTransportNames() {
+        List<String> names = new ArrayList<>();
+        transports.forEach(transport -> names.add(transport.getName()));
+        return names;
+    }
+    
+    private void publish(InvalidationMessage.EntityType type, Long id) {
+        if (id == null) {
+            return;
+        }
+        InvalidationMessage message = new InvalidationMessage(type, id, tick());
+        apply(message);
+        if (running) {
+            outbound.add(message);
+        }
+    }
+    
+    private void evictLocally(InvalidationMessage.EntityType type, Long id) {
+        if (id != null) {
+            targets.get(type).forEach(target -> target.invalidate.accept(id));
+        }
+    }
+    
+    private void apply(InvalidationMessage message) {
+        for (Target target : targets.get(message.getEntityType())) {
+            if (message.isFlush()) {
+                target.invalidateAll.run();
+            } else {
+                target.invalidate.accept(message.getEntityId());
+            }
+        }
+    }
+    
+    private void publishLoop() {
+        List<InvalidationMessage> batch = new ArrayList<>(MAX_BATCH);
+        while (running) {
+            try {
+                batch.add(outbound.take());
+                outbound.drainTo(batch, MAX_BATCH - 1);
+            } catch (InterruptedException e) {
+                break;
+            }
+            for (InvalidationTransport transport : transports) {
+                try {
+                    transport.publish(batch);
+                } catch (Exception e) {
+                    // Transports keep what they failed to send and retry it themselves
+                    logger.warn("Cache invalidation transport {} failed to publish {} message(s): {}",
+                            transport.getName(), batch.size(), e.getMessage());
+                }
+            }
+            published.addAndGet(batch.size());
+            batch.clear();
+        }
+    }
+    
+    // Physical milliseconds in the high bits, a logical counter in the low 16
+    private long tick() {
+        long physical = System.currentTimeMillis() << 16;
+        return clock.updateAndGet(last -> Math.max(last + 1, physical));
+    }
+    
+    private void observe(long remoteVersion) {
+        clock.updateAndGet(last -> Math.max(last, remoteVersion));
+    }
+}
@@ -0,0 +1,58 @@
+package com.employeemanagement.cache;
+
+import java.nio.ByteBuffer;
+
+/**
+ * One cache invalidation: which entity changed and the publishing node's clock when it did.
+ * An id of {@link #ALL} drops every cached entity of the type.
+ */
+public final class InvalidationMessage {
+    
+    public enum EntityType {
+        EMPLOYEE, USER
+    }
+    
+    public static final long ALL = -1;
+    public static final int ENCODED_SIZE = 1 + 2 * Long.BYTES;
+    
+    private static final EntityType[] TYPES = EntityType.values();
+    
+    private final EntityType entityType;
+    private final long entityId;
+    private final long version;
+    
+    public InvalidationMessage(EntityType entityType, long entityId, long version) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.version = version;
+    }
+    
+    public EntityType getEntityType() {
+        return entityType;
+    }
+    
+    public long getEntityId() {
+        return entityId;
+    }
+    
+    public long getVersion() {
+        return version;
+    }
+    
+    public boolean isFlush() {
+        return entityId == ALL;
+    }
+    
+    public void encode(ByteBuffer buffer) {
+        buffer.put((byte) entityType.ordinal()).putLong(entityId).putLong(version);
+    }
+    
+    public static InvalidationMessage decode(ByteBuffer buffer) {
+        return new InvalidationMessage(TYPES[buffer.get()], buffer.getLong(), buffer.getLong());
+    }
+    
+    @Override
+    public String toString() {
+        return entityType + ":" + (isFlush() ? "*" : String.valueOf(entityId)) + "@" + version;
+    }
+}
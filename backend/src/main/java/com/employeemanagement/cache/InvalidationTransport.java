@@ -0,0 +1,26 @@
+package com.employeemanagement.cache;
+
+import java.util.List;
+
+/**
+ * Carries invalidations between nodes. Delivery is at least once: a transport that cannot
+ * prove it saw everything since it last heard from a peer calls {@link Receiver#resync()},
+ * which drops the affected caches wholesale.
+ */
+public interface InvalidationTransport {
+    
+    String getName();
+    
+    void start(long nodeId, Receiver receiver);
+    
+    // Called from a single publisher thread, after the changes have committed
+    void publish(List<InvalidationMessage> messages);
+    
+    void stop();
+    
+    interface Receiver {
+        void receive(InvalidationMessage message);
+        
+        void resync();
+    }
+}
@@ -0,0 +1,344 @@
+package com.employeemanagement.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.MulticastSocket;
+import java.net.NetworkInterface;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Invalidation transport over UDP multicast, for nodes on one network segment or one host.
+ * <p>
+ * Each node numbers its data packets and keeps the most recent ones for retransmission. Receivers
+ * apply a sender's packets strictly in sequence; a gap, whether seen directly or through the
+ * sender's periodic heartbeat of its latest sequence, is answered with a NACK, and the sender
+ * re-multicasts everything from the requested sequence on. When the requested packets have
+ * already left its buffer the sender multicasts a RESET instead, and receivers that are behind
+ * resync. Rejoining after a socket failure is handled the same way, through heartbeats.
+ */
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.multicast.enabled", havingValue = "true")
+public class MulticastInvalidationTransport implements InvalidationTransport {
+    
+    private static final Logger logger = LoggerFactory.getLogger(MulticastInvalidationTransport.class);
+    
+    private static final short MAGIC = 0x4349;
+    private static final byte DATA = 1;
+    private static final byte HEARTBEAT = 2;
+    private static final byte NACK = 3;
+    private static final byte RESET = 4;
+    private static final int HEADER_SIZE = Short.BYTES + 1 + Long.BYTES;
+    private static final int MESSAGES_PER_PACKET = 64;
+    private static final int MAX_PACKET_SIZE = HEADER_SIZE + Long.BYTES + Short.BYTES
+            + MESSAGES_PER_PACKET * InvalidationMessage.ENCODED_SIZE;
+    private static final long STARTUP_GRACE_MS = 10_000;
+    private static final long PEER_TIMEOUT_MS = 60_000;
+    
+    @Value("${cache.invalidation.multicast.group:239.255.42.99}")
+    private String group;
+    
+    @Value("${cache.invalidation.multicast.port:45699}")
+    private int port;
+    
+    // Empty picks the system default; "lo" keeps traffic on one machine
+    @Value("${cache.invalidation.multicast.interface:}")
+    private String interfaceName;
+    
+    @Value("${cache.invalidation.multicast.ttl:1}")
+    private int timeToLive;
+    
+    @Value("${cache.invalidation.multicast.heartbeat-ms:1000}")
+    private long heartbeatMs;
+    
+    @Value("${cache.invalidation.multicast.retransmit-packets:4096}")
+    private int retransmitPackets;
+    
+    private long nodeId;
+    private Receiver receiver;
+    private InetSocketAddress groupAddress;
+    private NetworkInterface networkInterface;
+    private volatile MulticastSocket socket;
+    private volatile boolean running;
+    private Thread listener;
+    private ScheduledExecutorService heartbeat;
+    private long startedAt;
+    
+    // Sender side: guarded by this
+    private long sequence;
+    private byte[][] sent;
+    
+    // Receiver side: only touched by the listener thread
+    private final Map<Long, Peer> peers = new HashMap<>();
+    
+    private static final class Peer {
+        long lastApplied;
+        long lastHeard;
+        long lastNack;
+    }
+    
+    @Override
+    public String getName() {
+        return "multicast";
+    }
+    
+    @Override
+    public void start(long nodeId, Receiver receiver) {
+        this.nodeId = nodeId;
+        this.receiver = receiver;
+        this.sent = new byte[retransmitPackets][];
+        this.startedAt = System.currentTimeMillis();
+        try {
+            groupAddress = new InetSocketAddress(InetAddress.getByName(group), port);
+            networkInterface = interfaceName.isEmpty() ? null : NetworkInterface.getByName(interfaceName);
+            socket = open();
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot join multicast group " + group + ":" + port, e);
+        }
+        running = true;
+        listener = new Thread(this::listen, "cache-invalidation-multicast");
+        listener.setDaemon(true);
+        listener.start();
+        heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cache-invalidation-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeat.scheduleWithFixedDelay(this::sendHeartbeat, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+    }
+    
+    @Override
+    public void publish(List<InvalidationMessage> messages) {
+        for (int from = 0; from < messages.size(); from += MESSAGES_PER_PACKET) {
+            List<InvalidationMessage> chunk = messages.subList(from, Math.min(from + MESSAGES_PER_PACKET, messages.size()));
+            byte[] packet;
+            synchronized (this) {
+                long seq = ++sequence;
+                ByteBuffer buffer = header(DATA, Long.BYTES + Short.BYTES + chunk.size() * InvalidationMessage.ENCODED_SIZE);
+                buffer.putLong(seq).putShort((short) chunk.size());
+                chunk.forEach(message -> message.encode(buffer));
+                packet = buffer.array();
+                sent[(int) (seq % sent.length)] = packet;
+            }
+            // A failed send is recovered by receivers through the heartbeat and NACK
+            send(packet);
+        }
+    }
+    
+    @Override
+    public void stop() {
+        running = false;
+        if (heartbeat != null) {
+            heartbeat.shutdownNow();
+        }
+        MulticastSocket current = socket;
+        if (current != null) {
+            current.close();
+        }
+    }
+    
+    private MulticastSocket open() throws IOException {
+        MulticastSocket multicastSocket = new MulticastSocket(port);
+        multicastSocket.setTimeToLive(timeToLive);
+        multicastSocket.setSoTimeout((int) Math.max(100, heartbeatMs));
+        if (networkInterface != null) {
+            multicastSocket.setNetworkInterface(networkInterface);
+        }
+        multicastSocket.joinGroup(groupAddress, networkInterface);
+        return multicastSocket;
+    }
+    
+    private void listen() {
+        byte[] buffer = new byte[MAX_PACKET_SIZE];
+        while (running) {
+            try {
+                DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+                socket.receive(packet);
+                handle(ByteBuffer.wrap(packet.getData(), packet.getOffset(), packet.getLength()));
+            } catch (SocketTimeoutException e) {
+                // Wake up regularly so stop() is noticed
+            } catch (IOException e) {
+                if (running) {
+                    reconnect(e);
+                }
+            } catch (RuntimeException e) {
+                logger.warn("Ignoring malformed cache invalidation packet: {}", e.getMessage());
+            }
+            prunePeers();
+        }
+    }
+    
+    private void reconnect(IOException cause) {
+        logger.warn("Multicast invalidation socket failed, rejoining: {}", cause.getMessage());
+        socket.close();
+        while (running) {
+            try {
+                Thread.sleep(heartbeatMs);
+                socket = open();
+                return;
+            } catch (IOException e) {
+                logger.debug("Rejoin failed: {}", e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+    
+    private void handle(ByteBuffer packet) {
+        if (packet.remaining() < HEADER_SIZE || packet.getShort() != MAGIC) {
+            return;
+        }
+        byte kind = packet.get();
+        long sender = packet.getLong();
+        if (sender == nodeId) {
+            return;
+        }
+        switch (kind) {
+            case DATA:
+                onData(sender, packet);
+                break;
+            case HEARTBEAT:
+                onHeartbeat(sender, packet.getLong());
+                break;
+            case NACK:
+                if (packet.getLong() == nodeId) {
+                    retransmit(packet.getLong());
+                }
+                break;
+            case RESET:
+                onReset(sender, packet.getLong());
+                break;
+            default:
+                break;
+        }
+    }
+    
+    private void onData(long sender, ByteBuffer packet) {
+        long seq = packet.getLong();
+        Peer peer = peer(sender, seq - 1);
+        if (seq <= peer.lastApplied) {
+            return;
+        }
+        if (seq > peer.lastApplied + 1) {
+            requestFrom(sender, peer);
+            return;
+        }
+        int count = packet.getShort();
+        for (int i = 0; i < count; i++) {
+            receiver.receive(InvalidationMessage.decode(packet));
+        }
+        peer.lastApplied = seq;
+    }
+    
+    private void onHeartbeat(long sender, long latest) {
+        Peer peer = peer(sender, latest);
+        if (latest > peer.lastApplied) {
+            requestFrom(sender, peer);
+        }
+    }
+    
+    private void onReset(long sender, long latest) {
+        Peer peer = peer(sender, latest);
+        if (peer.lastApplied < latest) {
+            logger.warn("Cache invalidations from node {} are no longer available, dropping cached entities", sender);
+            receiver.resync();
+            peer.lastApplied = latest;
+        }
+    }
+    
+    // First contact: anything the peer sent earlier may have been missed, unless this node just started
+    private Peer peer(long sender, long baseline) {
+        Peer peer = peers.get(sender);
+        long now = System.currentTimeMillis();
+        if (peer == null) {
+            peer = new Peer();
+            peer.lastApplied = baseline;
+            peers.put(sender, peer);
+            if (baseline > 0 && now - startedAt > STARTUP_GRACE_MS) {
+                receiver.resync();
+            }
+        }
+        peer.lastHeard = now;
+        return peer;
+    }
+    
+    private void requestFrom(long sender, Peer peer) {
+        long now = System.currentTimeMillis();
+        if (now - peer.lastNack < heartbeatMs / 2) {
+            return;
+        }
+        peer.lastNack = now;
+        ByteBuffer buffer = header(NACK, 2 * Long.BYTES);
+        buffer.putLong(sender).putLong(peer.lastApplied + 1);
+        send(buffer.array());
+    }
+    
+    private void retransmit(long fromSeq) {
+        List<byte[]> packets = new ArrayList<>();
+        long latest;
+        synchronized (this) {
+            latest = sequence;
+            if (fromSeq <= latest - sent.length) {
+                ByteBuffer buffer = header(RESET, Long.BYTES);
+                buffer.putLong(latest);
+                packets.add(buffer.array());
+            } else {
+                for (long seq = Math.max(1, fromSeq); seq <= latest; seq++) {
+                    packets.add(sent[(int) (seq % sent.length)]);
+                }
+            }
+        }
+        packets.forEach(this::send);
+    }
+    
+    private void sendHeartbeat() {
+        long latest;
+        synchronized (this) {
+            latest = sequence;
+        }
+        ByteBuffer buffer = header(HEARTBEAT, Long.BYTES);
+        buffer.putLong(latest);
+        send(buffer.array());
+    }
+    
+    private void prunePeers() {
+        long cutoff = System.currentTimeMillis() - PEER_TIMEOUT_MS;
+        Iterator<Peer> iterator = peers.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().lastHeard < cutoff) {
+                iterator.remove();
+            }
+        }
+    }
+    
+    private ByteBuffer header(byte kind, int bodySize) {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + bodySize);
+        buffer.putShort(MAGIC).put(kind).putLong(nodeId);
+        return buffer;
+    }
+    
+    private void send(byte[] packet) {
+        try {
+            socket.send(new DatagramPacket(packet, packet.length, groupAddress));
+        } catch (IOException e) {
+            logger.debug("Multicast send failed: {}", e.getMessage());
+        }
+    }
+}
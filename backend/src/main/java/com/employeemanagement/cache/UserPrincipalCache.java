@@ -0,0 +1,83 @@
+package com.employeemanagement.cache;
+
+import com.employeemanagement.security.UserPrincipal;
+import com.employeemanagement.sharding.TenantContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Authenticated principals by username, so a request with a valid token does not reload its user.
+ * Invalidations name the user id, which is mapped back to the cached usernames (one per shard
+ * at most, since ids are only unique within a shard).
+ */
+@Component
+public class UserPrincipalCache {
+    
+    @Autowired
+    private InvalidationBus invalidationBus;
+    
+    @Value("${cache.users.enabled:true}")
+    private boolean enabled;
+    
+    @Value("${cache.users.max-size:20000}")
+    private int maxSize;
+    
+    @Value("${cache.users.ttl-ms:300000}")
+    private long ttlMs;
+    
+    private EntityCache<String, UserPrincipal> cache;
+    private final Map<Long, Set<String>> usernamesById = new ConcurrentHashMap<>();
+    
+    @PostConstruct
+    public void init() {
+        cache = new EntityCache<>(maxSize, ttlMs);
+        invalidationBus.register(InvalidationMessage.EntityType.USER, this::invalidate, this::invalidateAll);
+    }
+    
+    public UserPrincipal get(String username) {
+        return enabled ? cache.get(username, TenantContext.getTenantId()) : null;
+    }
+    
+    public long beginLoad() {
+        return cache.beginLoad();
+    }
+    
+    public void put(UserPrincipal principal, long loadGeneration) {
+        if (enabled && isCacheableRead()) {
+            usernamesById.computeIfAbsent(principal.getId(), id -> ConcurrentHashMap.newKeySet())
+                    .add(principal.getUsername());
+            cache.put(principal.getUsername(), TenantContext.getTenantId(), principal, loadGeneration);
+        }
+    }
+    
+    public EntityCache<String, UserPrincipal> getCache() {
+        return cache;
+    }
+    
+    // A user read inside a read-write transaction may be one that transaction then rolls back
+    private static boolean isCacheableRead() {
+        return !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+    
+    private void invalidate(long userId) {
+        // The user may be loading right now, before its id is mapped here; user changes are rare
+        cache.rejectInFlightLoads();
+        Set<String> usernames = usernamesById.remove(userId);
+        if (usernames != null) {
+            usernames.forEach(cache::invalidate);
+        }
+    }
+    
+    private void invalidateAll() {
+        cache.invalidateAll();
+        usernamesById.clear();
+    }
+}
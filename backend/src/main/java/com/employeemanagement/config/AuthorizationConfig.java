@@ -0,0 +1,19 @@
+package com.employeemanagement.config;
+
+import com.employeemanagement.security.AuthorizationInterceptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class AuthorizationConfig implements WebMvcConfigurer {
+    
+    @Autowired
+    private AuthorizationInterceptor authorizationInterceptor;
+    
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(authorizationInterceptor);
+    }
+}
@@ -3,22 +3,37 @@ package com.employeemanagement.config;
 import com.employeemanagement.entity.Employee;
 import com.employeemanagement.entity.Role;
 import com.employeemanagement.entity.User;
+import com.employeemanagement.event.BulkLoadCompletedEvent;
 import com.employeemanagement.repository.EmployeeRepository;
 import com.employeemanagement.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 @Component
 @Profile("!test")
+@Order(0) // before SyntheticDataSeeder, which continues after the sample ids
 public class DataInitializer implements CommandLineRunner {
     
+    private static final Logger logger = LoggerFactory.getLogger(DataInitializer.class);
+    
     @Autowired
     private EmployeeRepository employeeRepository;
     
@@ -28,70 +43,106 @@ public class DataInitializer implements CommandLineRunner {
     @Autowired
     private PasswordEncoder passwordEncoder;
     
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private TaskExecutor taskExecutor;
+    
+    // When true the application reports ready before the sample data exists
+    @Value("${app.seed.async:false}")
+    private boolean async;
+    
     @Override
     public void run(String... args) throws Exception {
-        // Initialize sample employees if database is empty
-        if (employeeRepository.count() == 0) {
-            initializeEmployees();
+        if (async) {
+            taskExecutor.execute(this::seed);
+        } else {
+            seed();
+        }
+    }
+    
+    private void seed() {
+        long start = System.nanoTime();
+        boolean seedEmployees = employeeRepository.count() == 0;
+        boolean seedUsers = userRepository.count() == 0;
+        if (!seedEmployees && !seedUsers) {
+            return;
         }
         
-        // Initialize sample users if database is empty
-        if (userRepository.count() == 0) {
-            initializeUsers();
+        // BCrypt dominates seeding time, so both hashes run in parallel with the inserts
+        CompletableFuture<String> adminPassword = seedUsers
+                ? CompletableFuture.supplyAsync(() -> passwordEncoder.encode("admin123")) : null;
+        CompletableFuture<String> employeePassword = seedUsers
+                ? CompletableFuture.supplyAsync(() -> passwordEncoder.encode("password123")) : null;
+        
+        try {
+            int employees = seedEmployees ? transactionTemplate.execute(status -> initializeEmployees()) : 0;
+            int users = seedUsers
+                    ? transactionTemplate.execute(status -> initializeUsers(adminPassword.join(), employeePassword.join()))
+                    : 0;
+            eventPublisher.publishEvent(new BulkLoadCompletedEvent("sample-data", employees, users));
+            logger.info("Seeded {} employees and {} users in {} ms", employees, users,
+                    (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            logger.error("Seeding sample data failed", e);
+            if (!async) {
+                throw e;
+            }
         }
     }
     
-    private void initializeEmployees() {
+    private int initializeEmployees() {
         // Create sample employees
-        Employee emp1 = new Employee("John", "Doe", "john.doe@company.com", "+1-555-0101",
-                "Engineering", new BigDecimal("75000"), LocalDate.of(2022, 1, 15));
-        
-        Employee emp2 = new Employee("Jane", "Smith", "jane.smith@company.com", "+1-555-0102",
-                "Marketing", new BigDecimal("65000"), LocalDate.of(2022, 3, 10));
-        
-        Employee emp3 = new Employee("Mike", "Johnson", "mike.johnson@company.com", "+1-555-0103",
-                "Engineering", new BigDecimal("80000"), LocalDate.of(2021, 8, 20));
-        
-        Employee emp4 = new Employee("Sarah", "Wilson", "sarah.wilson@company.com", "+1-555-0104",
-                "HR", new BigDecimal("70000"), LocalDate.of(2022, 5, 5));
+        List<Employee> employees = Arrays.asList(
+                new Employee("John", "Doe", "john.doe@company.com", "+1-555-0101",
+                        "Engineering", new BigDecimal("75000"), LocalDate.of(2022, 1, 15)),
+                new Employee("Jane", "Smith", "jane.smith@company.com", "+1-555-0102",
+                        "Marketing", new BigDecimal("65000"), LocalDate.of(2022, 3, 10)),
+                new Employee("Mike", "Johnson", "mike.johnson@company.com", "+1-555-0103",
+                        "Engineering", new BigDecimal("80000"), LocalDate.of(2021, 8, 20)),
+                new Employee("Sarah", "Wilson", "sarah.wilson@company.com", "+1-555-0104",
+                        "HR", new BigDecimal("70000"), LocalDate.of(2022, 5, 5)),
+                new Employee("Admin", "User", "admin@company.com", "+1-555-0100",
+                        "IT", new BigDecimal("90000"), LocalDate.of(2021, 1, 1)));
         
-        Employee emp5 = new Employee("Admin", "User", "admin@company.com", "+1-555-0100",
-                "IT", new BigDecimal("90000"), LocalDate.of(2021, 1, 1));
-        
-        employeeRepository.save(emp1);
-        employeeRepository.save(emp2);
-        employeeRepository.save(emp3);
-        employeeRepository.save(emp4);
-        Employee adminEmployee = employeeRepository.save(emp5);
-        
-        System.out.println("Sample employees created successfully!");
+        employeeRepository.saveAll(employees);
+        logger.info("Sample employees created successfully!");
+        return employees.size();
     }
     
-    private void initializeUsers() {
+    private int initializeUsers(String adminPasswordHash, String employeePasswordHash) {
         // Create admin user
         User adminUser = new User();
         adminUser.setUsername("admin");
         adminUser.setEmail("admin@company.com");
-        adminUser.setPassword(passwordEncoder.encode("admin123"));
+        adminUser.setPassword(adminPasswordHash);
         adminUser.setRoles(Set.of(Role.ADMIN));
-        adminUser.setEmployeeId(5L); // Assuming admin employee has ID 5
+        adminUser.setEmployeeId(employeeIdByEmail("admin@company.com"));
         adminUser.setEnabled(true);
         
         // Create regular employee user
         User employeeUser = new User();
         employeeUser.setUsername("john.doe");
         employeeUser.setEmail("john.doe@company.com");
-        employeeUser.setPassword(passwordEncoder.encode("password123"));
+        employeeUser.setPassword(employeePasswordHash);
         employeeUser.setRoles(Set.of(Role.EMPLOYEE));
-        employeeUser.setEmployeeId(1L); // Assuming John Doe has ID 1
+        employeeUser.setEmployeeId(employeeIdByEmail("john.doe@company.com"));
         employeeUser.setEnabled(true);
         
-        userRepository.save(adminUser);
-        userRepository.save(employeeUser);
+        userRepository.saveAll(Arrays.asList(adminUser, employeeUser));
         
-        System.out.println("Sample users created successfully!");
-        System.out.println("Admin credentials: admin / admin123");
-        System.out.println("Employee credentials: john.doe / password123");
+        logger.info("Sample users created successfully!");
+        logger.info("Admin credentials: admin / admin123");
+        logger.info("Employee credentials: john.doe / password123");
+        return 2;
+    }
+    
+    private Long employeeIdByEmail(String email) {
+        return employeeRepository.findByEmail(email).map(Employee::getId).orElse(null);
     }
 }
-
@@ -0,0 +1,44 @@
+package com.employeemanagement.config;
+
+import com.employeemanagement.serialization.ProtobufEmployeeHttpMessageConverter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Binary representations for service-to-service clients, selected through the Accept header.
+ * CBOR and Smile reuse the application's Jackson configuration, so they carry the same fields
+ * as the JSON responses. The converters are placed after the JSON converter rather than
+ * declared as beans, which Spring Boot would put first, so JSON stays the default for
+ * clients that accept anything.
+ */
+@Configuration
+public class MessageConverterConfig implements WebMvcConfigurer {
+    
+    @Autowired
+    private Jackson2ObjectMapperBuilder objectMapperBuilder;
+    
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        int json = 0;
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof MappingJackson2HttpMessageConverter) {
+                json = i + 1;
+            }
+        }
+        converters.addAll(json, Arrays.asList(
+                new MappingJackson2CborHttpMessageConverter(objectMapperBuilder.factory(new CBORFactory()).build()),
+                new MappingJackson2SmileHttpMessageConverter(objectMapperBuilder.factory(new SmileFactory()).build()),
+                new ProtobufEmployeeHttpMessageConverter()));
+    }
+}
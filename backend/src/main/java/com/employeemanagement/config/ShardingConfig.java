@@ -0,0 +1,95 @@
+package com.employeemanagement.config;
+
+import com.employeemanagement.sharding.ShardMap;
+import com.employeemanagement.sharding.ShardQueryExecutor;
+import com.employeemanagement.sharding.ShardRoutingDataSource;
+import com.employeemanagement.sharding.ShardSchemaInitializer;
+import com.employeemanagement.sharding.ShardingProperties;
+import com.employeemanagement.sharding.TenantAwareJpaTransactionManager;
+import com.employeemanagement.sharding.TenantMoveService;
+import com.employeemanagement.sharding.TenantWriteFreezeInterceptor;
+import org.hibernate.jpa.boot.internal.EntityManagerFactoryBuilderImpl;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.util.Collections;
+
+/**
+ * Replaces the single datasource with one that routes each transaction to the shard of the
+ * current tenant. The directory shard also serves requests without a tenant.
+ */
+@Configuration
+@ConditionalOnProperty(name = "sharding.enabled", havingValue = "true")
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+    
+    @Bean
+    public ShardMap shardMap(ShardingProperties properties) {
+        return new ShardMap(properties);
+    }
+    
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardMap shardMap) {
+        return new ShardRoutingDataSource(shardMap);
+    }
+    
+    @Bean
+    public PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new TenantAwareJpaTransactionManager(entityManagerFactory);
+    }
+    
+    @Bean
+    public ShardSchemaInitializer shardSchemaInitializer(ShardMap shardMap,
+            @Value("${spring.jpa.database-platform:#{null}}") String dialect,
+            @Value("${spring.jpa.hibernate.ddl-auto:none}") String ddlAuto) {
+        boolean manageSchema = !"none".equals(ddlAuto) && !"validate".equals(ddlAuto);
+        return new ShardSchemaInitializer(shardMap, dialect, manageSchema);
+    }
+    
+    @Bean
+    public HibernatePropertiesCustomizer shardSchemaIntegratorCustomizer(ShardSchemaInitializer shardSchemaInitializer) {
+        return properties -> properties.put(EntityManagerFactoryBuilderImpl.INTEGRATOR_PROVIDER,
+                (IntegratorProvider) () -> Collections.singletonList(shardSchemaInitializer));
+    }
+    
+    @Bean
+    public ShardQueryExecutor shardQueryExecutor(ShardMap shardMap, PlatformTransactionManager transactionManager,
+                                                 ShardingProperties properties) {
+        return new ShardQueryExecutor(shardMap, transactionManager, properties.getQueryThreads());
+    }
+    
+    @Bean
+    public TenantMoveService tenantMoveService(ShardMap shardMap, ShardQueryExecutor shardQueryExecutor,
+                                               ShardingProperties properties) {
+        return new TenantMoveService(shardMap, shardQueryExecutor, properties.getMoveBatchSize());
+    }
+    
+    // Component scanning finds nested configurations on its own, so the condition is repeated here
+    @Configuration
+    @ConditionalOnProperty(name = "sharding.enabled", havingValue = "true")
+    static class ShardingWebConfig implements WebMvcConfigurer {
+        
+        private final ShardMap shardMap;
+        
+        ShardingWebConfig(ShardMap shardMap) {
+            this.shardMap = shardMap;
+        }
+        
+        @Override
+        public void addInterceptors(InterceptorRegistry registry) {
+            registry.addInterceptor(new TenantWriteFreezeInterceptor(shardMap));
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.employeemanagement.config;
+
+import com.employeemanagement.archive.ArchiveMover;
+import com.employeemanagement.audit.AuditLogStore;
+import com.employeemanagement.audit.AuditWriter;
+import com.employeemanagement.outbox.OutboxRelay;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+
+@Configuration
+public class StartupConfig {
+    
+    // Beans that must still start eagerly under spring.main.lazy-initialization: the audit log
+    // recovers its index and starts its writer thread before the first write arrives, the outbox
+    // relay and archive mover have nothing injecting them, and SmartInitializingSingleton
+    // callbacks never fire for beans that were not created
+    @Bean
+    public static LazyInitializationExcludeFilter eagerInfrastructureBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                AuditLogStore.class, AuditWriter.class, OutboxRelay.class, ArchiveMover.class,
+                SmartInitializingSingleton.class);
+    }
+    
+    // Training run for the class data sharing archive: start fully, then exit
+    @Configuration
+    @Profile("cds-training")
+    static class CdsTrainingRun {
+        
+        @EventListener
+        public void onApplicationReady(ApplicationReadyEvent event) {
+            ConfigurableApplicationContext context = event.getApplicationContext();
+            System.exit(SpringApplication.exit(context, () -> 0));
+        }
+    }
+}
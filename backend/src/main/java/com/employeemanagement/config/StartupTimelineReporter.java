@@ -0,0 +1,128 @@
+package com.employeemanagement.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Summarizes where startup time went once the application is ready. The JSON written to
+ * startup.report.file is meant for CI, which tracks timeToReadyMs across builds.
+ */
+@Component
+public class StartupTimelineReporter {
+    
+    private static final Logger logger = LoggerFactory.getLogger(StartupTimelineReporter.class);
+    
+    @Autowired
+    private ConfigurableApplicationContext applicationContext;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Value("${startup.report.file:}")
+    private String reportFile;
+    
+    @Value("${startup.report.top-steps:20}")
+    private int topSteps;
+    
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        long timeToReadyMs = ManagementFactory.getRuntimeMXBean().getUptime();
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timeToReadyMs", timeToReadyMs);
+        report.put("contextStartupMs", event.getTimeTaken() != null ? event.getTimeTaken().toMillis() : null);
+        report.put("lazyInitialization", applicationContext.getEnvironment()
+                .getProperty("spring.main.lazy-initialization", Boolean.class, false));
+        
+        ApplicationStartup startup = applicationContext.getApplicationStartup();
+        if (startup instanceof BufferingApplicationStartup) {
+            // Draining releases the buffered steps once they are reported
+            StartupTimeline timeline = ((BufferingApplicationStartup) startup).drainBufferedTimeline();
+            report.put("phases", phases(timeline));
+            report.put("slowestBeans", slowestBeans(timeline));
+        }
+        
+        logger.info("Application ready in {} ms since JVM start (context started in {} ms)",
+                timeToReadyMs, report.get("contextStartupMs"));
+        if (StringUtils.hasText(reportFile)) {
+            try {
+                Path path = Paths.get(reportFile);
+                if (path.getParent() != null) {
+                    Files.createDirectories(path.getParent());
+                }
+                objectMapper.writerWithDefaultPrettyPrinter().writeValue(path.toFile(), report);
+            } catch (IOException e) {
+                logger.warn("Could not write startup report to {}: {}", reportFile, e.getMessage());
+            }
+        }
+    }
+    
+    // Top-level steps other than bean instantiation, in the order they started
+    private List<Map<String, Object>> phases(StartupTimeline timeline) {
+        List<Map<String, Object>> phases = new ArrayList<>();
+        for (StartupTimeline.TimelineEvent event : timeline.getEvents()) {
+            StartupStep step = event.getStartupStep();
+            if (!step.getName().startsWith("spring.beans.")) {
+                phases.add(entry(step.getName(), null, event.getDuration()));
+            }
+        }
+        return phases;
+    }
+    
+    private List<Map<String, Object>> slowestBeans(StartupTimeline timeline) {
+        List<StartupTimeline.TimelineEvent> beans = new ArrayList<>();
+        for (StartupTimeline.TimelineEvent event : timeline.getEvents()) {
+            if ("spring.beans.instantiate".equals(event.getStartupStep().getName())) {
+                beans.add(event);
+            }
+        }
+        beans.sort(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed());
+        List<Map<String, Object>> slowest = new ArrayList<>();
+        for (StartupTimeline.TimelineEvent event : beans.subList(0, Math.min(topSteps, beans.size()))) {
+            slowest.add(entry("spring.beans.instantiate", beanName(event.getStartupStep()), event.getDuration()));
+        }
+        return slowest;
+    }
+    
+    private static String beanName(StartupStep step) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if ("beanName".equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return null;
+    }
+    
+    private static Map<String, Object> entry(String name, String beanName, Duration duration) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("step", name);
+        if (beanName != null) {
+            entry.put("bean", beanName);
+        }
+        entry.put("durationMs", duration.toNanos() / 1_000_000.0);
+        return entry;
+    }
+}
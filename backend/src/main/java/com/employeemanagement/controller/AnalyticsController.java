@@ -0,0 +1,83 @@
+package com.employeemanagement.controller;
+
+import com.employeemanagement.analytics.SalaryAnalyticsService;
+import com.employeemanagement.dto.ApiResponse;
+import com.employeemanagement.dto.DepartmentSalaryStats;
+import com.employeemanagement.dto.RaiseSimulationRequest;
+import com.employeemanagement.dto.RaiseSimulationResponse;
+import com.employeemanagement.dto.SalaryHistogramResponse;
+import com.employeemanagement.dto.SalaryPercentilesResponse;
+import com.employeemanagement.entity.Role;
+import com.employeemanagement.security.Authorize;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import javax.validation.Valid;
+import java.time.LocalDate;
+import java.util.List;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/employees/analytics")
+@Tag(name = "Salary Analytics", description = "Company-wide salary analytics (Admin only)")
+@SecurityRequirement(name = "bearerAuth")
+public class AnalyticsController {
+    
+    @Autowired
+    private SalaryAnalyticsService salaryAnalyticsService;
+    
+    @GetMapping("/percentiles")
+    @Operation(summary = "Get salary percentiles")
+    @Authorize(Role.ADMIN)
+    public ResponseEntity<?> getPercentiles(
+            @RequestParam(defaultValue = "25,50,75,90,99") double[] p,
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate joinedFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate joinedTo) {
+        for (double percentile : p) {
+            if (percentile <= 0 || percentile > 100) {
+                return ResponseEntity.badRequest()
+                        .body(new ApiResponse(false, "Percentiles must be in the range (0, 100]"));
+            }
+        }
+        SalaryPercentilesResponse response = salaryAnalyticsService.getPercentiles(p, department, joinedFrom, joinedTo);
+        return ResponseEntity.ok(response);
+    }
+    
+    @GetMapping("/histogram")
+    @Operation(summary = "Get the salary distribution as a histogram")
+    @Authorize(Role.ADMIN)
+    public ResponseEntity<?> getHistogram(
+            @RequestParam(defaultValue = "20") int buckets,
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate joinedFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate joinedTo) {
+        if (buckets < 1 || buckets > 1000) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, "Bucket count must be between 1 and 1000"));
+        }
+        SalaryHistogramResponse response = salaryAnalyticsService.getHistogram(buckets, department, joinedFrom, joinedTo);
+        return ResponseEntity.ok(response);
+    }
+    
+    @GetMapping("/departments")
+    @Operation(summary = "Get salary statistics grouped by department")
+    @Authorize(Role.ADMIN)
+    public ResponseEntity<List<DepartmentSalaryStats>> getDepartmentStats(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate joinedFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate joinedTo) {
+        return ResponseEntity.ok(salaryAnalyticsService.getDepartmentStats(joinedFrom, joinedTo));
+    }
+    
+    @PostMapping("/raise-simulation")
+    @Operation(summary = "Simulate the payroll impact of a raise")
+    @Authorize(Role.ADMIN)
+    public ResponseEntity<RaiseSimulationResponse> simulateRaise(@Valid @RequestBody RaiseSimulationRequest request) {
+        return ResponseEntity.ok(salaryAnalyticsService.simulateRaise(request));
+    }
+}
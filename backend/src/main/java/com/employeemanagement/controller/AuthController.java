@@ -3,14 +3,23 @@ package com.employeemanagement.controller;
 import com.employeemanagement.dto.ApiResponse;
 import com.employeemanagement.dto.JwtResponse;
 import com.employeemanagement.dto.LoginRequest;
+import com.employeemanagement.dto.RevokeTokenRequest;
 import com.employeemanagement.entity.Role;
 import com.employeemanagement.entity.User;
+import com.employeemanagement.security.Authorize;
+import com.employeemanagement.security.JwtKeyManager;
 import com.employeemanagement.security.JwtUtils;
+import com.employeemanagement.security.TokenRevocationService;
 import com.employeemanagement.security.UserPrincipal;
 import com.employeemanagement.service.UserService;
+import com.employeemanagement.sharding.TenantContext;
+import io.jsonwebtoken.Claims;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -20,7 +29,9 @@ import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @CrossOrigin(origins = "*", maxAge = 3600)
@@ -38,9 +49,18 @@ public class AuthController {
     @Autowired
     private JwtUtils jwtUtils;
     
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+    
+    @Autowired
+    private JwtKeyManager jwtKeyManager;
+    
     @PostMapping("/login")
     @Operation(summary = "Authenticate user and return JWT token")
     public ResponseEntity<?> authenticateUser(@Valid @RequestBody LoginRequest loginRequest) {
+        String previousTenant = TenantContext.getTenantId();
+        TenantContext.setTenantId(loginRequest.getTenantId() != null
+                ? loginRequest.getTenantId() : TenantContext.DEFAULT_TENANT);
         try {
             Authentication authentication = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(
@@ -68,6 +88,8 @@ public class AuthController {
         } catch (Exception e) {
             return ResponseEntity.badRequest()
                     .body(new ApiResponse(false, "Invalid username or password"));
+        } finally {
+            TenantContext.setTenantId(previousTenant);
         }
     }
     
@@ -101,6 +123,46 @@ public class AuthController {
         return ResponseEntity.ok(new ApiResponse(true, "User registered successfully!"));
     }
     
+    @PostMapping("/logout")
+    @Operation(summary = "Revoke the token used for this request")
+    @SecurityRequirement(name = "bearerAuth")
+    public ResponseEntity<?> logout(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        Claims claims = authorization != null && authorization.startsWith("Bearer ")
+                ? jwtUtils.parseClaims(authorization.substring(7))
+                : null;
+        if (claims == null) {
+            return ResponseEntity.badRequest().body(new ApiResponse(false, "A valid bearer token is required"));
+        }
+        tokenRevocationService.revoke(claims);
+        SecurityContextHolder.clearContext();
+        return ResponseEntity.ok(new ApiResponse(true, "Logged out successfully!"));
+    }
+    
+    @PostMapping("/revoke")
+    @Operation(summary = "Revoke another user's token (Admin only)")
+    @SecurityRequirement(name = "bearerAuth")
+    @Authorize(value = Role.ADMIN, platform = true)
+    public ResponseEntity<?> revokeToken(@Valid @RequestBody RevokeTokenRequest request) {
+        Claims claims = jwtUtils.parseClaims(request.getToken());
+        if (claims == null) {
+            return ResponseEntity.badRequest().body(new ApiResponse(false, "Token is invalid or already expired"));
+        }
+        if (claims.getId() == null) {
+            return ResponseEntity.badRequest().body(new ApiResponse(false, "Token has no id and cannot be revoked"));
+        }
+        boolean revoked = tokenRevocationService.revoke(claims);
+        return ResponseEntity.ok(new ApiResponse(true, revoked ? "Token revoked" : "Token was already revoked"));
+    }
+    
+    @GetMapping("/jwks.json")
+    @Operation(summary = "Public keys for verifying issued tokens (JWKS)")
+    public ResponseEntity<Map<String, Object>> getJwks() {
+        // New keys are published ahead of use, so verifiers may cache the set briefly
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(5, TimeUnit.MINUTES).cachePublic())
+                .body(jwtKeyManager.getJwks());
+    }
+    
     // Inner class for register request
     public static class RegisterRequest {
         private String username;
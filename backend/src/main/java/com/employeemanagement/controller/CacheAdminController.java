@@ -0,0 +1,70 @@
+package com.employeemanagement.controller;
+
+import com.employeemanagement.cache.EmployeeCache;
+import com.employeemanagement.cache.EntityCache;
+import com.employeemanagement.cache.ExistenceFilterService;
+import com.employeemanagement.cache.InvalidationBus;
+import com.employeemanagement.cache.UserPrincipalCache;
+import com.employeemanagement.dto.CacheStatsResponse;
+import com.employeemanagement.dto.ExistenceFilterStats;
+import com.employeemanagement.entity.Role;
+import com.employeemanagement.security.Authorize;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/admin/caches")
+@Tag(name = "Cache Administration", description = "In-memory cache and filter statistics (Admin only)")
+@SecurityRequirement(name = "bearerAuth")
+public class CacheAdminController {
+    
+    @Autowired
+    private ExistenceFilterService existenceFilterService;
+    
+    @Autowired
+    private InvalidationBus invalidationBus;
+    
+    @Autowired
+    private EmployeeCache employeeCache;
+    
+    @Autowired
+    private UserPrincipalCache userPrincipalCache;
+    
+    @GetMapping
+    @Operation(summary = "Get entity cache and invalidation bus statistics for this node")
+    @Authorize(value = Role.ADMIN, platform = true)
+    public ResponseEntity<CacheStatsResponse> getCacheStats() {
+        return ResponseEntity.ok(new CacheStatsResponse(Long.toHexString(invalidationBus.getNodeId()),
+                invalidationBus.getTransportNames(), invalidationBus.getPublishedCount(),
+                invalidationBus.getReceivedCount(), invalidationBus.getResyncCount(), invalidationBus.getPendingCount(),
+                Arrays.asList(stats("employees", employeeCache.getCache()), stats("users", userPrincipalCache.getCache()))));
+    }
+    
+    @GetMapping("/existence-filters")
+    @Operation(summary = "Get Bloom filter sizing and false-positive statistics")
+    @Authorize(value = Role.ADMIN, platform = true)
+    public ResponseEntity<List<ExistenceFilterStats>> getExistenceFilterStats() {
+        return ResponseEntity.ok(existenceFilterService.getStats());
+    }
+    
+    @PostMapping("/existence-filters/rebuild")
+    @Operation(summary = "Rebuild the Bloom filters from the database")
+    @Authorize(value = Role.ADMIN, platform = true)
+    public ResponseEntity<List<ExistenceFilterStats>> rebuildExistenceFilters() {
+        existenceFilterService.rebuild();
+        return ResponseEntity.ok(existenceFilterService.getStats());
+    }
+    
+    private static CacheStatsResponse.EntityCacheStats stats(String name, EntityCache<?, ?> cache) {
+        return new CacheStatsResponse.EntityCacheStats(name, cache.size(), cache.getHits(), cache.getMisses(),
+                cache.getInvalidations());
+    }
+}
@@ -1,23 +1,50 @@
 package com.employeemanagement.controller;
 
+import com.employeemanagement.audit.AuditEntry;
+import com.employeemanagement.audit.AuditService;
+import com.employeemanagement.search.SuggestionService;
 import com.employeemanagement.dto.ApiResponse;
+import com.employeemanagement.dto.BatchGetRequest;
+import com.employeemanagement.dto.BatchGetResponse;
+import com.employeemanagement.dto.BatchMutationRequest;
+import com.employeemanagement.dto.EmployeeFilter;
 import com.employeemanagement.dto.EmployeeRequest;
+import com.employeemanagement.dto.ManagerAssignmentRequest;
+import com.employeemanagement.dto.TerminationRequest;
+import com.employeemanagement.entity.ArchivedEmployee;
 import com.employeemanagement.entity.Employee;
+import com.employeemanagement.entity.EmployeeHistory;
+import com.employeemanagement.entity.Role;
+import com.employeemanagement.security.Authorize;
 import com.employeemanagement.security.UserPrincipal;
+import com.employeemanagement.service.BatchAbortedException;
+import com.employeemanagement.service.EmployeeArchiveService;
+import com.employeemanagement.service.EmployeeBatchService;
+import com.employeemanagement.service.EmployeeHistoryService;
 import com.employeemanagement.service.EmployeeService;
+import com.employeemanagement.service.OrgHierarchyService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 @CrossOrigin(origins = "*", maxAge = 3600)
 @RestController
@@ -25,24 +52,94 @@ import java.util.Optional;
 @Tag(name = "Employee Management", description = "Employee CRUD operations")
 @SecurityRequirement(name = "bearerAuth")
 public class EmployeeController {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
     
     @Autowired
     private EmployeeService employeeService;
     
+    @Autowired
+    private AuditService auditService;
+    
+    @Autowired
+    private OrgHierarchyService orgHierarchyService;
+    
+    @Autowired
+    private EmployeeBatchService employeeBatchService;
+    
+    @Autowired
+    private SuggestionService suggestionService;
+    
+    @Autowired
+    private EmployeeArchiveService employeeArchiveService;
+    
+    @Autowired
+    private EmployeeHistoryService employeeHistoryService;
+    
     @GetMapping
-    @Operation(summary = "Get all employees")
-    @PreAuthorize("hasRole('ADMIN') or hasRole('EMPLOYEE')")
-    public ResponseEntity<List<Employee>> getAllEmployees() {
+    @Operation(summary = "Get all employees, or a filtered, sorted page when filter parameters are given")
+    @Authorize({Role.ADMIN, Role.EMPLOYEE})
+    public ResponseEntity<?> getAllEmployees(@RequestParam(required = false) String fields, EmployeeFilter filter) {
+        if (filter.isSpecified()) {
+            int page = filter.getPage() != null ? filter.getPage() : 0;
+            int size = filter.getSize() != null ? filter.getSize() : DEFAULT_PAGE_SIZE;
+            if (fields != null || page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+                return ResponseEntity.badRequest().body(new ApiResponse(false,
+                        "Filters take no fields, page must be >= 0 and size between 1 and " + MAX_PAGE_SIZE));
+            }
+            return sparse(() -> employeeService.findEmployees(filter, page, size));
+        }
+        if (fields != null) {
+            return sparse(() -> employeeService.getAllEmployeeFields(fields));
+        }
         List<Employee> employees = employeeService.getAllEmployees();
         return ResponseEntity.ok(employees);
     }
     
+    @GetMapping(params = "asOf")
+    @Operation(summary = "Get every employee's department and salary on a past date (Admin only)")
+    @Authorize(Role.ADMIN)
+    public ResponseEntity<List<EmployeeHistory>> getEmployeesAsOf(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf,
+            @RequestParam(required = false) Instant knownAt) {
+        return ResponseEntity.ok(employeeHistoryService.getAsOf(asOf, knownAt));
+    }
+    
+    @GetMapping(params = "ids")
+    @Operation(summary = "Get several employees by ID in one request")
+    @Authorize({Role.ADMIN, Role.EMPLOYEE})
+    public ResponseEntity<?> getEmployeesByIds(@RequestParam List<Long> ids, Authentication authentication) {
+        return batchGet(ids, authentication);
+    }
+    
+    @PostMapping("/batch-get")
+    @Operation(summary = "Get several employees by ID in one request")
+    @Authorize({Role.ADMIN, Role.EMPLOYEE})
+    public ResponseEntity<?> batchGetEmployees(@Valid @RequestBody BatchGetRequest request,
+                                               Authentication authentication) {
+        return batchGet(request.getIds(), authentication);
+    }
+    
+    @GetMapping(value = "/schema.proto", produces = MediaType.TEXT_PLAIN_VALUE)
+    @Operation(summary = "Get the Protobuf schema of the application/x-protobuf representation")
+    @Authorize({Role.ADMIN, Role.EMPLOYEE})
+    public ResponseEntity<Resource> getProtobufSchema() {
+        return ResponseEntity.ok(new ClassPathResource("proto/employee.proto"));
+    }
+    
     @GetMapping("/{id}")
     @Operation(summary = "Get employee by ID")
-    @PreAuthorize("hasRole('ADMIN') or (hasRole('EMPLOYEE') and @employeeController.isOwnerOrAdmin(#id, authentication))")
-    public ResponseEntity<?> getEmployeeById(@PathVariable Long id, Authentication authentication) {
+    @Authorize(value = Role.ADMIN, owner = Role.EMPLOYEE)
+    public ResponseEntity<?> getEmployeeById(@PathVariable Long id, @RequestParam(required = false) String fields) {
+        if (fields != null) {
+            return sparse(() -> employeeService.getEmployeeFieldsById(id, fields)
+                    .<ResponseEntity<?>>map(ResponseEntity::ok)
+                    .orElseGet(() -> ResponseEntity.notFound().build()));
+        }
         Optional<Employee> employee = employeeService.getEmployeeById(id);
         if (employee.isPresent()) {
+            suggestionService.recordView(id);
             return ResponseEntity.ok(employee.get());
         } else {
             return ResponseEntity.notFound().build();
@@ -51,7 +148,7 @@ public class EmployeeController {
     
     @PostMapping
     @Operation(summary = "Create new employee (Admin only)")
-    @PreAuthorize("hasRole('ADMIN')")
+    @Authorize(Role.ADMIN)
     public ResponseEntity<?> createEmployee(@Valid @RequestBody EmployeeRequest employeeRequest) {
         if (employeeService.existsByEmail(employeeRequest.getEmail())) {
             return ResponseEntity.badRequest()
@@ -68,12 +165,23 @@ public class EmployeeController {
         }
     }
     
+    @PostMapping("/batch")
+    @Operation(summary = "Apply many updates and deletes in one transaction (Admin only)")
+    @Authorize(Role.ADMIN)
+    public ResponseEntity<?> applyBatch(@Valid @RequestBody BatchMutationRequest request) {
+        try {
+            return ResponseEntity.ok(employeeBatchService.applyBatch(request));
+        } catch (BatchAbortedException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(new ApiResponse(false, e.getMessage(), e.getResponse()));
+        }
+    }
+    
     @PutMapping("/{id}")
     @Operation(summary = "Update employee")
-    @PreAuthorize("hasRole('ADMIN') or (hasRole('EMPLOYEE') and @employeeController.isOwnerOrAdmin(#id, authentication))")
+    @Authorize(value = Role.ADMIN, owner = Role.EMPLOYEE)
     public ResponseEntity<?> updateEmployee(@PathVariable Long id, 
-                                          @Valid @RequestBody EmployeeRequest employeeRequest,
-                                          Authentication authentication) {
+                                          @Valid @RequestBody EmployeeRequest employeeRequest) {
         if (!employeeService.getEmployeeById(id).isPresent()) {
             return ResponseEntity.notFound().build();
         }
@@ -98,7 +206,7 @@ public class EmployeeController {
     
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete employee (Admin only)")
-    @PreAuthorize("hasRole('ADMIN')")
+    @Authorize(Role.ADMIN)
     public ResponseEntity<?> deleteEmployee(@PathVariable Long id) {
         if (employeeService.deleteEmployee(id)) {
             return ResponseEntity.ok(new ApiResponse(true, "Employee deleted successfully"));
@@ -109,23 +217,177 @@ public class EmployeeController {
     
     @GetMapping("/search")
     @Operation(summary = "Search employees")
-    @PreAuthorize("hasRole('ADMIN') or hasRole('EMPLOYEE')")
-    public ResponseEntity<List<Employee>> searchEmployees(@RequestParam String q) {
+    @Authorize({Role.ADMIN, Role.EMPLOYEE})
+    public ResponseEntity<?> searchEmployees(@RequestParam String q, @RequestParam(required = false) String fields,
+                                             @RequestParam(defaultValue = "false") boolean fuzzy,
+                                             @RequestParam(defaultValue = "20") int limit) {
+        if (fuzzy) {
+            if (fields != null || limit < 1) {
+                return ResponseEntity.badRequest()
+                        .body(new ApiResponse(false, "Fuzzy search takes a positive limit and no fields"));
+            }
+            return ResponseEntity.ok(employeeService.searchEmployeesFuzzy(q, limit));
+        }
+        if (fields != null) {
+            return sparse(() -> employeeService.searchEmployeeFields(q, fields));
+        }
         List<Employee> employees = employeeService.searchEmployees(q);
         return ResponseEntity.ok(employees);
     }
     
+    @GetMapping("/search/faceted")
+    @Operation(summary = "Search employees with per-department and salary band counts")
+    @Authorize({Role.ADMIN, Role.EMPLOYEE})
+    public ResponseEntity<?> facetedSearch(@RequestParam(defaultValue = "") String q,
+                                           @RequestParam(required = false) String department,
+                                           @RequestParam(required = false) String salaryBand,
+                                           @RequestParam(defaultValue = "0") int page,
+                                           @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, "page must be >= 0 and size between 1 and " + MAX_PAGE_SIZE));
+        }
+        try {
+            return ResponseEntity.ok(employeeService.facetedSearch(q, department, salaryBand, page, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ApiResponse(false, e.getMessage()));
+        }
+    }
+    
+    @GetMapping("/suggest")
+    @Operation(summary = "Typeahead suggestions by name or email prefix, most viewed first")
+    @Authorize({Role.ADMIN, Role.EMPLOYEE})
+    public ResponseEntity<?> suggestEmployees(@RequestParam String prefix,
+                                              @RequestParam(defaultValue = "10") int limit) {
+        if (prefix.trim().isEmpty() || limit < 1) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, "A non-blank prefix and a positive limit are required"));
+        }
+        return ResponseEntity.ok(suggestionService.suggest(prefix, limit));
+    }
+    
     @GetMapping("/department/{department}")
     @Operation(summary = "Get employees by department")
-    @PreAuthorize("hasRole('ADMIN') or hasRole('EMPLOYEE')")
-    public ResponseEntity<List<Employee>> getEmployeesByDepartment(@PathVariable String department) {
+    @Authorize({Role.ADMIN, Role.EMPLOYEE})
+    public ResponseEntity<?> getEmployeesByDepartment(@PathVariable String department,
+                                                      @RequestParam(required = false) String fields) {
+        if (fields != null) {
+            return sparse(() -> employeeService.getEmployeeFieldsByDepartment(department, fields));
+        }
         List<Employee> employees = employeeService.getEmployeesByDepartment(department);
         return ResponseEntity.ok(employees);
     }
     
+    @GetMapping("/{id}/audit")
+    @Operation(summary = "Get the audit trail of an employee (Admin only)")
+    @Authorize(Role.ADMIN)
+    public ResponseEntity<List<AuditEntry>> getEmployeeAudit(@PathVariable Long id) {
+        return ResponseEntity.ok(auditService.getEmployeeHistory(id));
+    }
+    
+    @GetMapping("/{id}/history")
+    @Operation(summary = "Get every department and salary version of an employee (Admin only)")
+    @Authorize(Role.ADMIN)
+    public ResponseEntity<?> getEmployeeHistory(@PathVariable Long id) {
+        List<EmployeeHistory> history = employeeHistoryService.getHistory(id);
+        if (history.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(history);
+    }
+    
+    @GetMapping("/{id}/subtree")
+    @Operation(summary = "Get everyone reporting to an employee, directly or indirectly")
+    @Authorize({Role.ADMIN, Role.EMPLOYEE})
+    public ResponseEntity<?> getSubtree(@PathVariable Long id, @RequestParam(required = false) Integer maxDepth) {
+        if (!employeeService.getEmployeeById(id).isPresent()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(orgHierarchyService.getSubtree(id, maxDepth));
+    }
+    
+    @GetMapping("/{id}/ancestors")
+    @Operation(summary = "Get the reporting chain of an employee, nearest manager first")
+    @Authorize({Role.ADMIN, Role.EMPLOYEE})
+    public ResponseEntity<?> getAncestors(@PathVariable Long id) {
+        if (!employeeService.getEmployeeById(id).isPresent()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(orgHierarchyService.getAncestors(id));
+    }
+    
+    @GetMapping("/{id}/direct-reports")
+    @Operation(summary = "Get the direct reports of an employee")
+    @Authorize({Role.ADMIN, Role.EMPLOYEE})
+    public ResponseEntity<?> getDirectReports(@PathVariable Long id) {
+        if (!employeeService.getEmployeeById(id).isPresent()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(orgHierarchyService.getDirectReports(id));
+    }
+    
+    @PutMapping("/{id}/manager")
+    @Operation(summary = "Move an employee and their reports under a new manager (Admin only)")
+    @Authorize(Role.ADMIN)
+    public ResponseEntity<?> changeManager(@PathVariable Long id,
+                                           @RequestBody ManagerAssignmentRequest request) {
+        try {
+            Employee updatedEmployee = employeeService.changeManager(id, request.getManagerId());
+            if (updatedEmployee == null) {
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.ok(new ApiResponse(true, "Manager updated successfully", updatedEmployee));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, "Failed to update manager: " + e.getMessage()));
+        }
+    }
+    
+    @PostMapping("/{id}/terminate")
+    @Operation(summary = "Terminate an employee; they are archived once the date is reached (Admin only)")
+    @Authorize(Role.ADMIN)
+    public ResponseEntity<?> terminateEmployee(@PathVariable Long id,
+                                               @Valid @RequestBody TerminationRequest request) {
+        try {
+            Optional<Employee> terminatedEmployee = employeeArchiveService.terminateEmployee(id, request);
+            if (terminatedEmployee.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.ok(new ApiResponse(true, "Employee terminated successfully",
+                    terminatedEmployee.get()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, "Failed to terminate employee: " + e.getMessage()));
+        }
+    }
+    
+    @GetMapping("/archive")
+    @Operation(summary = "Get archived former employees, optionally of one termination year (Admin only)")
+    @Authorize(Role.ADMIN)
+    public ResponseEntity<?> getArchivedEmployees(@RequestParam(required = false) Integer year,
+                                                  @RequestParam(defaultValue = "0") int page,
+                                                  @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, "page must be >= 0 and size between 1 and " + MAX_PAGE_SIZE));
+        }
+        return ResponseEntity.ok(employeeArchiveService.findArchived(year, page, size));
+    }
+    
+    @GetMapping("/archive/{id}")
+    @Operation(summary = "Get an archived former employee (Admin only)")
+    @Authorize(Role.ADMIN)
+    public ResponseEntity<?> getArchivedEmployee(@PathVariable Long id) {
+        Optional<ArchivedEmployee> archivedEmployee = employeeArchiveService.findArchivedById(id);
+        if (archivedEmployee.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(archivedEmployee.get());
+    }
+    
     @GetMapping("/profile")
     @Operation(summary = "Get current user's employee profile")
-    @PreAuthorize("hasRole('EMPLOYEE') or hasRole('ADMIN')")
+    @Authorize({Role.ADMIN, Role.EMPLOYEE})
     public ResponseEntity<?> getCurrentUserProfile(Authentication authentication) {
         UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
         Long employeeId = userPrincipal.getEmployeeId();
@@ -140,18 +402,43 @@ public class EmployeeController {
         return ResponseEntity.notFound().build();
     }
     
-    // Helper method for authorization
-    public boolean isOwnerOrAdmin(Long employeeId, Authentication authentication) {
+    // Runs a query whose invalid parameters (unknown fields, sort properties) surface as IllegalArgumentException
+    private ResponseEntity<?> sparse(Supplier<?> query) {
+        try {
+            Object result = query.get();
+            return result instanceof ResponseEntity ? (ResponseEntity<?>) result : ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ApiResponse(false, e.getMessage()));
+        }
+    }
+    
+    // Authorizes the caller once and only loads the ids they may see
+    private ResponseEntity<?> batchGet(List<Long> ids, Authentication authentication) {
+        if (ids.isEmpty() || ids.size() > BatchGetResponse.MAX_IDS || ids.contains(null)) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, "Between 1 and " + BatchGetResponse.MAX_IDS + " ids are required"));
+        }
         UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
-        
-        // Admin can access any employee
-        if (userPrincipal.hasRole(com.employeemanagement.entity.Role.ADMIN)) {
-            return true;
+        boolean admin = userPrincipal.hasRole(Role.ADMIN);
+        List<Long> allowedIds = new ArrayList<>();
+        for (Long id : ids) {
+            if (admin || id.equals(userPrincipal.getEmployeeId())) {
+                allowedIds.add(id);
+            }
         }
         
-        // Employee can only access their own profile
-        return userPrincipal.getEmployeeId() != null && 
-               userPrincipal.getEmployeeId().equals(employeeId);
+        Map<Long, Employee> employees = allowedIds.isEmpty()
+                ? Collections.emptyMap() : employeeService.getEmployeeSnapshotsByIds(allowedIds);
+        List<BatchGetResponse.Result> results = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            if (!admin && !id.equals(userPrincipal.getEmployeeId())) {
+                results.add(new BatchGetResponse.Result(id, BatchGetResponse.Status.FORBIDDEN, null));
+            } else if (employees.containsKey(id)) {
+                results.add(new BatchGetResponse.Result(id, BatchGetResponse.Status.FOUND, employees.get(id)));
+            } else {
+                results.add(new BatchGetResponse.Result(id, BatchGetResponse.Status.NOT_FOUND, null));
+            }
+        }
+        return ResponseEntity.ok(new BatchGetResponse(results));
     }
 }
-
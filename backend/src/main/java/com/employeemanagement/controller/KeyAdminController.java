@@ -0,0 +1,52 @@
+package com.employeemanagement.controller;
+
+import com.employeemanagement.dto.SigningKeyInfo;
+import com.employeemanagement.entity.Role;
+import com.employeemanagement.security.Authorize;
+import com.employeemanagement.security.JwtKeyManager;
+import com.employeemanagement.security.JwtSigningKey;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/admin/keys")
+@Tag(name = "Signing Key Administration", description = "JWT signing key rotation (Admin only)")
+@SecurityRequirement(name = "bearerAuth")
+public class KeyAdminController {
+    
+    @Autowired
+    private JwtKeyManager keyManager;
+    
+    @GetMapping
+    @Operation(summary = "List the published JWT signing keys")
+    @Authorize(value = Role.ADMIN, platform = true)
+    public ResponseEntity<List<SigningKeyInfo>> getKeys() {
+        return ResponseEntity.ok(describeKeys());
+    }
+    
+    @PostMapping("/rotate")
+    @Operation(summary = "Publish a new signing key that takes over after the publish-ahead delay")
+    @Authorize(value = Role.ADMIN, platform = true)
+    public ResponseEntity<List<SigningKeyInfo>> rotate() {
+        keyManager.rotate();
+        return ResponseEntity.ok(describeKeys());
+    }
+    
+    private List<SigningKeyInfo> describeKeys() {
+        String signingKid = keyManager.getSigningKey().getKid();
+        List<SigningKeyInfo> keys = new ArrayList<>();
+        for (JwtSigningKey key : keyManager.getKeys()) {
+            keys.add(new SigningKeyInfo(key.getKid(), key.getCreatedAt(), key.getActivatesAt(),
+                    key.getKid().equals(signingKid)));
+        }
+        return keys;
+    }
+}
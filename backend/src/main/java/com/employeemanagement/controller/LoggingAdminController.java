@@ -0,0 +1,56 @@
+package com.employeemanagement.controller;
+
+import com.employeemanagement.dto.EndpointStatementStats;
+import com.employeemanagement.dto.EventLogStats;
+import com.employeemanagement.dto.TraceStats;
+import com.employeemanagement.entity.Role;
+import com.employeemanagement.jdbc.StatementInspector;
+import com.employeemanagement.logging.EventLog;
+import com.employeemanagement.security.Authorize;
+import com.employeemanagement.tracing.Tracer;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/admin/logging")
+@Tag(name = "Logging Administration", description = "Event log, trace and SQL statement statistics (Admin only)")
+@SecurityRequirement(name = "bearerAuth")
+public class LoggingAdminController {
+
+    @Autowired
+    private EventLog eventLog;
+    
+    @Autowired
+    private Tracer tracer;
+    
+    @Autowired
+    private StatementInspector statementInspector;
+    
+    @GetMapping("/events")
+    @Operation(summary = "Get logged, sampled-out, rate-limited and dropped event counts for this node")
+    @Authorize(value = Role.ADMIN, platform = true)
+    public ResponseEntity<EventLogStats> getEventLogStats() {
+        return ResponseEntity.ok(eventLog.getStats());
+    }
+    
+    @GetMapping("/traces")
+    @Operation(summary = "Get trace sampling and export counts for this node")
+    @Authorize(value = Role.ADMIN, platform = true)
+    public ResponseEntity<TraceStats> getTraceStats() {
+        return ResponseEntity.ok(tracer.getStats());
+    }
+    
+    @GetMapping("/statements")
+    @Operation(summary = "Get SQL statement counts, database time, slow and repeated statements per endpoint")
+    @Authorize(value = Role.ADMIN, platform = true)
+    public ResponseEntity<List<EndpointStatementStats>> getStatementStats() {
+        return ResponseEntity.ok(statementInspector.getStats());
+    }
+}
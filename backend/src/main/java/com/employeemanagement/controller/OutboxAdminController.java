@@ -0,0 +1,65 @@
+package com.employeemanagement.controller;
+
+import com.employeemanagement.dto.ApiResponse;
+import com.employeemanagement.dto.OutboxStats;
+import com.employeemanagement.entity.Role;
+import com.employeemanagement.outbox.ChangeEventLog;
+import com.employeemanagement.outbox.OutboxRelay;
+import com.employeemanagement.security.Authorize;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/admin/outbox")
+@Tag(name = "Outbox Administration", description = "Change event log, consumers and replay (Admin only)")
+@SecurityRequirement(name = "bearerAuth")
+public class OutboxAdminController {
+
+    private static final int MAX_READ_LIMIT = 1000;
+    
+    @Autowired
+    private OutboxRelay outboxRelay;
+    
+    @Autowired
+    private ChangeEventLog changeEventLog;
+    
+    @GetMapping
+    @Operation(summary = "Get relay counts, partition offsets and the progress of every event sink")
+    @Authorize(value = Role.ADMIN, platform = true)
+    public ResponseEntity<OutboxStats> getOutboxStats() {
+        return ResponseEntity.ok(outboxRelay.getStats());
+    }
+    
+    @GetMapping("/partitions/{partition}/events")
+    @Operation(summary = "Read change events from a partition, starting at an offset (default: the beginning)")
+    @Authorize(value = Role.ADMIN, platform = true)
+    public ResponseEntity<?> readEvents(@PathVariable int partition, @RequestParam(required = false) Long offset,
+                                        @RequestParam(defaultValue = "100") int limit) {
+        if (partition < 0 || partition >= changeEventLog.getPartitionCount() || limit < 1 || limit > MAX_READ_LIMIT) {
+            return ResponseEntity.badRequest().body(new ApiResponse(false, "Partition must be between 0 and "
+                    + (changeEventLog.getPartitionCount() - 1) + " and limit between 1 and " + MAX_READ_LIMIT));
+        }
+        try {
+            long from = offset != null ? offset : changeEventLog.getStartOffset(partition);
+            return ResponseEntity.ok(changeEventLog.read(partition, from, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ApiResponse(false, e.getMessage()));
+        }
+    }
+    
+    @PostMapping("/sinks/{name}/replay")
+    @Operation(summary = "Deliver the whole event log to a sink again")
+    @Authorize(value = Role.ADMIN, platform = true)
+    public ResponseEntity<ApiResponse> replay(@PathVariable String name) {
+        if (!outboxRelay.replay(name)) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ApiResponse(false, "No event sink " + name));
+        }
+        return ResponseEntity.ok(new ApiResponse(true, "Replay of the event log to " + name + " started"));
+    }
+}
@@ -0,0 +1,86 @@
+package com.employeemanagement.controller;
+
+import com.employeemanagement.dto.ApiResponse;
+import com.employeemanagement.dto.ShardStatusResponse;
+import com.employeemanagement.dto.TenantMoveRequest;
+import com.employeemanagement.entity.Employee;
+import com.employeemanagement.entity.Role;
+import com.employeemanagement.repository.EmployeeRepository;
+import com.employeemanagement.repository.UserRepository;
+import com.employeemanagement.security.Authorize;
+import com.employeemanagement.sharding.ShardMap;
+import com.employeemanagement.sharding.ShardQueryExecutor;
+import com.employeemanagement.sharding.TenantMoveService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import javax.validation.Valid;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/admin/shards")
+@ConditionalOnProperty(name = "sharding.enabled", havingValue = "true")
+@Tag(name = "Shard Administration", description = "Tenant placement and cross-shard operations")
+@SecurityRequirement(name = "bearerAuth")
+public class ShardAdminController {
+    
+    @Autowired
+    private ShardMap shardMap;
+    
+    @Autowired
+    private ShardQueryExecutor shardQueryExecutor;
+    
+    @Autowired
+    private TenantMoveService tenantMoveService;
+    
+    @Autowired
+    private EmployeeRepository employeeRepository;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @GetMapping
+    @Operation(summary = "Get shard sizes and tenant assignments")
+    @Authorize(value = Role.ADMIN, platform = true)
+    public ResponseEntity<ShardStatusResponse> getStatus() {
+        Map<String, long[]> counts = shardQueryExecutor.mapAllShards(
+                shardId -> new long[] { employeeRepository.count(), userRepository.count() });
+        List<ShardStatusResponse.ShardInfo> shards = new ArrayList<>();
+        for (Map.Entry<String, long[]> entry : counts.entrySet()) {
+            shards.add(new ShardStatusResponse.ShardInfo(entry.getKey(), entry.getValue()[0], entry.getValue()[1]));
+        }
+        return ResponseEntity.ok(new ShardStatusResponse(shardMap.getDirectoryShard(), shards, shardMap.getAssignments()));
+    }
+    
+    @GetMapping("/employees")
+    @Operation(summary = "Get the employees of every tenant across all shards")
+    @Authorize(value = Role.ADMIN, platform = true)
+    public ResponseEntity<List<Employee>> getAllEmployees() {
+        List<Employee> employees = shardQueryExecutor.queryAllShards(shardId -> employeeRepository.findAll());
+        employees.sort(Comparator.comparing(Employee::getTenantId).thenComparing(Employee::getId));
+        return ResponseEntity.ok(employees);
+    }
+    
+    @PostMapping("/tenants/{tenantId}/move")
+    @Operation(summary = "Move a tenant to another shard")
+    @Authorize(value = Role.ADMIN, platform = true)
+    public ResponseEntity<?> moveTenant(@PathVariable String tenantId, @Valid @RequestBody TenantMoveRequest request) {
+        try {
+            return ResponseEntity.ok(tenantMoveService.moveTenant(tenantId, request.getTargetShard()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ApiResponse(false, e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(new ApiResponse(false, e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.employeemanagement.dto;
+
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+public class BatchGetRequest {
+    
+    @NotEmpty(message = "At least one id is required")
+    @Size(max = BatchGetResponse.MAX_IDS, message = "At most " + BatchGetResponse.MAX_IDS + " ids can be fetched at once")
+    private List<@NotNull Long> ids;
+    
+    public BatchGetRequest() {}
+    
+    public BatchGetRequest(List<Long> ids) {
+        this.ids = ids;
+    }
+    
+    public List<Long> getIds() {
+        return ids;
+    }
+    
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+}
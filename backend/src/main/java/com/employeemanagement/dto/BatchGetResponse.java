@@ -0,0 +1,90 @@
+package com.employeemanagement.dto;
+
+import com.employeemanagement.entity.Employee;
+
+import java.util.List;
+
+public class BatchGetResponse {
+    
+    public static final int MAX_IDS = 1000;
+    
+    public enum Status {
+        FOUND, NOT_FOUND, FORBIDDEN
+    }
+    
+    // One entry per requested id, in request order
+    private List<Result> results;
+    private int found;
+    private int notFound;
+    private int forbidden;
+    
+    public BatchGetResponse() {}
+    
+    public BatchGetResponse(List<Result> results) {
+        this.results = results;
+        for (Result result : results) {
+            if (result.getStatus() == Status.FOUND) {
+                found++;
+            } else if (result.getStatus() == Status.NOT_FOUND) {
+                notFound++;
+            } else {
+                forbidden++;
+            }
+        }
+    }
+    
+    public List<Result> getResults() {
+        return results;
+    }
+    
+    public void setResults(List<Result> results) {
+        this.results = results;
+    }
+    
+    public int getFound() {
+        return found;
+    }
+    
+    public void setFound(int found) {
+        this.found = found;
+    }
+    
+    public int getNotFound() {
+        return notFound;
+    }
+    
+    public void setNotFound(int notFound) {
+        this.notFound = notFound;
+    }
+    
+    public int getForbidden() {
+        return forbidden;
+    }
+    
+    public void setForbidden(int forbidden) {
+        this.forbidden = forbidden;
+    }
+    
+    public static class Result {
+        private Long id;
+        private Status status;
+        private Employee employee;
+        
+        public Result() {}
+        
+        public Result(Long id, Status status, Employee employee) {
+            this.id = id;
+            this.status = status;
+            this.employee = employee;
+        }
+        
+        public Long getId() { return id; }
+        public void setId(Long id) { this.id = id; }
+        
+        public Status getStatus() { return status; }
+        public void setStatus(Status status) { this.status = status; }
+        
+        public Employee getEmployee() { return employee; }
+        public void setEmployee(Employee employee) { this.employee = employee; }
+    }
+}
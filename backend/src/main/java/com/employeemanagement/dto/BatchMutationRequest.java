@@ -0,0 +1,128 @@
+package com.employeemanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Email;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.Size;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public class BatchMutationRequest {
+    
+    public static final int MAX_OPERATIONS = 1000;
+    
+    public enum Mode {
+        // All operations are applied or none is
+        ATOMIC,
+        // Operations that fail validation are skipped, the rest is applied
+        BEST_EFFORT
+    }
+    
+    public enum OperationType {
+        UPDATE, DELETE
+    }
+    
+    private Mode mode = Mode.ATOMIC;
+    
+    @Valid
+    @NotEmpty(message = "At least one operation is required")
+    @Size(max = MAX_OPERATIONS, message = "At most " + MAX_OPERATIONS + " operations can be sent at once")
+    private List<@NotNull Operation> operations;
+    
+    public BatchMutationRequest() {}
+    
+    public BatchMutationRequest(Mode mode, List<Operation> operations) {
+        this.mode = mode;
+        this.operations = operations;
+    }
+    
+    public Mode getMode() {
+        return mode;
+    }
+    
+    public void setMode(Mode mode) {
+        this.mode = mode;
+    }
+    
+    public List<Operation> getOperations() {
+        return operations;
+    }
+    
+    public void setOperations(List<Operation> operations) {
+        this.operations = operations;
+    }
+    
+    // For updates only the non-null fields are changed
+    public static class Operation {
+        @NotNull(message = "Operation type is required")
+        private OperationType type;
+        
+        @NotNull(message = "Employee id is required")
+        private Long id;
+        
+        private String firstName;
+        private String lastName;
+        
+        @Email(message = "Email should be valid")
+        private String email;
+        
+        private String phone;
+        private String department;
+        
+        @Positive(message = "Salary must be positive")
+        private BigDecimal salary;
+        
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        private LocalDate dateOfJoining;
+        
+        private Long managerId;
+        
+        public Operation() {}
+        
+        public Operation(OperationType type, Long id) {
+            this.type = type;
+            this.id = id;
+        }
+        
+        // Department moves are grouped into one bulk UPDATE per target department
+        public boolean isDepartmentOnly() {
+            return type == OperationType.UPDATE && department != null && firstName == null && lastName == null
+                    && email == null && phone == null && salary == null && dateOfJoining == null && managerId == null;
+        }
+        
+        public OperationType getType() { return type; }
+        public void setType(OperationType type) { this.type = type; }
+        
+        public Long getId() { return id; }
+        public void setId(Long id) { this.id = id; }
+        
+        public String getFirstName() { return firstName; }
+        public void setFirstName(String firstName) { this.firstName = firstName; }
+        
+        public String getLastName() { return lastName; }
+        public void setLastName(String lastName) { this.lastName = lastName; }
+        
+        public String getEmail() { return email; }
+        public void setEmail(String email) { this.email = email; }
+        
+        public String getPhone() { return phone; }
+        public void setPhone(String phone) { this.phone = phone; }
+        
+        public String getDepartment() { return department; }
+        public void setDepartment(String department) { this.department = department; }
+        
+        public BigDecimal getSalary() { return salary; }
+        public void setSalary(BigDecimal salary) { this.salary = salary; }
+        
+        public LocalDate getDateOfJoining() { return dateOfJoining; }
+        public void setDateOfJoining(LocalDate dateOfJoining) { this.dateOfJoining = dateOfJoining; }
+        
+        public Long getManagerId() { return managerId; }
+        public void setManagerId(Long managerId) { this.managerId = managerId; }
+    }
+}
@@ -0,0 +1,110 @@
+package com.employeemanagement.dto;
+
+import java.util.List;
+
+public class BatchMutationResponse {
+    
+    public enum Status {
+        APPLIED,
+        NOT_FOUND,
+        FAILED,
+        // Valid, but not applied because an atomic batch was rolled back
+        ROLLED_BACK
+    }
+    
+    private BatchMutationRequest.Mode mode;
+    private boolean committed;
+    private int applied;
+    private int failed;
+    
+    // One entry per operation, in request order
+    private List<OperationResult> results;
+    
+    public BatchMutationResponse() {}
+    
+    public BatchMutationResponse(BatchMutationRequest.Mode mode, boolean committed, List<OperationResult> results) {
+        this.mode = mode;
+        this.committed = committed;
+        this.results = results;
+        for (OperationResult result : results) {
+            if (result.getStatus() == Status.APPLIED) {
+                applied++;
+            } else if (result.getStatus() != Status.ROLLED_BACK) {
+                failed++;
+            }
+        }
+    }
+    
+    public BatchMutationRequest.Mode getMode() {
+        return mode;
+    }
+    
+    public void setMode(BatchMutationRequest.Mode mode) {
+        this.mode = mode;
+    }
+    
+    public boolean isCommitted() {
+        return committed;
+    }
+    
+    public void setCommitted(boolean committed) {
+        this.committed = committed;
+    }
+    
+    public int getApplied() {
+        return applied;
+    }
+    
+    public void setApplied(int applied) {
+        this.applied = applied;
+    }
+    
+    public int getFailed() {
+        return failed;
+    }
+    
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+    
+    public List<OperationResult> getResults() {
+        return results;
+    }
+    
+    public void setResults(List<OperationResult> results) {
+        this.results = results;
+    }
+    
+    public static class OperationResult {
+        private int index;
+        private Long id;
+        private BatchMutationRequest.OperationType type;
+        private Status status;
+        private String message;
+        
+        public OperationResult() {}
+        
+        public OperationResult(int index, Long id, BatchMutationRequest.OperationType type, Status status, String message) {
+            this.index = index;
+            this.id = id;
+            this.type = type;
+            this.status = status;
+            this.message = message;
+        }
+        
+        public int getIndex() { return index; }
+        public void setIndex(int index) { this.index = index; }
+        
+        public Long getId() { return id; }
+        public void setId(Long id) { this.id = id; }
+        
+        public BatchMutationRequest.OperationType getType() { return type; }
+        public void setType(BatchMutationRequest.OperationType type) { this.type = type; }
+        
+        public Status getStatus() { return status; }
+        public void setStatus(Status status) { this.status = status; }
+        
+        public String getMessage() { return message; }
+        public void setMessage(String message) { this.message = message; }
+    }
+}
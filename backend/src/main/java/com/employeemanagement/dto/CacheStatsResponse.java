@@ -0,0 +1,116 @@
+package com.employeemanagement.dto;
+
+import java.util.List;
+
+public class CacheStatsResponse {
+    
+    private String nodeId;
+    private List<String> transports;
+    private long published;
+    private long received;
+    private long resyncs;
+    private int pending;
+    private List<EntityCacheStats> caches;
+    
+    public CacheStatsResponse() {}
+    
+    public CacheStatsResponse(String nodeId, List<String> transports, long published, long received, long resyncs,
+                              int pending, List<EntityCacheStats> caches) {
+        this.nodeId = nodeId;
+        this.transports = transports;
+        this.published = published;
+        this.received = received;
+        this.resyncs = resyncs;
+        this.pending = pending;
+        this.caches = caches;
+    }
+    
+    public String getNodeId() {
+        return nodeId;
+    }
+    
+    public void setNodeId(String nodeId) {
+        this.nodeId = nodeId;
+    }
+    
+    public List<String> getTransports() {
+        return transports;
+    }
+    
+    public void setTransports(List<String> transports) {
+        this.transports = transports;
+    }
+    
+    public long getPublished() {
+        return published;
+    }
+    
+    public void setPublished(long published) {
+        this.published = published;
+    }
+    
+    public long getReceived() {
+        return received;
+    }
+    
+    public void setReceived(long received) {
+        this.received = received;
+    }
+    
+    public long getResyncs() {
+        return resyncs;
+    }
+    
+    public void setResyncs(long resyncs) {
+        this.resyncs = resyncs;
+    }
+    
+    public int getPending() {
+        return pending;
+    }
+    
+    public void setPending(int pending) {
+        this.pending = pending;
+    }
+    
+    public List<EntityCacheStats> getCaches() {
+        return caches;
+    }
+    
+    public void setCaches(List<EntityCacheStats> caches) {
+        this.caches = caches;
+    }
+    
+    public static class EntityCacheStats {
+        private String name;
+        private int size;
+        private long hits;
+        private long misses;
+        private long invalidations;
+        
+        public EntityCacheStats() {}
+        
+        public EntityCacheStats(String name, int size, long hits, long misses, long invalidations) {
+            this.name = name;
+            this.size = size;
+            this.hits = hits;
+            this.misses = misses;
+            this.invalidations = invalidations;
+        }
+        
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+        
+        public int getSize() { return size; }
+        public void setSize(int size) { this.size = size; }
+        
+        public long getHits() { return hits; }
+        public void setHits(long hits) { this.hits = hits; }
+        
+        public long getMisses() { return misses; }
+        public void setMisses(long misses) { this.misses = misses; }
+        
+        public long getInvalidations() { return invalidations; }
+        public void setInvalidations(long invalidations) { this.invalidations = invalidations; }
+    }
+}
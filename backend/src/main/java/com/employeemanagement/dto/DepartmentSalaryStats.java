@@ -0,0 +1,73 @@
+package com.employeemanagement.dto;
+
+import java.math.BigDecimal;
+
+public class DepartmentSalaryStats {
+    
+    private String department;
+    private long count;
+    private BigDecimal totalSalary;
+    private BigDecimal averageSalary;
+    private BigDecimal minSalary;
+    private BigDecimal maxSalary;
+    
+    public DepartmentSalaryStats() {}
+    
+    public DepartmentSalaryStats(String department, long count, BigDecimal totalSalary, BigDecimal averageSalary,
+                                 BigDecimal minSalary, BigDecimal maxSalary) {
+        this.department = department;
+        this.count = count;
+        this.totalSalary = totalSalary;
+        this.averageSalary = averageSalary;
+        this.minSalary = minSalary;
+        this.maxSalary = maxSalary;
+    }
+    
+    public String getDepartment() {
+        return department;
+    }
+    
+    public void setDepartment(String department) {
+        this.department = department;
+    }
+    
+    public long getCount() {
+        return count;
+    }
+    
+    public void setCount(long count) {
+        this.count = count;
+    }
+    
+    public BigDecimal getTotalSalary() {
+        return totalSalary;
+    }
+    
+    public void setTotalSalary(BigDecimal totalSalary) {
+        this.totalSalary = totalSalary;
+    }
+    
+    public BigDecimal getAverageSalary() {
+        return averageSalary;
+    }
+    
+    public void setAverageSalary(BigDecimal averageSalary) {
+        this.averageSalary = averageSalary;
+    }
+    
+    public BigDecimal getMinSalary() {
+        return minSalary;
+    }
+    
+    public void setMinSalary(BigDecimal minSalary) {
+        this.minSalary = minSalary;
+    }
+    
+    public BigDecimal getMaxSalary() {
+        return maxSalary;
+    }
+    
+    public void setMaxSalary(BigDecimal maxSalary) {
+        this.maxSalary = maxSalary;
+    }
+}
@@ -0,0 +1,109 @@
+package com.employeemanagement.dto;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+// Query parameters of the filtered GET /employees listing; all bounds are inclusive
+public class EmployeeFilter {
+    
+    private BigDecimal minSalary;
+    private BigDecimal maxSalary;
+    
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate joinedFrom;
+    
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate joinedTo;
+    
+    private List<String> departments;
+    
+    // Case-insensitive last name prefix
+    private String namePrefix;
+    
+    // property[,asc|desc], e.g. salary,desc
+    private String sort;
+    
+    private Integer page;
+    private Integer size;
+    
+    // False when none of the parameters is present, in which case the plain listing is served
+    public boolean isSpecified() {
+        return minSalary != null || maxSalary != null || joinedFrom != null || joinedTo != null
+                || departments != null || namePrefix != null || sort != null || page != null || size != null;
+    }
+    
+    public BigDecimal getMinSalary() {
+        return minSalary;
+    }
+    
+    public void setMinSalary(BigDecimal minSalary) {
+        this.minSalary = minSalary;
+    }
+    
+    public BigDecimal getMaxSalary() {
+        return maxSalary;
+    }
+    
+    public void setMaxSalary(BigDecimal maxSalary) {
+        this.maxSalary = maxSalary;
+    }
+    
+    public LocalDate getJoinedFrom() {
+        return joinedFrom;
+    }
+    
+    public void setJoinedFrom(LocalDate joinedFrom) {
+        this.joinedFrom = joinedFrom;
+    }
+    
+    public LocalDate getJoinedTo() {
+        return joinedTo;
+    }
+    
+    public void setJoinedTo(LocalDate joinedTo) {
+        this.joinedTo = joinedTo;
+    }
+    
+    public List<String> getDepartments() {
+        return departments;
+    }
+    
+    public void setDepartments(List<String> departments) {
+        this.departments = departments;
+    }
+    
+    public String getNamePrefix() {
+        return namePrefix;
+    }
+    
+    public void setNamePrefix(String namePrefix) {
+        this.namePrefix = namePrefix;
+    }
+    
+    public String getSort() {
+        return sort;
+    }
+    
+    public void setSort(String sort) {
+        this.sort = sort;
+    }
+    
+    public Integer getPage() {
+        return page;
+    }
+    
+    public void setPage(Integer page) {
+        this.page = page;
+    }
+    
+    public Integer getSize() {
+        return size;
+    }
+    
+    public void setSize(Integer size) {
+        this.size = size;
+    }
+}
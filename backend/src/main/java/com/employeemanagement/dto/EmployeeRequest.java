@@ -34,6 +34,10 @@ public class EmployeeRequest {
     @JsonFormat(pattern = "yyyy-MM-dd")
     private LocalDate dateOfJoining;
      private String password; 
+    
+    // Optional; on update a null value leaves the current manager unchanged
+    private Long managerId;
+    
     public EmployeeRequest() {}
     
     public EmployeeRequest(String firstName, String lastName, String email, String phone,
@@ -54,6 +58,14 @@ public class EmployeeRequest {
         this.password = password;
     }
 
+    public Long getManagerId() {
+        return managerId;
+    }
+    
+    public void setManagerId(Long managerId) {
+        this.managerId = managerId;
+    }
+    
     public String getFirstName() {
         return firstName;
     }
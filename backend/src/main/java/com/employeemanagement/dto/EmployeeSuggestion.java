@@ -0,0 +1,40 @@
+package com.employeemanagement.dto;
+
+public class EmployeeSuggestion {
+    
+    private Long id;
+    private String displayName;
+    private long views;
+    
+    public EmployeeSuggestion() {}
+    
+    public EmployeeSuggestion(Long id, String displayName, long views) {
+        this.id = id;
+        this.displayName = displayName;
+        this.views = views;
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getDisplayName() {
+        return displayName;
+    }
+    
+    public void setDisplayName(String displayName) {
+        this.displayName = displayName;
+    }
+    
+    public long getViews() {
+        return views;
+    }
+    
+    public void setViews(long views) {
+        this.views = views;
+    }
+}
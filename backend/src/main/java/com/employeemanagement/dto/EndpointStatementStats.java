@@ -0,0 +1,92 @@
+package com.employeemanagement.dto;
+
+public class EndpointStatementStats {
+
+    private String endpoint;
+    private long requests;
+    private long statements;
+    private double statementsPerRequest;
+    private int maxStatements;
+    private long dbTimeMs;
+    private long slowStatements;
+    private long requestsWithRepeatedStatements;
+    
+    public EndpointStatementStats() {}
+    
+    public EndpointStatementStats(String endpoint, long requests, long statements, double statementsPerRequest,
+                                  int maxStatements, long dbTimeMs, long slowStatements,
+                                  long requestsWithRepeatedStatements) {
+        this.endpoint = endpoint;
+        this.requests = requests;
+        this.statements = statements;
+        this.statementsPerRequest = statementsPerRequest;
+        this.maxStatements = maxStatements;
+        this.dbTimeMs = dbTimeMs;
+        this.slowStatements = slowStatements;
+        this.requestsWithRepeatedStatements = requestsWithRepeatedStatements;
+    }
+    
+    public String getEndpoint() {
+        return endpoint;
+    }
+    
+    public void setEndpoint(String endpoint) {
+        this.endpoint = endpoint;
+    }
+    
+    public long getRequests() {
+        return requests;
+    }
+    
+    public void setRequests(long requests) {
+        this.requests = requests;
+    }
+    
+    public long getStatements() {
+        return statements;
+    }
+    
+    public void setStatements(long statements) {
+        this.statements = statements;
+    }
+    
+    public double getStatementsPerRequest() {
+        return statementsPerRequest;
+    }
+    
+    public void setStatementsPerRequest(double statementsPerRequest) {
+        this.statementsPerRequest = statementsPerRequest;
+    }
+    
+    public int getMaxStatements() {
+        return maxStatements;
+    }
+    
+    public void setMaxStatements(int maxStatements) {
+        this.maxStatements = maxStatements;
+    }
+    
+    public long getDbTimeMs() {
+        return dbTimeMs;
+    }
+    
+    public void setDbTimeMs(long dbTimeMs) {
+        this.dbTimeMs = dbTimeMs;
+    }
+    
+    public long getSlowStatements() {
+        return slowStatements;
+    }
+    
+    public void setSlowStatements(long slowStatements) {
+        this.slowStatements = slowStatements;
+    }
+    
+    public long getRequestsWithRepeatedStatements() {
+        return requestsWithRepeatedStatements;
+    }
+    
+    public void setRequestsWithRepeatedStatements(long requestsWithRepeatedStatements) {
+        this.requestsWithRepeatedStatements = requestsWithRepeatedStatements;
+    }
+}
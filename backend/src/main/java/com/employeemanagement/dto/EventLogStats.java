@@ -0,0 +1,99 @@
+package com.employeemanagement.dto;
+
+import java.util.List;
+
+public class EventLogStats {
+    
+    private List<CategoryStats> categories;
+    private List<AppenderStats> appenders;
+    
+    public EventLogStats() {}
+    
+    public EventLogStats(List<CategoryStats> categories, List<AppenderStats> appenders) {
+        this.categories = categories;
+        this.appenders = appenders;
+    }
+    
+    public List<CategoryStats> getCategories() {
+        return categories;
+    }
+    
+    public void setCategories(List<CategoryStats> categories) {
+        this.categories = categories;
+    }
+    
+    public List<AppenderStats> getAppenders() {
+        return appenders;
+    }
+    
+    public void setAppenders(List<AppenderStats> appenders) {
+        this.appenders = appenders;
+    }
+    
+    public static class CategoryStats {
+        private String category;
+        private double sampleRate;
+        private double ratePerSecond;
+        private long logged;
+        private long sampledOut;
+        private long rateLimited;
+        
+        public CategoryStats() {}
+        
+        public CategoryStats(String category, double sampleRate, double ratePerSecond, long logged, long sampledOut,
+                             long rateLimited) {
+            this.category = category;
+            this.sampleRate = sampleRate;
+            this.ratePerSecond = ratePerSecond;
+            this.logged = logged;
+            this.sampledOut = sampledOut;
+            this.rateLimited = rateLimited;
+        }
+        
+        public String getCategory() { return category; }
+        public void setCategory(String category) { this.category = category; }
+        
+        public double getSampleRate() { return sampleRate; }
+        public void setSampleRate(double sampleRate) { this.sampleRate = sampleRate; }
+        
+        public double getRatePerSecond() { return ratePerSecond; }
+        public void setRatePerSecond(double ratePerSecond) { this.ratePerSecond = ratePerSecond; }
+        
+        public long getLogged() { return logged; }
+        public void setLogged(long logged) { this.logged = logged; }
+        
+        public long getSampledOut() { return sampledOut; }
+        public void setSampledOut(long sampledOut) { this.sampledOut = sampledOut; }
+        
+        public long getRateLimited() { return rateLimited; }
+        public void setRateLimited(long rateLimited) { this.rateLimited = rateLimited; }
+    }
+    
+    public static class AppenderStats {
+        private String name;
+        private int queueSize;
+        private int queued;
+        private long dropped;
+        
+        public AppenderStats() {}
+        
+        public AppenderStats(String name, int queueSize, int queued, long dropped) {
+            this.name = name;
+            this.queueSize = queueSize;
+            this.queued = queued;
+            this.dropped = dropped;
+        }
+        
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+        
+        public int getQueueSize() { return queueSize; }
+        public void setQueueSize(int queueSize) { this.queueSize = queueSize; }
+        
+        public int getQueued() { return queued; }
+        public void setQueued(int queued) { this.queued = queued; }
+        
+        public long getDropped() { return dropped; }
+        public void setDropped(long dropped) { this.dropped = dropped; }
+    }
+}
@@ -0,0 +1,122 @@
+package com.employeemanagement.dto;
+
+public class ExistenceFilterStats {
+    
+    private String kind;
+    private boolean ready;
+    private long insertions;
+    private long expectedInsertions;
+    private long bits;
+    private int hashFunctions;
+    private long definiteNegatives;
+    private long repositoryLookups;
+    private long falsePositives;
+    private double observedFalsePositiveRate;
+    private double estimatedFalsePositiveRate;
+    
+    public ExistenceFilterStats() {}
+    
+    public ExistenceFilterStats(String kind, boolean ready, long insertions, long expectedInsertions, long bits,
+                                int hashFunctions, long definiteNegatives, long repositoryLookups, long falsePositives,
+                                double observedFalsePositiveRate, double estimatedFalsePositiveRate) {
+        this.kind = kind;
+        this.ready = ready;
+        this.insertions = insertions;
+        this.expectedInsertions = expectedInsertions;
+        this.bits = bits;
+        this.hashFunctions = hashFunctions;
+        this.definiteNegatives = definiteNegatives;
+        this.repositoryLookups = repositoryLookups;
+        this.falsePositives = falsePositives;
+        this.observedFalsePositiveRate = observedFalsePositiveRate;
+        this.estimatedFalsePositiveRate = estimatedFalsePositiveRate;
+    }
+    
+    public String getKind() {
+        return kind;
+    }
+    
+    public void setKind(String kind) {
+        this.kind = kind;
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    public void setReady(boolean ready) {
+        this.ready = ready;
+    }
+    
+    public long getInsertions() {
+        return insertions;
+    }
+    
+    public void setInsertions(long insertions) {
+        this.insertions = insertions;
+    }
+    
+    public long getExpectedInsertions() {
+        return expectedInsertions;
+    }
+    
+    public void setExpectedInsertions(long expectedInsertions) {
+        this.expectedInsertions = expectedInsertions;
+    }
+    
+    public long getBits() {
+        return bits;
+    }
+    
+    public void setBits(long bits) {
+        this.bits = bits;
+    }
+    
+    public int getHashFunctions() {
+        return hashFunctions;
+    }
+    
+    public void setHashFunctions(int hashFunctions) {
+        this.hashFunctions = hashFunctions;
+    }
+    
+    public long getDefiniteNegatives() {
+        return definiteNegatives;
+    }
+    
+    public void setDefiniteNegatives(long definiteNegatives) {
+        this.definiteNegatives = definiteNegatives;
+    }
+    
+    public long getRepositoryLookups() {
+        return repositoryLookups;
+    }
+    
+    public void setRepositoryLookups(long repositoryLookups) {
+        this.repositoryLookups = repositoryLookups;
+    }
+    
+    public long getFalsePositives() {
+        return falsePositives;
+    }
+    
+    public void setFalsePositives(long falsePositives) {
+        this.falsePositives = falsePositives;
+    }
+    
+    public double getObservedFalsePositiveRate() {
+        return observedFalsePositiveRate;
+    }
+    
+    public void setObservedFalsePositiveRate(double observedFalsePositiveRate) {
+        this.observedFalsePositiveRate = observedFalsePositiveRate;
+    }
+    
+    public double getEstimatedFalsePositiveRate() {
+        return estimatedFalsePositiveRate;
+    }
+    
+    public void setEstimatedFalsePositiveRate(double estimatedFalsePositiveRate) {
+        this.estimatedFalsePositiveRate = estimatedFalsePositiveRate;
+    }
+}
@@ -0,0 +1,76 @@
+package com.employeemanagement.dto;
+
+import com.employeemanagement.entity.Employee;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+public class FacetedSearchResponse {
+    
+    private PageResponse<Employee> results;
+    // Counts ignore the selected department but respect the selected salary band, and vice versa
+    private Map<String, Long> departments;
+    private List<SalaryBand> salaryBands;
+    
+    public FacetedSearchResponse() {}
+    
+    public FacetedSearchResponse(PageResponse<Employee> results, Map<String, Long> departments,
+                                 List<SalaryBand> salaryBands) {
+        this.results = results;
+        this.departments = departments;
+        this.salaryBands = salaryBands;
+    }
+    
+    public PageResponse<Employee> getResults() {
+        return results;
+    }
+    
+    public void setResults(PageResponse<Employee> results) {
+        this.results = results;
+    }
+    
+    public Map<String, Long> getDepartments() {
+        return departments;
+    }
+    
+    public void setDepartments(Map<String, Long> departments) {
+        this.departments = departments;
+    }
+    
+    public List<SalaryBand> getSalaryBands() {
+        return salaryBands;
+    }
+    
+    public void setSalaryBands(List<SalaryBand> salaryBands) {
+        this.salaryBands = salaryBands;
+    }
+    
+    public static class SalaryBand {
+        private String label;
+        private BigDecimal minSalary;
+        private BigDecimal maxSalary;
+        private long count;
+        
+        public SalaryBand() {}
+        
+        public SalaryBand(String label, BigDecimal minSalary, BigDecimal maxSalary, long count) {
+            this.label = label;
+            this.minSalary = minSalary;
+            this.maxSalary = maxSalary;
+            this.count = count;
+        }
+        
+        public String getLabel() { return label; }
+        public void setLabel(String label) { this.label = label; }
+        
+        public BigDecimal getMinSalary() { return minSalary; }
+        public void setMinSalary(BigDecimal minSalary) { this.minSalary = minSalary; }
+        
+        public BigDecimal getMaxSalary() { return maxSalary; }
+        public void setMaxSalary(BigDecimal maxSalary) { this.maxSalary = maxSalary; }
+        
+        public long getCount() { return count; }
+        public void setCount(long count) { this.count = count; }
+    }
+}
@@ -10,6 +10,9 @@ public class LoginRequest {
     @NotBlank(message = "Password is required")
     private String password;
     
+    // Only needed when sharding is enabled; defaults to the default tenant
+    private String tenantId;
+    
     public LoginRequest() {}
     
     public LoginRequest(String username, String password) {
@@ -32,5 +35,12 @@ public class LoginRequest {
     public void setPassword(String password) {
         this.password = password;
     }
+    
+    public String getTenantId() {
+        return tenantId;
+    }
+    
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
 }
-
@@ -0,0 +1,21 @@
+package com.employeemanagement.dto;
+
+public class ManagerAssignmentRequest {
+    
+    // Null detaches the employee and their reports into a separate tree
+    private Long managerId;
+    
+    public ManagerAssignmentRequest() {}
+    
+    public ManagerAssignmentRequest(Long managerId) {
+        this.managerId = managerId;
+    }
+    
+    public Long getManagerId() {
+        return managerId;
+    }
+    
+    public void setManagerId(Long managerId) {
+        this.managerId = managerId;
+    }
+}
@@ -0,0 +1,125 @@
+package com.employeemanagement.dto;
+
+import java.util.List;
+
+public class OutboxStats {
+
+    private boolean enabled;
+    private long relayed;
+    private long relayFailures;
+    private List<PartitionStats> partitions;
+    private List<SinkStats> sinks;
+    
+    public OutboxStats() {}
+    
+    public OutboxStats(boolean enabled, long relayed, long relayFailures, List<PartitionStats> partitions,
+                       List<SinkStats> sinks) {
+        this.enabled = enabled;
+        this.relayed = relayed;
+        this.relayFailures = relayFailures;
+        this.partitions = partitions;
+        this.sinks = sinks;
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+    
+    public long getRelayed() {
+        return relayed;
+    }
+    
+    public void setRelayed(long relayed) {
+        this.relayed = relayed;
+    }
+    
+    public long getRelayFailures() {
+        return relayFailures;
+    }
+    
+    public void setRelayFailures(long relayFailures) {
+        this.relayFailures = relayFailures;
+    }
+    
+    public List<PartitionStats> getPartitions() {
+        return partitions;
+    }
+    
+    public void setPartitions(List<PartitionStats> partitions) {
+        this.partitions = partitions;
+    }
+    
+    public List<SinkStats> getSinks() {
+        return sinks;
+    }
+    
+    public void setSinks(List<SinkStats> sinks) {
+        this.sinks = sinks;
+    }
+    
+    public static class PartitionStats {
+        private int partition;
+        private long startOffset;
+        private long endOffset;
+        
+        public PartitionStats() {}
+        
+        public PartitionStats(int partition, long startOffset, long endOffset) {
+            this.partition = partition;
+            this.startOffset = startOffset;
+            this.endOffset = endOffset;
+        }
+        
+        public int getPartition() { return partition; }
+        public void setPartition(int partition) { this.partition = partition; }
+        
+        public long getStartOffset() { return startOffset; }
+        public void setStartOffset(long startOffset) { this.startOffset = startOffset; }
+        
+        public long getEndOffset() { return endOffset; }
+        public void setEndOffset(long endOffset) { this.endOffset = endOffset; }
+    }
+    
+    public static class SinkStats {
+        private String name;
+        private long delivered;
+        private long failures;
+        private String lastError;
+        private List<Long> offsets;
+        private boolean caughtUp;
+        
+        public SinkStats() {}
+        
+        public SinkStats(String name, long delivered, long failures, String lastError, List<Long> offsets,
+                         boolean caughtUp) {
+            this.name = name;
+            this.delivered = delivered;
+            this.failures = failures;
+            this.lastError = lastError;
+            this.offsets = offsets;
+            this.caughtUp = caughtUp;
+        }
+        
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+        
+        public long getDelivered() { return delivered; }
+        public void setDelivered(long delivered) { this.delivered = delivered; }
+        
+        public long getFailures() { return failures; }
+        public void setFailures(long failures) { this.failures = failures; }
+        
+        public String getLastError() { return lastError; }
+        public void setLastError(String lastError) { this.lastError = lastError; }
+        
+        public List<Long> getOffsets() { return offsets; }
+        public void setOffsets(List<Long> offsets) { this.offsets = offsets; }
+        
+        public boolean isCaughtUp() { return caughtUp; }
+        public void setCaughtUp(boolean caughtUp) { this.caughtUp = caughtUp; }
+    }
+}
@@ -0,0 +1,30 @@
+package com.employeemanagement.dto;
+
+import javax.validation.constraints.DecimalMin;
+import java.math.BigDecimal;
+import java.util.Map;
+
+public class RaiseSimulationRequest {
+    
+    @DecimalMin(value = "-100", message = "Raise cannot be below -100%")
+    private BigDecimal defaultRaisePercent = BigDecimal.ZERO;
+    
+    // Overrides of the default raise for specific departments
+    private Map<String, BigDecimal> departmentRaisePercents;
+    
+    public BigDecimal getDefaultRaisePercent() {
+        return defaultRaisePercent;
+    }
+    
+    public void setDefaultRaisePercent(BigDecimal defaultRaisePercent) {
+        this.defaultRaisePercent = defaultRaisePercent;
+    }
+    
+    public Map<String, BigDecimal> getDepartmentRaisePercents() {
+        return departmentRaisePercents;
+    }
+    
+    public void setDepartmentRaisePercents(Map<String, BigDecimal> departmentRaisePercents) {
+        this.departmentRaisePercents = departmentRaisePercents;
+    }
+}
@@ -0,0 +1,82 @@
+package com.employeemanagement.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public class RaiseSimulationResponse {
+    
+    private BigDecimal currentPayroll;
+    private BigDecimal projectedPayroll;
+    private BigDecimal increase;
+    private List<DepartmentRaise> departments;
+    
+    public RaiseSimulationResponse() {}
+    
+    public RaiseSimulationResponse(BigDecimal currentPayroll, BigDecimal projectedPayroll,
+                                   List<DepartmentRaise> departments) {
+        this.currentPayroll = currentPayroll;
+        this.projectedPayroll = projectedPayroll;
+        this.increase = projectedPayroll.subtract(currentPayroll);
+        this.departments = departments;
+    }
+    
+    public BigDecimal getCurrentPayroll() {
+        return currentPayroll;
+    }
+    
+    public void setCurrentPayroll(BigDecimal currentPayroll) {
+        this.currentPayroll = currentPayroll;
+    }
+    
+    public BigDecimal getProjectedPayroll() {
+        return projectedPayroll;
+    }
+    
+    public void setProjectedPayroll(BigDecimal projectedPayroll) {
+        this.projectedPayroll = projectedPayroll;
+    }
+    
+    public BigDecimal getIncrease() {
+        return increase;
+    }
+    
+    public void setIncrease(BigDecimal increase) {
+        this.increase = increase;
+    }
+    
+    public List<DepartmentRaise> getDepartments() {
+        return departments;
+    }
+    
+    public void setDepartments(List<DepartmentRaise> departments) {
+        this.departments = departments;
+    }
+    
+    public static class DepartmentRaise {
+        private String department;
+        private BigDecimal currentPayroll;
+        private BigDecimal projectedPayroll;
+        private BigDecimal increase;
+        
+        public DepartmentRaise() {}
+        
+        public DepartmentRaise(String department, BigDecimal currentPayroll, BigDecimal projectedPayroll) {
+            this.department = department;
+            this.currentPayroll = currentPayroll;
+            this.projectedPayroll = projectedPayroll;
+            this.increase = projectedPayroll.subtract(currentPayroll);
+        }
+        
+        public String getDepartment() { return department; }
+        public void setDepartment(String department) { this.department = department; }
+        
+        public BigDecimal getCurrentPayroll() { return currentPayroll; }
+        public void setCurrentPayroll(BigDecimal currentPayroll) { this.currentPayroll = currentPayroll; }
+        
+        public BigDecimal getProjectedPayroll() { return projectedPayroll; }
+        public void setProjectedPayroll(BigDecimal projectedPayroll) { this.projectedPayroll = projectedPayroll; }
+        
+        public BigDecimal getIncrease() { return increase; }
+        public void setIncrease(BigDecimal increase) { this.increase = increase; }
+    }
+}
@@ -0,0 +1,76 @@
+package com.employeemanagement.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public class SalaryHistogramResponse {
+    
+    private String department;
+    private long count;
+    private BigDecimal bucketWidth;
+    private List<Bucket> buckets;
+    
+    public SalaryHistogramResponse() {}
+    
+    public SalaryHistogramResponse(String department, long count, BigDecimal bucketWidth, List<Bucket> buckets) {
+        this.department = department;
+        this.count = count;
+        this.bucketWidth = bucketWidth;
+        this.buckets = buckets;
+    }
+    
+    public String getDepartment() {
+        return department;
+    }
+    
+    public void setDepartment(String department) {
+        this.department = department;
+    }
+    
+    public long getCount() {
+        return count;
+    }
+    
+    public void setCount(long count) {
+        this.count = count;
+    }
+    
+    public BigDecimal getBucketWidth() {
+        return bucketWidth;
+    }
+    
+    public void setBucketWidth(BigDecimal bucketWidth) {
+        this.bucketWidth = bucketWidth;
+    }
+    
+    public List<Bucket> getBuckets() {
+        return buckets;
+    }
+    
+    public void setBuckets(List<Bucket> buckets) {
+        this.buckets = buckets;
+    }
+    
+    public static class Bucket {
+        private BigDecimal lowerBound;
+        private BigDecimal upperBound;
+        private long count;
+        
+        public Bucket() {}
+        
+        public Bucket(BigDecimal lowerBound, BigDecimal upperBound, long count) {
+            this.lowerBound = lowerBound;
+            this.upperBound = upperBound;
+            this.count = count;
+        }
+        
+        public BigDecimal getLowerBound() { return lowerBound; }
+        public void setLowerBound(BigDecimal lowerBound) { this.lowerBound = lowerBound; }
+        
+        public BigDecimal getUpperBound() { return upperBound; }
+        public void setUpperBound(BigDecimal upperBound) { this.upperBound = upperBound; }
+        
+        public long getCount() { return count; }
+        public void setCount(long count) { this.count = count; }
+    }
+}
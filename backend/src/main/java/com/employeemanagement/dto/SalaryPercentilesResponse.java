@@ -0,0 +1,43 @@
+package com.employeemanagement.dto;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+public class SalaryPercentilesResponse {
+    
+    private String department;
+    private long count;
+    private Map<String, BigDecimal> percentiles;
+    
+    public SalaryPercentilesResponse() {}
+    
+    public SalaryPercentilesResponse(String department, long count, Map<String, BigDecimal> percentiles) {
+        this.department = department;
+        this.count = count;
+        this.percentiles = percentiles;
+    }
+    
+    public String getDepartment() {
+        return department;
+    }
+    
+    public void setDepartment(String department) {
+        this.department = department;
+    }
+    
+    public long getCount() {
+        return count;
+    }
+    
+    public void setCount(long count) {
+        this.count = count;
+    }
+    
+    public Map<String, BigDecimal> getPercentiles() {
+        return percentiles;
+    }
+    
+    public void setPercentiles(Map<String, BigDecimal> percentiles) {
+        this.percentiles = percentiles;
+    }
+}
@@ -0,0 +1,66 @@
+package com.employeemanagement.dto;
+
+import java.util.List;
+import java.util.Map;
+
+public class ShardStatusResponse {
+    
+    private String directoryShard;
+    private List<ShardInfo> shards;
+    private Map<String, String> tenantAssignments;
+    
+    public ShardStatusResponse() {}
+    
+    public ShardStatusResponse(String directoryShard, List<ShardInfo> shards, Map<String, String> tenantAssignments) {
+        this.directoryShard = directoryShard;
+        this.shards = shards;
+        this.tenantAssignments = tenantAssignments;
+    }
+    
+    public String getDirectoryShard() {
+        return directoryShard;
+    }
+    
+    public void setDirectoryShard(String directoryShard) {
+        this.directoryShard = directoryShard;
+    }
+    
+    public List<ShardInfo> getShards() {
+        return shards;
+    }
+    
+    public void setShards(List<ShardInfo> shards) {
+        this.shards = shards;
+    }
+    
+    public Map<String, String> getTenantAssignments() {
+        return tenantAssignments;
+    }
+    
+    public void setTenantAssignments(Map<String, String> tenantAssignments) {
+        this.tenantAssignments = tenantAssignments;
+    }
+    
+    public static class ShardInfo {
+        private String shardId;
+        private long employees;
+        private long users;
+        
+        public ShardInfo() {}
+        
+        public ShardInfo(String shardId, long employees, long users) {
+            this.shardId = shardId;
+            this.employees = employees;
+            this.users = users;
+        }
+        
+        public String getShardId() { return shardId; }
+        public void setShardId(String shardId) { this.shardId = shardId; }
+        
+        public long getEmployees() { return employees; }
+        public void setEmployees(long employees) { this.employees = employees; }
+        
+        public long getUsers() { return users; }
+        public void setUsers(long users) { this.users = users; }
+    }
+}
@@ -0,0 +1,52 @@
+package com.employeemanagement.dto;
+
+import java.time.Instant;
+
+public class SigningKeyInfo {
+    
+    private String kid;
+    private Instant createdAt;
+    private Instant activatesAt;
+    private boolean signing;
+    
+    public SigningKeyInfo() {}
+    
+    public SigningKeyInfo(String kid, Instant createdAt, Instant activatesAt, boolean signing) {
+        this.kid = kid;
+        this.createdAt = createdAt;
+        this.activatesAt = activatesAt;
+        this.signing = signing;
+    }
+    
+    public String getKid() {
+        return kid;
+    }
+    
+    public void setKid(String kid) {
+        this.kid = kid;
+    }
+    
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public Instant getActivatesAt() {
+        return activatesAt;
+    }
+    
+    public void setActivatesAt(Instant activatesAt) {
+        this.activatesAt = activatesAt;
+    }
+    
+    public boolean isSigning() {
+        return signing;
+    }
+    
+    public void setSigning(boolean signing) {
+        this.signing = signing;
+    }
+}
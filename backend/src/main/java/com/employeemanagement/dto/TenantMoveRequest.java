@@ -0,0 +1,23 @@
+package com.employeemanagement.dto;
+
+import javax.validation.constraints.NotBlank;
+
+public class TenantMoveRequest {
+    
+    @NotBlank(message = "Target shard is required")
+    private String targetShard;
+    
+    public TenantMoveRequest() {}
+    
+    public TenantMoveRequest(String targetShard) {
+        this.targetShard = targetShard;
+    }
+    
+    public String getTargetShard() {
+        return targetShard;
+    }
+    
+    public void setTargetShard(String targetShard) {
+        this.targetShard = targetShard;
+    }
+}
@@ -0,0 +1,71 @@
+package com.employeemanagement.dto;
+
+public class TenantMoveResponse {
+
+    private String tenantId;
+    private String sourceShard;
+    private String targetShard;
+    private int employeesMoved;
+    private int usersMoved;
+    private long durationMs;
+    
+    public TenantMoveResponse() {}
+    
+    public TenantMoveResponse(String tenantId, String sourceShard, String targetShard, int employeesMoved,
+                              int usersMoved, long durationMs) {
+        this.tenantId = tenantId;
+        this.sourceShard = sourceShard;
+        this.targetShard = targetShard;
+        this.employeesMoved = employeesMoved;
+        this.usersMoved = usersMoved;
+        this.durationMs = durationMs;
+    }
+    
+    public String getTenantId() {
+        return tenantId;
+    }
+    
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+    
+    public String getSourceShard() {
+        return sourceShard;
+    }
+    
+    public void setSourceShard(String sourceShard) {
+        this.sourceShard = sourceShard;
+    }
+    
+    public String getTargetShard() {
+        return targetShard;
+    }
+    
+    public void setTargetShard(String targetShard) {
+        this.targetShard = targetShard;
+    }
+    
+    public int getEmployeesMoved() {
+        return employeesMoved;
+    }
+    
+    public void setEmployeesMoved(int employeesMoved) {
+        this.employeesMoved = employeesMoved;
+    }
+    
+    public int getUsersMoved() {
+        return usersMoved;
+    }
+    
+    public void setUsersMoved(int usersMoved) {
+        this.usersMoved = usersMoved;
+    }
+    
+    public long getDurationMs() {
+        return durationMs;
+    }
+    
+    public void setDurationMs(long durationMs) {
+        this.durationMs = durationMs;
+    }
+}
@@ -0,0 +1,39 @@
+package com.employeemanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import javax.validation.constraints.Size;
+import java.time.LocalDate;
+
+public class TerminationRequest {
+
+    // Last day of employment; defaults to today, and may lie in the future
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate terminationDate;
+    
+    @Size(max = 255, message = "Reason must be at most 255 characters")
+    private String reason;
+    
+    public TerminationRequest() {}
+    
+    public TerminationRequest(LocalDate terminationDate, String reason) {
+        this.terminationDate = terminationDate;
+        this.reason = reason;
+    }
+    
+    public LocalDate getTerminationDate() {
+        return terminationDate;
+    }
+    
+    public void setTerminationDate(LocalDate terminationDate) {
+        this.terminationDate = terminationDate;
+    }
+    
+    public String getReason() {
+        return reason;
+    }
+    
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+}
@@ -0,0 +1,111 @@
+package com.employeemanagement.dto;
+
+public class TraceStats {
+    
+    private boolean enabled;
+    private double headSampleRate;
+    private long slowThresholdMs;
+    private long started;
+    private long keptByHead;
+    private long keptAsSlow;
+    private long keptAsError;
+    private long discarded;
+    private long exported;
+    private long dropped;
+    
+    public TraceStats() {}
+    
+    public TraceStats(boolean enabled, double headSampleRate, long slowThresholdMs, long started, long keptByHead,
+                      long keptAsSlow, long keptAsError, long discarded, long exported, long dropped) {
+        this.enabled = enabled;
+        this.headSampleRate = headSampleRate;
+        this.slowThresholdMs = slowThresholdMs;
+        this.started = started;
+        this.keptByHead = keptByHead;
+        this.keptAsSlow = keptAsSlow;
+        this.keptAsError = keptAsError;
+        this.discarded = discarded;
+        this.exported = exported;
+        this.dropped = dropped;
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+    
+    public double getHeadSampleRate() {
+        return headSampleRate;
+    }
+    
+    public void setHeadSampleRate(double headSampleRate) {
+        this.headSampleRate = headSampleRate;
+    }
+    
+    public long getSlowThresholdMs() {
+        return slowThresholdMs;
+    }
+    
+    public void setSlowThresholdMs(long slowThresholdMs) {
+        this.slowThresholdMs = slowThresholdMs;
+    }
+    
+    public long getStarted() {
+        return started;
+    }
+    
+    public void setStarted(long started) {
+        this.started = started;
+    }
+    
+    public long getKeptByHead() {
+        return keptByHead;
+    }
+    
+    public void setKeptByHead(long keptByHead) {
+        this.keptByHead = keptByHead;
+    }
+    
+    public long getKeptAsSlow() {
+        return keptAsSlow;
+    }
+    
+    public void setKeptAsSlow(long keptAsSlow) {
+        this.keptAsSlow = keptAsSlow;
+    }
+    
+    public long getKeptAsError() {
+        return keptAsError;
+    }
+    
+    public void setKeptAsError(long keptAsError) {
+        this.keptAsError = keptAsError;
+    }
+    
+    public long getDiscarded() {
+        return discarded;
+    }
+    
+    public void setDiscarded(long discarded) {
+        this.discarded = discarded;
+    }
+    
+    public long getExported() {
+        return exported;
+    }
+    
+    public void setExported(long exported) {
+        this.exported = exported;
+    }
+    
+    public long getDropped() {
+        return dropped;
+    }
+    
+    public void setDropped(long dropped) {
+        this.dropped = dropped;
+    }
+}
@@ -0,0 +1,242 @@
+package com.employeemanagement.entity;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import org.hibernate.annotations.Filter;
+
+import javax.persistence.*;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.stream.Collectors;
+
+/**
+ * A former employee, kept for the retention period after termination together with the
+ * account they had. The termination year leads the main index, so each year is one contiguous
+ * key range: reads of a year and the retention purge touch only that range, which is what a
+ * year-partitioned table gives on databases that support declarative partitioning.
+ */
+@Entity
+@Table(name = "archived_employees", indexes = {
+        @Index(name = "idx_archived_employees_year", columnList = "termination_year, id"),
+        @Index(name = "idx_archived_employees_tenant_id", columnList = "tenant_id")
+})
+@Filter(name = "tenantFilter", condition = "tenant_id = :tenantId")
+public class ArchivedEmployee {
+
+    // The id the employee had, so references from other systems still resolve
+    @Id
+    private Long id;
+    
+    @Column(name = "termination_year", nullable = false)
+    private int terminationYear;
+    
+    @Column(name = "terminated_on", nullable = false)
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate terminatedOn;
+    
+    @Column(name = "termination_reason")
+    private String terminationReason;
+    
+    @Column(name = "archived_at", nullable = false)
+    private Instant archivedAt;
+    
+    @Column(name = "first_name", nullable = false)
+    private String firstName;
+    
+    @Column(name = "last_name", nullable = false)
+    private String lastName;
+    
+    @Column(name = "email", nullable = false)
+    private String email;
+    
+    @Column(name = "phone")
+    private String phone;
+    
+    @Column(name = "department", nullable = false)
+    private String department;
+    
+    @Column(name = "salary", nullable = false)
+    private BigDecimal salary;
+    
+    @Column(name = "date_of_joining", nullable = false)
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate dateOfJoining;
+    
+    @Column(name = "manager_id")
+    private Long managerId;
+    
+    @Column(name = "tenant_id", nullable = false, length = 64)
+    private String tenantId;
+    
+    // The linked account, without its password hash
+    @Column(name = "user_id")
+    private Long userId;
+    
+    @Column(name = "username")
+    private String username;
+    
+    @Column(name = "user_roles")
+    private String userRoles;
+    
+    public ArchivedEmployee() {}
+    
+    public static ArchivedEmployee of(Employee employee, User user, Instant archivedAt) {
+        ArchivedEmployee archived = new ArchivedEmployee();
+        archived.id = employee.getId();
+        archived.terminatedOn = employee.getTerminatedOn();
+        archived.terminationYear = employee.getTerminatedOn().getYear();
+        archived.terminationReason = employee.getTerminationReason();
+        archived.archivedAt = archivedAt;
+        archived.firstName = employee.getFirstName();
+        archived.lastName = employee.getLastName();
+        archived.email = employee.getEmail();
+        archived.phone = employee.getPhone();
+        archived.department = employee.getDepartment();
+        archived.salary = employee.getSalary();
+        archived.dateOfJoining = employee.getDateOfJoining();
+        archived.managerId = employee.getManagerId();
+        archived.tenantId = employee.getTenantId();
+        if (user != null) {
+            archived.userId = user.getId();
+            archived.username = user.getUsername();
+            archived.userRoles = user.getRoles().stream().map(Role::name).sorted().collect(Collectors.joining(","));
+        }
+        return archived;
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public int getTerminationYear() {
+        return terminationYear;
+    }
+    
+    public void setTerminationYear(int terminationYear) {
+        this.terminationYear = terminationYear;
+    }
+    
+    public LocalDate getTerminatedOn() {
+        return terminatedOn;
+    }
+    
+    public void setTerminatedOn(LocalDate terminatedOn) {
+        this.terminatedOn = terminatedOn;
+    }
+    
+    public String getTerminationReason() {
+        return terminationReason;
+    }
+    
+    public void setTerminationReason(String terminationReason) {
+        this.terminationReason = terminationReason;
+    }
+    
+    public Instant getArchivedAt() {
+        return archivedAt;
+    }
+    
+    public void setArchivedAt(Instant archivedAt) {
+        this.archivedAt = archivedAt;
+    }
+    
+    public String getFirstName() {
+        return firstName;
+    }
+    
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+    
+    public String getLastName() {
+        return lastName;
+    }
+    
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+    
+    public String getEmail() {
+        return email;
+    }
+    
+    public void setEmail(String email) {
+        this.email = email;
+    }
+    
+    public String getPhone() {
+        return phone;
+    }
+    
+    public void setPhone(String phone) {
+        this.phone = phone;
+    }
+    
+    public String getDepartment() {
+        return department;
+    }
+    
+    public void setDepartment(String department) {
+        this.department = department;
+    }
+    
+    public BigDecimal getSalary() {
+        return salary;
+    }
+    
+    public void setSalary(BigDecimal salary) {
+        this.salary = salary;
+    }
+    
+    public LocalDate getDateOfJoining() {
+        return dateOfJoining;
+    }
+    
+    public void setDateOfJoining(LocalDate dateOfJoining) {
+        this.dateOfJoining = dateOfJoining;
+    }
+    
+    public Long getManagerId() {
+        return managerId;
+    }
+    
+    public void setManagerId(Long managerId) {
+        this.managerId = managerId;
+    }
+    
+    public String getTenantId() {
+        return tenantId;
+    }
+    
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+    
+    public Long getUserId() {
+        return userId;
+    }
+    
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+    
+    public String getUsername() {
+        return username;
+    }
+    
+    public void setUsername(String username) {
+        this.username = username;
+    }
+    
+    public String getUserRoles() {
+        return userRoles;
+    }
+    
+    public void setUserRoles(String userRoles) {
+        this.userRoles = userRoles;
+    }
+}
@@ -1,6 +1,8 @@
 package com.employeemanagement.entity;
 
+import com.employeemanagement.sharding.TenantContext;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import org.hibernate.annotations.Filter;
 
 import javax.persistence.*;
 import javax.validation.constraints.Email;
@@ -11,7 +13,19 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "employees")
+@Table(name = "employees", indexes = {
+        @Index(name = "idx_employees_manager_id", columnList = "manager_id"),
+        @Index(name = "idx_employees_tenant_id", columnList = "tenant_id"),
+        // Backing the GET /employees filters, see EmployeeSpecifications
+        @Index(name = "idx_employees_department_salary", columnList = "department, salary"),
+        @Index(name = "idx_employees_department_joined", columnList = "department, date_of_joining"),
+        @Index(name = "idx_employees_salary", columnList = "salary"),
+        @Index(name = "idx_employees_date_of_joining", columnList = "date_of_joining"),
+        @Index(name = "idx_employees_last_name_key", columnList = "last_name_key, first_name"),
+        // Lets the archive mover find due terminations without scanning
+        @Index(name = "idx_employees_terminated_on", columnList = "terminated_on")
+})
+@Filter(name = "tenantFilter", condition = "tenant_id = :tenantId")
 public class Employee {
     
     @Id
@@ -26,6 +40,11 @@ public class Employee {
     @Column(name = "last_name", nullable = false)
     private String lastName;
     
+    // Lowercased last name computed by the database, so case-insensitive prefix filters can use an index
+    @Column(name = "last_name_key", insertable = false, updatable = false,
+            columnDefinition = "varchar(255) generated always as (lower(last_name))")
+    private String lastNameKey;
+    
     @Email(message = "Email should be valid")
     @NotBlank(message = "Email is required")
     @Column(name = "email", nullable = false, unique = true)
@@ -48,6 +67,20 @@ public class Employee {
     @JsonFormat(pattern = "yyyy-MM-dd")
     private LocalDate dateOfJoining;
     
+    @Column(name = "manager_id")
+    private Long managerId;
+    
+    @Column(name = "tenant_id", nullable = false, length = 64)
+    private String tenantId;
+    
+    // Set when the employee is terminated; the row moves to the archive once this date is reached
+    @Column(name = "terminated_on")
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate terminatedOn;
+    
+    @Column(name = "termination_reason")
+    private String terminationReason;
+    
     @Column(name = "created_at")
     private LocalDate createdAt;
     
@@ -68,8 +101,24 @@ public class Employee {
         this.dateOfJoining = dateOfJoining;
     }
     
+    // Detached copy used to capture the state of an employee around a change
+    public Employee snapshot() {
+        Employee copy = new Employee(firstName, lastName, email, phone, department, salary, dateOfJoining);
+        copy.id = id;
+        copy.managerId = managerId;
+        copy.tenantId = tenantId;
+        copy.terminatedOn = terminatedOn;
+        copy.terminationReason = terminationReason;
+        copy.createdAt = createdAt;
+        copy.updatedAt = updatedAt;
+        return copy;
+    }
+    
     @PrePersist
     protected void onCreate() {
+        if (tenantId == null) {
+            tenantId = TenantContext.getTenantIdOrDefault();
+        }
         createdAt = LocalDate.now();
         updatedAt = LocalDate.now();
     }
@@ -144,6 +193,38 @@ public class Employee {
         this.dateOfJoining = dateOfJoining;
     }
     
+    public Long getManagerId() {
+        return managerId;
+    }
+    
+    public void setManagerId(Long managerId) {
+        this.managerId = managerId;
+    }
+    
+    public String getTenantId() {
+        return tenantId;
+    }
+    
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+    
+    public LocalDate getTerminatedOn() {
+        return terminatedOn;
+    }
+    
+    public void setTerminatedOn(LocalDate terminatedOn) {
+        this.terminatedOn = terminatedOn;
+    }
+    
+    public String getTerminationReason() {
+        return terminationReason;
+    }
+    
+    public void setTerminationReason(String terminationReason) {
+        this.terminationReason = terminationReason;
+    }
+    
     public LocalDate getCreatedAt() {
         return createdAt;
     }
@@ -171,6 +252,7 @@ public class Employee {
                 ", department='" + department + '\'' +
                 ", salary=" + salary +
                 ", dateOfJoining=" + dateOfJoining +
+                ", managerId=" + managerId +
                 '}';
     }
 }
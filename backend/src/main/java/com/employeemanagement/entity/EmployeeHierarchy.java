@@ -0,0 +1,82 @@
+package com.employeemanagement.entity;
+
+import javax.persistence.*;
+import java.io.Serializable;
+import java.util.Objects;
+
+// Closure table row: one per (ancestor, descendant) pair, including each employee with itself at depth 0
+@Entity
+@Table(name = "employee_hierarchy", indexes = {
+        @Index(name = "idx_employee_hierarchy_descendant", columnList = "descendant_id, depth")
+})
+@IdClass(EmployeeHierarchy.Key.class)
+public class EmployeeHierarchy {
+    
+    @Id
+    @Column(name = "ancestor_id", nullable = false)
+    private Long ancestorId;
+    
+    @Id
+    @Column(name = "descendant_id", nullable = false)
+    private Long descendantId;
+    
+    @Column(name = "depth", nullable = false)
+    private int depth;
+    
+    public EmployeeHierarchy() {}
+    
+    public EmployeeHierarchy(Long ancestorId, Long descendantId, int depth) {
+        this.ancestorId = ancestorId;
+        this.descendantId = descendantId;
+        this.depth = depth;
+    }
+    
+    public Long getAncestorId() {
+        return ancestorId;
+    }
+    
+    public void setAncestorId(Long ancestorId) {
+        this.ancestorId = ancestorId;
+    }
+    
+    public Long getDescendantId() {
+        return descendantId;
+    }
+    
+    public void setDescendantId(Long descendantId) {
+        this.descendantId = descendantId;
+    }
+    
+    public int getDepth() {
+        return depth;
+    }
+    
+    public void setDepth(int depth) {
+        this.depth = depth;
+    }
+    
+    public static class Key implements Serializable {
+        private Long ancestorId;
+        private Long descendantId;
+        
+        public Key() {}
+        
+        public Key(Long ancestorId, Long descendantId) {
+            this.ancestorId = ancestorId;
+            this.descendantId = descendantId;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return Objects.equals(ancestorId, key.ancestorId) && Objects.equals(descendantId, key.descendantId);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(ancestorId, descendantId);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.employeemanagement.entity;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import org.hibernate.annotations.Filter;
+
+import javax.persistence.*;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * One version of an employee's department and salary, on two time axes. Valid time
+ * ({@code validFrom} up to, not including, {@code validTo}) is when the version held in the
+ * company; transaction time ({@code recordedAt} up to {@code supersededAt}) is when the
+ * database stated it. A version is never changed except to be superseded, so earlier
+ * statements remain queryable. Open intervals end at {@link #OPEN_END} instead of null,
+ * which keeps them inside the range scanned by an as-of query.
+ */
+@Entity
+@Table(name = "employee_history", indexes = {
+        // valid_to > :date covers the versions in effect on that date plus those that followed
+        @Index(name = "idx_employee_history_as_of", columnList = "valid_to, valid_from"),
+        @Index(name = "idx_employee_history_employee", columnList = "employee_id, valid_from")
+})
+@Filter(name = "tenantFilter", condition = "tenant_id = :tenantId")
+public class EmployeeHistory {
+
+    public static final LocalDate OPEN_END = LocalDate.of(9999, 12, 31);
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+    
+    @Column(name = "tenant_id", nullable = false, length = 64)
+    private String tenantId;
+    
+    @Column(name = "first_name", nullable = false)
+    private String firstName;
+    
+    @Column(name = "last_name", nullable = false)
+    private String lastName;
+    
+    @Column(name = "email", nullable = false)
+    private String email;
+    
+    @Column(name = "department", nullable = false)
+    private String department;
+    
+    @Column(name = "salary", nullable = false)
+    private BigDecimal salary;
+    
+    @Column(name = "valid_from", nullable = false)
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate validFrom;
+    
+    @Column(name = "valid_to", nullable = false)
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate validTo;
+    
+    @Column(name = "recorded_at", nullable = false)
+    private Instant recordedAt;
+    
+    // Null while this is what the database currently states
+    @Column(name = "superseded_at")
+    private Instant supersededAt;
+    
+    public EmployeeHistory() {}
+    
+    public static EmployeeHistory of(Employee employee, LocalDate validFrom, Instant recordedAt) {
+        EmployeeHistory version = new EmployeeHistory();
+        version.employeeId = employee.getId();
+        version.tenantId = employee.getTenantId();
+        version.firstName = employee.getFirstName();
+        version.lastName = employee.getLastName();
+        version.email = employee.getEmail();
+        version.department = employee.getDepartment();
+        version.salary = employee.getSalary();
+        version.validFrom = validFrom;
+        version.validTo = OPEN_END;
+        version.recordedAt = recordedAt;
+        return version;
+    }
+    
+    // The same version ending on the given date, as stated from recordedAt on
+    public EmployeeHistory endingOn(LocalDate validTo, Instant recordedAt) {
+        EmployeeHistory version = new EmployeeHistory();
+        version.employeeId = employeeId;
+        version.tenantId = tenantId;
+        version.firstName = firstName;
+        version.lastName = lastName;
+        version.email = email;
+        version.department = department;
+        version.salary = salary;
+        version.validFrom = validFrom;
+        version.validTo = validTo;
+        version.recordedAt = recordedAt;
+        return version;
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public Long getEmployeeId() {
+        return employeeId;
+    }
+    
+    public void setEmployeeId(Long employeeId) {
+        this.employeeId = employeeId;
+    }
+    
+    public String getTenantId() {
+        return tenantId;
+    }
+    
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+    
+    public String getFirstName() {
+        return firstName;
+    }
+    
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+    
+    public String getLastName() {
+        return lastName;
+    }
+    
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+    
+    public String getEmail() {
+        return email;
+    }
+    
+    public void setEmail(String email) {
+        this.email = email;
+    }
+    
+    public String getDepartment() {
+        return department;
+    }
+    
+    public void setDepartment(String department) {
+        this.department = department;
+    }
+    
+    public BigDecimal getSalary() {
+        return salary;
+    }
+    
+    public void setSalary(BigDecimal salary) {
+        this.salary = salary;
+    }
+    
+    public LocalDate getValidFrom() {
+        return validFrom;
+    }
+    
+    public void setValidFrom(LocalDate validFrom) {
+        this.validFrom = validFrom;
+    }
+    
+    public LocalDate getValidTo() {
+        return validTo;
+    }
+    
+    public void setValidTo(LocalDate validTo) {
+        this.validTo = validTo;
+    }
+    
+    public Instant getRecordedAt() {
+        return recordedAt;
+    }
+    
+    public void setRecordedAt(Instant recordedAt) {
+        this.recordedAt = recordedAt;
+    }
+    
+    public Instant getSupersededAt() {
+        return supersededAt;
+    }
+    
+    public void setSupersededAt(Instant supersededAt) {
+        this.supersededAt = supersededAt;
+    }
+}
@@ -0,0 +1,104 @@
+package com.employeemanagement.entity;
+
+import javax.persistence.*;
+import java.time.Instant;
+
+// A change waiting to be relayed to the local event log, written in the transaction that made it
+@Entity
+@Table(name = "outbox_messages")
+public class OutboxMessage {
+
+    // Sequence ids let Hibernate batch the inserts of a bulk change, unlike identity columns
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_message_seq")
+    @SequenceGenerator(name = "outbox_message_seq", sequenceName = "outbox_message_seq", allocationSize = 50)
+    private Long id;
+    
+    @Column(name = "aggregate_type", nullable = false, length = 32)
+    private String aggregateType;
+    
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+    
+    @Column(name = "event_type", nullable = false, length = 16)
+    private String eventType;
+    
+    @Column(name = "tenant_id", length = 64)
+    private String tenantId;
+    
+    @Lob
+    @Column(name = "payload")
+    private String payload;
+    
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+    
+    public OutboxMessage() {}
+    
+    public OutboxMessage(String aggregateType, Long aggregateId, String eventType, String tenantId, String payload,
+                         Instant createdAt) {
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.tenantId = tenantId;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getAggregateType() {
+        return aggregateType;
+    }
+    
+    public void setAggregateType(String aggregateType) {
+        this.aggregateType = aggregateType;
+    }
+    
+    public Long getAggregateId() {
+        return aggregateId;
+    }
+    
+    public void setAggregateId(Long aggregateId) {
+        this.aggregateId = aggregateId;
+    }
+    
+    public String getEventType() {
+        return eventType;
+    }
+    
+    public void setEventType(String eventType) {
+        this.eventType = eventType;
+    }
+    
+    public String getTenantId() {
+        return tenantId;
+    }
+    
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+    
+    // JSON state of the aggregate after the change, or before it for deletions
+    public String getPayload() {
+        return payload;
+    }
+    
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+    
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -5,15 +5,44 @@ public enum Role {
     EMPLOYEE("EMPLOYEE");
     
     private final String value;
+    private final String authority;
+    private final int mask;
     
     Role(String value) {
         this.value = value;
+        this.authority = "ROLE_" + name();
+        this.mask = 1 << ordinal();
     }
     
     public String getValue() {
         return value;
     }
     
+    public String getAuthority() {
+        return authority;
+    }
+    
+    public int getMask() {
+        return mask;
+    }
+    
+    public static int maskOf(Role... roles) {
+        int mask = 0;
+        for (Role role : roles) {
+            mask |= role.mask;
+        }
+        return mask;
+    }
+    
+    public static Role fromAuthority(String authority) {
+        for (Role role : values()) {
+            if (role.authority.equals(authority)) {
+                return role;
+            }
+        }
+        return null;
+    }
+    
     @Override
     public String toString() {
         return value;
@@ -1,5 +1,8 @@
 package com.employeemanagement.entity;
 
+import com.employeemanagement.sharding.TenantContext;
+import org.hibernate.annotations.Filter;
+
 import javax.persistence.*;
 import javax.validation.constraints.Email;
 import javax.validation.constraints.NotBlank;
@@ -9,7 +12,10 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_tenant_id", columnList = "tenant_id")
+})
+@Filter(name = "tenantFilter", condition = "tenant_id = :tenantId")
 public class User {
     
     @Id
@@ -40,6 +46,9 @@ public class User {
     @Column(name = "employee_id")
     private Long employeeId;
     
+    @Column(name = "tenant_id", nullable = false, length = 64)
+    private String tenantId;
+    
     @Column(name = "created_at")
     private LocalDateTime createdAt;
     
@@ -58,8 +67,24 @@ public class User {
         this.password = password;
     }
     
+    // Detached copy used to capture the state of a user around a change
+    public User snapshot() {
+        User copy = new User(username, email, password);
+        copy.id = id;
+        copy.roles = new HashSet<>(roles);
+        copy.employeeId = employeeId;
+        copy.tenantId = tenantId;
+        copy.createdAt = createdAt;
+        copy.updatedAt = updatedAt;
+        copy.enabled = enabled;
+        return copy;
+    }
+    
     @PrePersist
     protected void onCreate() {
+        if (tenantId == null) {
+            tenantId = TenantContext.getTenantIdOrDefault();
+        }
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
     }
@@ -118,6 +143,14 @@ public class User {
         this.employeeId = employeeId;
     }
     
+    public String getTenantId() {
+        return tenantId;
+    }
+    
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+    
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
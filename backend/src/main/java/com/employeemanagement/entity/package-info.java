@@ -0,0 +1,6 @@
+// Enabled per transaction by TenantAwareJpaTransactionManager when sharding is on
+@FilterDef(name = "tenantFilter", parameters = @ParamDef(name = "tenantId", type = "string"))
+package com.employeemanagement.entity;
+
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.ParamDef;
@@ -0,0 +1,27 @@
+package com.employeemanagement.event;
+
+// Published after rows were written without per-row change events, so derived indexes rebuild
+public class BulkLoadCompletedEvent {
+    
+    private final String source;
+    private final int employees;
+    private final int users;
+    
+    public BulkLoadCompletedEvent(String source, int employees, int users) {
+        this.source = source;
+        this.employees = employees;
+        this.users = users;
+    }
+    
+    public String getSource() {
+        return source;
+    }
+    
+    public int getEmployees() {
+        return employees;
+    }
+    
+    public int getUsers() {
+        return users;
+    }
+}
@@ -0,0 +1,9 @@
+package com.employeemanagement.event;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED,
+    // Moved to the archive: gone from the live tables like a deletion, but retained
+    ARCHIVED
+}
@@ -0,0 +1,56 @@
+package com.employeemanagement.event;
+
+import com.employeemanagement.entity.Employee;
+
+public class EmployeeChangedEvent {
+    
+    private final ChangeType type;
+    private final Long employeeId;
+    private final Employee before;
+    private final Employee after;
+    
+    public EmployeeChangedEvent(ChangeType type, Long employeeId, Employee before, Employee after) {
+        this.type = type;
+        this.employeeId = employeeId;
+        this.before = before;
+        this.after = after;
+    }
+    
+    public static EmployeeChangedEvent created(Employee after) {
+        return new EmployeeChangedEvent(ChangeType.CREATED, after.getId(), null, after);
+    }
+    
+    public static EmployeeChangedEvent updated(Employee before, Employee after) {
+        return new EmployeeChangedEvent(ChangeType.UPDATED, after.getId(), before, after);
+    }
+    
+    public static EmployeeChangedEvent deleted(Employee before) {
+        return new EmployeeChangedEvent(ChangeType.DELETED, before.getId(), before, null);
+    }
+    
+    public static EmployeeChangedEvent archived(Employee before) {
+        return new EmployeeChangedEvent(ChangeType.ARCHIVED, before.getId(), before, null);
+    }
+    
+    public ChangeType getType() {
+        return type;
+    }
+    
+    public Long getEmployeeId() {
+        return employeeId;
+    }
+    
+    // State before the change, null for creations
+    public Employee getBefore() {
+        return before;
+    }
+    
+    // State after the change, null for removals
+    public Employee getAfter() {
+        return after;
+    }
+    
+    public boolean isRemoval() {
+        return type == ChangeType.DELETED || type == ChangeType.ARCHIVED;
+    }
+}
@@ -0,0 +1,54 @@
+package com.employeemanagement.event;
+
+import com.employeemanagement.entity.User;
+
+public class UserChangedEvent {
+    
+    private final ChangeType type;
+    private final Long userId;
+    private final User before;
+    private final User after;
+    
+    public UserChangedEvent(ChangeType type, Long userId, User before, User after) {
+        this.type = type;
+        this.userId = userId;
+        this.before = before;
+        this.after = after;
+    }
+    
+    public static UserChangedEvent created(User after) {
+        return new UserChangedEvent(ChangeType.CREATED, after.getId(), null, after);
+    }
+    
+    public static UserChangedEvent updated(User before, User after) {
+        return new UserChangedEvent(ChangeType.UPDATED, after.getId(), before, after);
+    }
+    
+    public static UserChangedEvent deleted(User before) {
+        return new UserChangedEvent(ChangeType.DELETED, before.getId(), before, null);
+    }
+    
+    public static UserChangedEvent archived(User before) {
+        return new UserChangedEvent(ChangeType.ARCHIVED, before.getId(), before, null);
+    }
+    
+    public ChangeType getType() {
+        return type;
+    }
+    
+    public Long getUserId() {
+        return userId;
+    }
+    
+    public User getBefore() {
+        return before;
+    }
+    
+    public User getAfter() {
+        return after;
+    }
+    
+    public boolean isRemoval() {
+        return type == ChangeType.DELETED || type == ChangeType.ARCHIVED;
+    }
+}
@@ -0,0 +1,96 @@
+package com.employeemanagement.jdbc;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The statements executed on one thread between {@link StatementInspector#open(String)} and
+ * {@link #close()}, typically one request. Counts are exact; the executions themselves are kept
+ * up to a limit so that a runaway request cannot exhaust memory.
+ */
+public final class Inspection implements AutoCloseable {
+
+    private static final int MAX_RECORDED_STATEMENTS = 1000;
+    
+    private final StatementInspector inspector;
+    private final Inspection previous;
+    private final List<StatementExecution> statements = new ArrayList<>();
+    private final Map<String, Integer> shapeCounts = new LinkedHashMap<>();
+    private String endpoint;
+    private int statementCount;
+    private int slowStatementCount;
+    private long totalNanos;
+    private boolean closed;
+    
+    Inspection(StatementInspector inspector, Inspection previous, String endpoint) {
+        this.inspector = inspector;
+        this.previous = previous;
+        this.endpoint = endpoint;
+    }
+    
+    public String getEndpoint() {
+        return endpoint;
+    }
+    
+    public void setEndpoint(String endpoint) {
+        this.endpoint = endpoint;
+    }
+    
+    public int getStatementCount() {
+        return statementCount;
+    }
+    
+    public int getSlowStatementCount() {
+        return slowStatementCount;
+    }
+    
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+    
+    public List<StatementExecution> getStatements() {
+        return Collections.unmodifiableList(statements);
+    }
+    
+    // Number of executions per statement shape, in order of first execution
+    public Map<String, Integer> getShapeCounts() {
+        return Collections.unmodifiableMap(shapeCounts);
+    }
+    
+    public Map<String, Integer> getRepeatedShapes(int minCount) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        for (Map.Entry<String, Integer> entry : shapeCounts.entrySet()) {
+            if (entry.getValue() >= minCount) {
+                repeated.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return repeated;
+    }
+    
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            inspector.close(this);
+        }
+    }
+    
+    Inspection getPrevious() {
+        return previous;
+    }
+    
+    void record(StatementExecution execution, boolean slow) {
+        statementCount++;
+        totalNanos += execution.getElapsedNanos();
+        if (slow) {
+            slowStatementCount++;
+        }
+        if (statements.size() < MAX_RECORDED_STATEMENTS) {
+            statements.add(execution);
+        }
+        shapeCounts.merge(StatementShapes.shapeOf(execution.getSql()), 1, Integer::sum);
+    }
+}
@@ -0,0 +1,215 @@
+package com.employeemanagement.jdbc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Hands out connections whose statements are timed and reported to the registered
+ * {@link StatementListener}s. Only statements prepared while a listener is active on the thread
+ * are wrapped, so a connection acquired before a request or test started observing (e.g. by a
+ * surrounding transaction) is still observed, while other work pays one check per statement.
+ * Being a {@link DelegatingDataSource}, the pool behind it can still be unwrapped.
+ */
+public class ObservedDataSource extends DelegatingDataSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(ObservedDataSource.class);
+    
+    private static final Set<String> EXECUTE_METHODS = new HashSet<>(Arrays.asList(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch"));
+    
+    private final ObjectProvider<StatementListener> listenerProvider;
+    private volatile List<StatementListener> listeners;
+    
+    public ObservedDataSource(DataSource targetDataSource, ObjectProvider<StatementListener> listenerProvider) {
+        super(targetDataSource);
+        this.listenerProvider = listenerProvider;
+    }
+    
+    @Override
+    public Connection getConnection() throws SQLException {
+        return observe(super.getConnection());
+    }
+    
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return observe(super.getConnection(username, password));
+    }
+    
+    private Connection observe(Connection connection) {
+        if (getListeners().isEmpty()) {
+            return connection;
+        }
+        return (Connection) Proxy.newProxyInstance(ObservedDataSource.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, new ConnectionHandler(connection));
+    }
+    
+    private List<StatementListener> getListeners() {
+        List<StatementListener> current = listeners;
+        if (current == null) {
+            current = listenerProvider.orderedStream().collect(Collectors.toList());
+            listeners = current;
+        }
+        return current;
+    }
+    
+    private boolean isAnyListenerActive() {
+        for (StatementListener listener : getListeners()) {
+            if (listener.isActive()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private void report(StatementExecution execution) {
+        for (StatementListener listener : getListeners()) {
+            try {
+                if (listener.isActive()) {
+                    listener.onExecuted(execution);
+                }
+            } catch (RuntimeException e) {
+                // Observation must never fail the statement itself
+                logger.debug("Statement listener {} failed: {}", listener.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+    }
+    
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+    
+    private final class ConnectionHandler implements InvocationHandler {
+    
+        private final Connection connection;
+        
+        ConnectionHandler(Connection connection) {
+            this.connection = connection;
+        }
+        
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("equals")) {
+                return proxy == args[0];
+            }
+            if (name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            Object result = ObservedDataSource.invoke(connection, method, args);
+            if (result instanceof Statement && (name.startsWith("prepare") || name.equals("createStatement"))
+                    && isAnyListenerActive()) {
+                String sql = name.equals("createStatement") ? null : (String) args[0];
+                Class<?> type = result instanceof CallableStatement ? CallableStatement.class
+                        : result instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+                return Proxy.newProxyInstance(ObservedDataSource.class.getClassLoader(), new Class<?>[] {type},
+                        new StatementHandler((Statement) result, sql));
+            }
+            return result;
+        }
+    }
+    
+    private final class StatementHandler implements InvocationHandler {
+    
+        private final Statement statement;
+        private final String preparedSql;
+        private final List<Object> parameters = new ArrayList<>();
+        private String batchSql;
+        private int batchSize;
+        
+        StatementHandler(Statement statement, String preparedSql) {
+            this.statement = statement;
+            this.preparedSql = preparedSql;
+        }
+        
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("equals")) {
+                return proxy == args[0];
+            }
+            if (name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            if (isParameterSetter(name, args)) {
+                setParameter((Integer) args[0], name.equals("setNull") ? null : args[1]);
+            } else if (name.equals("clearParameters")) {
+                parameters.clear();
+            } else if (name.equals("addBatch")) {
+                batchSize++;
+                if (batchSql == null && args != null && args.length > 0) {
+                    batchSql = (String) args[0];
+                }
+            } else if (name.equals("clearBatch")) {
+                batchSize = 0;
+                batchSql = null;
+            } else if (EXECUTE_METHODS.contains(name)) {
+                return execute(method, args, name);
+            }
+            return ObservedDataSource.invoke(statement, method, args);
+        }
+        
+        private Object execute(Method method, Object[] args, String name) throws Throwable {
+            boolean batch = name.endsWith("Batch");
+            String sql = preparedSql;
+            if (sql == null) {
+                sql = batch ? batchSql : (String) args[0];
+            }
+            int size = batch ? batchSize : 1;
+            // Bind values are only reported for single executions; a batch would need one list per row
+            List<Object> boundParameters = batch || parameters.isEmpty()
+                    ? Collections.emptyList() : new ArrayList<>(parameters);
+            if (batch) {
+                batchSize = 0;
+                batchSql = null;
+            }
+            long start = System.nanoTime();
+            Throwable error = null;
+            try {
+                return ObservedDataSource.invoke(statement, method, args);
+            } catch (Throwable e) {
+                error = e;
+                throw e;
+            } finally {
+                report(new StatementExecution(sql, name, size, boundParameters, start, System.nanoTime() - start,
+                        error));
+            }
+        }
+        
+        // setString(1, "x"), setNull(2, Types.BIGINT), ... but not setFetchSize(100)
+        private boolean isParameterSetter(String name, Object[] args) {
+            return preparedSql != null && name.startsWith("set") && args != null && args.length >= 2
+                    && args[0] instanceof Integer && (Integer) args[0] > 0;
+        }
+        
+        private void setParameter(int index, Object value) {
+            while (parameters.size() < index) {
+                parameters.add(null);
+            }
+            parameters.set(index - 1, value);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.employeemanagement.jdbc;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+// Wraps every DataSource bean, including the shard router, so all repository SQL is observable
+@Component
+public class ObservedDataSourcePostProcessor implements BeanPostProcessor {
+
+    @Autowired
+    private ObjectProvider<StatementListener> statementListeners;
+    
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource && !(bean instanceof ObservedDataSource)) {
+            return new ObservedDataSource((DataSource) bean, statementListeners);
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,55 @@
+package com.employeemanagement.jdbc;
+
+import java.util.List;
+
+public class StatementExecution {
+
+    private final String sql;
+    private final String method;
+    private final int batchSize;
+    private final List<Object> parameters;
+    private final long startNanoTime;
+    private final long elapsedNanos;
+    private final Throwable error;
+    
+    public StatementExecution(String sql, String method, int batchSize, List<Object> parameters, long startNanoTime,
+                              long elapsedNanos, Throwable error) {
+        this.sql = sql;
+        this.method = method;
+        this.batchSize = batchSize;
+        this.parameters = parameters;
+        this.startNanoTime = startNanoTime;
+        this.elapsedNanos = elapsedNanos;
+        this.error = error;
+    }
+    
+    public String getSql() {
+        return sql;
+    }
+    
+    // The JDBC method, e.g. executeQuery or executeBatch
+    public String getMethod() {
+        return method;
+    }
+    
+    public int getBatchSize() {
+        return batchSize;
+    }
+    
+    // Bind values by position (index 0 is parameter 1); empty for batches and plain statements
+    public List<Object> getParameters() {
+        return parameters;
+    }
+    
+    public long getStartNanoTime() {
+        return startNanoTime;
+    }
+    
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+    
+    public Throwable getError() {
+        return error;
+    }
+}
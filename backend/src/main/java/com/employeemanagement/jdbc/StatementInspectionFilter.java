@@ -0,0 +1,44 @@
+package com.employeemanagement.jdbc;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Inspects the statements of every request, including those issued while authenticating it,
+ * and files them under the matched route so that the totals do not grow with path variables.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 3)
+public class StatementInspectionFilter extends OncePerRequestFilter {
+
+    @Autowired
+    private StatementInspector inspector;
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!inspector.isEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        Inspection inspection = inspector.open(request.getMethod() + " " + request.getRequestURI());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            inspection.setEndpoint(route != null ? request.getMethod() + " " + route : null);
+            inspection.close();
+            inspector.recordEndpoint(inspection);
+        }
+    }
+}
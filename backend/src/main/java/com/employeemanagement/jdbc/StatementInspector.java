@@ -0,0 +1,173 @@
+package com.employeemanagement.jdbc;
+
+import com.employeemanagement.dto.EndpointStatementStats;
+import com.employeemanagement.logging.EventCategory;
+import com.employeemanagement.logging.EventLog;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the statements each request executes. Statements slower than
+ * {@code jdbc.inspector.slow-statement-ms} are logged with their bind values, and a request that
+ * executes the same statement shape {@code jdbc.inspector.repeat-threshold} times or more, the
+ * usual sign of an N+1 select, is logged once per shape when its inspection closes. Per-endpoint
+ * totals are kept for {@code /admin/logging/statements}, and tests use {@link #open(String)}
+ * directly to assert on the statements a piece of code issues.
+ */
+@Component
+public class StatementInspector implements StatementListener {
+
+    private static final int MAX_LOGGED_SQL_LENGTH = 2000;
+    private static final int MAX_LOGGED_VALUE_LENGTH = 100;
+    
+    @Autowired
+    private EventLog eventLog;
+    
+    @Value("${jdbc.inspector.enabled:true}")
+    private boolean enabled;
+    
+    @Value("${jdbc.inspector.slow-statement-ms:200}")
+    private long slowStatementMs;
+    
+    @Value("${jdbc.inspector.repeat-threshold:5}")
+    private int repeatThreshold;
+    
+    @Value("${jdbc.inspector.log-parameters:true}")
+    private boolean logParameters;
+    
+    private final ThreadLocal<Inspection> currentInspection = new ThreadLocal<>();
+    private final Map<String, EndpointCounters> endpoints = new ConcurrentHashMap<>();
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    public int getRepeatThreshold() {
+        return repeatThreshold;
+    }
+    
+    // Starts counting this thread's statements; an inspection already open resumes when this one closes
+    public Inspection open(String endpoint) {
+        Inspection inspection = new Inspection(this, currentInspection.get(), endpoint);
+        currentInspection.set(inspection);
+        return inspection;
+    }
+    
+    public Inspection current() {
+        return currentInspection.get();
+    }
+    
+    @Override
+    public boolean isActive() {
+        return enabled && currentInspection.get() != null;
+    }
+    
+    @Override
+    public void onExecuted(StatementExecution execution) {
+        Inspection inspection = currentInspection.get();
+        if (inspection == null) {
+            return;
+        }
+        boolean slow = execution.getElapsedNanos() >= TimeUnit.MILLISECONDS.toNanos(slowStatementMs);
+        inspection.record(execution, slow);
+        if (slow) {
+            eventLog.log(EventCategory.SLOW_STATEMENT, "slow_statement",
+                    "endpoint", inspection.getEndpoint(),
+                    "durationMs", TimeUnit.NANOSECONDS.toMillis(execution.getElapsedNanos()),
+                    "sql", truncate(execution.getSql(), MAX_LOGGED_SQL_LENGTH),
+                    "parameters", logParameters ? renderParameters(execution.getParameters()) : "[hidden]");
+        }
+    }
+    
+    // Adds a closed request inspection to the per-endpoint totals
+    public void recordEndpoint(Inspection inspection) {
+        String endpoint = inspection.getEndpoint() != null ? inspection.getEndpoint() : "unmatched";
+        endpoints.computeIfAbsent(endpoint, key -> new EndpointCounters())
+                .add(inspection, !inspection.getRepeatedShapes(repeatThreshold).isEmpty());
+    }
+    
+    public List<EndpointStatementStats> getStats() {
+        List<EndpointStatementStats> stats = new ArrayList<>();
+        for (Map.Entry<String, EndpointCounters> entry : endpoints.entrySet()) {
+            EndpointCounters counters = entry.getValue();
+            long requests = counters.requests.sum();
+            long statements = counters.statements.sum();
+            stats.add(new EndpointStatementStats(entry.getKey(), requests, statements,
+                    requests > 0 ? (double) statements / requests : 0, counters.maxStatements.get(),
+                    TimeUnit.NANOSECONDS.toMillis(counters.dbNanos.sum()), counters.slowStatements.sum(),
+                    counters.requestsWithRepeats.sum()));
+        }
+        stats.sort(Comparator.comparingLong(EndpointStatementStats::getStatements).reversed());
+        return stats;
+    }
+    
+    void close(Inspection inspection) {
+        if (currentInspection.get() == inspection) {
+            if (inspection.getPrevious() != null) {
+                currentInspection.set(inspection.getPrevious());
+            } else {
+                currentInspection.remove();
+            }
+        }
+        for (Map.Entry<String, Integer> repeated : inspection.getRepeatedShapes(repeatThreshold).entrySet()) {
+            eventLog.log(EventCategory.REPEATED_STATEMENT, "repeated_statement",
+                    "endpoint", inspection.getEndpoint(),
+                    "count", repeated.getValue(),
+                    "sql", truncate(repeated.getKey(), MAX_LOGGED_SQL_LENGTH));
+        }
+    }
+    
+    private static String renderParameters(List<Object> parameters) {
+        StringBuilder rendered = new StringBuilder("[");
+        for (int i = 0; i < parameters.size(); i++) {
+            if (i > 0) {
+                rendered.append(", ");
+            }
+            Object value = parameters.get(i);
+            if (value instanceof byte[]) {
+                rendered.append('<').append(((byte[]) value).length).append(" bytes>");
+            } else {
+                rendered.append(truncate(String.valueOf(value), MAX_LOGGED_VALUE_LENGTH));
+            }
+        }
+        return rendered.append(']').toString();
+    }
+    
+    private static String truncate(String value, int maxLength) {
+        if (value == null || value.length() <= maxLength) {
+            return value;
+        }
+        return value.substring(0, maxLength) + "...";
+    }
+    
+    private static final class EndpointCounters {
+    
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final AtomicInteger maxStatements = new AtomicInteger();
+        private final LongAdder dbNanos = new LongAdder();
+        private final LongAdder slowStatements = new LongAdder();
+        private final LongAdder requestsWithRepeats = new LongAdder();
+        
+        void add(Inspection inspection, boolean repeated) {
+            requests.increment();
+            statements.add(inspection.getStatementCount());
+            maxStatements.accumulateAndGet(inspection.getStatementCount(), Math::max);
+            dbNanos.add(inspection.getTotalNanos());
+            slowStatements.add(inspection.getSlowStatementCount());
+            if (repeated) {
+                requestsWithRepeats.increment();
+            }
+        }
+    }
+}
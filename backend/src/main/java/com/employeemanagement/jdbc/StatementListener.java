@@ -0,0 +1,13 @@
+package com.employeemanagement.jdbc;
+
+/**
+ * Receives the statements executed through an {@link ObservedDataSource}. Statements are only
+ * wrapped while at least one listener is active on the preparing thread, so listeners that only
+ * care about requests cost next to nothing elsewhere (seeding, background jobs).
+ */
+public interface StatementListener {
+
+    boolean isActive();
+    
+    void onExecuted(StatementExecution execution);
+}
@@ -0,0 +1,115 @@
+package com.employeemanagement.jdbc;
+
+/**
+ * Reduces SQL to its shape so that executions differing only in literal values or the length of
+ * an IN list compare equal: literals become {@code ?}, {@code in (?, ?, ?)} becomes
+ * {@code in (?)}, and whitespace runs collapse to one space.
+ */
+public final class StatementShapes {
+
+    private StatementShapes() {
+    }
+    
+    public static String shapeOf(String sql) {
+        if (sql == null) {
+            return "";
+        }
+        StringBuilder shape = new StringBuilder(sql.length());
+        int length = sql.length();
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                i = skipQuoted(sql, i + 1);
+                shape.append('?');
+            } else if (Character.isWhitespace(c)) {
+                while (i < length && Character.isWhitespace(sql.charAt(i))) {
+                    i++;
+                }
+                if (shape.length() > 0) {
+                    shape.append(' ');
+                }
+            } else if (Character.isLetter(c) || c == '_' || c == '"') {
+                // Identifiers and keywords, including digits inside them such as employee0_
+                while (i < length && (Character.isLetterOrDigit(sql.charAt(i)) || sql.charAt(i) == '_'
+                        || sql.charAt(i) == '"' || sql.charAt(i) == '.')) {
+                    shape.append(Character.toLowerCase(sql.charAt(i)));
+                    i++;
+                }
+            } else if (Character.isDigit(c) || (c == '-' && i + 1 < length && Character.isDigit(sql.charAt(i + 1))
+                    && endsWithOperator(shape))) {
+                i++;
+                while (i < length && (Character.isDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                shape.append('?');
+            } else {
+                shape.append(c);
+                i++;
+            }
+        }
+        return collapseInLists(shape.toString().trim());
+    }
+    
+    private static int skipQuoted(String sql, int i) {
+        while (i < sql.length()) {
+            if (sql.charAt(i) == '\'') {
+                // '' is an escaped quote inside the literal
+                if (i + 1 < sql.length() && sql.charAt(i + 1) == '\'') {
+                    i += 2;
+                    continue;
+                }
+                return i + 1;
+            }
+            i++;
+        }
+        return i;
+    }
+    
+    private static boolean endsWithOperator(StringBuilder shape) {
+        int i = shape.length() - 1;
+        while (i >= 0 && shape.charAt(i) == ' ') {
+            i--;
+        }
+        return i < 0 || "=<>(,+-*/".indexOf(shape.charAt(i)) >= 0;
+    }
+    
+    private static String collapseInLists(String shape) {
+        StringBuilder collapsed = new StringBuilder(shape.length());
+        int i = 0;
+        while (i < shape.length()) {
+            if (shape.startsWith("?", i)) {
+                int end = i + 1;
+                // Swallow ", ?" repetitions
+                while (true) {
+                    int next = end;
+                    if (next < shape.length() && shape.charAt(next) == ',') {
+                        next++;
+                        if (next < shape.length() && shape.charAt(next) == ' ') {
+                            next++;
+                        }
+                        if (next < shape.length() && shape.charAt(next) == '?'
+                                && (next + 1 == shape.length() || shape.charAt(next + 1) == ','
+                                || shape.charAt(next + 1) == ')' || shape.charAt(next + 1) == ' ')) {
+                            end = next + 1;
+                            continue;
+                        }
+                    }
+                    break;
+                }
+                boolean inList = end > i + 1 && i > 0 && shape.charAt(i - 1) == '('
+                        && end < shape.length() && shape.charAt(end) == ')';
+                if (inList) {
+                    collapsed.append('?');
+                } else {
+                    collapsed.append(shape, i, end);
+                }
+                i = end;
+            } else {
+                collapsed.append(shape.charAt(i));
+                i++;
+            }
+        }
+        return collapsed.toString();
+    }
+}
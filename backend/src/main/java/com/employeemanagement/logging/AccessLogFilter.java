@@ -0,0 +1,88 @@
+package com.employeemanagement.logging;
+
+import com.employeemanagement.jdbc.Inspection;
+import com.employeemanagement.jdbc.StatementInspector;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Writes one access record per request to the {@link EventLog}, and puts a request id and the
+ * client address in the MDC so that every log line written for the request carries them.
+ * Runs just outside the security filter chain, so rejected requests are recorded too.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 1)
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+    public static final String MDC_REQUEST_ID = "requestId";
+    public static final String MDC_CLIENT = "client";
+    public static final String MDC_USER = "user";
+    
+    private static final int MAX_REQUEST_ID_LENGTH = 64;
+    
+    @Autowired
+    private EventLog eventLog;
+    
+    @Autowired
+    private StatementInspector inspector;
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long start = System.nanoTime();
+        String requestId = request.getHeader(REQUEST_ID_HEADER);
+        if (!isValidRequestId(requestId)) {
+            requestId = Long.toHexString(ThreadLocalRandom.current().nextLong());
+        }
+        MDC.put(MDC_REQUEST_ID, requestId);
+        MDC.put(MDC_CLIENT, request.getRemoteAddr());
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+        } finally {
+            // An exception escaping the chain becomes a 500 once the container handles it
+            int status = failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+            Inspection inspection = inspector.current();
+            eventLog.log(status >= 500 ? EventCategory.ACCESS_ERROR : EventCategory.ACCESS, "request",
+                    "method", request.getMethod(),
+                    "path", request.getRequestURI(),
+                    "status", status,
+                    "durationMs", (System.nanoTime() - start) / 1_000_000,
+                    "statements", inspection != null ? inspection.getStatementCount() : 0,
+                    "dbMs", inspection != null ? inspection.getTotalNanos() / 1_000_000 : 0);
+            MDC.remove(MDC_REQUEST_ID);
+            MDC.remove(MDC_CLIENT);
+            MDC.remove(MDC_USER);
+        }
+    }
+    
+    // A caller-supplied id is kept for correlation as long as it cannot forge log structure
+    private static boolean isValidRequestId(String requestId) {
+        if (requestId == null || requestId.isEmpty() || requestId.length() > MAX_REQUEST_ID_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < requestId.length(); i++) {
+            char c = requestId.charAt(i);
+            boolean allowed = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_' || c == '.';
+            if (!allowed) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,33 @@
+package com.employeemanagement.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Asynchronous appender that never blocks the logging thread: when its bounded queue is full,
+ * or past the discarding threshold for events below WARN, the event is dropped and counted.
+ */
+public class DroppingAsyncAppender extends AsyncAppender {
+    
+    private final LongAdder dropped = new LongAdder();
+    
+    public DroppingAsyncAppender() {
+        setNeverBlock(true);
+    }
+    
+    @Override
+    protected void append(ILoggingEvent event) {
+        int remaining = getRemainingCapacity();
+        if (remaining == 0 || (remaining < getDiscardingThreshold() && isDiscardable(event))) {
+            dropped.increment();
+            return;
+        }
+        super.append(event);
+    }
+    
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+}
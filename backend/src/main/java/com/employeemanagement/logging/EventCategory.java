@@ -0,0 +1,25 @@
+package com.employeemanagement.logging;
+
+public enum EventCategory {
+    ACCESS("access", false),
+    ACCESS_ERROR("access-error", true),
+    AUTH_FAILURE("auth-failure", true),
+    SLOW_STATEMENT("slow-statement", true),
+    REPEATED_STATEMENT("repeated-statement", true);
+    
+    private final String key;
+    private final boolean warning;
+    
+    EventCategory(String key, boolean warning) {
+        this.key = key;
+        this.warning = warning;
+    }
+    
+    public String getKey() {
+        return key;
+    }
+    
+    public boolean isWarning() {
+        return warning;
+    }
+}
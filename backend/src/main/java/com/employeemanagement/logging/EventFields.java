@@ -0,0 +1,39 @@
+package com.employeemanagement.logging;
+
+/**
+ * Alternating names and values of a structured event. Passed to the logger as the sole
+ * argument so that {@link JsonEventLayout} can render them as top-level JSON fields on the
+ * appender thread; other layouts fall back to {@link #toString()}.
+ */
+public final class EventFields {
+    
+    private final Object[] namesAndValues;
+    
+    EventFields(Object[] namesAndValues) {
+        this.namesAndValues = namesAndValues;
+    }
+    
+    public int size() {
+        return namesAndValues.length / 2;
+    }
+    
+    public String getName(int index) {
+        return String.valueOf(namesAndValues[index * 2]);
+    }
+    
+    public Object getValue(int index) {
+        return namesAndValues[index * 2 + 1];
+    }
+    
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < size(); i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(getName(i)).append('=').append(getValue(i));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,164 @@
+package com.employeemanagement.logging;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import com.employeemanagement.dto.EventLogStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Structured event records (access log, authentication failures) written to the
+ * {@code events.<category>} loggers, which logback-spring.xml routes to a bounded asynchronous
+ * appender that drops rather than blocks. Each category is sampled and then rate limited
+ * before anything is formatted, so a flood of requests or bad tokens costs a few atomic
+ * operations per event once its budget is spent. The number of events suppressed since the
+ * last record is carried on the next record of the category.
+ */
+@Component
+public class EventLog {
+
+    private static final String PROPERTY_PREFIX = "logging.events.";
+    
+    @Autowired
+    private Environment environment;
+    
+    private final Map<EventCategory, CategoryLimiter> limiters = new EnumMap<>(EventCategory.class);
+    
+    @PostConstruct
+    public void init() {
+        for (EventCategory category : EventCategory.values()) {
+            String prefix = PROPERTY_PREFIX + category.getKey();
+            limiters.put(category, new CategoryLimiter(category,
+                    environment.getProperty(prefix + ".sample-rate", Double.class, 1.0),
+                    environment.getProperty(prefix + ".rate-per-second", Double.class, 100.0)));
+        }
+    }
+    
+    public void log(EventCategory category, String event, Object... namesAndValues) {
+        CategoryLimiter limiter = limiters.get(category);
+        if (limiter == null || !limiter.isEnabled()) {
+            return;
+        }
+        long suppressed = limiter.admit();
+        if (suppressed < 0) {
+            return;
+        }
+        if (suppressed > 0) {
+            Object[] extended = new Object[namesAndValues.length + 2];
+            System.arraycopy(namesAndValues, 0, extended, 0, namesAndValues.length);
+            extended[namesAndValues.length] = "suppressed";
+            extended[namesAndValues.length + 1] = suppressed;
+            namesAndValues = extended;
+        }
+        EventFields fields = new EventFields(namesAndValues);
+        if (category.isWarning()) {
+            limiter.logger.warn(event, fields);
+        } else {
+            limiter.logger.info(event, fields);
+        }
+    }
+    
+    public EventLogStats getStats() {
+        List<EventLogStats.CategoryStats> categories = new ArrayList<>();
+        for (CategoryLimiter limiter : limiters.values()) {
+            categories.add(new EventLogStats.CategoryStats(limiter.category.getKey(), limiter.sampleRate,
+                    limiter.ratePerSecond, limiter.logged.sum(), limiter.sampledOut.sum(),
+                    limiter.rateLimited.sum()));
+        }
+        List<EventLogStats.AppenderStats> appenders = new ArrayList<>();
+        for (DroppingAsyncAppender appender : findAsyncAppenders()) {
+            appenders.add(new EventLogStats.AppenderStats(appender.getName(), appender.getQueueSize(),
+                    appender.getNumberOfElementsInQueue(), appender.getDroppedCount()));
+        }
+        return new EventLogStats(categories, appenders);
+    }
+    
+    private static Collection<DroppingAsyncAppender> findAsyncAppenders() {
+        Map<String, DroppingAsyncAppender> appenders = new LinkedHashMap<>();
+        if (LoggerFactory.getILoggerFactory() instanceof LoggerContext) {
+            LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+            for (ch.qos.logback.classic.Logger logger : context.getLoggerList()) {
+                Iterator<Appender<ILoggingEvent>> iterator = logger.iteratorForAppenders();
+                while (iterator.hasNext()) {
+                    Appender<ILoggingEvent> appender = iterator.next();
+                    if (appender instanceof DroppingAsyncAppender) {
+                        appenders.putIfAbsent(appender.getName(), (DroppingAsyncAppender) appender);
+                    }
+                }
+            }
+        }
+        return appenders.values();
+    }
+    
+    private static final class CategoryLimiter {
+    
+        private final EventCategory category;
+        private final Logger logger;
+        private final double sampleRate;
+        private final double ratePerSecond;
+        private final long intervalNanos;
+        private final long burstNanos;
+        // Generic cell rate algorithm: the time at which the bucket is empty again
+        private final AtomicLong theoreticalArrival = new AtomicLong(System.nanoTime());
+        private final AtomicLong suppressed = new AtomicLong();
+        private final LongAdder logged = new LongAdder();
+        private final LongAdder sampledOut = new LongAdder();
+        private final LongAdder rateLimited = new LongAdder();
+        
+        CategoryLimiter(EventCategory category, double sampleRate, double ratePerSecond) {
+            if (sampleRate < 0 || sampleRate > 1 || ratePerSecond <= 0) {
+                throw new IllegalArgumentException("Invalid event log limits for " + category.getKey());
+            }
+            this.category = category;
+            this.logger = LoggerFactory.getLogger("events." + category.getKey());
+            this.sampleRate = sampleRate;
+            this.ratePerSecond = ratePerSecond;
+            this.intervalNanos = Math.max(1, (long) (1_000_000_000L / ratePerSecond));
+            // A full second's worth of events may arrive at once
+            this.burstNanos = 1_000_000_000L;
+        }
+        
+        boolean isEnabled() {
+            return category.isWarning() ? logger.isWarnEnabled() : logger.isInfoEnabled();
+        }
+        
+        // Returns the number of events suppressed since the last admitted one, or -1 to drop
+        long admit() {
+            if (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+                sampledOut.increment();
+                suppressed.incrementAndGet();
+                return -1;
+            }
+            long now = System.nanoTime();
+            while (true) {
+                long current = theoreticalArrival.get();
+                long start = current - now > 0 ? current : now;
+                if (start - now >= burstNanos) {
+                    rateLimited.increment();
+                    suppressed.incrementAndGet();
+                    return -1;
+                }
+                if (theoreticalArrival.compareAndSet(current, start + intervalNanos)) {
+                    logged.increment();
+                    return suppressed.get() == 0 ? 0 : suppressed.getAndSet(0);
+                }
+            }
+        }
+    }
+}
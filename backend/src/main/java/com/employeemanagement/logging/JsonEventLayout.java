@@ -0,0 +1,90 @@
+package com.employeemanagement.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.CoreConstants;
+import ch.qos.logback.core.LayoutBase;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Renders a logging event as one JSON object per line: timestamp, level, logger, thread,
+ * message, the MDC entries and the fields of an {@link EventFields} argument.
+ */
+public class JsonEventLayout extends LayoutBase<ILoggingEvent> {
+    
+    @Override
+    public String doLayout(ILoggingEvent event) {
+        StringBuilder json = new StringBuilder(256);
+        json.append("{\"ts\":\"").append(Instant.ofEpochMilli(event.getTimeStamp())).append('"');
+        appendField(json, "level", event.getLevel().toString());
+        appendField(json, "logger", event.getLoggerName());
+        appendField(json, "thread", event.getThreadName());
+        appendField(json, "msg", event.getFormattedMessage());
+        for (Map.Entry<String, String> entry : event.getMDCPropertyMap().entrySet()) {
+            appendField(json, entry.getKey(), entry.getValue());
+        }
+        Object[] arguments = event.getArgumentArray();
+        if (arguments != null) {
+            for (Object argument : arguments) {
+                if (argument instanceof EventFields) {
+                    EventFields fields = (EventFields) argument;
+                    for (int i = 0; i < fields.size(); i++) {
+                        appendField(json, fields.getName(i), fields.getValue(i));
+                    }
+                }
+            }
+        }
+        IThrowableProxy throwable = event.getThrowableProxy();
+        if (throwable != null) {
+            appendField(json, "error", ThrowableProxyUtil.asString(throwable));
+        }
+        return json.append('}').append(CoreConstants.LINE_SEPARATOR).toString();
+    }
+    
+    private static void appendField(StringBuilder json, String name, Object value) {
+        json.append(",\"");
+        appendEscaped(json, name);
+        json.append("\":");
+        if (value == null) {
+            json.append("null");
+        } else if (value instanceof Number || value instanceof Boolean) {
+            json.append(value);
+        } else {
+            json.append('"');
+            appendEscaped(json, value.toString());
+            json.append('"');
+        }
+    }
+    
+    private static void appendEscaped(StringBuilder json, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    json.append("\\\"");
+                    break;
+                case '\\':
+                    json.append("\\\\");
+                    break;
+                case '\n':
+                    json.append("\\n");
+                    break;
+                case '\r':
+                    json.append("\\r");
+                    break;
+                case '\t':
+                    json.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+            }
+        }
+    }
+}
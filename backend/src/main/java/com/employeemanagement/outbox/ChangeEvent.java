@@ -0,0 +1,86 @@
+package com.employeemanagement.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.Instant;
+
+public class ChangeEvent {
+
+    private Long id;
+    private String aggregateType;
+    private Long aggregateId;
+    private String type;
+    private String tenantId;
+    private Instant occurredAt;
+    private JsonNode payload;
+    
+    public ChangeEvent() {}
+    
+    public ChangeEvent(Long id, String aggregateType, Long aggregateId, String type, String tenantId,
+                       Instant occurredAt, JsonNode payload) {
+        this.id = id;
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.type = type;
+        this.tenantId = tenantId;
+        this.occurredAt = occurredAt;
+        this.payload = payload;
+    }
+    
+    // The outbox message id; a consumer that sees an id twice is seeing a redelivery
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getAggregateType() {
+        return aggregateType;
+    }
+    
+    public void setAggregateType(String aggregateType) {
+        this.aggregateType = aggregateType;
+    }
+    
+    public Long getAggregateId() {
+        return aggregateId;
+    }
+    
+    public void setAggregateId(Long aggregateId) {
+        this.aggregateId = aggregateId;
+    }
+    
+    public String getType() {
+        return type;
+    }
+    
+    public void setType(String type) {
+        this.type = type;
+    }
+    
+    public String getTenantId() {
+        return tenantId;
+    }
+    
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+    
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+    
+    public void setOccurredAt(Instant occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+    
+    public JsonNode getPayload() {
+        return payload;
+    }
+    
+    public void setPayload(JsonNode payload) {
+        this.payload = payload;
+    }
+}
@@ -0,0 +1,177 @@
+package com.employeemanagement.outbox;
+
+import com.employeemanagement.storage.MappedSegmentLog;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Local, partitioned log of the change events relayed from the outbox. Events of one aggregate
+ * always go to the same partition, so they are read back in the order they were relayed. Each
+ * partition is a {@link MappedSegmentLog} written only by the relay thread; readers see a
+ * partition up to the end last published by {@link #flush()}. Consumer offsets are kept in
+ * small files next to the partitions.
+ */
+@Component
+public class ChangeEventLog {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeEventLog.class);
+    
+    private static final String PARTITION_PREFIX = "partition-";
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Value("${outbox.directory:data/events}")
+    private String directory;
+    
+    @Value("${outbox.partitions:4}")
+    private int partitionCount;
+    
+    @Value("${outbox.segment-size-bytes:16777216}")
+    private int segmentSize;
+    
+    private MappedSegmentLog[] partitions;
+    private AtomicLongArray publishedEnds;
+    private Path consumerDirectory;
+    
+    @PostConstruct
+    public void open() throws IOException {
+        if (partitionCount < 1) {
+            throw new IllegalStateException("outbox.partitions must be at least 1");
+        }
+        Path root = Paths.get(directory);
+        Files.createDirectories(root);
+        // Changing the count would move aggregates to other partitions and break their ordering
+        int existing = 0;
+        try (DirectoryStream<Path> dirs = Files.newDirectoryStream(root, PARTITION_PREFIX + "*")) {
+            for (Path ignored : dirs) {
+                existing++;
+            }
+        }
+        if (existing > 0 && existing != partitionCount) {
+            throw new IllegalStateException("Event log at " + root + " has " + existing
+                    + " partitions but outbox.partitions is " + partitionCount);
+        }
+        partitions = new MappedSegmentLog[partitionCount];
+        publishedEnds = new AtomicLongArray(partitionCount);
+        for (int p = 0; p < partitionCount; p++) {
+            partitions[p] = new MappedSegmentLog(root.resolve(PARTITION_PREFIX + p), "events", segmentSize);
+            publishedEnds.set(p, partitions[p].endPosition());
+        }
+        consumerDirectory = Files.createDirectories(root.resolve("consumers"));
+        logger.info("Event log opened at {} with {} partition(s)", directory, partitionCount);
+    }
+    
+    @PreDestroy
+    public void close() throws IOException {
+        for (MappedSegmentLog partition : partitions) {
+            partition.close();
+        }
+    }
+    
+    public int getPartitionCount() {
+        return partitionCount;
+    }
+    
+    public int partitionOf(String aggregateType, long aggregateId) {
+        return Math.floorMod(aggregateType.hashCode() * 31 + Long.hashCode(aggregateId), partitionCount);
+    }
+    
+    // Called only from the relay thread; the event becomes readable with the next flush
+    void append(ChangeEvent event) throws IOException {
+        int partition = partitionOf(event.getAggregateType(), event.getAggregateId());
+        partitions[partition].append(event.getId(), objectMapper.writeValueAsBytes(event));
+    }
+    
+    // Forces appended events to disk and publishes them to readers; called only from the relay thread
+    void flush() {
+        for (int p = 0; p < partitionCount; p++) {
+            long end = partitions[p].endPosition();
+            if (end != publishedEnds.get(p)) {
+                partitions[p].force();
+                publishedEnds.set(p, end);
+            }
+        }
+    }
+    
+    public long getStartOffset(int partition) {
+        return partitions[partition].startPosition();
+    }
+    
+    public long getEndOffset(int partition) {
+        return publishedEnds.get(partition);
+    }
+    
+    public List<ChangeEventRecord> read(int partition, long fromOffset, int maxRecords) {
+        long end = publishedEnds.get(partition);
+        if (fromOffset < getStartOffset(partition) || fromOffset > end) {
+            throw new IllegalArgumentException("Offset " + fromOffset + " is outside partition " + partition);
+        }
+        MappedSegmentLog log = partitions[partition];
+        List<Long> positions = new ArrayList<>();
+        List<ChangeEventRecord> records = new ArrayList<>();
+        try {
+            long next = log.scanFrom(fromOffset, end, maxRecords, (key, position) -> positions.add(position));
+            for (int i = 0; i < positions.size(); i++) {
+                long nextOffset = i + 1 < positions.size() ? positions.get(i + 1) : next;
+                records.add(new ChangeEventRecord(partition, positions.get(i), nextOffset,
+                        objectMapper.readValue(log.read(positions.get(i)), ChangeEvent.class)));
+            }
+        } catch (IOException | RuntimeException e) {
+            // Offsets are only valid as handed out; anything else lands inside a record
+            throw new IllegalArgumentException("Offset " + fromOffset + " is not a record in partition "
+                    + partition, e);
+        }
+        return records;
+    }
+    
+    public long[] loadConsumerOffsets(String consumer) throws IOException {
+        long[] offsets = new long[partitionCount];
+        Properties stored = new Properties();
+        Path file = consumerDirectory.resolve(consumer + ".offsets");
+        if (Files.exists(file)) {
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                stored.load(reader);
+            }
+        }
+        for (int p = 0; p < partitionCount; p++) {
+            String offset = stored.getProperty(Integer.toString(p));
+            offsets[p] = offset != null ? Long.parseLong(offset) : getStartOffset(p);
+        }
+        return offsets;
+    }
+    
+    // Replaces the offsets atomically, so a crash leaves either the old or the new ones
+    public void saveConsumerOffsets(String consumer, long[] offsets) throws IOException {
+        Properties stored = new Properties();
+        for (int p = 0; p < offsets.length; p++) {
+            stored.setProperty(Integer.toString(p), Long.toString(offsets[p]));
+        }
+        Path file = consumerDirectory.resolve(consumer + ".offsets");
+        Path temporary = consumerDirectory.resolve(consumer + ".offsets.tmp");
+        try (Writer writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+            stored.store(writer, null);
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -0,0 +1,35 @@
+package com.employeemanagement.outbox;
+
+// A change event as read back from one partition of the event log
+public class ChangeEventRecord {
+
+    private final int partition;
+    private final long offset;
+    private final long nextOffset;
+    private final ChangeEvent event;
+    
+    public ChangeEventRecord(int partition, long offset, long nextOffset, ChangeEvent event) {
+        this.partition = partition;
+        this.offset = offset;
+        this.nextOffset = nextOffset;
+        this.event = event;
+    }
+    
+    public int getPartition() {
+        return partition;
+    }
+    
+    // Offsets are opaque positions in the partition, increasing in append order
+    public long getOffset() {
+        return offset;
+    }
+    
+    // Where a consumer that has processed this record continues reading
+    public long getNextOffset() {
+        return nextOffset;
+    }
+    
+    public ChangeEvent getEvent() {
+        return event;
+    }
+}
@@ -0,0 +1,18 @@
+package com.employeemanagement.outbox;
+
+import java.util.List;
+
+/**
+ * Destination for the change events in the local event log, such as a message broker. Every
+ * sink bean is a consumer with its own offsets: the relay hands it the records of one partition
+ * in order and commits the offsets only when {@link #deliver} returns, so a sink that fails or a
+ * node that stops mid-batch sees those records again. Deliveries must therefore be idempotent,
+ * e.g. keyed by {@link ChangeEvent#getId()}.
+ */
+public interface EventSink {
+
+    // Names the consumer offsets; letters, digits, '-' and '_' only
+    String getName();
+    
+    void deliver(List<ChangeEventRecord> records) throws Exception;
+}
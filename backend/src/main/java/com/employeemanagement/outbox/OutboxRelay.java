@@ -0,0 +1,302 @@
+package com.employeemanagement.outbox;
+
+import com.employeemanagement.dto.OutboxStats;
+import com.employeemanagement.entity.OutboxMessage;
+import com.employeemanagement.repository.OutboxMessageRepository;
+import com.employeemanagement.sharding.ShardMap;
+import com.employeemanagement.sharding.ShardQueryExecutor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Pattern;
+
+/**
+ * Moves outbox messages into the {@link ChangeEventLog} and from there to the {@link EventSink}s,
+ * on one background thread. A batch of messages is appended and forced to disk before the rows
+ * are deleted in the same transaction, so a crash in between relays them again rather than
+ * losing them; with sharding on, every shard's outbox is drained. Sinks then read each
+ * partition from their committed offsets, which makes delivery at least once, and can be
+ * rewound with {@link #replay(String)}.
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+    
+    private static final Pattern SINK_NAME = Pattern.compile("[A-Za-z0-9_-]+");
+    
+    @Autowired
+    private OutboxMessageRepository outboxMessageRepository;
+    
+    @Autowired
+    private ChangeEventLog changeEventLog;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Autowired
+    private ObjectProvider<EventSink> sinkProvider;
+    
+    @Autowired
+    private ObjectProvider<ShardMap> shardMapProvider;
+    
+    @Autowired
+    private ObjectProvider<ShardQueryExecutor> shardQueryExecutorProvider;
+    
+    @Value("${outbox.enabled:true}")
+    private boolean enabled;
+    
+    @Value("${outbox.batch-size:500}")
+    private int batchSize;
+    
+    @Value("${outbox.poll-interval-ms:200}")
+    private long pollIntervalMs;
+    
+    @Value("${outbox.sink-retry-ms:5000}")
+    private long sinkRetryMs;
+    
+    private final AtomicLong relayed = new AtomicLong();
+    private final AtomicLong relayFailures = new AtomicLong();
+    private final Queue<String> replayRequests = new ConcurrentLinkedQueue<>();
+    // Appends to the event log come from the relay thread and from drainShard
+    private final Object relayLock = new Object();
+    
+    private final List<SinkConsumer> consumers = new ArrayList<>();
+    private TransactionTemplate transactionTemplate;
+    private Thread thread;
+    private volatile boolean running;
+    
+    @PostConstruct
+    public void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        Set<String> names = new HashSet<>();
+        for (EventSink sink : sinkProvider.orderedStream().toArray(EventSink[]::new)) {
+            if (!SINK_NAME.matcher(sink.getName()).matches() || !names.add(sink.getName())) {
+                throw new IllegalStateException("Event sink names must be unique and use only letters, digits, "
+                        + "'-' and '_': " + sink.getName());
+            }
+            consumers.add(new SinkConsumer(sink, changeEventLog.loadConsumerOffsets(sink.getName())));
+        }
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        running = true;
+        thread = new Thread(this::run, "outbox-relay");
+        thread.setDaemon(true);
+        thread.start();
+    }
+    
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (thread != null) {
+            running = false;
+            LockSupport.unpark(thread);
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+    
+    // Rewinds a sink to the start of every partition; returns false when there is no such sink
+    public boolean replay(String sinkName) {
+        for (SinkConsumer consumer : consumers) {
+            if (consumer.sink.getName().equals(sinkName)) {
+                replayRequests.add(sinkName);
+                LockSupport.unpark(thread);
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    // Relays every message still in one shard's outbox, so none is left behind when a tenant moves away
+    public void drainShard(String shardId) {
+        ShardQueryExecutor executor = shardQueryExecutorProvider.getIfAvailable();
+        if (!enabled || executor == null) {
+            return;
+        }
+        synchronized (relayLock) {
+            int count;
+            do {
+                count = executor.executeOnShard(shardId, null, false, this::relayBatch);
+            } while (count > 0);
+        }
+    }
+    
+    public OutboxStats getStats() {
+        List<OutboxStats.PartitionStats> partitions = new ArrayList<>();
+        for (int p = 0; p < changeEventLog.getPartitionCount(); p++) {
+            partitions.add(new OutboxStats.PartitionStats(p, changeEventLog.getStartOffset(p),
+                    changeEventLog.getEndOffset(p)));
+        }
+        List<OutboxStats.SinkStats> sinks = new ArrayList<>();
+        for (SinkConsumer consumer : consumers) {
+            long[] offsets = consumer.committedOffsets;
+            List<Long> offsetList = new ArrayList<>(offsets.length);
+            boolean caughtUp = true;
+            for (int p = 0; p < offsets.length; p++) {
+                offsetList.add(offsets[p]);
+                caughtUp &= offsets[p] >= changeEventLog.getEndOffset(p);
+            }
+            sinks.add(new OutboxStats.SinkStats(consumer.sink.getName(), consumer.delivered.get(),
+                    consumer.failures.get(), consumer.lastError, offsetList, caughtUp));
+        }
+        return new OutboxStats(enabled, relayed.get(), relayFailures.get(), partitions, sinks);
+    }
+    
+    private void run() {
+        long pollIntervalNanos = TimeUnit.MILLISECONDS.toNanos(pollIntervalMs);
+        while (running) {
+            boolean busy = false;
+            try {
+                busy = relayPending() > 0;
+            } catch (RuntimeException e) {
+                if (relayFailures.incrementAndGet() % 100 == 1) {
+                    logger.warn("Outbox relay failed, will retry: {}", e.getMessage());
+                }
+            }
+            applyReplays();
+            busy |= deliver();
+            if (!busy) {
+                LockSupport.parkNanos(pollIntervalNanos);
+            }
+        }
+    }
+    
+    private int relayPending() {
+        ShardMap shardMap = shardMapProvider.getIfAvailable();
+        ShardQueryExecutor executor = shardQueryExecutorProvider.getIfAvailable();
+        synchronized (relayLock) {
+            if (shardMap == null || executor == null) {
+                return transactionTemplate.execute(status -> relayBatch());
+            }
+            int total = 0;
+            for (String shardId : shardMap.getShardIds()) {
+                total += executor.executeOnShard(shardId, null, false, this::relayBatch);
+            }
+            return total;
+        }
+    }
+    
+    private int relayBatch() {
+        List<OutboxMessage> messages = outboxMessageRepository.findAllByOrderByIdAsc(PageRequest.of(0, batchSize));
+        if (messages.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = new ArrayList<>(messages.size());
+        try {
+            for (OutboxMessage message : messages) {
+                changeEventLog.append(new ChangeEvent(message.getId(), message.getAggregateType(),
+                        message.getAggregateId(), message.getEventType(), message.getTenantId(),
+                        message.getCreatedAt(), objectMapper.readTree(message.getPayload())));
+                ids.add(message.getId());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        changeEventLog.flush();
+        outboxMessageRepository.deleteAllByIdInBatch(ids);
+        relayed.addAndGet(ids.size());
+        return ids.size();
+    }
+    
+    private void applyReplays() {
+        String sinkName;
+        while ((sinkName = replayRequests.poll()) != null) {
+            for (SinkConsumer consumer : consumers) {
+                if (consumer.sink.getName().equals(sinkName)) {
+                    for (int p = 0; p < consumer.offsets.length; p++) {
+                        consumer.offsets[p] = changeEventLog.getStartOffset(p);
+                    }
+                    consumer.retryAt = 0;
+                    commit(consumer);
+                    logger.info("Replaying the event log to sink {}", sinkName);
+                }
+            }
+        }
+    }
+    
+    private boolean deliver() {
+        boolean busy = false;
+        long now = System.nanoTime();
+        for (SinkConsumer consumer : consumers) {
+            if (consumer.retryAt != 0 && now - consumer.retryAt < 0) {
+                continue;
+            }
+            for (int p = 0; p < consumer.offsets.length; p++) {
+                List<ChangeEventRecord> records;
+                try {
+                    records = changeEventLog.read(p, consumer.offsets[p], batchSize);
+                    if (records.isEmpty()) {
+                        continue;
+                    }
+                    consumer.sink.deliver(records);
+                } catch (Exception e) {
+                    consumer.failures.incrementAndGet();
+                    consumer.lastError = e.getMessage();
+                    consumer.retryAt = now + TimeUnit.MILLISECONDS.toNanos(sinkRetryMs);
+                    logger.warn("Event sink {} failed on partition {}, retrying in {} ms: {}",
+                            consumer.sink.getName(), p, sinkRetryMs, e.getMessage());
+                    break;
+                }
+                consumer.offsets[p] = records.get(records.size() - 1).getNextOffset();
+                consumer.delivered.addAndGet(records.size());
+                consumer.retryAt = 0;
+                consumer.lastError = null;
+                commit(consumer);
+                busy = true;
+            }
+        }
+        return busy;
+    }
+    
+    private void commit(SinkConsumer consumer) {
+        try {
+            changeEventLog.saveConsumerOffsets(consumer.sink.getName(), consumer.offsets);
+        } catch (IOException e) {
+            // The records are delivered again after a restart, which at-least-once allows
+            logger.warn("Cannot save offsets of event sink {}: {}", consumer.sink.getName(), e.getMessage());
+        }
+        consumer.committedOffsets = consumer.offsets.clone();
+    }
+    
+    private static final class SinkConsumer {
+    
+        private final EventSink sink;
+        // Read and advanced only by the relay thread; committedOffsets is the copy for statistics
+        private final long[] offsets;
+        private volatile long[] committedOffsets;
+        private final AtomicLong delivered = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+        private volatile String lastError;
+        private long retryAt;
+        
+        SinkConsumer(EventSink sink, long[] offsets) {
+            this.sink = sink;
+            this.offsets = offsets;
+            this.committedOffsets = offsets.clone();
+        }
+    }
+}
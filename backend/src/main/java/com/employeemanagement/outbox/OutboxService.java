@@ -0,0 +1,82 @@
+package com.employeemanagement.outbox;
+
+import com.employeemanagement.entity.Employee;
+import com.employeemanagement.entity.OutboxMessage;
+import com.employeemanagement.entity.User;
+import com.employeemanagement.event.EmployeeChangedEvent;
+import com.employeemanagement.event.UserChangedEvent;
+import com.employeemanagement.repository.OutboxMessageRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Writes an outbox message for every employee and user change. Unlike the other change
+ * listeners this one runs synchronously inside the publishing transaction, so the message
+ * commits or rolls back together with the change; {@link OutboxRelay} takes it from there.
+ */
+@Service
+public class OutboxService {
+
+    public static final String EMPLOYEE = "employee";
+    public static final String USER = "user";
+    
+    @Autowired
+    private OutboxMessageRepository outboxMessageRepository;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Value("${outbox.enabled:true}")
+    private boolean enabled;
+    
+    @EventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        Employee state = event.getAfter() != null ? event.getAfter() : event.getBefore();
+        write(EMPLOYEE, event.getEmployeeId(), event.getType().name(), state.getTenantId(), state.snapshot());
+    }
+    
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        User state = event.getAfter() != null ? event.getAfter() : event.getBefore();
+        write(USER, event.getUserId(), event.getType().name(), state.getTenantId(), describeUser(state));
+    }
+    
+    private void write(String aggregateType, Long aggregateId, String eventType, String tenantId, Object state) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(state);
+        } catch (JsonProcessingException e) {
+            // Failing here rolls back the change, which is what keeps the outbox complete
+            throw new IllegalStateException("Cannot serialize " + aggregateType + " " + aggregateId, e);
+        }
+        outboxMessageRepository.save(new OutboxMessage(aggregateType, aggregateId, eventType, tenantId, payload,
+                Instant.now()));
+    }
+    
+    // Password hashes never leave the service
+    private static Map<String, Object> describeUser(User user) {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("id", user.getId());
+        description.put("username", user.getUsername());
+        description.put("email", user.getEmail());
+        description.put("roles", new ArrayList<>(user.getRoles()));
+        description.put("employeeId", user.getEmployeeId());
+        description.put("enabled", user.isEnabled());
+        return description;
+    }
+}
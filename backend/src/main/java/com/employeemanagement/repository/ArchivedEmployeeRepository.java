@@ -0,0 +1,23 @@
+package com.employeemanagement.repository;
+
+import com.employeemanagement.entity.ArchivedEmployee;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ArchivedEmployeeRepository extends JpaRepository<ArchivedEmployee, Long> {
+
+    Page<ArchivedEmployee> findByTerminationYearOrderById(int terminationYear, Pageable pageable);
+    
+    Page<ArchivedEmployee> findAllByOrderByTerminationYearAscIdAsc(Pageable pageable);
+    
+    // Range scans on the leading column of idx_archived_employees_year
+    @Query("SELECT a.id FROM ArchivedEmployee a WHERE a.terminationYear < :year ORDER BY a.terminationYear, a.id")
+    List<Long> findIdsTerminatedBefore(@Param("year") int year, Pageable pageable);
+}
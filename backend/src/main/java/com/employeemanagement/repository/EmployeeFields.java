@@ -0,0 +1,35 @@
+package com.employeemanagement.repository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// Employee attributes that clients may request through the fields= parameter
+public final class EmployeeFields {
+    
+    public static final List<String> ALLOWED = Collections.unmodifiableList(Arrays.asList(
+            "id", "firstName", "lastName", "email", "phone", "department", "salary",
+            "dateOfJoining", "managerId", "tenantId", "createdAt", "updatedAt"));
+    
+    private EmployeeFields() {}
+    
+    // Parses a comma separated list; the id is always selected and comes first
+    public static List<String> parse(String fields) {
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add("id");
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!ALLOWED.contains(name)) {
+                throw new IllegalArgumentException("Unknown field '" + name + "'; allowed fields are " + ALLOWED);
+            }
+            selected.add(name);
+        }
+        return new ArrayList<>(selected);
+    }
+}
@@ -0,0 +1,88 @@
+package com.employeemanagement.repository;
+
+import com.employeemanagement.entity.Employee;
+import com.employeemanagement.entity.EmployeeHierarchy;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+// Subqueries on employee_hierarchy are wrapped in derived tables so MySQL accepts them in DML on the same table
+@Repository
+public interface EmployeeHierarchyRepository extends JpaRepository<EmployeeHierarchy, EmployeeHierarchy.Key> {
+    
+    @Query("SELECT e FROM Employee e, EmployeeHierarchy h " +
+           "WHERE h.ancestorId = :employeeId AND h.descendantId = e.id AND h.depth > 0 AND h.depth <= :maxDepth " +
+           "ORDER BY h.depth, e.id")
+    List<Employee> findSubtree(@Param("employeeId") Long employeeId, @Param("maxDepth") int maxDepth);
+    
+    @Query("SELECT e FROM Employee e, EmployeeHierarchy h " +
+           "WHERE h.descendantId = :employeeId AND h.ancestorId = e.id AND h.depth > 0 " +
+           "ORDER BY h.depth")
+    List<Employee> findAncestors(@Param("employeeId") Long employeeId);
+    
+    boolean existsByAncestorIdAndDescendantId(Long ancestorId, Long descendantId);
+    
+    @Query("SELECT COUNT(h) FROM EmployeeHierarchy h WHERE h.depth = 0")
+    long countSelfLinks();
+    
+    @Modifying
+    @Query(value = "INSERT INTO employee_hierarchy (ancestor_id, descendant_id, depth) VALUES (:employeeId, :employeeId, 0)",
+           nativeQuery = true)
+    int insertSelfLink(@Param("employeeId") Long employeeId);
+    
+    // Links every node of the subtree rooted at rootId to the manager and all of the manager's ancestors
+    @Modifying
+    @Query(value = "INSERT INTO employee_hierarchy (ancestor_id, descendant_id, depth) " +
+                   "SELECT sup.ancestor_id, sub.descendant_id, sup.depth + sub.depth + 1 " +
+                   "FROM employee_hierarchy sup CROSS JOIN employee_hierarchy sub " +
+                   "WHERE sup.descendant_id = :managerId AND sub.ancestor_id = :rootId",
+           nativeQuery = true)
+    int attachSubtree(@Param("rootId") Long rootId, @Param("managerId") Long managerId);
+    
+    // Removes the links between the subtree rooted at rootId and everything above it
+    @Modifying
+    @Query(value = "DELETE FROM employee_hierarchy " +
+                   "WHERE descendant_id IN (SELECT d.id FROM " +
+                   "(SELECT descendant_id AS id FROM employee_hierarchy WHERE ancestor_id = :rootId) d) " +
+                   "AND ancestor_id NOT IN (SELECT a.id FROM " +
+                   "(SELECT descendant_id AS id FROM employee_hierarchy WHERE ancestor_id = :rootId) a)",
+           nativeQuery = true)
+    int detachSubtree(@Param("rootId") Long rootId);
+    
+    // Shortens every path that runs through the employee, so its reports move up one level
+    @Modifying
+    @Query(value = "UPDATE employee_hierarchy SET depth = depth - 1 " +
+                   "WHERE ancestor_id IN (SELECT a.id FROM " +
+                   "(SELECT ancestor_id AS id FROM employee_hierarchy WHERE descendant_id = :employeeId AND depth > 0) a) " +
+                   "AND descendant_id IN (SELECT d.id FROM " +
+                   "(SELECT descendant_id AS id FROM employee_hierarchy WHERE ancestor_id = :employeeId AND depth > 0) d)",
+           nativeQuery = true)
+    int collapseNode(@Param("employeeId") Long employeeId);
+    
+    @Modifying
+    @Query(value = "DELETE FROM employee_hierarchy WHERE ancestor_id = :employeeId OR descendant_id = :employeeId",
+           nativeQuery = true)
+    int deleteNode(@Param("employeeId") Long employeeId);
+    
+    @Modifying
+    @Query(value = "DELETE FROM employee_hierarchy", nativeQuery = true)
+    int deleteAllLinks();
+    
+    @Modifying
+    @Query(value = "INSERT INTO employee_hierarchy (ancestor_id, descendant_id, depth) SELECT id, id, 0 FROM employees",
+           nativeQuery = true)
+    int insertAllSelfLinks();
+    
+    // Extends the paths ending at the given depth by one level of direct reports
+    @Modifying
+    @Query(value = "INSERT INTO employee_hierarchy (ancestor_id, descendant_id, depth) " +
+                   "SELECT h.ancestor_id, e.id, h.depth + 1 FROM employees e " +
+                   "JOIN employee_hierarchy h ON h.descendant_id = e.manager_id " +
+                   "WHERE h.depth = :depth",
+           nativeQuery = true)
+    int insertLinksBelowDepth(@Param("depth") int depth);
+}
@@ -0,0 +1,46 @@
+package com.employeemanagement.repository;
+
+import com.employeemanagement.entity.EmployeeHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface EmployeeHistoryRepository extends JpaRepository<EmployeeHistory, Long> {
+
+    List<EmployeeHistory> findByEmployeeIdOrderByValidFromAscRecordedAtAsc(Long employeeId);
+    
+    Optional<EmployeeHistory> findByEmployeeIdAndValidToAndSupersededAtIsNull(Long employeeId, LocalDate validTo);
+    
+    // Both as-of queries are one range scan of idx_employee_history_as_of
+    @Query("SELECT h FROM EmployeeHistory h WHERE h.validTo > :date AND h.validFrom <= :date " +
+           "AND h.supersededAt IS NULL ORDER BY h.employeeId")
+    List<EmployeeHistory> findAsOf(@Param("date") LocalDate date);
+    
+    @Query("SELECT h FROM EmployeeHistory h WHERE h.validTo > :date AND h.validFrom <= :date " +
+           "AND h.recordedAt <= :knownAt AND (h.supersededAt IS NULL OR h.supersededAt > :knownAt) " +
+           "ORDER BY h.employeeId")
+    List<EmployeeHistory> findAsOf(@Param("date") LocalDate date, @Param("knownAt") Instant knownAt);
+    
+    // Starts the history of employees written without change events, e.g. by a bulk load
+    @Modifying
+    @Query(value = "INSERT INTO employee_history (employee_id, tenant_id, first_name, last_name, email, " +
+                   "department, salary, valid_from, valid_to, recorded_at) " +
+                   "SELECT e.id, e.tenant_id, e.first_name, e.last_name, e.email, e.department, e.salary, " +
+                   "e.date_of_joining, :openEnd, :recordedAt FROM employees e " +
+                   "WHERE NOT EXISTS (SELECT 1 FROM employee_history h WHERE h.employee_id = e.id)",
+           nativeQuery = true)
+    int insertMissing(@Param("openEnd") LocalDate openEnd, @Param("recordedAt") Instant recordedAt);
+    
+    @Modifying
+    @Query("DELETE FROM EmployeeHistory h WHERE h.employeeId IN :employeeIds")
+    int deleteByEmployeeIds(@Param("employeeIds") Collection<Long> employeeIds);
+}
@@ -1,21 +1,47 @@
 package com.employeemanagement.repository;
 
 import com.employeemanagement.entity.Employee;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, JpaSpecificationExecutor<Employee>,
+        EmployeeRepositoryCustom {
     
     Optional<Employee> findByEmail(String email);
     
     List<Employee> findByDepartment(String department);
     
+    List<Employee> findByManagerIdOrderById(Long managerId);
+    
+    // Terminations that have taken effect, oldest ids first, for the archive mover
+    List<Employee> findByTerminatedOnLessThanEqualOrderById(LocalDate date, Pageable pageable);
+    
+    @Query("SELECT e.id FROM Employee e WHERE e.managerId = :managerId")
+    List<Long> findIdsByManagerId(@Param("managerId") Long managerId);
+    
+    @Modifying
+    @Query("UPDATE Employee e SET e.managerId = :newManagerId WHERE e.managerId = :managerId")
+    int reassignReports(@Param("managerId") Long managerId, @Param("newManagerId") Long newManagerId);
+    
+    @Modifying
+    @Query("UPDATE Employee e SET e.department = :department, e.updatedAt = :updatedAt WHERE e.id IN :ids")
+    int updateDepartment(@Param("ids") Collection<Long> ids, @Param("department") String department,
+                         @Param("updatedAt") LocalDate updatedAt);
+    
     List<Employee> findByFirstNameContainingIgnoreCaseOrLastNameContainingIgnoreCase(
             String firstName, String lastName);
     
@@ -29,5 +55,20 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
     boolean existsByEmail(String email);
     
     long countByDepartment(String department);
+    
+    // Narrow projection streamed to build the in-memory salary columns
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT e.id, e.salary, e.department, e.dateOfJoining, e.tenantId FROM Employee e")
+    Stream<Object[]> streamSalaryColumns();
+    
+    // Name, email and tenant streamed to build the in-memory search indexes
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT e.id, e.firstName, e.lastName, e.email, e.tenantId FROM Employee e")
+    Stream<Object[]> streamSearchColumns();
+    
+    // Emails only, streamed to build the existence filter
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT e.email FROM Employee e")
+    Stream<String> streamEmails();
 }
 
@@ -0,0 +1,28 @@
+package com.employeemanagement.repository;
+
+import com.employeemanagement.entity.Employee;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// Queries that select only the requested columns instead of whole Employee entities
+public interface EmployeeRepositoryCustom {
+    
+    List<Map<String, Object>> findAllProjected(List<String> fields);
+    
+    Optional<Map<String, Object>> findProjectedById(Long id, List<String> fields);
+    
+    List<Map<String, Object>> findProjectedByDepartment(String department, List<String> fields);
+    
+    List<Map<String, Object>> searchProjected(String searchTerm, List<String> fields);
+    
+    // Search matches narrowed to a department and a salary range [minSalary, maxSalary), sorted by name
+    List<Employee> searchPage(String searchTerm, String department, BigDecimal minSalary, BigDecimal maxSalary,
+                              int offset, int limit);
+    
+    // Per department, the number of search matches in each salary band, from one grouped query.
+    // Band i holds salaries below bandBounds[i] and at or above bandBounds[i - 1].
+    Map<String, long[]> countSearchFacets(String searchTerm, List<BigDecimal> bandBounds);
+}
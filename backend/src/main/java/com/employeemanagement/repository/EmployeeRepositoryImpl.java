@@ -0,0 +1,151 @@
+package com.employeemanagement.repository;
+
+import com.employeemanagement.entity.Employee;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiFunction;
+
+public class EmployeeRepositoryImpl implements EmployeeRepositoryCustom {
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public List<Map<String, Object>> findAllProjected(List<String> fields) {
+        return select(fields, null);
+    }
+    
+    @Override
+    public Optional<Map<String, Object>> findProjectedById(Long id, List<String> fields) {
+        List<Map<String, Object>> rows = select(fields, (cb, root) -> cb.equal(root.get("id"), id));
+        return rows.isEmpty() ? Optional.empty() : Optional.of(rows.get(0));
+    }
+    
+    @Override
+    public List<Map<String, Object>> findProjectedByDepartment(String department, List<String> fields) {
+        return select(fields, (cb, root) -> cb.equal(root.get("department"), department));
+    }
+    
+    @Override
+    public List<Map<String, Object>> searchProjected(String searchTerm, List<String> fields) {
+        return select(fields, (cb, root) -> matches(cb, root, searchTerm));
+    }
+    
+    @Override
+    public List<Employee> searchPage(String searchTerm, String department, BigDecimal minSalary,
+                                     BigDecimal maxSalary, int offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Employee> query = cb.createQuery(Employee.class);
+        Root<Employee> root = query.from(Employee.class);
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(matches(cb, root, searchTerm));
+        if (department != null) {
+            predicates.add(cb.equal(root.get("department"), department));
+        }
+        if (minSalary != null) {
+            predicates.add(cb.greaterThanOrEqualTo(root.get("salary"), minSalary));
+        }
+        if (maxSalary != null) {
+            predicates.add(cb.lessThan(root.get("salary"), maxSalary));
+        }
+        query.where(predicates.toArray(new Predicate[0]));
+        query.orderBy(cb.asc(root.get("lastName")), cb.asc(root.get("firstName")), cb.asc(root.get("id")));
+        return entityManager.createQuery(query)
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+    
+    // SELECT department, SUM(CASE WHEN salary < b0 THEN 1 ELSE 0 END), ... GROUP BY department
+    @Override
+    public Map<String, long[]> countSearchFacets(String searchTerm, List<BigDecimal> bandBounds) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object[]> query = cb.createQuery(Object[].class);
+        Root<Employee> root = query.from(Employee.class);
+        Path<BigDecimal> salary = root.get("salary");
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(root.get("department"));
+        for (int band = 0; band <= bandBounds.size(); band++) {
+            List<Predicate> inBand = new ArrayList<>();
+            if (band > 0) {
+                inBand.add(cb.greaterThanOrEqualTo(salary, bandBounds.get(band - 1)));
+            }
+            if (band < bandBounds.size()) {
+                inBand.add(cb.lessThan(salary, bandBounds.get(band)));
+            }
+            selections.add(cb.sum(cb.<Long>selectCase()
+                    .when(cb.and(inBand.toArray(new Predicate[0])), 1L)
+                    .otherwise(0L)));
+        }
+        query.multiselect(selections);
+        query.where(matches(cb, root, searchTerm));
+        query.groupBy(root.get("department"));
+        query.orderBy(cb.asc(root.get("department")));
+        
+        Map<String, long[]> counts = new LinkedHashMap<>();
+        for (Object[] row : entityManager.createQuery(query).getResultList()) {
+            long[] bands = new long[bandBounds.size() + 1];
+            for (int band = 0; band < bands.length; band++) {
+                bands[band] = row[band + 1] != null ? ((Number) row[band + 1]).longValue() : 0;
+            }
+            counts.put((String) row[0], bands);
+        }
+        return counts;
+    }
+    
+    private List<Map<String, Object>> select(List<String> fields,
+                                             BiFunction<CriteriaBuilder, Root<Employee>, Predicate> where) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Employee> root = query.from(Employee.class);
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (String field : fields) {
+            selections.add(root.get(field).alias(field));
+        }
+        query.multiselect(selections);
+        if (where != null) {
+            query.where(where.apply(cb, root));
+        }
+        query.orderBy(cb.asc(root.get("id")));
+        
+        List<Tuple> tuples = entityManager.createQuery(query).getResultList();
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (String field : fields) {
+                row.put(field, tuple.get(field));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+    
+    // Same matching rules as EmployeeRepository.searchEmployees
+    private static Predicate matches(CriteriaBuilder cb, Root<Employee> root, String searchTerm) {
+        String pattern = "%" + searchTerm.toLowerCase() + "%";
+        return cb.or(
+                like(cb, root.get("firstName"), pattern),
+                like(cb, root.get("lastName"), pattern),
+                like(cb, root.get("email"), pattern),
+                like(cb, root.get("department"), pattern));
+    }
+    
+    private static Predicate like(CriteriaBuilder cb, Expression<String> column, String pattern) {
+        return cb.like(cb.lower(column), pattern);
+    }
+}
@@ -0,0 +1,97 @@
+package com.employeemanagement.repository;
+
+import com.employeemanagement.dto.EmployeeFilter;
+import com.employeemanagement.entity.Employee;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Filters and sort orders of GET /employees. Each filter is backed by an index declared on
+ * Employee: department with salary or joining date, salary, joining date, and the lowercased
+ * last name. EmployeeQueryPlanTest checks every combination of filters against the H2 plan.
+ */
+public final class EmployeeSpecifications {
+    
+    // Sortable properties; name sorts by last name, then first name
+    private static final Map<String, List<String>> SORT_PROPERTIES = new LinkedHashMap<>();
+    
+    static {
+        SORT_PROPERTIES.put("salary", Collections.singletonList("salary"));
+        SORT_PROPERTIES.put("dateOfJoining", Collections.singletonList("dateOfJoining"));
+        SORT_PROPERTIES.put("department", Collections.singletonList("department"));
+        SORT_PROPERTIES.put("name", Arrays.asList("lastName", "firstName"));
+    }
+    
+    private EmployeeSpecifications() {}
+    
+    public static Specification<Employee> matching(EmployeeFilter filter) {
+        return Specification.where(salaryBetween(filter.getMinSalary(), filter.getMaxSalary()))
+                .and(joinedBetween(filter.getJoinedFrom(), filter.getJoinedTo()))
+                .and(departmentIn(filter.getDepartments()))
+                .and(lastNameStartsWith(filter.getNamePrefix()));
+    }
+    
+    public static Specification<Employee> salaryBetween(BigDecimal min, BigDecimal max) {
+        if (min == null && max == null) {
+            return null;
+        }
+        return (root, query, cb) -> min == null ? cb.lessThanOrEqualTo(root.get("salary"), max)
+                : max == null ? cb.greaterThanOrEqualTo(root.get("salary"), min)
+                : cb.between(root.get("salary"), min, max);
+    }
+    
+    public static Specification<Employee> joinedBetween(LocalDate from, LocalDate to) {
+        if (from == null && to == null) {
+            return null;
+        }
+        return (root, query, cb) -> from == null ? cb.lessThanOrEqualTo(root.get("dateOfJoining"), to)
+                : to == null ? cb.greaterThanOrEqualTo(root.get("dateOfJoining"), from)
+                : cb.between(root.get("dateOfJoining"), from, to);
+    }
+    
+    public static Specification<Employee> departmentIn(Collection<String> departments) {
+        if (departments == null || departments.isEmpty()) {
+            return null;
+        }
+        return (root, query, cb) -> root.get("department").in(departments);
+    }
+    
+    // Backslash is the default LIKE escape character of H2 and MySQL
+    public static Specification<Employee> lastNameStartsWith(String prefix) {
+        if (prefix == null || prefix.isEmpty()) {
+            return null;
+        }
+        String pattern = prefix.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        return (root, query, cb) -> cb.like(root.get("lastNameKey"), pattern);
+    }
+    
+    // Parses property[,asc|desc]; the id is always the last key so pages are stable
+    public static Sort sort(String sort) {
+        if (sort == null || sort.trim().isEmpty()) {
+            return Sort.by("id");
+        }
+        String[] parts = sort.split(",");
+        List<String> properties = SORT_PROPERTIES.get(parts[0].trim());
+        if (properties == null || parts.length > 2) {
+            throw new IllegalArgumentException("Unknown sort '" + sort + "'; sortable properties are "
+                    + SORT_PROPERTIES.keySet());
+        }
+        Sort.Direction direction = Sort.Direction.ASC;
+        if (parts.length == 2) {
+            direction = Sort.Direction.fromOptionalString(parts[1].trim())
+                    .orElseThrow(() -> new IllegalArgumentException("Sort direction must be asc or desc"));
+        }
+        return Sort.by(direction, properties.toArray(new String[0])).and(Sort.by("id"));
+    }
+}
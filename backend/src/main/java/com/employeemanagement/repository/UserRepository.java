@@ -2,9 +2,15 @@ package com.employeemanagement.repository;
 
 import com.employeemanagement.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -15,8 +21,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
     
     Optional<User> findByEmployeeId(Long employeeId);
     
+    List<User> findByEmployeeIdIn(Collection<Long> employeeIds);
+    
     boolean existsByUsername(String username);
     
     boolean existsByEmail(String email);
+    
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT u.username, u.email FROM User u")
+    Stream<Object[]> streamUsernamesAndEmails();
 }
 
@@ -0,0 +1,417 @@
+package com.employeemanagement.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Typo-tolerant token index using symmetric deletes: every distinct term is stored under all
+ * strings reachable by deleting up to two characters, and a query token looks up its own
+ * deletes, so candidate terms are found with a few hash lookups instead of a scan. Candidates
+ * are then verified with a bounded Damerau-Levenshtein distance.
+ * <p>
+ * Terms are the name tokens and the alphabetic parts of the email's local part. The delete
+ * dictionary only grows with the vocabulary, which is small for names, so terms are kept when
+ * their last posting goes away.
+ */
+public class FuzzyIndex {
+    
+    public static final int FIELD_FIRST_NAME = 0;
+    public static final int FIELD_LAST_NAME = 1;
+    public static final int FIELD_EMAIL = 2;
+    
+    private static final float[] FIELD_WEIGHTS = {0.9f, 1.0f, 0.6f};
+    private static final float EXACT_BOOST = 0.5f;
+    private static final float PREFIX_BOOST = 0.25f;
+    
+    // Tokens this short would expand to large parts of the vocabulary as prefixes
+    private static final int MIN_PREFIX_LENGTH = 3;
+    private static final int MAX_PREFIX_TERMS = 256;
+    
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private final List<String> terms = new ArrayList<>();
+    private final NavigableMap<String, Integer> sortedTerms = new TreeMap<>();
+    // Postings per term id: sorted (employeeId << 2 | field) values
+    private final List<long[]> postings = new ArrayList<>();
+    private final List<Integer> postingSizes = new ArrayList<>();
+    private final Map<String, int[]> deletes = new HashMap<>();
+    
+    // Employee id -> indexed (termId << 2 | field) values, for removal
+    private final Map<Long, int[]> documents = new HashMap<>();
+    private final Map<Long, String> tenants = new HashMap<>();
+    
+    public static final class Match {
+        private final long id;
+        private final float score;
+        
+        Match(long id, float score) {
+            this.id = id;
+            this.score = score;
+        }
+        
+        public long getId() { return id; }
+        public float getScore() { return score; }
+    }
+    
+    public void put(long id, String tenantId, String firstName, String lastName, String email) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(id);
+            List<Integer> document = new ArrayList<>();
+            addField(id, FIELD_FIRST_NAME, firstName, document);
+            addField(id, FIELD_LAST_NAME, lastName, document);
+            addField(id, FIELD_EMAIL, emailLocalPart(email), document);
+            int[] packed = new int[document.size()];
+            for (int i = 0; i < packed.length; i++) {
+                packed[i] = document.get(i);
+            }
+            documents.put(id, packed);
+            tenants.put(id, tenantId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            termIds.clear();
+            terms.clear();
+            sortedTerms.clear();
+            postings.clear();
+            postingSizes.clear();
+            deletes.clear();
+            documents.clear();
+            tenants.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Employees matching every query token, best first. A token matches a term within its
+     * edit budget (none up to 2 characters, 1 up to 5, 2 beyond) or when it is a prefix of the
+     * term. Per token the best field counts: field weight scaled down by distance, plus boosts
+     * for exact and prefix matches.
+     */
+    public List<Match> search(String query, int limit, String tenantId) {
+        String[] tokens = tokenize(query);
+        List<Match> matches = new ArrayList<>();
+        if (tokens.length == 0 || limit <= 0) {
+            return matches;
+        }
+        lock.readLock().lock();
+        try {
+            ScoredIds candidates = null;
+            for (String token : tokens) {
+                ScoredIds tokenMatches = matchToken(token);
+                candidates = candidates == null ? tokenMatches : candidates.intersect(tokenMatches);
+                if (candidates.size == 0) {
+                    return matches;
+                }
+            }
+            
+            // Bounded selection: score descending, then id ascending
+            long[] bestIds = new long[limit];
+            float[] bestScores = new float[limit];
+            int size = 0;
+            for (int i = 0; i < candidates.size; i++) {
+                long id = candidates.ids[i];
+                float score = candidates.scores[i];
+                if (size == limit && score <= bestScores[size - 1]) {
+                    continue;
+                }
+                if (tenantId != null && !tenantId.equals(tenants.get(id))) {
+                    continue;
+                }
+                int position = size == limit ? size - 1 : size++;
+                while (position > 0 && bestScores[position - 1] < score) {
+                    bestIds[position] = bestIds[position - 1];
+                    bestScores[position] = bestScores[position - 1];
+                    position--;
+                }
+                bestIds[position] = id;
+                bestScores[position] = score;
+            }
+            for (int i = 0; i < size; i++) {
+                matches.add(new Match(bestIds[i], bestScores[i]));
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    // Every employee matching one token with its best score over terms and fields, sorted by id
+    private ScoredIds matchToken(String token) {
+        int maxDistance = maxDistance(token.length());
+        Map<Integer, Float> termScores = new HashMap<>();
+        
+        for (String variant : deleteVariants(token, maxDistance)) {
+            int[] candidates = deletes.get(variant);
+            if (candidates == null) {
+                continue;
+            }
+            for (int termId : candidates) {
+                if (termScores.containsKey(termId)) {
+                    continue;
+                }
+                int distance = distance(token, terms.get(termId), maxDistance);
+                if (distance <= maxDistance) {
+                    float score = (float) (maxDistance + 1 - distance) / (maxDistance + 1);
+                    termScores.put(termId, distance == 0 ? score + EXACT_BOOST : score);
+                }
+            }
+        }
+        if (token.length() >= MIN_PREFIX_LENGTH) {
+            int expanded = 0;
+            for (Map.Entry<String, Integer> entry : sortedTerms.tailMap(token, false).entrySet()) {
+                if (!entry.getKey().startsWith(token) || expanded++ == MAX_PREFIX_TERMS) {
+                    break;
+                }
+                termScores.merge(entry.getValue(), 1 + PREFIX_BOOST, Math::max);
+            }
+        }
+        
+        ScoredIds result = ScoredIds.EMPTY;
+        for (Map.Entry<Integer, Float> term : termScores.entrySet()) {
+            result = result.mergeMax(postings.get(term.getKey()), postingSizes.get(term.getKey()), term.getValue());
+        }
+        return result;
+    }
+    
+    // Parallel id/score arrays sorted by id, combined with linear merges
+    private static final class ScoredIds {
+        static final ScoredIds EMPTY = new ScoredIds(new long[0], new float[0], 0);
+        
+        final long[] ids;
+        final float[] scores;
+        final int size;
+        
+        ScoredIds(long[] ids, float[] scores, int size) {
+            this.ids = ids;
+            this.scores = scores;
+            this.size = size;
+        }
+        
+        // Union with a term's postings, keeping the higher score per id
+        ScoredIds mergeMax(long[] postings, int postingCount, float termScore) {
+            long[] mergedIds = new long[size + postingCount];
+            float[] mergedScores = new float[size + postingCount];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < size || j < postingCount) {
+                long id;
+                float score;
+                if (j == postingCount || (i < size && ids[i] < postings[j] >>> 2)) {
+                    id = ids[i];
+                    score = scores[i++];
+                } else {
+                    id = postings[j] >>> 2;
+                    score = termScore * FIELD_WEIGHTS[(int) (postings[j++] & 3)];
+                }
+                if (count > 0 && mergedIds[count - 1] == id) {
+                    mergedScores[count - 1] = Math.max(mergedScores[count - 1], score);
+                } else {
+                    mergedIds[count] = id;
+                    mergedScores[count++] = score;
+                }
+            }
+            return new ScoredIds(mergedIds, mergedScores, count);
+        }
+        
+        // Ids present in both, scores added
+        ScoredIds intersect(ScoredIds other) {
+            int capacity = Math.min(size, other.size);
+            long[] commonIds = new long[capacity];
+            float[] commonScores = new float[capacity];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < size && j < other.size) {
+                if (ids[i] < other.ids[j]) {
+                    i++;
+                } else if (ids[i] > other.ids[j]) {
+                    j++;
+                } else {
+                    commonIds[count] = ids[i];
+                    commonScores[count++] = scores[i++] + other.scores[j++];
+                }
+            }
+            return new ScoredIds(commonIds, commonScores, count);
+        }
+    }
+    
+    private void addField(long id, int field, String value, List<Integer> document) {
+        for (String token : tokenize(value)) {
+            int termId = termId(token);
+            int packed = termId << 2 | field;
+            if (document.contains(packed)) {
+                continue;
+            }
+            document.add(packed);
+            long posting = id << 2 | field;
+            long[] termPostings = postings.get(termId);
+            int size = postingSizes.get(termId);
+            int index = Arrays.binarySearch(termPostings, 0, size, posting);
+            if (index >= 0) {
+                continue;
+            }
+            index = -index - 1;
+            if (size == termPostings.length) {
+                termPostings = Arrays.copyOf(termPostings, Math.max(4, size * 2));
+                postings.set(termId, termPostings);
+            }
+            System.arraycopy(termPostings, index, termPostings, index + 1, size - index);
+            termPostings[index] = posting;
+            postingSizes.set(termId, size + 1);
+        }
+    }
+    
+    private void removeDocument(long id) {
+        int[] document = documents.remove(id);
+        tenants.remove(id);
+        if (document == null) {
+            return;
+        }
+        for (int packed : document) {
+            int termId = packed >>> 2;
+            long posting = id << 2 | (packed & 3);
+            long[] termPostings = postings.get(termId);
+            int size = postingSizes.get(termId);
+            int index = Arrays.binarySearch(termPostings, 0, size, posting);
+            if (index >= 0) {
+                System.arraycopy(termPostings, index + 1, termPostings, index, size - index - 1);
+                postingSizes.set(termId, size - 1);
+            }
+        }
+    }
+    
+    private int termId(String term) {
+        Integer existing = termIds.get(term);
+        if (existing != null) {
+            return existing;
+        }
+        int termId = terms.size();
+        terms.add(term);
+        termIds.put(term, termId);
+        sortedTerms.put(term, termId);
+        postings.add(new long[0]);
+        postingSizes.add(0);
+        for (String variant : deleteVariants(term, maxDistance(term.length()))) {
+            int[] existingTerms = deletes.get(variant);
+            if (existingTerms == null) {
+                deletes.put(variant, new int[]{termId});
+            } else {
+                int[] grown = Arrays.copyOf(existingTerms, existingTerms.length + 1);
+                grown[existingTerms.length] = termId;
+                deletes.put(variant, grown);
+            }
+        }
+        return termId;
+    }
+    
+    static int maxDistance(int length) {
+        return length <= 2 ? 0 : length <= 5 ? 1 : 2;
+    }
+    
+    // The value itself plus every string reachable by deleting up to maxDistance characters
+    static List<String> deleteVariants(String value, int maxDistance) {
+        List<String> variants = new ArrayList<>();
+        variants.add(value);
+        int from = 0;
+        for (int round = 0; round < maxDistance; round++) {
+            int to = variants.size();
+            for (int v = from; v < to; v++) {
+                String current = variants.get(v);
+                for (int i = 0; i < current.length(); i++) {
+                    String deleted = current.substring(0, i) + current.substring(i + 1);
+                    if (!variants.contains(deleted)) {
+                        variants.add(deleted);
+                    }
+                }
+            }
+            from = to;
+        }
+        return variants;
+    }
+    
+    // Optimal string alignment distance, abandoned once it must exceed max
+    static int distance(String a, String b, int max) {
+        if (Math.abs(a.length() - b.length()) > max) {
+            return max + 1;
+        }
+        int[] previous2 = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, previous2[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] recycled = previous2;
+            previous2 = previous;
+            previous = current;
+            current = recycled;
+        }
+        return previous[b.length()];
+    }
+    
+    static String[] tokenize(String value) {
+        if (value == null) {
+            return new String[0];
+        }
+        String normalized = value.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]+", " ").trim();
+        return normalized.isEmpty() ? new String[0] : normalized.split(" ");
+    }
+    
+    // Digits in the local part (john.smith.42) carry no spelling, so only its letter runs are indexed
+    private static String emailLocalPart(String email) {
+        if (email == null) {
+            return null;
+        }
+        int at = email.indexOf('@');
+        String local = at >= 0 ? email.substring(0, at) : email;
+        return local.replaceAll("[0-9]+", " ");
+    }
+}
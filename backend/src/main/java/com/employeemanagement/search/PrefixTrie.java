@@ -0,0 +1,252 @@
+package com.employeemanagement.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compressed (radix) trie from normalized keys to employee ids. Every node caches the
+ * highest-scoring ids of its subtree, so a lookup is one walk down the prefix plus returning
+ * that cache. Caches are dropped along the path of every change and recomputed from the
+ * children's caches on the next lookup, or when the ranking epoch moves on.
+ * Structural changes need external write locking; lookups may run concurrently.
+ */
+class PrefixTrie {
+    
+    interface Scorer {
+        long score(long id);
+    }
+    
+    private static final long[] NO_IDS = new long[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+    
+    private final int topN;
+    private final Node root = new Node("");
+    
+    PrefixTrie(int topN) {
+        this.topN = topN;
+    }
+    
+    private static final class Node {
+        String label;
+        // Sorted by the first character of their label
+        Node[] children = NO_CHILDREN;
+        // Ids whose key ends at this node, sorted
+        long[] ids = NO_IDS;
+        volatile TopCache cache;
+        
+        Node(String label) {
+            this.label = label;
+        }
+    }
+    
+    private static final class TopCache {
+        final int epoch;
+        final long[] ids;
+        
+        TopCache(int epoch, long[] ids) {
+            this.epoch = epoch;
+            this.ids = ids;
+        }
+    }
+    
+    void add(String key, long id) {
+        Node node = root;
+        node.cache = null;
+        int pos = 0;
+        while (pos < key.length()) {
+            int slot = childSlot(node, key.charAt(pos));
+            if (slot < 0) {
+                Node leaf = new Node(key.substring(pos));
+                node.children = insertChild(node.children, -slot - 1, leaf);
+                node = leaf;
+                break;
+            }
+            Node child = node.children[slot];
+            int common = commonPrefix(child.label, key, pos);
+            if (common < child.label.length()) {
+                Node split = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                split.children = new Node[]{child};
+                node.children[slot] = split;
+                child = split;
+            }
+            child.cache = null;
+            node = child;
+            pos += common;
+        }
+        int index = Arrays.binarySearch(node.ids, id);
+        if (index < 0) {
+            long[] ids = new long[node.ids.length + 1];
+            int insertAt = -index - 1;
+            System.arraycopy(node.ids, 0, ids, 0, insertAt);
+            ids[insertAt] = id;
+            System.arraycopy(node.ids, insertAt, ids, insertAt + 1, node.ids.length - insertAt);
+            node.ids = ids;
+        }
+    }
+    
+    boolean remove(String key, long id) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int pos = 0;
+        while (pos < key.length()) {
+            int slot = childSlot(node, key.charAt(pos));
+            if (slot < 0) {
+                return false;
+            }
+            Node child = node.children[slot];
+            int common = commonPrefix(child.label, key, pos);
+            if (common < child.label.length()) {
+                return false;
+            }
+            node = child;
+            path.add(node);
+            pos += common;
+        }
+        int index = Arrays.binarySearch(node.ids, id);
+        if (index < 0) {
+            return false;
+        }
+        long[] ids = new long[node.ids.length - 1];
+        System.arraycopy(node.ids, 0, ids, 0, index);
+        System.arraycopy(node.ids, index + 1, ids, index, ids.length - index);
+        node.ids = ids;
+        for (Node onPath : path) {
+            onPath.cache = null;
+        }
+        
+        // Drop the emptied leaf, then merge a pass-through parent into its only child
+        if (path.size() > 1 && node.ids.length == 0 && node.children.length == 0) {
+            Node parent = path.get(path.size() - 2);
+            parent.children = removeChild(parent.children, childSlot(parent, node.label.charAt(0)));
+            node = parent;
+        }
+        if (node != root && node.ids.length == 0 && node.children.length == 1) {
+            Node only = node.children[0];
+            node.label = node.label + only.label;
+            node.ids = only.ids;
+            node.children = only.children;
+        }
+        return true;
+    }
+    
+    // Best ids among keys starting with prefix, highest score first and ties by id
+    long[] top(String prefix, int epoch, Scorer scorer) {
+        Node node = root;
+        int pos = 0;
+        while (pos < prefix.length()) {
+            int slot = childSlot(node, prefix.charAt(pos));
+            if (slot < 0) {
+                return NO_IDS;
+            }
+            Node child = node.children[slot];
+            int common = commonPrefix(child.label, prefix, pos);
+            if (pos + common == prefix.length()) {
+                // Prefix ends on or inside this edge, so the whole child subtree matches
+                return topOf(child, epoch, scorer);
+            }
+            if (common < child.label.length()) {
+                return NO_IDS;
+            }
+            node = child;
+            pos += common;
+        }
+        return topOf(node, epoch, scorer);
+    }
+    
+    boolean isEmpty() {
+        return root.children.length == 0 && root.ids.length == 0;
+    }
+    
+    private long[] topOf(Node node, int epoch, Scorer scorer) {
+        TopCache cache = node.cache;
+        if (cache != null && cache.epoch == epoch) {
+            return cache.ids;
+        }
+        long[] bestIds = new long[topN];
+        long[] bestScores = new long[topN];
+        int size = 0;
+        for (long id : node.ids) {
+            size = offer(bestIds, bestScores, size, id, scorer.score(id));
+        }
+        for (Node child : node.children) {
+            for (long id : topOf(child, epoch, scorer)) {
+                size = offer(bestIds, bestScores, size, id, scorer.score(id));
+            }
+        }
+        long[] ids = size == topN ? bestIds : Arrays.copyOf(bestIds, size);
+        node.cache = new TopCache(epoch, ids);
+        return ids;
+    }
+    
+    // Keeps the arrays ordered by score descending, then id ascending; an id reached through
+    // several keys (first name and full name) is only kept once
+    private int offer(long[] ids, long[] scores, int size, long id, long score) {
+        for (int i = 0; i < size; i++) {
+            if (ids[i] == id) {
+                return size;
+            }
+        }
+        int position = size;
+        while (position > 0 && (scores[position - 1] < score
+                || (scores[position - 1] == score && ids[position - 1] > id))) {
+            position--;
+        }
+        if (position == topN) {
+            return size;
+        }
+        int last = Math.min(size, topN - 1);
+        System.arraycopy(ids, position, ids, position + 1, last - position);
+        System.arraycopy(scores, position, scores, position + 1, last - position);
+        ids[position] = id;
+        scores[position] = score;
+        return Math.min(size + 1, topN);
+    }
+    
+    private static int childSlot(Node node, char first) {
+        Node[] children = node.children;
+        int low = 0;
+        int high = children.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            char c = children[middle].label.charAt(0);
+            if (c < first) {
+                low = middle + 1;
+            } else if (c > first) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+    
+    private static int commonPrefix(String label, String key, int pos) {
+        int length = Math.min(label.length(), key.length() - pos);
+        int i = 0;
+        while (i < length && label.charAt(i) == key.charAt(pos + i)) {
+            i++;
+        }
+        return i;
+    }
+    
+    private static Node[] insertChild(Node[] children, int slot, Node child) {
+        Node[] result = new Node[children.length + 1];
+        System.arraycopy(children, 0, result, 0, slot);
+        result[slot] = child;
+        System.arraycopy(children, slot, result, slot + 1, children.length - slot);
+        return result;
+    }
+    
+    private static Node[] removeChild(Node[] children, int slot) {
+        if (children.length == 1) {
+            return NO_CHILDREN;
+        }
+        Node[] result = new Node[children.length - 1];
+        System.arraycopy(children, 0, result, 0, slot);
+        System.arraycopy(children, slot + 1, result, slot, result.length - slot);
+        return result;
+    }
+}
@@ -0,0 +1,186 @@
+package com.employeemanagement.search;
+
+import com.employeemanagement.dto.EmployeeSuggestion;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Typeahead index over first name, last name, full name and email, with one trie per tenant.
+ * Suggestions are ranked by view count. Views are counted immediately but only change the
+ * cached rankings once per refresh interval, which keeps the per-node caches warm.
+ */
+public class SuggestionIndex {
+    
+    private final int maxResults;
+    private final long rankingRefreshNanos;
+    
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PrefixTrie> tries = new HashMap<>();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Map<Long, AtomicLong> views = new ConcurrentHashMap<>();
+    private final PrefixTrie.Scorer scorer = this::getViews;
+    
+    private volatile int rankingEpoch;
+    private volatile long rankingEpochStart = System.nanoTime();
+    
+    public SuggestionIndex(int maxResults, long rankingRefreshMillis) {
+        this.maxResults = maxResults;
+        this.rankingRefreshNanos = rankingRefreshMillis * 1_000_000;
+    }
+    
+    private static final class Entry {
+        final String tenantId;
+        final String displayName;
+        final String[] keys;
+        
+        Entry(String tenantId, String displayName, String[] keys) {
+            this.tenantId = tenantId;
+            this.displayName = displayName;
+            this.keys = keys;
+        }
+    }
+    
+    public void put(long id, String tenantId, String firstName, String lastName, String email) {
+        String[] keys = {
+                normalize(firstName),
+                normalize(lastName),
+                normalize(firstName + " " + lastName),
+                normalize(email)};
+        Entry entry = new Entry(tenantId, firstName + " " + lastName, keys);
+        lock.writeLock().lock();
+        try {
+            removeKeys(entries.put(id, entry), id);
+            PrefixTrie trie = tries.computeIfAbsent(tenantId, tenant -> new PrefixTrie(maxResults));
+            for (String key : keys) {
+                if (!key.isEmpty()) {
+                    trie.add(key, id);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeKeys(entries.remove(id), id);
+            views.remove(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            tries.clear();
+            entries.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public void recordView(long id) {
+        views.computeIfAbsent(id, key -> new AtomicLong()).incrementAndGet();
+    }
+    
+    public long getViews(long id) {
+        AtomicLong count = views.get(id);
+        return count == null ? 0 : count.get();
+    }
+    
+    // A null tenant searches every tenant, matching TenantContext.isVisible
+    public List<EmployeeSuggestion> suggest(String prefix, int limit, String tenantId) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        int epoch = currentEpoch();
+        lock.readLock().lock();
+        try {
+            List<EmployeeSuggestion> result = new ArrayList<>(Math.min(limit, maxResults));
+            if (tenantId != null) {
+                PrefixTrie trie = tries.get(tenantId);
+                if (trie != null) {
+                    addSuggestions(result, trie.top(key, epoch, scorer), limit);
+                }
+                return result;
+            }
+            
+            List<Long> merged = new ArrayList<>();
+            for (PrefixTrie trie : tries.values()) {
+                for (long id : trie.top(key, epoch, scorer)) {
+                    merged.add(id);
+                }
+            }
+            merged.sort((a, b) -> {
+                int byScore = Long.compare(getViews(b), getViews(a));
+                return byScore != 0 ? byScore : Long.compare(a, b);
+            });
+            long[] ids = new long[Math.min(merged.size(), maxResults)];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = merged.get(i);
+            }
+            addSuggestions(result, ids, limit);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private void addSuggestions(List<EmployeeSuggestion> result, long[] ids, int limit) {
+        for (int i = 0; i < ids.length && result.size() < limit; i++) {
+            Entry entry = entries.get(ids[i]);
+            result.add(new EmployeeSuggestion(ids[i], entry.displayName, getViews(ids[i])));
+        }
+    }
+    
+    private void removeKeys(Entry entry, long id) {
+        if (entry == null) {
+            return;
+        }
+        PrefixTrie trie = tries.get(entry.tenantId);
+        for (String key : entry.keys) {
+            if (!key.isEmpty()) {
+                trie.remove(key, id);
+            }
+        }
+        if (trie.isEmpty()) {
+            tries.remove(entry.tenantId);
+        }
+    }
+    
+    private int currentEpoch() {
+        long now = System.nanoTime();
+        if (now - rankingEpochStart >= rankingRefreshNanos) {
+            rankingEpochStart = now;
+            rankingEpoch++;
+        }
+        return rankingEpoch;
+    }
+    
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,76 @@
+package com.employeemanagement.search;
+
+import com.employeemanagement.dto.EmployeeSuggestion;
+import com.employeemanagement.entity.Employee;
+import com.employeemanagement.event.BulkLoadCompletedEvent;
+import com.employeemanagement.event.EmployeeChangedEvent;
+import com.employeemanagement.repository.EmployeeRepository;
+import com.employeemanagement.sharding.TenantContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PostConstruct;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Service
+public class SuggestionService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(SuggestionService.class);
+    
+    @Autowired
+    private EmployeeRepository employeeRepository;
+    
+    @Value("${suggest.max-results:10}")
+    private int maxResults;
+    
+    @Value("${suggest.ranking-refresh-ms:5000}")
+    private long rankingRefreshMillis;
+    
+    private SuggestionIndex index;
+    
+    @PostConstruct
+    public void init() {
+        index = new SuggestionIndex(maxResults, rankingRefreshMillis);
+    }
+    
+    @EventListener({ApplicationReadyEvent.class, BulkLoadCompletedEvent.class})
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long start = System.nanoTime();
+        index.clear();
+        try (Stream<Object[]> rows = employeeRepository.streamSearchColumns()) {
+            rows.forEach(row -> index.put((Long) row[0], (String) row[4], (String) row[1], (String) row[2],
+                    (String) row[3]));
+        }
+        logger.info("Suggestion index built with {} employees in {} ms",
+                index.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (event.isRemoval()) {
+            index.remove(event.getEmployeeId());
+            return;
+        }
+        Employee employee = event.getAfter();
+        index.put(employee.getId(), employee.getTenantId(), employee.getFirstName(), employee.getLastName(),
+                employee.getEmail());
+    }
+    
+    public List<EmployeeSuggestion> suggest(String prefix, int limit) {
+        return index.suggest(prefix, Math.min(limit, maxResults), TenantContext.getTenantId());
+    }
+    
+    // Popularity signal for ranking, fed by profile views
+    public void recordView(Long employeeId) {
+        index.recordView(employeeId);
+    }
+}
@@ -0,0 +1,73 @@
+package com.employeemanagement.security;
+
+import com.employeemanagement.entity.Role;
+import com.employeemanagement.sharding.TenantContext;
+
+import java.util.Map;
+
+/**
+ * Compiled form of an {@link Authorize} annotation.
+ */
+final class AccessRule {
+    
+    private static final int MAX_ID_DIGITS = 19;
+    
+    private final int roleMask;
+    private final int ownerMask;
+    private final String ownerVariable;
+    private final boolean platform;
+    
+    AccessRule(int roleMask, int ownerMask, String ownerVariable, boolean platform) {
+        this.roleMask = roleMask;
+        this.ownerMask = ownerMask;
+        this.ownerVariable = ownerVariable;
+        this.platform = platform;
+    }
+    
+    static AccessRule compile(Authorize authorize) {
+        int ownerMask = Role.maskOf(authorize.owner());
+        return new AccessRule(Role.maskOf(authorize.value()), ownerMask,
+                ownerMask != 0 ? authorize.ownerVariable() : null, authorize.platform());
+    }
+    
+    String getOwnerVariable() {
+        return ownerVariable;
+    }
+    
+    boolean grantsNothing() {
+        return (roleMask | ownerMask) == 0;
+    }
+    
+    boolean permits(UserPrincipal principal, Map<String, String> uriVariables) {
+        if (platform && !TenantContext.DEFAULT_TENANT.equals(principal.getTenantId())) {
+            return false;
+        }
+        int roles = principal.getRoleMask();
+        if ((roles & roleMask) != 0) {
+            return true;
+        }
+        if ((roles & ownerMask) == 0 || uriVariables == null) {
+            return false;
+        }
+        Long employeeId = principal.getEmployeeId();
+        String value = uriVariables.get(ownerVariable);
+        return employeeId != null && value != null && isId(value, employeeId);
+    }
+    
+    // Compares digit by digit so that neither a Long nor a NumberFormatException is allocated
+    static boolean isId(String value, long id) {
+        int length = value.length();
+        if (length == 0 || length > MAX_ID_DIGITS) {
+            return false;
+        }
+        long parsed = 0;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+            parsed = parsed * 10 + (c - '0');
+        }
+        return parsed == id;
+    }
+}
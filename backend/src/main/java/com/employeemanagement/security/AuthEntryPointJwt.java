@@ -1,8 +1,9 @@
 package com.employeemanagement.security;
 
+import com.employeemanagement.logging.EventCategory;
+import com.employeemanagement.logging.EventLog;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
@@ -18,12 +19,17 @@ import java.util.Map;
 @Component
 public class AuthEntryPointJwt implements AuthenticationEntryPoint {
     
-    private static final Logger logger = LoggerFactory.getLogger(AuthEntryPointJwt.class);
+    // Thread-safe once configured; creating one per rejected request is needlessly expensive
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    
+    @Autowired
+    private EventLog eventLog;
     
     @Override
     public void commence(HttpServletRequest request, HttpServletResponse response,
                         AuthenticationException authException) throws IOException, ServletException {
-        logger.error("Unauthorized error: {}", authException.getMessage());
+        eventLog.log(EventCategory.AUTH_FAILURE, "unauthorized",
+                "path", request.getServletPath(), "message", authException.getMessage());
         
         response.setContentType(MediaType.APPLICATION_JSON_VALUE);
         response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
@@ -34,8 +40,7 @@ public class AuthEntryPointJwt implements AuthenticationEntryPoint {
         body.put("message", authException.getMessage());
         body.put("path", request.getServletPath());
         
-        final ObjectMapper mapper = new ObjectMapper();
-        mapper.writeValue(response.getOutputStream(), body);
+        MAPPER.writeValue(response.getOutputStream(), body);
     }
 }
 
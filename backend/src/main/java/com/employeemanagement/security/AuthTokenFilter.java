@@ -1,7 +1,14 @@
 package com.employeemanagement.security;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.employeemanagement.logging.AccessLogFilter;
+import com.employeemanagement.logging.EventCategory;
+import com.employeemanagement.logging.EventLog;
+import com.employeemanagement.sharding.TenantContext;
+import com.employeemanagement.tracing.Span;
+import com.employeemanagement.tracing.SpanKind;
+import com.employeemanagement.tracing.Tracer;
+import io.jsonwebtoken.Claims;
+import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -17,22 +24,38 @@ import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 
 public class AuthTokenFilter extends OncePerRequestFilter {
-    
+
     @Autowired
     private JwtUtils jwtUtils;
     
     @Autowired
     private UserDetailsServiceImpl userDetailsService;
     
-    private static final Logger logger = LoggerFactory.getLogger(AuthTokenFilter.class);
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+    
+    @Autowired
+    private EventLog eventLog;
+    
+    @Autowired
+    private Tracer tracer;
     
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                                    FilterChain filterChain) throws ServletException, IOException {
+        // A request is never unscoped: that is left to platform jobs, which bind no tenant
+        TenantContext.setTenantId(TenantContext.DEFAULT_TENANT);
+        Span span = tracer.startSpan("AuthTokenFilter.authenticate", SpanKind.INTERNAL);
         try {
             String jwt = parseJwt(request);
-            if (jwt != null && jwtUtils.validateJwtToken(jwt)) {
-                String username = jwtUtils.getUserNameFromJwtToken(jwt);
+            Claims claims = jwt != null ? jwtUtils.parseClaims(jwt) : null;
+            if (claims != null && !tokenRevocationService.isRevoked(claims)) {
+                String username = claims.getSubject();
+                // The tenant decides which shard the user is loaded from; tokens without one get the default
+                String tenantId = claims.get(JwtUtils.TENANT_CLAIM, String.class);
+                if (tenantId != null) {
+                    TenantContext.setTenantId(tenantId);
+                }
                 
                 UserDetails userDetails = userDetailsService.loadUserByUsername(username);
                 UsernamePasswordAuthenticationToken authentication = 
@@ -41,12 +64,21 @@ public class AuthTokenFilter extends OncePerRequestFilter {
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
+                MDC.put(AccessLogFilter.MDC_USER, username);
             }
         } catch (Exception e) {
-            logger.error("Cannot set user authentication: {}", e);
+            span.recordError(e);
+            eventLog.log(EventCategory.AUTH_FAILURE, "authentication_failed",
+                    "error", e.getClass().getSimpleName(), "message", e.getMessage());
+        } finally {
+            tracer.endSpan(span);
         }
         
-        filterChain.doFilter(request, response);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            TenantContext.clear();
+        }
     }
     
     private String parseJwt(HttpServletRequest request) {
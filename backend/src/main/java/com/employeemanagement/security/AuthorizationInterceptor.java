@@ -0,0 +1,111 @@
+package com.employeemanagement.security;
+
+import com.employeemanagement.tracing.Span;
+import com.employeemanagement.tracing.SpanKind;
+import com.employeemanagement.tracing.Tracer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Enforces {@link Authorize} rules. The rules are compiled into role bitmasks once the handler
+ * mappings are registered and looked up by handler method, so a request is authorized without
+ * evaluating an expression or allocating.
+ * <p>
+ * Denials are raised as {@link AccessDeniedException}, the same as a failed {@code @PreAuthorize},
+ * so the security filter chain still turns them into 401 or 403 responses.
+ */
+@Component
+public class AuthorizationInterceptor implements HandlerInterceptor {
+    
+    private static final Logger logger = LoggerFactory.getLogger(AuthorizationInterceptor.class);
+    
+    @Autowired
+    private Tracer tracer;
+    
+    private volatile Map<Method, AccessRule> rules = Collections.emptyMap();
+    
+    @EventListener
+    public void compileRules(ContextRefreshedEvent event) {
+        Map<Method, AccessRule> compiled = new HashMap<>(rules);
+        for (RequestMappingHandlerMapping mapping : event.getApplicationContext()
+                .getBeansOfType(RequestMappingHandlerMapping.class).values()) {
+            for (Map.Entry<RequestMappingInfo, HandlerMethod> entry : mapping.getHandlerMethods().entrySet()) {
+                Method method = entry.getValue().getMethod();
+                Authorize authorize = AnnotatedElementUtils.findMergedAnnotation(method, Authorize.class);
+                if (authorize != null) {
+                    compiled.put(method, compile(authorize, method, entry.getKey()));
+                }
+            }
+        }
+        rules = Collections.unmodifiableMap(compiled);
+        logger.info("Compiled {} access rules", compiled.size());
+    }
+    
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod)) {
+            return true;
+        }
+        AccessRule rule = rules.get(((HandlerMethod) handler).getMethod());
+        if (rule == null) {
+            return true;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        Object principal = authentication != null ? authentication.getPrincipal() : null;
+        @SuppressWarnings("unchecked")
+        Map<String, String> uriVariables = (Map<String, String>)
+                request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        Span span = tracer.startSpan("AuthorizationInterceptor.authorize", SpanKind.INTERNAL);
+        try {
+            if (!(principal instanceof UserPrincipal) || !rule.permits((UserPrincipal) principal, uriVariables)) {
+                span.setAttribute("authorization.granted", false);
+                throw new AccessDeniedException("Access is denied");
+            }
+            return true;
+        } finally {
+            tracer.endSpan(span);
+        }
+    }
+    
+    // Misconfigured rules fail the startup rather than silently denying or allowing requests
+    private static AccessRule compile(Authorize authorize, Method method, RequestMappingInfo mapping) {
+        if (AnnotatedElementUtils.hasAnnotation(method, PreAuthorize.class)) {
+            throw new IllegalStateException(method + " declares both @Authorize and @PreAuthorize");
+        }
+        AccessRule rule = AccessRule.compile(authorize);
+        if (rule.grantsNothing()) {
+            throw new IllegalStateException(method + " has an @Authorize rule that grants no role");
+        }
+        String variable = rule.getOwnerVariable();
+        if (variable != null) {
+            for (String pattern : mapping.getPatternValues()) {
+                if (!pattern.contains("{" + variable + "}") && !pattern.contains("{" + variable + ":")) {
+                    throw new IllegalStateException(method + " checks ownership of path variable '"
+                            + variable + "' which " + pattern + " does not declare");
+                }
+            }
+        }
+        return rule;
+    }
+}
@@ -0,0 +1,38 @@
+package com.employeemanagement.security;
+
+import com.employeemanagement.entity.Role;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares which roles may invoke a controller method. Unlike {@code @PreAuthorize} the rule is
+ * compiled into role bitmasks once at startup by {@link AuthorizationInterceptor}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Authorize {
+    
+    /**
+     * Roles that may invoke the method unconditionally.
+     */
+    Role[] value() default {};
+    
+    /**
+     * Roles that may invoke the method only when the path variable named by
+     * {@link #ownerVariable()} is the caller's own employee id.
+     */
+    Role[] owner() default {};
+    
+    String ownerVariable() default "id";
+    
+    /**
+     * Whether the method acts on every tenant at once, such as node-wide caches or signing keys.
+     * Such methods also require the caller to belong to the default tenant.
+     */
+    boolean platform() default false;
+}
@@ -0,0 +1,302 @@
+package com.employeemanagement.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RSA signing keys for issued JWTs, identified by their RFC 7638 thumbprint as {@code kid}.
+ * <p>
+ * Keys live as one JSON file each in a directory that nodes may share. A rotation creates the
+ * next key with an activation time in the future, so it is in every published key set before
+ * any token is signed with it; the previous key keeps verifying until the last token it signed
+ * has expired, and is then deleted. Nodes pick up keys created elsewhere on their periodic check
+ * or when they meet an unknown {@code kid}.
+ */
+@Component
+public class JwtKeyManager {
+    
+    private static final Logger logger = LoggerFactory.getLogger(JwtKeyManager.class);
+    
+    private static final Base64.Encoder BASE64URL = Base64.getUrlEncoder().withoutPadding();
+    private static final long MIN_RELOAD_INTERVAL_MS = 10_000;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Value("${jwt.keys.directory:data/jwt-keys}")
+    private String directory;
+    
+    @Value("${jwt.keys.size:2048}")
+    private int keySize;
+    
+    @Value("${jwt.keys.rotation-interval-ms:604800000}")
+    private long rotationIntervalMs;
+    
+    // Long enough for remote verifiers to refresh their cached key set
+    @Value("${jwt.keys.publish-ahead-ms:600000}")
+    private long publishAheadMs;
+    
+    @Value("${jwt.expiration}")
+    private long tokenLifetimeMs;
+    
+    private final Map<String, JwtSigningKey> keys = new ConcurrentHashMap<>();
+    private volatile JwtSigningKey signingKey;
+    private volatile long lastReload;
+    private ScheduledExecutorService scheduler;
+    private Path path;
+    
+    @PostConstruct
+    public void open() {
+        path = Paths.get(directory);
+        try {
+            Files.createDirectories(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create JWT key directory " + path, e);
+        }
+        maintain();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jwt-key-rotation");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long checkInterval = Math.max(60_000, Math.min(publishAheadMs, rotationIntervalMs) / 2);
+        scheduler.scheduleWithFixedDelay(this::maintainQuietly, checkInterval, checkInterval, TimeUnit.MILLISECONDS);
+        logger.info("JWT signing key {} active, {} key(s) published", signingKey.getKid(), keys.size());
+    }
+    
+    @PreDestroy
+    public void close() {
+        scheduler.shutdownNow();
+    }
+    
+    public JwtSigningKey getSigningKey() {
+        JwtSigningKey key = signingKey;
+        if (key.getActivatesAt().toEpochMilli() > System.currentTimeMillis()) {
+            throw new IllegalStateException("No active JWT signing key");
+        }
+        return key;
+    }
+    
+    // Misses trigger a rate-limited directory rescan for keys created by another node
+    public JwtSigningKey findKey(String kid) {
+        JwtSigningKey key = keys.get(kid);
+        if (key == null && System.currentTimeMillis() - lastReload > MIN_RELOAD_INTERVAL_MS) {
+            synchronized (this) {
+                if (System.currentTimeMillis() - lastReload > MIN_RELOAD_INTERVAL_MS) {
+                    reload();
+                }
+            }
+            key = keys.get(kid);
+        }
+        return key;
+    }
+    
+    public List<JwtSigningKey> getKeys() {
+        List<JwtSigningKey> sorted = new ArrayList<>(keys.values());
+        sorted.sort(Comparator.comparing(JwtSigningKey::getActivatesAt));
+        return sorted;
+    }
+    
+    // RFC 7517 key set with every key that may have signed, or is about to sign, a live token
+    public Map<String, Object> getJwks() {
+        List<Map<String, Object>> jwks = new ArrayList<>();
+        for (JwtSigningKey key : getKeys()) {
+            Map<String, Object> jwk = new LinkedHashMap<>();
+            jwk.put("kty", "RSA");
+            jwk.put("use", "sig");
+            jwk.put("alg", "RS256");
+            jwk.put("kid", key.getKid());
+            jwk.put("n", encodeUnsigned(key.getPublicKey().getModulus()));
+            jwk.put("e", encodeUnsigned(key.getPublicKey().getPublicExponent()));
+            jwks.add(jwk);
+        }
+        Map<String, Object> keySet = new LinkedHashMap<>();
+        keySet.put("keys", jwks);
+        return keySet;
+    }
+    
+    // Creates the next key; it signs once published for publish-ahead-ms
+    public synchronized JwtSigningKey rotate() {
+        JwtSigningKey key = generate(Instant.now().plusMillis(publishAheadMs));
+        refreshSigningKey();
+        return key;
+    }
+    
+    synchronized void maintain() {
+        reload();
+        long now = System.currentTimeMillis();
+        JwtSigningKey newest = null;
+        for (JwtSigningKey key : keys.values()) {
+            if (newest == null || key.getActivatesAt().isAfter(newest.getActivatesAt())) {
+                newest = key;
+            }
+        }
+        if (newest == null) {
+            generate(Instant.ofEpochMilli(now));
+        } else if (newest.getActivatesAt().toEpochMilli() + rotationIntervalMs <= now + publishAheadMs) {
+            generate(Instant.ofEpochMilli(Math.max(now + publishAheadMs, newest.getActivatesAt().toEpochMilli())));
+        }
+        refreshSigningKey();
+        retireSuperseded(now);
+    }
+    
+    private void maintainQuietly() {
+        try {
+            maintain();
+        } catch (Exception e) {
+            logger.warn("JWT key maintenance failed: {}", e.getMessage());
+        }
+    }
+    
+    private void refreshSigningKey() {
+        long now = System.currentTimeMillis();
+        JwtSigningKey active = null;
+        for (JwtSigningKey key : keys.values()) {
+            if (key.getActivatesAt().toEpochMilli() <= now
+                    && (active == null || key.getActivatesAt().isAfter(active.getActivatesAt()))) {
+                active = key;
+            }
+        }
+        if (active == null) {
+            // Only pending keys exist, e.g. the directory was wiped mid-rotation
+            active = generate(Instant.ofEpochMilli(now));
+        }
+        signingKey = active;
+    }
+    
+    // A key is dropped once a newer key has been signing for longer than a token lives
+    private void retireSuperseded(long now) {
+        JwtSigningKey active = signingKey;
+        for (JwtSigningKey key : getKeys()) {
+            if (key.getActivatesAt().isBefore(active.getActivatesAt())
+                    && active.getActivatesAt().toEpochMilli() + tokenLifetimeMs < now) {
+                keys.remove(key.getKid());
+                try {
+                    Files.deleteIfExists(path.resolve(key.getKid() + ".json"));
+                    logger.info("Retired JWT signing key {}", key.getKid());
+                } catch (IOException e) {
+                    logger.warn("Cannot delete retired JWT key {}: {}", key.getKid(), e.getMessage());
+                }
+            }
+        }
+    }
+    
+    private void reload() {
+        lastReload = System.currentTimeMillis();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(path, "*.json")) {
+            for (Path file : files) {
+                String kid = file.getFileName().toString().replace(".json", "");
+                if (!keys.containsKey(kid)) {
+                    JwtSigningKey key = read(file);
+                    keys.put(key.getKid(), key);
+                }
+            }
+        } catch (IOException | GeneralSecurityException e) {
+            logger.warn("Cannot read JWT keys from {}: {}", path, e.getMessage());
+        }
+    }
+    
+    private JwtSigningKey generate(Instant activatesAt) {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(keySize);
+            KeyPair pair = generator.generateKeyPair();
+            RSAPublicKey publicKey = (RSAPublicKey) pair.getPublic();
+            JwtSigningKey key = new JwtSigningKey(thumbprint(publicKey), Instant.now(), activatesAt,
+                    publicKey, pair.getPrivate());
+            write(key);
+            keys.put(key.getKid(), key);
+            logger.info("Created JWT signing key {} active from {}", key.getKid(), activatesAt);
+            return key;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot generate JWT signing key", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot store JWT signing key", e);
+        }
+    }
+    
+    private void write(JwtSigningKey key) throws IOException {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("kid", key.getKid());
+        json.put("createdAt", key.getCreatedAt().toEpochMilli());
+        json.put("activatesAt", key.getActivatesAt().toEpochMilli());
+        json.put("publicKey", Base64.getEncoder().encodeToString(key.getPublicKey().getEncoded()));
+        json.put("privateKey", Base64.getEncoder().encodeToString(key.getPrivateKey().getEncoded()));
+        
+        Path temp = Files.createTempFile(path, key.getKid(), ".tmp");
+        try {
+            Files.setPosixFilePermissions(temp, PosixFilePermissions.fromString("rw-------"));
+        } catch (UnsupportedOperationException e) {
+            // Non-POSIX file system; rely on the directory's permissions
+        }
+        Files.write(temp, objectMapper.writeValueAsBytes(json));
+        Files.move(temp, path.resolve(key.getKid() + ".json"), StandardCopyOption.ATOMIC_MOVE);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private JwtSigningKey read(Path file) throws IOException, GeneralSecurityException {
+        Map<String, Object> json = objectMapper.readValue(file.toFile(), Map.class);
+        KeyFactory factory = KeyFactory.getInstance("RSA");
+        RSAPublicKey publicKey = (RSAPublicKey) factory.generatePublic(
+                new X509EncodedKeySpec(Base64.getDecoder().decode((String) json.get("publicKey"))));
+        PrivateKey privateKey = factory.generatePrivate(
+                new PKCS8EncodedKeySpec(Base64.getDecoder().decode((String) json.get("privateKey"))));
+        return new JwtSigningKey((String) json.get("kid"),
+                Instant.ofEpochMilli(((Number) json.get("createdAt")).longValue()),
+                Instant.ofEpochMilli(((Number) json.get("activatesAt")).longValue()),
+                publicKey, privateKey);
+    }
+    
+    // RFC 7638: SHA-256 over the required members in lexicographic order, without whitespace
+    static String thumbprint(RSAPublicKey publicKey) throws GeneralSecurityException {
+        String canonical = "{\"e\":\"" + encodeUnsigned(publicKey.getPublicExponent())
+                + "\",\"kty\":\"RSA\",\"n\":\"" + encodeUnsigned(publicKey.getModulus()) + "\"}";
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+        return BASE64URL.encodeToString(digest);
+    }
+    
+    static String encodeUnsigned(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        int offset = bytes.length > 1 && bytes[0] == 0 ? 1 : 0;
+        byte[] unsigned = new byte[bytes.length - offset];
+        System.arraycopy(bytes, offset, unsigned, 0, unsigned.length);
+        return BASE64URL.encodeToString(unsigned);
+    }
+}
@@ -0,0 +1,172 @@
+package com.employeemanagement.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Picks the verification key for a token from its {@code kid}: this node's keys first, then the
+ * key sets published by trusted peers, which are fetched on an unknown id and cached. Tokens
+ * signed with the legacy shared HS256 secret are only accepted while {@code jwt.accept-hs256} is
+ * set, and then only if they were issued before {@code jwt.hs256-cutover} and that instant is
+ * less than one token lifetime ago: tokens issued before the switch to RS256 keep working until
+ * they expire, and the shared secret cannot mint new ones.
+ */
+@Component
+public class JwtKeyResolver extends SigningKeyResolverAdapter {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtKeyResolver.class);
+    
+    private static final long MIN_FETCH_INTERVAL_MS = 30_000;
+    
+    @Autowired
+    private JwtKeyManager keyManager;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Value("${jwt.secret:}")
+    private String legacySecret;
+    
+    @Value("${jwt.accept-hs256:false}")
+    private boolean acceptHs256;
+    
+    @Value("${jwt.hs256-cutover:}")
+    private String hs256Cutover;
+    
+    @Value("${jwt.expiration}")
+    private long tokenLifetimeMs;
+    
+    @Value("${jwt.jwks.trusted-urls:}")
+    private List<String> trustedJwksUrls;
+    
+    private Key legacyKey;
+    private Instant legacyCutover;
+    private final Map<String, PublicKey> remoteKeys = new ConcurrentHashMap<>();
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+    private volatile long lastFetch;
+    
+    @PostConstruct
+    public void init() {
+        if (acceptHs256 && !legacySecret.isEmpty()) {
+            if (hs256Cutover.isEmpty()) {
+                throw new IllegalStateException("jwt.accept-hs256 requires jwt.hs256-cutover, the instant RS256 "
+                        + "signing started");
+            }
+            legacyKey = Keys.hmacShaKeyFor(legacySecret.getBytes());
+            legacyCutover = Instant.parse(hs256Cutover);
+        }
+    }
+    
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        String algorithm = header.getAlgorithm();
+        if (SignatureAlgorithm.HS256.getValue().equals(algorithm)) {
+            if (legacyKey == null || Instant.now().isAfter(legacyCutover.plusMillis(tokenLifetimeMs))) {
+                throw new UnsupportedJwtException("HS256 tokens are no longer accepted");
+            }
+            // Not verified yet, but a forged iat fails the signature check that follows
+            Date issuedAt = claims.getIssuedAt();
+            if (issuedAt == null || !issuedAt.toInstant().isBefore(legacyCutover)) {
+                throw new UnsupportedJwtException("HS256 token was issued after the switch to RS256");
+            }
+            return legacyKey;
+        }
+        if (!SignatureAlgorithm.RS256.getValue().equals(algorithm)) {
+            throw new UnsupportedJwtException("Unsupported signing algorithm " + algorithm);
+        }
+        String kid = header.getKeyId();
+        if (kid == null) {
+            throw new UnsupportedJwtException("Token has no key id");
+        }
+        JwtSigningKey local = keyManager.findKey(kid);
+        if (local != null) {
+            return local.getPublicKey();
+        }
+        PublicKey remote = findRemoteKey(kid);
+        if (remote == null) {
+            throw new JwtException("Unknown signing key " + kid);
+        }
+        return remote;
+    }
+    
+    private PublicKey findRemoteKey(String kid) {
+        PublicKey key = remoteKeys.get(kid);
+        if (key != null || trustedJwksUrls.isEmpty()) {
+            return key;
+        }
+        // Unknown ids are rate limited so a forged kid cannot make every request fetch
+        synchronized (this) {
+            if (!remoteKeys.containsKey(kid) && System.currentTimeMillis() - lastFetch > MIN_FETCH_INTERVAL_MS) {
+                fetchTrustedKeys();
+            }
+        }
+        return remoteKeys.get(kid);
+    }
+    
+    private void fetchTrustedKeys() {
+        lastFetch = System.currentTimeMillis();
+        Map<String, PublicKey> fetched = new ConcurrentHashMap<>();
+        for (String url : trustedJwksUrls) {
+            try {
+                HttpRequest request = HttpRequest.newBuilder(URI.create(url.trim()))
+                        .timeout(Duration.ofSeconds(2))
+                        .GET()
+                        .build();
+                HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() != 200) {
+                    logger.warn("Key set {} returned HTTP {}", url, response.statusCode());
+                    continue;
+                }
+                for (JsonNode jwk : objectMapper.readTree(response.body()).path("keys")) {
+                    if ("RSA".equals(jwk.path("kty").asText()) && jwk.hasNonNull("kid")) {
+                        fetched.put(jwk.get("kid").asText(), toPublicKey(jwk));
+                    }
+                }
+            } catch (Exception e) {
+                logger.warn("Cannot fetch key set {}: {}", url, e.getMessage());
+            }
+        }
+        // Keys a peer stopped publishing are dropped, but a failed fetch does not empty the cache
+        if (!fetched.isEmpty()) {
+            remoteKeys.keySet().retainAll(fetched.keySet());
+            remoteKeys.putAll(fetched);
+        }
+    }
+    
+    private static PublicKey toPublicKey(JsonNode jwk) throws Exception {
+        Base64.Decoder decoder = Base64.getUrlDecoder();
+        BigInteger modulus = new BigInteger(1, decoder.decode(jwk.get("n").asText()));
+        BigInteger exponent = new BigInteger(1, decoder.decode(jwk.get("e").asText()));
+        return KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(modulus, exponent));
+    }
+}
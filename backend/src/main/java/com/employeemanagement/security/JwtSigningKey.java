@@ -0,0 +1,42 @@
+package com.employeemanagement.security;
+
+import java.security.PrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+
+public class JwtSigningKey {
+    
+    private final String kid;
+    private final Instant createdAt;
+    private final Instant activatesAt;
+    private final RSAPublicKey publicKey;
+    private final PrivateKey privateKey;
+    
+    public JwtSigningKey(String kid, Instant createdAt, Instant activatesAt, RSAPublicKey publicKey, PrivateKey privateKey) {
+        this.kid = kid;
+        this.createdAt = createdAt;
+        this.activatesAt = activatesAt;
+        this.publicKey = publicKey;
+        this.privateKey = privateKey;
+    }
+    
+    public String getKid() {
+        return kid;
+    }
+    
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+    
+    public Instant getActivatesAt() {
+        return activatesAt;
+    }
+    
+    public RSAPublicKey getPublicKey() {
+        return publicKey;
+    }
+    
+    public PrivateKey getPrivateKey() {
+        return privateKey;
+    }
+}
@@ -1,69 +1,96 @@
 package com.employeemanagement.security;
 
+import com.employeemanagement.logging.EventCategory;
+import com.employeemanagement.logging.EventLog;
+import com.employeemanagement.sharding.TenantContext;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
+import javax.annotation.PostConstruct;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 public class JwtUtils {
+
+    public static final String TENANT_CLAIM = "tenant";
+    
+    @Autowired
+    private JwtKeyManager keyManager;
     
-    private static final Logger logger = LoggerFactory.getLogger(JwtUtils.class);
+    @Autowired
+    private JwtKeyResolver keyResolver;
     
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    @Autowired
+    private EventLog eventLog;
     
     @Value("${jwt.expiration}")
     private int jwtExpirationMs;
     
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    // Immutable and thread-safe, so built once rather than per request
+    private JwtParser parser;
+    
+    @PostConstruct
+    public void init() {
+        parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(keyResolver)
+                .build();
     }
     
     public String generateJwtToken(Authentication authentication) {
-        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        JwtSigningKey signingKey = keyManager.getSigningKey();
+        JwtBuilder builder = Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.getKid())
+                .setSubject(authentication.getName());
+        String tenantId = authentication.getPrincipal() instanceof UserPrincipal
+                ? ((UserPrincipal) authentication.getPrincipal()).getTenantId()
+                : TenantContext.getTenantIdOrDefault();
+        builder.claim(TENANT_CLAIM, tenantId);
         
-        return Jwts.builder()
-                .setSubject(userPrincipal.getUsername())
+        // The id lets a single token be revoked without rotating the signing key
+        return builder
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(new Date())
                 .setExpiration(new Date((new Date()).getTime() + jwtExpirationMs))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey.getPrivateKey(), SignatureAlgorithm.RS256)
                 .compact();
     }
     
     public String getUserNameFromJwtToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
+        return parser.parseClaimsJws(token)
                 .getBody()
                 .getSubject();
     }
     
     public boolean validateJwtToken(String authToken) {
+        return parseClaims(authToken) != null;
+    }
+    
+    // Verifies the token and returns its claims, or null when it is not acceptable
+    public Claims parseClaims(String authToken) {
         try {
-            Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(authToken);
-            return true;
+            return parser.parseClaimsJws(authToken).getBody();
         } catch (MalformedJwtException e) {
-            logger.error("Invalid JWT token: {}", e.getMessage());
+            rejected("malformed");
         } catch (ExpiredJwtException e) {
-            logger.error("JWT token is expired: {}", e.getMessage());
+            rejected("expired");
         } catch (UnsupportedJwtException e) {
-            logger.error("JWT token is unsupported: {}", e.getMessage());
+            rejected("unsupported");
         } catch (IllegalArgumentException e) {
-            logger.error("JWT claims string is empty: {}", e.getMessage());
+            rejected("empty");
+        } catch (JwtException e) {
+            rejected("invalid_signature");
         }
         
-        return false;
+        return null;
+    }
+    
+    // Bad tokens are routine under a token-spraying client, so they go to the rate-limited event log
+    private void rejected(String reason) {
+        eventLog.log(EventCategory.AUTH_FAILURE, "token_rejected", "reason", reason);
     }
 }
 
@@ -0,0 +1,142 @@
+package com.employeemanagement.security;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Revoked token ids grouped into buckets by the token's expiry time. A lookup hashes only into
+ * the bucket of the token's own expiry, so it costs one map probe and one open-addressing probe
+ * sequence no matter how many ids are revoked; once a bucket's window has passed every token in
+ * it has expired and the whole bucket is dropped at once.
+ * <p>
+ * Ids are 128-bit UUIDs held as pairs of longs. Each bucket is copy-on-write: revocations are
+ * rare, so writers copy the table and readers never lock.
+ */
+class RevocationBuckets {
+    
+    private final long bucketMillis;
+    private final Map<Long, IdSet> buckets = new ConcurrentHashMap<>();
+    
+    RevocationBuckets(long bucketMillis) {
+        this.bucketMillis = bucketMillis;
+    }
+    
+    // Returns false if the id was already present
+    boolean add(long mostSigBits, long leastSigBits, long expiresAtMillis) {
+        return buckets.computeIfAbsent(bucketOf(expiresAtMillis), bucket -> new IdSet())
+                .add(mostSigBits, leastSigBits);
+    }
+    
+    boolean contains(long mostSigBits, long leastSigBits, long expiresAtMillis) {
+        if (buckets.isEmpty()) {
+            return false;
+        }
+        IdSet ids = buckets.get(bucketOf(expiresAtMillis));
+        return ids != null && ids.contains(mostSigBits, leastSigBits);
+    }
+    
+    // Drops every bucket whose tokens have all expired; returns the number of ids dropped
+    int purgeExpired(long nowMillis) {
+        long current = bucketOf(nowMillis);
+        int dropped = 0;
+        for (Map.Entry<Long, IdSet> entry : buckets.entrySet()) {
+            if (entry.getKey() < current && buckets.remove(entry.getKey(), entry.getValue())) {
+                dropped += entry.getValue().size();
+            }
+        }
+        return dropped;
+    }
+    
+    int size() {
+        int size = 0;
+        for (IdSet ids : buckets.values()) {
+            size += ids.size();
+        }
+        return size;
+    }
+    
+    int bucketCount() {
+        return buckets.size();
+    }
+    
+    // Every live id in bucket order, for rewriting the persisted list
+    void forEach(IdVisitor visitor) {
+        for (Map.Entry<Long, IdSet> entry : buckets.entrySet()) {
+            long[] table = entry.getValue().table;
+            long expiresAt = (entry.getKey() + 1) * bucketMillis - 1;
+            for (int i = 0; i < table.length; i += 2) {
+                if ((table[i] | table[i + 1]) != 0) {
+                    visitor.visit(table[i], table[i + 1], expiresAt);
+                }
+            }
+        }
+    }
+    
+    private long bucketOf(long expiresAtMillis) {
+        return Math.floorDiv(expiresAtMillis, bucketMillis);
+    }
+    
+    interface IdVisitor {
+        void visit(long mostSigBits, long leastSigBits, long expiresAtMillis);
+    }
+    
+    // Open-addressing set of (msb, lsb) pairs; the all-zero pair marks an empty slot
+    private static final class IdSet {
+        private volatile long[] table = new long[16];
+        private int size;
+        
+        boolean contains(long msb, long lsb) {
+            long[] current = table;
+            int mask = (current.length >>> 1) - 1;
+            for (int slot = hash(msb, lsb) & mask; ; slot = (slot + 1) & mask) {
+                long slotMsb = current[slot << 1];
+                long slotLsb = current[(slot << 1) + 1];
+                if (slotMsb == msb && slotLsb == lsb) {
+                    return true;
+                }
+                if ((slotMsb | slotLsb) == 0) {
+                    return false;
+                }
+            }
+        }
+        
+        synchronized boolean add(long msb, long lsb) {
+            if ((msb | lsb) == 0 || contains(msb, lsb)) {
+                return false;
+            }
+            long[] current = table;
+            // Keep the load factor at or below one half so probe sequences stay short
+            long[] next = (size + 1) * 4 > current.length ? new long[current.length * 2] : current.clone();
+            if (next.length != current.length) {
+                for (int i = 0; i < current.length; i += 2) {
+                    if ((current[i] | current[i + 1]) != 0) {
+                        insert(next, current[i], current[i + 1]);
+                    }
+                }
+            }
+            insert(next, msb, lsb);
+            size++;
+            table = next;
+            return true;
+        }
+        
+        synchronized int size() {
+            return size;
+        }
+        
+        private static void insert(long[] table, long msb, long lsb) {
+            int mask = (table.length >>> 1) - 1;
+            int slot = hash(msb, lsb) & mask;
+            while ((table[slot << 1] | table[(slot << 1) + 1]) != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot << 1] = msb;
+            table[(slot << 1) + 1] = lsb;
+        }
+        
+        private static int hash(long msb, long lsb) {
+            long h = (msb ^ lsb) * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.employeemanagement.security;
+
+import io.jsonwebtoken.Claims;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Revoked JWT ids, checked on every authenticated request without touching the database.
+ * Revocations are held in {@link RevocationBuckets} and appended to a small file of fixed-size
+ * records (expiry, id) that is replayed on startup, so a restart does not un-revoke tokens.
+ * Expired buckets are purged once a minute and the file is rewritten when most of it is dead.
+ */
+@Component
+public class TokenRevocationService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationService.class);
+    
+    // Fixed: persisted records are bucketed with it, and tokens expire within at most one bucket of it
+    private static final long BUCKET_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    private static final int RECORD_SIZE = 3 * Long.BYTES;
+    
+    @Value("${jwt.revocation.file:data/revoked-tokens.bin}")
+    private String file;
+    
+    private final RevocationBuckets revoked = new RevocationBuckets(BUCKET_MILLIS);
+    private ScheduledExecutorService purger;
+    private FileChannel channel;
+    private Path path;
+    private long persistedRecords;
+    
+    @PostConstruct
+    public synchronized void open() throws IOException {
+        path = Paths.get(file);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long now = System.currentTimeMillis();
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE * 1024);
+        long records = 0;
+        while (channel.read(buffer) > 0 || buffer.position() > 0) {
+            buffer.flip();
+            if (buffer.remaining() < RECORD_SIZE) {
+                break;
+            }
+            while (buffer.remaining() >= RECORD_SIZE) {
+                long expiresAt = buffer.getLong();
+                long mostSigBits = buffer.getLong();
+                long leastSigBits = buffer.getLong();
+                records++;
+                if (expiresAt > now) {
+                    revoked.add(mostSigBits, leastSigBits, expiresAt);
+                }
+            }
+            buffer.compact();
+        }
+        // A torn trailing record from a crash is cut off rather than misread later
+        channel.truncate(records * RECORD_SIZE);
+        channel.position(records * RECORD_SIZE);
+        persistedRecords = records;
+        compactIfMostlyExpired();
+        
+        purger = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "token-revocation-purge");
+            thread.setDaemon(true);
+            return thread;
+        });
+        purger.scheduleWithFixedDelay(this::purge, 1, 1, TimeUnit.MINUTES);
+        logger.info("Token revocation list loaded from {} with {} live id(s)", path, revoked.size());
+    }
+    
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        purger.shutdownNow();
+        channel.close();
+    }
+    
+    // Constant time: one bucket lookup keyed by the token's own expiry
+    public boolean isRevoked(Claims claims) {
+        String id = claims.getId();
+        Date expiration = claims.getExpiration();
+        if (id == null || expiration == null) {
+            return false;
+        }
+        UUID uuid = parseId(id);
+        return uuid != null && revoked.contains(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(),
+                expiration.getTime());
+    }
+    
+    // Returns false when the token carries no id (issued before ids were added) or is already revoked
+    public boolean revoke(Claims claims) {
+        String id = claims.getId();
+        Date expiration = claims.getExpiration();
+        UUID uuid = id != null ? parseId(id) : null;
+        if (uuid == null || expiration == null || expiration.getTime() <= System.currentTimeMillis()) {
+            return false;
+        }
+        synchronized (this) {
+            if (!revoked.add(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), expiration.getTime())) {
+                return false;
+            }
+            try {
+                append(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), expiration.getTime());
+                channel.force(false);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to persist token revocation", e);
+            }
+        }
+        return true;
+    }
+    
+    public int getRevokedCount() {
+        return revoked.size();
+    }
+    
+    private synchronized void purge() {
+        try {
+            int dropped = revoked.purgeExpired(System.currentTimeMillis());
+            if (dropped > 0) {
+                logger.debug("Dropped {} expired revoked token id(s)", dropped);
+            }
+            compactIfMostlyExpired();
+        } catch (Exception e) {
+            logger.warn("Token revocation purge failed: {}", e.getMessage());
+        }
+    }
+    
+    private void compactIfMostlyExpired() throws IOException {
+        int live = revoked.size();
+        if (persistedRecords < 1024 || persistedRecords < 2L * live) {
+            return;
+        }
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE * Math.max(1, live));
+            revoked.forEach((mostSigBits, leastSigBits, expiresAt) ->
+                    buffer.putLong(expiresAt).putLong(mostSigBits).putLong(leastSigBits));
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            out.force(true);
+        }
+        channel.close();
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        channel.position(channel.size());
+        persistedRecords = live;
+    }
+    
+    private void append(long mostSigBits, long leastSigBits, long expiresAt) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE);
+        buffer.putLong(expiresAt).putLong(mostSigBits).putLong(leastSigBits).flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        persistedRecords++;
+    }
+    
+    private static UUID parseId(String id) {
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
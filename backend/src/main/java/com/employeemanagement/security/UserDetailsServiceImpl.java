@@ -1,5 +1,6 @@
 package com.employeemanagement.security;
 
+import com.employeemanagement.cache.UserPrincipalCache;
 import com.employeemanagement.entity.User;
 import com.employeemanagement.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,13 +16,23 @@ public class UserDetailsServiceImpl implements UserDetailsService {
     @Autowired
     private UserRepository userRepository;
     
+    @Autowired
+    private UserPrincipalCache userPrincipalCache;
+    
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        UserPrincipal cached = userPrincipalCache.get(username);
+        if (cached != null) {
+            return cached;
+        }
+        long loadGeneration = userPrincipalCache.beginLoad();
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User Not Found: " + username));
         
-        return UserPrincipal.create(user);
+        UserPrincipal principal = UserPrincipal.create(user);
+        userPrincipalCache.put(principal, loadGeneration);
+        return principal;
     }
 }
 
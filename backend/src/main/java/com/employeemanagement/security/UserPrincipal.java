@@ -2,12 +2,15 @@ package com.employeemanagement.security;
 
 import com.employeemanagement.entity.Role;
 import com.employeemanagement.entity.User;
+import com.employeemanagement.sharding.TenantContext;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 public class UserPrincipal implements UserDetails {
@@ -17,7 +20,9 @@ public class UserPrincipal implements UserDetails {
     private String email;
     private String password;
     private Long employeeId;
+    private String tenantId;
     private Collection<? extends GrantedAuthority> authorities;
+    private int roleMask;
     
     public UserPrincipal(Long id, String username, String email, String password, 
                         Long employeeId, Collection<? extends GrantedAuthority> authorities) {
@@ -27,11 +32,19 @@ public class UserPrincipal implements UserDetails {
         this.password = password;
         this.employeeId = employeeId;
         this.authorities = authorities;
+        this.roleMask = roleMaskOf(authorities);
+        this.tenantId = TenantContext.DEFAULT_TENANT;
+    }
+    
+    public UserPrincipal(Long id, String username, String email, String password, Long employeeId,
+                        String tenantId, Collection<? extends GrantedAuthority> authorities) {
+        this(id, username, email, password, employeeId, authorities);
+        this.tenantId = tenantId != null ? tenantId : TenantContext.DEFAULT_TENANT;
     }
     
     public static UserPrincipal create(User user) {
         List<GrantedAuthority> authorities = user.getRoles().stream()
-                .map(role -> new SimpleGrantedAuthority("ROLE_" + role.name()))
+                .map(role -> new SimpleGrantedAuthority(role.getAuthority()))
                 .collect(Collectors.toList());
         
         return new UserPrincipal(
@@ -40,6 +53,7 @@ public class UserPrincipal implements UserDetails {
                 user.getEmail(),
                 user.getPassword(),
                 user.getEmployeeId(),
+                user.getTenantId(),
                 authorities
         );
     }
@@ -56,6 +70,24 @@ public class UserPrincipal implements UserDetails {
         return employeeId;
     }
     
+    public String getTenantId() {
+        return tenantId;
+    }
+    
+    public int getRoleMask() {
+        return roleMask;
+    }
+    
+    public Set<Role> getRoles() {
+        EnumSet<Role> roles = EnumSet.noneOf(Role.class);
+        for (Role role : Role.values()) {
+            if (hasRole(role)) {
+                roles.add(role);
+            }
+        }
+        return roles;
+    }
+    
     @Override
     public String getUsername() {
         return username;
@@ -92,8 +124,22 @@ public class UserPrincipal implements UserDetails {
     }
     
     public boolean hasRole(Role role) {
-        return authorities.stream()
-                .anyMatch(auth -> auth.getAuthority().equals("ROLE_" + role.name()));
+        return (roleMask & role.getMask()) != 0;
+    }
+    
+    public boolean hasAnyRole(int mask) {
+        return (roleMask & mask) != 0;
+    }
+    
+    private static int roleMaskOf(Collection<? extends GrantedAuthority> authorities) {
+        int mask = 0;
+        for (GrantedAuthority authority : authorities) {
+            Role role = Role.fromAuthority(authority.getAuthority());
+            if (role != null) {
+                mask |= role.getMask();
+            }
+        }
+        return mask;
     }
 }
 
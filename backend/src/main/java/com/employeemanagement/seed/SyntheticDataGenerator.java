@@ -0,0 +1,108 @@
+package com.employeemanagement.seed;
+
+import com.employeemanagement.entity.Employee;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Produces realistic-looking employees for scale tests. Every row is derived from the seed and
+ * its own index only, so the data set is identical however it is chunked or parallelized.
+ */
+public class SyntheticDataGenerator {
+    
+    static final String[] DEPARTMENTS = {
+            "Engineering", "Sales", "Operations", "Support", "Marketing", "Finance",
+            "Product", "HR", "IT", "Design", "Legal", "Research"};
+    
+    // Yearly base salary in cents per department, same order as DEPARTMENTS
+    private static final long[] BASE_SALARY_CENTS = {
+            11_000_000, 7_500_000, 6_000_000, 5_000_000, 7_000_000, 8_500_000,
+            10_500_000, 6_500_000, 8_000_000, 8_000_000, 12_000_000, 11_500_000};
+    
+    private static final String[] FIRST_NAMES = {
+            "James", "Mary", "Robert", "Patricia", "John", "Jennifer", "Michael", "Linda", "David", "Elizabeth",
+            "William", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah", "Carlos", "Karen",
+            "Wei", "Priya", "Ahmed", "Fatima", "Hiroshi", "Yuki", "Olga", "Ivan", "Lucia", "Mateo",
+            "Amara", "Kwame", "Noah", "Emma", "Liam", "Olivia", "Aarav", "Ananya", "Sofia", "Lars"};
+    
+    private static final String[] LAST_NAMES = {
+            "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+            "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore", "Jackson", "Martin",
+            "Lee", "Chen", "Wang", "Kumar", "Singh", "Patel", "Tanaka", "Sato", "Ivanov", "Novak",
+            "Okafor", "Mensah", "Silva", "Santos", "Rossi", "Muller", "Schmidt", "Dubois", "Larsen", "Nguyen"};
+    
+    private static final String[] FIRST_NAMES_LOWER = lowerCase(FIRST_NAMES);
+    private static final String[] LAST_NAMES_LOWER = lowerCase(LAST_NAMES);
+    
+    private static final long FIRST_JOINING_DAY = LocalDate.of(2005, 1, 1).toEpochDay();
+    private static final long LAST_JOINING_DAY = LocalDate.of(2024, 12, 31).toEpochDay();
+    
+    // Average number of direct reports per manager
+    private static final int SPAN_OF_CONTROL = 8;
+    
+    private final long seed;
+    private final double[] departmentCdf;
+    
+    // skew is the Zipf exponent of the department sizes; 0 spreads employees evenly
+    public SyntheticDataGenerator(long seed, double skew) {
+        this.seed = seed;
+        this.departmentCdf = new double[DEPARTMENTS.length];
+        double total = 0;
+        for (int rank = 0; rank < DEPARTMENTS.length; rank++) {
+            total += 1.0 / Math.pow(rank + 1, skew);
+            departmentCdf[rank] = total;
+        }
+        for (int rank = 0; rank < DEPARTMENTS.length; rank++) {
+            departmentCdf[rank] /= total;
+        }
+    }
+    
+    /**
+     * Generates the employee at the given index, with id firstId + index. Managers always have a
+     * smaller index, so the reporting lines form a tree that is roughly log8(n) levels deep.
+     */
+    public Employee employee(long index, long firstId, String tenantId) {
+        SplittableRandom random = new SplittableRandom(seed * 0x9E3779B97F4A7C15L + index);
+        int firstNameIndex = random.nextInt(FIRST_NAMES.length);
+        int lastNameIndex = random.nextInt(LAST_NAMES.length);
+        String firstName = FIRST_NAMES[firstNameIndex];
+        String lastName = LAST_NAMES[lastNameIndex];
+        int department = department(random.nextDouble());
+        // Average of two uniforms gives a bell-shaped spread of +-30% around the base
+        double factor = 0.7 + 0.3 * (random.nextDouble() + random.nextDouble());
+        long salaryCents = Math.round(BASE_SALARY_CENTS[department] * factor / 100) * 100;
+        
+        // String.format and toLowerCase per row would cost more than the inserts themselves
+        int phone = random.nextInt(10_000);
+        Employee employee = new Employee(firstName, lastName,
+                FIRST_NAMES_LOWER[firstNameIndex] + "." + LAST_NAMES_LOWER[lastNameIndex] + "." + (firstId + index) + "@example.com",
+                "+1-555-" + (char) ('0' + phone / 1000) + (char) ('0' + phone / 100 % 10)
+                        + (char) ('0' + phone / 10 % 10) + (char) ('0' + phone % 10),
+                DEPARTMENTS[department],
+                BigDecimal.valueOf(salaryCents, 2),
+                LocalDate.ofEpochDay(random.nextLong(FIRST_JOINING_DAY, LAST_JOINING_DAY + 1)));
+        employee.setId(firstId + index);
+        if (index > 0) {
+            employee.setManagerId(firstId + random.nextLong(Math.max(1, (index + SPAN_OF_CONTROL - 1) / SPAN_OF_CONTROL)));
+        }
+        employee.setTenantId(tenantId);
+        return employee;
+    }
+    
+    private int department(double uniform) {
+        int position = Arrays.binarySearch(departmentCdf, uniform);
+        return Math.min(position >= 0 ? position : -position - 1, DEPARTMENTS.length - 1);
+    }
+    
+    private static String[] lowerCase(String[] names) {
+        String[] lower = new String[names.length];
+        for (int i = 0; i < names.length; i++) {
+            lower[i] = names[i].toLowerCase(Locale.ROOT);
+        }
+        return lower;
+    }
+}
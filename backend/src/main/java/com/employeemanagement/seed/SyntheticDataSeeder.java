@@ -0,0 +1,259 @@
+package com.employeemanagement.seed;
+
+import com.employeemanagement.entity.Employee;
+import com.employeemanagement.entity.Role;
+import com.employeemanagement.event.BulkLoadCompletedEvent;
+import com.employeemanagement.sharding.TenantContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Loads a large synthetic data set for scale testing:
+ *
+ * <pre>
+ * java -jar backend.jar --spring.profiles.active=seed --seed.employees=1000000 --seed.random-seed=7 --seed.exit=true
+ * </pre>
+ *
+ * Rows are written with multi-row INSERT statements in chunks, each chunk in its own
+ * transaction on one of seed.threads workers. All users share one BCrypt hash computed up
+ * front. Ids are assigned here so users can reference their employee without reading back
+ * generated keys.
+ */
+@Component
+@Profile("seed")
+public class SyntheticDataSeeder implements ApplicationRunner {
+    
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticDataSeeder.class);
+    
+    private static final String EMPLOYEE_COLUMNS = "id, first_name, last_name, email, phone, department, salary, "
+            + "date_of_joining, manager_id, tenant_id, created_at, updated_at";
+    private static final String USER_COLUMNS = "id, username, email, password, employee_id, tenant_id, "
+            + "created_at, updated_at, enabled";
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    private ConfigurableApplicationContext applicationContext;
+    
+    @Value("${seed.employees:100000}")
+    private int employeeCount;
+    
+    // Fraction of employees that also get a login
+    @Value("${seed.user-ratio:1.0}")
+    private double userRatio;
+    
+    @Value("${seed.random-seed:42}")
+    private long randomSeed;
+    
+    @Value("${seed.department-skew:1.1}")
+    private double departmentSkew;
+    
+    @Value("${seed.password:password123}")
+    private String password;
+    
+    @Value("${seed.rows-per-statement:500}")
+    private int rowsPerStatement;
+    
+    @Value("${seed.rows-per-transaction:20000}")
+    private int rowsPerTransaction;
+    
+    @Value("${seed.threads:4}")
+    private int threads;
+    
+    // Stops the application once seeding is done, for CLI use
+    @Value("${seed.exit:false}")
+    private boolean exitWhenDone;
+    
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        seed(employeeCount);
+        if (exitWhenDone) {
+            System.exit(SpringApplication.exit(applicationContext, () -> 0));
+        }
+    }
+    
+    public void seed(int employees) throws Exception {
+        long start = System.nanoTime();
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(randomSeed, departmentSkew);
+        String passwordHash = passwordEncoder.encode(password);
+        String tenantId = TenantContext.getTenantIdOrDefault();
+        long firstEmployeeId = nextId("employees");
+        long firstUserId = nextId("users");
+        int userEvery = userRatio <= 0 ? 0 : (int) Math.max(1, Math.round(1 / Math.min(1.0, userRatio)));
+        
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, threads));
+        List<Future<Integer>> chunks = new ArrayList<>();
+        try {
+            for (int from = 0; from < employees; from += rowsPerTransaction) {
+                int chunkStart = from;
+                int chunkEnd = Math.min(from + rowsPerTransaction, employees);
+                chunks.add(executor.submit(() -> transactionTemplate.execute(status -> insertChunk(generator,
+                        chunkStart, chunkEnd, firstEmployeeId, firstUserId, userEvery, passwordHash, tenantId))));
+            }
+            int users = 0;
+            for (Future<Integer> chunk : chunks) {
+                users += chunk.get();
+            }
+            restartIdentity("employees", firstEmployeeId + employees);
+            restartIdentity("users", firstUserId + employees);
+            
+            double seconds = (System.nanoTime() - start) / 1e9;
+            logger.info("Seeded {} employees and {} users in {} s ({} rows/s)", employees, users,
+                    String.format("%.2f", seconds), Math.round((employees + users) / seconds));
+            eventPublisher.publishEvent(new BulkLoadCompletedEvent("synthetic", employees, users));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    private Integer insertChunk(SyntheticDataGenerator generator, int from, int to, long firstEmployeeId,
+                                long firstUserId, int userEvery, String passwordHash, String tenantId) {
+        Date today = Date.valueOf(LocalDate.now());
+        List<Employee> rows = new ArrayList<>(rowsPerStatement);
+        int users = 0;
+        for (int statementStart = from; statementStart < to; statementStart += rowsPerStatement) {
+            int statementEnd = Math.min(statementStart + rowsPerStatement, to);
+            rows.clear();
+            for (int index = statementStart; index < statementEnd; index++) {
+                rows.add(generator.employee(index, firstEmployeeId, tenantId));
+            }
+            insertEmployees(rows, today);
+            
+            if (userEvery > 0) {
+                List<Employee> withLogin = new ArrayList<>();
+                for (Employee employee : rows) {
+                    if ((employee.getId() - firstEmployeeId) % userEvery == 0) {
+                        withLogin.add(employee);
+                    }
+                }
+                if (!withLogin.isEmpty()) {
+                    insertUsers(withLogin, firstEmployeeId, firstUserId, passwordHash, today);
+                    users += withLogin.size();
+                }
+            }
+        }
+        return users;
+    }
+    
+    private void insertEmployees(List<Employee> rows, Date today) {
+        jdbcTemplate.update(multiRowInsert("employees", EMPLOYEE_COLUMNS, 12, rows.size()), (PreparedStatement ps) -> {
+            int p = 1;
+            for (Employee employee : rows) {
+                ps.setLong(p++, employee.getId());
+                ps.setString(p++, employee.getFirstName());
+                ps.setString(p++, employee.getLastName());
+                ps.setString(p++, employee.getEmail());
+                ps.setString(p++, employee.getPhone());
+                ps.setString(p++, employee.getDepartment());
+                ps.setBigDecimal(p++, employee.getSalary());
+                ps.setDate(p++, Date.valueOf(employee.getDateOfJoining()));
+                setNullableLong(ps, p++, employee.getManagerId());
+                ps.setString(p++, employee.getTenantId());
+                ps.setDate(p++, today);
+                ps.setDate(p++, today);
+            }
+        });
+    }
+    
+    // User ids mirror employee ids (offset by the first id of each table); usernames stay within 20 characters
+    private void insertUsers(List<Employee> employees, long firstEmployeeId, long firstUserId,
+                             String passwordHash, Date today) {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        jdbcTemplate.update(multiRowInsert("users", USER_COLUMNS, 9, employees.size()), (PreparedStatement ps) -> {
+            int p = 1;
+            for (Employee employee : employees) {
+                ps.setLong(p++, firstUserId + (employee.getId() - firstEmployeeId));
+                ps.setString(p++, "user" + employee.getId());
+                ps.setString(p++, employee.getEmail());
+                ps.setString(p++, passwordHash);
+                ps.setLong(p++, employee.getId());
+                ps.setString(p++, employee.getTenantId());
+                ps.setTimestamp(p++, now);
+                ps.setTimestamp(p++, now);
+                ps.setBoolean(p++, true);
+            }
+        });
+        jdbcTemplate.update(multiRowInsert("user_roles", "user_id, role", 2, employees.size()), (PreparedStatement ps) -> {
+            int p = 1;
+            for (Employee employee : employees) {
+                ps.setLong(p++, firstUserId + (employee.getId() - firstEmployeeId));
+                ps.setString(p++, Role.EMPLOYEE.name());
+            }
+        });
+    }
+    
+    private long nextId(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        return max == null ? 1 : max + 1;
+    }
+    
+    // Explicit ids bypass the identity generator; H2 has to be told where to continue.
+    // MySQL moves AUTO_INCREMENT past explicit ids by itself.
+    private void restartIdentity(String table, long next) {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        if ("H2".equalsIgnoreCase(product)) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+        }
+    }
+    
+    private static String multiRowInsert(String table, String columns, int columnCount, int rows) {
+        StringBuilder row = new StringBuilder("(");
+        for (int i = 0; i < columnCount; i++) {
+            row.append(i == 0 ? "?" : ", ?");
+        }
+        row.append(')');
+        StringBuilder sql = new StringBuilder(32 + rows * (row.length() + 2))
+                .append("INSERT INTO ").append(table).append(" (").append(columns).append(") VALUES ");
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(row);
+        }
+        return sql.toString();
+    }
+    
+    private static void setNullableLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.BIGINT);
+        } else {
+            ps.setLong(index, value);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.employeemanagement.serialization;
+
+import com.employeemanagement.dto.ApiResponse;
+import com.employeemanagement.entity.Employee;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Encodes employees in the format described by proto/employee.proto. Salaries travel as an
+ * unscaled integer plus scale and dates as epoch days, so neither side parses strings.
+ */
+public final class EmployeeProtobufCodec {
+    
+    private static final int ESTIMATED_EMPLOYEE_SIZE = 128;
+    
+    private EmployeeProtobufCodec() {}
+    
+    public static byte[] encodeEmployee(Employee employee) {
+        return writeEmployee(employee).toByteArray();
+    }
+    
+    public static byte[] encodeEmployees(Collection<Employee> employees) {
+        return writeEmployeeList(employees).toByteArray();
+    }
+    
+    public static byte[] encodeApiResponse(ApiResponse response) {
+        ProtobufWriter writer = new ProtobufWriter(64);
+        if (response.isSuccess()) {
+            writer.writeBool(1, true);
+        }
+        if (response.getMessage() != null) {
+            writer.writeString(2, response.getMessage());
+        }
+        Object data = response.getData();
+        if (data instanceof Employee) {
+            writer.writeMessage(3, writeEmployee((Employee) data));
+        } else if (isEmployeeCollection(data)) {
+            writer.writeMessage(4, writeEmployeeList(castEmployees(data)));
+        }
+        return writer.toByteArray();
+    }
+    
+    public static Employee decodeEmployee(byte[] bytes) {
+        return readEmployee(new ProtobufReader(bytes));
+    }
+    
+    public static List<Employee> decodeEmployees(byte[] bytes) {
+        return readEmployeeList(new ProtobufReader(bytes));
+    }
+    
+    public static ApiResponse decodeApiResponse(byte[] bytes) {
+        ProtobufReader reader = new ProtobufReader(bytes);
+        ApiResponse response = new ApiResponse();
+        while (reader.hasRemaining()) {
+            int tag = reader.readTag();
+            switch (tag >>> 3) {
+                case 1: response.setSuccess(reader.readVarint() != 0); break;
+                case 2: response.setMessage(reader.readString()); break;
+                case 3: response.setData(readEmployee(reader.readMessage())); break;
+                case 4: response.setData(readEmployeeList(reader.readMessage())); break;
+                default: reader.skipField(tag);
+            }
+        }
+        return response;
+    }
+    
+    // True for collections whose elements are all employees, including empty ones
+    public static boolean isEmployeeCollection(Object value) {
+        if (!(value instanceof Collection)) {
+            return false;
+        }
+        for (Object element : (Collection<?>) value) {
+            if (!(element instanceof Employee)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    @SuppressWarnings("unchecked")
+    static Collection<Employee> castEmployees(Object value) {
+        return (Collection<Employee>) value;
+    }
+    
+    private static ProtobufWriter writeEmployeeList(Collection<Employee> employees) {
+        ProtobufWriter writer = new ProtobufWriter(employees.size() * ESTIMATED_EMPLOYEE_SIZE);
+        for (Employee employee : employees) {
+            writer.writeMessage(1, writeEmployee(employee));
+        }
+        return writer;
+    }
+    
+    private static ProtobufWriter writeEmployee(Employee employee) {
+        ProtobufWriter writer = new ProtobufWriter(ESTIMATED_EMPLOYEE_SIZE);
+        if (employee.getId() != null) {
+            writer.writeInt64(1, employee.getId());
+        }
+        writeString(writer, 2, employee.getFirstName());
+        writeString(writer, 3, employee.getLastName());
+        writeString(writer, 4, employee.getEmail());
+        writeString(writer, 5, employee.getPhone());
+        writeString(writer, 6, employee.getDepartment());
+        if (employee.getSalary() != null) {
+            ProtobufWriter decimal = new ProtobufWriter(16);
+            decimal.writeInt64(1, employee.getSalary().unscaledValue().longValueExact());
+            decimal.writeInt32(2, employee.getSalary().scale());
+            writer.writeMessage(7, decimal);
+        }
+        writeDate(writer, 8, employee.getDateOfJoining());
+        if (employee.getManagerId() != null) {
+            writer.writeInt64(9, employee.getManagerId());
+        }
+        writeString(writer, 10, employee.getTenantId());
+        writeDate(writer, 11, employee.getCreatedAt());
+        writeDate(writer, 12, employee.getUpdatedAt());
+        return writer;
+    }
+    
+    private static List<Employee> readEmployeeList(ProtobufReader reader) {
+        List<Employee> employees = new ArrayList<>();
+        while (reader.hasRemaining()) {
+            int tag = reader.readTag();
+            if (tag >>> 3 == 1) {
+                employees.add(readEmployee(reader.readMessage()));
+            } else {
+                reader.skipField(tag);
+            }
+        }
+        return employees;
+    }
+    
+    private static Employee readEmployee(ProtobufReader reader) {
+        Employee employee = new Employee();
+        while (reader.hasRemaining()) {
+            int tag = reader.readTag();
+            switch (tag >>> 3) {
+                case 1: employee.setId(reader.readVarint()); break;
+                case 2: employee.setFirstName(reader.readString()); break;
+                case 3: employee.setLastName(reader.readString()); break;
+                case 4: employee.setEmail(reader.readString()); break;
+                case 5: employee.setPhone(reader.readString()); break;
+                case 6: employee.setDepartment(reader.readString()); break;
+                case 7: employee.setSalary(readDecimal(reader.readMessage())); break;
+                case 8: employee.setDateOfJoining(LocalDate.ofEpochDay(reader.readSInt32())); break;
+                case 9: employee.setManagerId(reader.readVarint()); break;
+                case 10: employee.setTenantId(reader.readString()); break;
+                case 11: employee.setCreatedAt(LocalDate.ofEpochDay(reader.readSInt32())); break;
+                case 12: employee.setUpdatedAt(LocalDate.ofEpochDay(reader.readSInt32())); break;
+                default: reader.skipField(tag);
+            }
+        }
+        return employee;
+    }
+    
+    private static BigDecimal readDecimal(ProtobufReader reader) {
+        long unscaled = 0;
+        int scale = 0;
+        while (reader.hasRemaining()) {
+            int tag = reader.readTag();
+            switch (tag >>> 3) {
+                case 1: unscaled = reader.readVarint(); break;
+                case 2: scale = (int) reader.readVarint(); break;
+                default: reader.skipField(tag);
+            }
+        }
+        return BigDecimal.valueOf(unscaled, scale);
+    }
+    
+    private static void writeString(ProtobufWriter writer, int field, String value) {
+        if (value != null) {
+            writer.writeString(field, value);
+        }
+    }
+    
+    private static void writeDate(ProtobufWriter writer, int field, LocalDate value) {
+        if (value != null) {
+            writer.writeSInt32(field, Math.toIntExact(value.toEpochDay()));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.employeemanagement.serialization;
+
+import com.employeemanagement.dto.ApiResponse;
+import com.employeemanagement.entity.Employee;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+
+// Serves Employee, employee lists and ApiResponse as application/x-protobuf
+public class ProtobufEmployeeHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+    
+    public static final MediaType PROTOBUF = new MediaType("application", "x-protobuf");
+    
+    public ProtobufEmployeeHttpMessageConverter() {
+        super(PROTOBUF);
+    }
+    
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return Employee.class.isAssignableFrom(clazz) || ApiResponse.class.isAssignableFrom(clazz)
+                || Collection.class.isAssignableFrom(clazz);
+    }
+    
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return (Employee.class == clazz || ApiResponse.class == clazz || List.class == clazz)
+                && canRead(mediaType);
+    }
+    
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        byte[] bytes = StreamUtils.copyToByteArray(inputMessage.getBody());
+        try {
+            if (Employee.class == clazz) {
+                return EmployeeProtobufCodec.decodeEmployee(bytes);
+            }
+            if (ApiResponse.class == clazz) {
+                return EmployeeProtobufCodec.decodeApiResponse(bytes);
+            }
+            return EmployeeProtobufCodec.decodeEmployees(bytes);
+        } catch (IllegalArgumentException e) {
+            throw new HttpMessageNotReadableException("Invalid protobuf payload: " + e.getMessage(), e, inputMessage);
+        }
+    }
+    
+    @Override
+    protected void writeInternal(Object value, HttpOutputMessage outputMessage) throws IOException {
+        byte[] bytes;
+        if (value instanceof Employee) {
+            bytes = EmployeeProtobufCodec.encodeEmployee((Employee) value);
+        } else if (value instanceof ApiResponse) {
+            bytes = EmployeeProtobufCodec.encodeApiResponse((ApiResponse) value);
+        } else if (EmployeeProtobufCodec.isEmployeeCollection(value)) {
+            bytes = EmployeeProtobufCodec.encodeEmployees(EmployeeProtobufCodec.castEmployees(value));
+        } else {
+            throw new HttpMessageNotWritableException("Only employee payloads have a protobuf representation");
+        }
+        outputMessage.getHeaders().setContentLength(bytes.length);
+        outputMessage.getBody().write(bytes);
+    }
+}
@@ -0,0 +1,91 @@
+package com.employeemanagement.serialization;
+
+import java.nio.charset.StandardCharsets;
+
+// Decoder counterpart of ProtobufWriter; unknown fields are skipped for forward compatibility
+final class ProtobufReader {
+    
+    private final byte[] buffer;
+    private final int limit;
+    private int position;
+    
+    ProtobufReader(byte[] buffer) {
+        this(buffer, 0, buffer.length);
+    }
+    
+    private ProtobufReader(byte[] buffer, int offset, int limit) {
+        this.buffer = buffer;
+        this.position = offset;
+        this.limit = limit;
+    }
+    
+    boolean hasRemaining() {
+        return position < limit;
+    }
+    
+    // Returns the raw tag; field number is tag >>> 3 and wire type tag & 7
+    int readTag() {
+        return (int) readVarint();
+    }
+    
+    long readVarint() {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            if (position >= limit) {
+                throw new IllegalArgumentException("Truncated varint");
+            }
+            byte b = buffer[position++];
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+    
+    int readSInt32() {
+        int value = (int) readVarint();
+        return (value >>> 1) ^ -(value & 1);
+    }
+    
+    String readString() {
+        int length = readLength();
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+    
+    ProtobufReader readMessage() {
+        int length = readLength();
+        ProtobufReader message = new ProtobufReader(buffer, position, position + length);
+        position += length;
+        return message;
+    }
+    
+    void skipField(int tag) {
+        switch (tag & 7) {
+            case ProtobufWriter.VARINT:
+                readVarint();
+                break;
+            case 1:
+                position += 8;
+                break;
+            case ProtobufWriter.LENGTH_DELIMITED:
+                position += readLength();
+                break;
+            case 5:
+                position += 4;
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported wire type " + (tag & 7));
+        }
+    }
+    
+    private int readLength() {
+        long length = readVarint();
+        if (length < 0 || position + length > limit) {
+            throw new IllegalArgumentException("Length-delimited field exceeds message bounds");
+        }
+        return (int) length;
+    }
+}
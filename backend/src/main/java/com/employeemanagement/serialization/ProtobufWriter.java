@@ -0,0 +1,81 @@
+package com.employeemanagement.serialization;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// Minimal protocol buffers wire-format encoder covering the field types used in employee.proto
+final class ProtobufWriter {
+    
+    static final int VARINT = 0;
+    static final int LENGTH_DELIMITED = 2;
+    
+    private byte[] buffer;
+    private int position;
+    
+    ProtobufWriter(int initialCapacity) {
+        this.buffer = new byte[Math.max(16, initialCapacity)];
+    }
+    
+    void writeInt64(int field, long value) {
+        writeTag(field, VARINT);
+        writeVarint(value);
+    }
+    
+    void writeInt32(int field, int value) {
+        writeTag(field, VARINT);
+        // Negative int32 values are sign-extended to ten bytes, as the protobuf spec requires
+        writeVarint(value);
+    }
+    
+    void writeSInt32(int field, int value) {
+        writeTag(field, VARINT);
+        writeVarint(((value << 1) ^ (value >> 31)) & 0xFFFFFFFFL);
+    }
+    
+    void writeBool(int field, boolean value) {
+        writeTag(field, VARINT);
+        writeVarint(value ? 1 : 0);
+    }
+    
+    void writeString(int field, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeTag(field, LENGTH_DELIMITED);
+        writeVarint(bytes.length);
+        writeBytes(bytes, 0, bytes.length);
+    }
+    
+    void writeMessage(int field, ProtobufWriter message) {
+        writeTag(field, LENGTH_DELIMITED);
+        writeVarint(message.position);
+        writeBytes(message.buffer, 0, message.position);
+    }
+    
+    byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+    
+    private void writeTag(int field, int wireType) {
+        writeVarint((field << 3) | wireType);
+    }
+    
+    private void writeVarint(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+    
+    private void writeBytes(byte[] bytes, int offset, int length) {
+        ensureCapacity(length);
+        System.arraycopy(bytes, offset, buffer, position, length);
+        position += length;
+    }
+    
+    private void ensureCapacity(int additional) {
+        if (position + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.employeemanagement.service;
+
+import com.employeemanagement.dto.BatchMutationResponse;
+
+// Thrown out of the batch transaction so that an atomic batch with a failing operation is rolled back
+public class BatchAbortedException extends RuntimeException {
+    
+    private final BatchMutationResponse response;
+    
+    public BatchAbortedException(BatchMutationResponse response) {
+        super("Batch aborted: " + response.getFailed() + " operation(s) failed");
+        this.response = response;
+    }
+    
+    public BatchMutationResponse getResponse() {
+        return response;
+    }
+}
@@ -0,0 +1,166 @@
+package com.employeemanagement.service;
+
+import com.employeemanagement.dto.PageResponse;
+import com.employeemanagement.dto.TerminationRequest;
+import com.employeemanagement.entity.ArchivedEmployee;
+import com.employeemanagement.entity.Employee;
+import com.employeemanagement.entity.User;
+import com.employeemanagement.event.EmployeeChangedEvent;
+import com.employeemanagement.event.UserChangedEvent;
+import com.employeemanagement.repository.ArchivedEmployeeRepository;
+import com.employeemanagement.repository.EmployeeHistoryRepository;
+import com.employeemanagement.repository.EmployeeRepository;
+import com.employeemanagement.repository.UserRepository;
+import com.employeemanagement.sharding.ShardMap;
+import com.employeemanagement.sharding.TenantContext;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Termination and the archive of former employees. Terminating only records the date; once it
+ * is reached {@link com.employeemanagement.archive.ArchiveMover} moves the employee and their
+ * account out of the live tables in small batches, each its own short transaction. The archive
+ * is only read through the methods here, never by the regular employee queries.
+ */
+@Service
+public class EmployeeArchiveService {
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private ArchivedEmployeeRepository archivedEmployeeRepository;
+    
+    @Autowired
+    private EmployeeHistoryRepository employeeHistoryRepository;
+    
+    @Autowired
+    private OrgHierarchyService orgHierarchyService;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    private ObjectProvider<ShardMap> shardMapProvider;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    // Returns empty when there is no such employee; throws when the date precedes the date of joining
+    @Transactional
+    public Optional<Employee> terminateEmployee(Long id, TerminationRequest request) {
+        Optional<Employee> existingEmployee = employeeRepository.findById(id)
+                .filter(employee -> TenantContext.isVisible(employee.getTenantId()));
+        if (existingEmployee.isEmpty()) {
+            return Optional.empty();
+        }
+        Employee employee = existingEmployee.get();
+        LocalDate terminationDate = request.getTerminationDate() != null
+                ? request.getTerminationDate() : LocalDate.now();
+        if (terminationDate.isBefore(employee.getDateOfJoining())) {
+            throw new IllegalArgumentException("Termination date must not be before the date of joining");
+        }
+        Employee before = employee.snapshot();
+        employee.setTerminatedOn(terminationDate);
+        employee.setTerminationReason(request.getReason());
+        Employee savedEmployee = employeeRepository.save(employee);
+        eventPublisher.publishEvent(EmployeeChangedEvent.updated(before, savedEmployee));
+        return Optional.of(savedEmployee);
+    }
+    
+    // Moves up to batchSize employees whose termination has taken effect; returns how many moved
+    @Transactional
+    public int archiveDueBatch(LocalDate today, int batchSize) {
+        List<Employee> due = employeeRepository.findByTerminatedOnLessThanEqualOrderById(today,
+                PageRequest.of(0, batchSize));
+        // A tenant being moved to another shard waits for a later run
+        ShardMap shardMap = shardMapProvider.getIfAvailable();
+        if (shardMap != null) {
+            due.removeIf(employee -> shardMap.isFrozen(employee.getTenantId()));
+        }
+        if (due.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = new ArrayList<>(due.size());
+        due.forEach(employee -> ids.add(employee.getId()));
+        Map<Long, User> users = new HashMap<>();
+        for (User user : userRepository.findByEmployeeIdIn(ids)) {
+            users.put(user.getEmployeeId(), user);
+        }
+        
+        Instant now = Instant.now();
+        // As in a batch delete, reports move to the nearest manager that is not archived with them
+        Map<Long, Long> replacementManagers = new HashMap<>();
+        List<Object> events = new ArrayList<>();
+        for (Employee employee : due) {
+            User user = users.get(employee.getId());
+            entityManager.persist(ArchivedEmployee.of(employee, user, now));
+            Employee target = employee.snapshot();
+            Long managerId = target.getManagerId();
+            while (managerId != null && replacementManagers.containsKey(managerId)) {
+                managerId = replacementManagers.get(managerId);
+            }
+            target.setManagerId(managerId);
+            orgHierarchyService.onEmployeeDeleted(target);
+            replacementManagers.put(employee.getId(), managerId);
+            if (user != null) {
+                events.add(UserChangedEvent.archived(user.snapshot()));
+                userRepository.delete(user);
+            }
+            events.add(EmployeeChangedEvent.archived(employee.snapshot()));
+        }
+        employeeRepository.deleteAllByIdInBatch(ids);
+        entityManager.flush();
+        entityManager.clear();
+        events.forEach(eventPublisher::publishEvent);
+        return due.size();
+    }
+    
+    // Deletes up to batchSize archived employees terminated before the given year, with their history
+    @Transactional
+    public int purgeBatch(int oldestRetainedYear, int batchSize) {
+        List<Long> ids = archivedEmployeeRepository.findIdsTerminatedBefore(oldestRetainedYear,
+                PageRequest.of(0, batchSize));
+        if (!ids.isEmpty()) {
+            archivedEmployeeRepository.deleteAllByIdInBatch(ids);
+            employeeHistoryRepository.deleteByEmployeeIds(ids);
+            // The bulk delete bypasses the persistence context
+            entityManager.clear();
+        }
+        return ids.size();
+    }
+    
+    @Transactional(readOnly = true)
+    public PageResponse<ArchivedEmployee> findArchived(Integer terminationYear, int page, int size) {
+        PageRequest pageRequest = PageRequest.of(page, size);
+        Page<ArchivedEmployee> result = terminationYear != null
+                ? archivedEmployeeRepository.findByTerminationYearOrderById(terminationYear, pageRequest)
+                : archivedEmployeeRepository.findAllByOrderByTerminationYearAscIdAsc(pageRequest);
+        return new PageResponse<>(result.getContent(), page, size, result.getTotalElements());
+    }
+    
+    // Lookups by primary key bypass the tenant filter, so visibility is checked here
+    @Transactional(readOnly = true)
+    public Optional<ArchivedEmployee> findArchivedById(Long id) {
+        return archivedEmployeeRepository.findById(id)
+                .filter(archived -> TenantContext.isVisible(archived.getTenantId()));
+    }
+}
@@ -0,0 +1,254 @@
+package com.employeemanagement.service;
+
+import com.employeemanagement.dto.BatchMutationRequest;
+import com.employeemanagement.dto.BatchMutationRequest.Mode;
+import com.employeemanagement.dto.BatchMutationRequest.Operation;
+import com.employeemanagement.dto.BatchMutationRequest.OperationType;
+import com.employeemanagement.dto.BatchMutationResponse;
+import com.employeemanagement.dto.BatchMutationResponse.OperationResult;
+import com.employeemanagement.dto.BatchMutationResponse.Status;
+import com.employeemanagement.entity.Employee;
+import com.employeemanagement.event.EmployeeChangedEvent;
+import com.employeemanagement.repository.EmployeeRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Applies many updates and deletes in one transaction. Plain field updates are flushed together
+ * as JDBC batches, department moves become one bulk UPDATE per department and deletes one bulk
+ * DELETE, so a reorganization costs a handful of statements instead of several per employee.
+ */
+@Service
+public class EmployeeBatchService {
+    
+    private static final int ID_CHUNK_SIZE = 500;
+    
+    @Autowired
+    private EmployeeRepository employeeRepository;
+    
+    @Autowired
+    private EmployeeService employeeService;
+    
+    @Autowired
+    private OrgHierarchyService orgHierarchyService;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Transactional
+    public BatchMutationResponse applyBatch(BatchMutationRequest request) {
+        Mode mode = request.getMode() != null ? request.getMode() : Mode.ATOMIC;
+        List<Operation> operations = request.getOperations();
+        List<Long> ids = new ArrayList<>(operations.size());
+        for (Operation operation : operations) {
+            ids.add(operation.getId());
+        }
+        Map<Long, Employee> employees = employeeService.getEmployeesByIds(ids);
+        OperationResult[] results = new OperationResult[operations.size()];
+        
+        Set<Long> deletedIds = new HashSet<>();
+        for (Operation operation : operations) {
+            if (operation.getType() == OperationType.DELETE && employees.containsKey(operation.getId())) {
+                deletedIds.add(operation.getId());
+            }
+        }
+        
+        // Validation that does not depend on the order in which operations are applied
+        Set<Long> seenIds = new HashSet<>();
+        Map<String, Long> batchEmails = new HashMap<>();
+        for (int i = 0; i < operations.size(); i++) {
+            Operation operation = operations.get(i);
+            Employee employee = employees.get(operation.getId());
+            if (!seenIds.add(operation.getId())) {
+                results[i] = failed(i, operation, "Employee appears more than once in the batch");
+            } else if (employee == null) {
+                results[i] = new OperationResult(i, operation.getId(), operation.getType(), Status.NOT_FOUND,
+                        "Employee not found");
+            } else if (operation.getType() == OperationType.UPDATE) {
+                String error = validateUpdate(operation, employee, deletedIds, batchEmails);
+                if (error != null) {
+                    results[i] = failed(i, operation, error);
+                }
+            }
+        }
+        abortIfNeeded(mode, results, operations);
+        
+        EmployeeChangedEvent[] events = new EmployeeChangedEvent[operations.size()];
+        Map<String, List<Integer>> departmentMoves = new LinkedHashMap<>();
+        List<Integer> managerChanges = new ArrayList<>();
+        List<Integer> deletes = new ArrayList<>();
+        for (int i = 0; i < operations.size(); i++) {
+            Operation operation = operations.get(i);
+            if (results[i] != null) {
+                continue;
+            }
+            if (operation.getType() == OperationType.DELETE) {
+                deletes.add(i);
+            } else if (operation.isDepartmentOnly()) {
+                departmentMoves.computeIfAbsent(operation.getDepartment(), key -> new ArrayList<>()).add(i);
+            } else if (operation.getManagerId() != null
+                    && !operation.getManagerId().equals(employees.get(operation.getId()).getManagerId())) {
+                managerChanges.add(i);
+            } else {
+                Employee employee = employees.get(operation.getId());
+                Employee before = employee.snapshot();
+                applyFields(operation, employee);
+                events[i] = EmployeeChangedEvent.updated(before, employee);
+            }
+        }
+        
+        // Manager changes are applied one by one so each is validated against the hierarchy as it
+        // stands after the previous ones, which catches cycles formed within the batch
+        for (int i : managerChanges) {
+            Operation operation = operations.get(i);
+            Employee employee = employees.get(operation.getId());
+            try {
+                orgHierarchyService.validateManager(employee.getId(), operation.getManagerId());
+            } catch (IllegalArgumentException e) {
+                results[i] = failed(i, operation, e.getMessage());
+                abortIfNeeded(mode, results, operations);
+                continue;
+            }
+            Employee before = employee.snapshot();
+            applyFields(operation, employee);
+            orgHierarchyService.onManagerChanged(employee, before.getManagerId());
+            events[i] = EmployeeChangedEvent.updated(before, employee);
+        }
+        entityManager.flush();
+        
+        LocalDate today = LocalDate.now();
+        for (Map.Entry<String, List<Integer>> move : departmentMoves.entrySet()) {
+            List<Long> moveIds = new ArrayList<>(move.getValue().size());
+            for (int i : move.getValue()) {
+                Employee employee = employees.get(operations.get(i).getId());
+                Employee after = employee.snapshot();
+                after.setDepartment(move.getKey());
+                after.setUpdatedAt(today);
+                events[i] = EmployeeChangedEvent.updated(employee.snapshot(), after);
+                moveIds.add(employee.getId());
+            }
+            for (int from = 0; from < moveIds.size(); from += ID_CHUNK_SIZE) {
+                employeeRepository.updateDepartment(
+                        moveIds.subList(from, Math.min(from + ID_CHUNK_SIZE, moveIds.size())), move.getKey(), today);
+            }
+        }
+        
+        if (!deletes.isEmpty()) {
+            applyDeletes(deletes, operations, employees, events);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        
+        for (int i = 0; i < operations.size(); i++) {
+            if (results[i] == null) {
+                results[i] = new OperationResult(i, operations.get(i).getId(), operations.get(i).getType(),
+                        Status.APPLIED, null);
+                eventPublisher.publishEvent(events[i]);
+            }
+        }
+        return new BatchMutationResponse(mode, true, Arrays.asList(results));
+    }
+    
+    private String validateUpdate(Operation operation, Employee employee, Set<Long> deletedIds,
+                                  Map<String, Long> batchEmails) {
+        if (operation.getEmail() != null && !operation.getEmail().equalsIgnoreCase(employee.getEmail())) {
+            if (batchEmails.putIfAbsent(operation.getEmail().toLowerCase(), operation.getId()) != null) {
+                return "Email is assigned to more than one employee in the batch";
+            }
+            if (employeeService.existsByEmailAndNotId(operation.getEmail(), operation.getId())) {
+                return "Email is already in use by another employee";
+            }
+        }
+        if (operation.getManagerId() != null && deletedIds.contains(operation.getManagerId())) {
+            return "Manager " + operation.getManagerId() + " is deleted in the same batch";
+        }
+        return null;
+    }
+    
+    private void applyFields(Operation operation, Employee employee) {
+        if (operation.getFirstName() != null) {
+            employee.setFirstName(operation.getFirstName());
+        }
+        if (operation.getLastName() != null) {
+            employee.setLastName(operation.getLastName());
+        }
+        if (operation.getEmail() != null) {
+            employee.setEmail(operation.getEmail());
+        }
+        if (operation.getPhone() != null) {
+            employee.setPhone(operation.getPhone());
+        }
+        if (operation.getDepartment() != null) {
+            employee.setDepartment(operation.getDepartment());
+        }
+        if (operation.getSalary() != null) {
+            employee.setSalary(operation.getSalary());
+        }
+        if (operation.getDateOfJoining() != null) {
+            employee.setDateOfJoining(operation.getDateOfJoining());
+        }
+        if (operation.getManagerId() != null) {
+            employee.setManagerId(operation.getManagerId());
+        }
+    }
+    
+    private void applyDeletes(List<Integer> deletes, List<Operation> operations, Map<Long, Employee> employees,
+                              EmployeeChangedEvent[] events) {
+        // Reports of a deleted employee move to its manager; when that manager is deleted in the
+        // same batch they have to move further up, so the effective manager is tracked here
+        Map<Long, Long> replacementManagers = new HashMap<>();
+        List<Long> deleteIds = new ArrayList<>(deletes.size());
+        for (int i : deletes) {
+            Employee employee = employees.get(operations.get(i).getId());
+            Employee target = employee.snapshot();
+            Long managerId = target.getManagerId();
+            while (managerId != null && replacementManagers.containsKey(managerId)) {
+                managerId = replacementManagers.get(managerId);
+            }
+            target.setManagerId(managerId);
+            orgHierarchyService.onEmployeeDeleted(target);
+            replacementManagers.put(employee.getId(), managerId);
+            events[i] = EmployeeChangedEvent.deleted(employee.snapshot());
+            deleteIds.add(employee.getId());
+        }
+        for (int from = 0; from < deleteIds.size(); from += ID_CHUNK_SIZE) {
+            employeeRepository.deleteAllByIdInBatch(deleteIds.subList(from, Math.min(from + ID_CHUNK_SIZE, deleteIds.size())));
+        }
+    }
+    
+    private static OperationResult failed(int index, Operation operation, String message) {
+        return new OperationResult(index, operation.getId(), operation.getType(), Status.FAILED, message);
+    }
+    
+    private static void abortIfNeeded(Mode mode, OperationResult[] results, List<Operation> operations) {
+        if (mode != Mode.ATOMIC || Arrays.stream(results).allMatch(Objects::isNull)) {
+            return;
+        }
+        OperationResult[] aborted = results.clone();
+        for (int i = 0; i < aborted.length; i++) {
+            if (aborted[i] == null) {
+                aborted[i] = new OperationResult(i, operations.get(i).getId(), operations.get(i).getType(),
+                        Status.ROLLED_BACK, null);
+            }
+        }
+        throw new BatchAbortedException(new BatchMutationResponse(mode, false, Arrays.asList(aborted)));
+    }
+}
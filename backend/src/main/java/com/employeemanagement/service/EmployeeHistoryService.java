@@ -0,0 +1,96 @@
+package com.employeemanagement.service;
+
+import com.employeemanagement.entity.Employee;
+import com.employeemanagement.entity.EmployeeHistory;
+import com.employeemanagement.event.BulkLoadCompletedEvent;
+import com.employeemanagement.event.EmployeeChangedEvent;
+import com.employeemanagement.repository.EmployeeHistoryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Maintains the employee_history table of department and salary versions. Like the outbox it
+ * listens synchronously inside the publishing transaction, so a change and its history commit
+ * or roll back together. A change takes effect on the day it is made; a termination on the
+ * day after the last day of employment.
+ */
+@Service
+public class EmployeeHistoryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeHistoryService.class);
+    
+    @Autowired
+    private EmployeeHistoryRepository historyRepository;
+    
+    public List<EmployeeHistory> getHistory(Long employeeId) {
+        return historyRepository.findByEmployeeIdOrderByValidFromAscRecordedAtAsc(employeeId);
+    }
+    
+    // The company on the given date, as currently known or as known at knownAt
+    public List<EmployeeHistory> getAsOf(LocalDate date, Instant knownAt) {
+        return knownAt != null ? historyRepository.findAsOf(date, knownAt) : historyRepository.findAsOf(date);
+    }
+    
+    @EventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        Employee before = event.getBefore();
+        Employee after = event.getAfter();
+        switch (event.getType()) {
+            case CREATED:
+                historyRepository.save(EmployeeHistory.of(after, after.getDateOfJoining(), Instant.now()));
+                break;
+            case UPDATED:
+                if (!Objects.equals(before.getDepartment(), after.getDepartment())
+                        || before.getSalary().compareTo(after.getSalary()) != 0) {
+                    replaceCurrent(event.getEmployeeId(), LocalDate.now(), after);
+                }
+                break;
+            case ARCHIVED:
+                replaceCurrent(event.getEmployeeId(), before.getTerminatedOn() != null
+                        ? before.getTerminatedOn().plusDays(1) : LocalDate.now(), null);
+                break;
+            default:
+                replaceCurrent(event.getEmployeeId(), LocalDate.now(), null);
+        }
+    }
+    
+    // Gives employees loaded without change events a first version starting on their date of joining
+    @EventListener({ApplicationReadyEvent.class, BulkLoadCompletedEvent.class})
+    @Transactional
+    public void backfill() {
+        int inserted = historyRepository.insertMissing(EmployeeHistory.OPEN_END, Instant.now());
+        if (inserted > 0) {
+            logger.info("Started the history of {} employees", inserted);
+        }
+    }
+    
+    // Supersedes the current version; it still holds until effectiveOn, and next (if any) from then on
+    private void replaceCurrent(Long employeeId, LocalDate effectiveOn, Employee next) {
+        Instant now = Instant.now();
+        LocalDate nextFrom = effectiveOn;
+        EmployeeHistory current = historyRepository
+                .findByEmployeeIdAndValidToAndSupersededAtIsNull(employeeId, EmployeeHistory.OPEN_END).orElse(null);
+        if (current != null) {
+            current.setSupersededAt(now);
+            if (current.getValidFrom().isBefore(effectiveOn)) {
+                historyRepository.save(current.endingOn(effectiveOn, now));
+            } else {
+                // A version that had not started yet is replaced as a whole
+                nextFrom = current.getValidFrom();
+            }
+        }
+        if (next != null) {
+            historyRepository.save(EmployeeHistory.of(next, nextFrom, now));
+        }
+    }
+}
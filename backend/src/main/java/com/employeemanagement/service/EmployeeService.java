@@ -1,21 +1,50 @@
 package com.employeemanagement.service;
 
+import com.employeemanagement.cache.EmployeeCache;
+import com.employeemanagement.cache.ExistenceFilterService;
+import com.employeemanagement.dto.EmployeeFilter;
 import com.employeemanagement.dto.EmployeeRequest;
+import com.employeemanagement.dto.FacetedSearchResponse;
+import com.employeemanagement.dto.PageResponse;
 import com.employeemanagement.entity.Employee;
 import com.employeemanagement.entity.User;
 import com.employeemanagement.entity.Role;
+import com.employeemanagement.event.EmployeeChangedEvent;
+import com.employeemanagement.repository.EmployeeFields;
 import com.employeemanagement.repository.EmployeeRepository;
+import com.employeemanagement.repository.EmployeeSpecifications;
+import com.employeemanagement.search.FuzzyIndex;
+import com.employeemanagement.search.FuzzySearchService;
+import com.employeemanagement.sharding.TenantContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
 @Service
 public class EmployeeService {
+
+    // Keeps each IN list well below database parameter limits
+    private static final int ID_CHUNK_SIZE = 500;
+    
+    public static final int MAX_FUZZY_RESULTS = 100;
     
     @Autowired
     private EmployeeRepository employeeRepository;
@@ -24,12 +53,173 @@ public class EmployeeService {
     
     @Autowired
     private PasswordEncoder passwordEncoder;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    private OrgHierarchyService orgHierarchyService;
+    
+    @Autowired
+    private ExistenceFilterService existenceFilterService;
+    
+    @Autowired
+    private EmployeeCache employeeCache;
+    
+    @Autowired
+    private FuzzySearchService fuzzySearchService;
+    
+    // Upper bounds of the salary facet bands; one more open-ended band follows the last
+    @Value("${search.salary-bands:50000,75000,100000,150000}")
+    private BigDecimal[] salaryBandBounds;
+    
     public List<Employee> getAllEmployees() {
         return employeeRepository.findAll();
     }
     
+    // Filtered, sorted page of employees; page and size are validated by the caller
+    public PageResponse<Employee> findEmployees(EmployeeFilter filter, int page, int size) {
+        Page<Employee> result = employeeRepository.findAll(EmployeeSpecifications.matching(filter),
+                PageRequest.of(page, size, EmployeeSpecifications.sort(filter.getSort())));
+        return new PageResponse<>(result.getContent(), page, size, result.getTotalElements());
+    }
+    
+    // Lookups by primary key bypass the tenant filter, so visibility is checked here
     public Optional<Employee> getEmployeeById(Long id) {
-        return employeeRepository.findById(id);
+        Employee cached = employeeCache.get(id);
+        if (cached != null) {
+            return Optional.of(cached).filter(employee -> TenantContext.isVisible(employee.getTenantId()));
+        }
+        long loadGeneration = employeeCache.beginLoad();
+        Optional<Employee> employee = employeeRepository.findById(id);
+        employee.ifPresent(found -> employeeCache.put(found, loadGeneration));
+        return employee.filter(found -> TenantContext.isVisible(found.getTenantId()));
+    }
+    
+    // Loads many employees with one IN query per chunk; missing ids are simply absent from the map
+    public Map<Long, Employee> getEmployeesByIds(Collection<Long> ids) {
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        Map<Long, Employee> employees = new HashMap<>(distinctIds.size() * 2);
+        for (int from = 0; from < distinctIds.size(); from += ID_CHUNK_SIZE) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + ID_CHUNK_SIZE, distinctIds.size()));
+            for (Employee employee : employeeRepository.findAllById(chunk)) {
+                if (TenantContext.isVisible(employee.getTenantId())) {
+                    employees.put(employee.getId(), employee);
+                }
+            }
+        }
+        return employees;
+    }
+    
+    // Read-only copies for display: cached employees are served from memory, the rest in one query
+    public Map<Long, Employee> getEmployeeSnapshotsByIds(Collection<Long> ids) {
+        Map<Long, Employee> employees = new HashMap<>(ids.size() * 2);
+        List<Long> missing = new ArrayList<>();
+        for (Long id : new LinkedHashSet<>(ids)) {
+            Employee cached = employeeCache.get(id);
+            if (cached == null) {
+                missing.add(id);
+            } else if (TenantContext.isVisible(cached.getTenantId())) {
+                employees.put(id, cached);
+            }
+        }
+        if (!missing.isEmpty()) {
+            long loadGeneration = employeeCache.beginLoad();
+            Map<Long, Employee> loaded = getEmployeesByIds(missing);
+            loaded.values().forEach(employee -> employeeCache.put(employee, loadGeneration));
+            employees.putAll(loaded);
+        }
+        return employees;
+    }
+    
+    // Sparse variants: only the requested columns are read from the database. The custom repository
+    // queries have no transaction of their own, and without one the tenant filter is not enabled
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getAllEmployeeFields(String fields) {
+        return employeeRepository.findAllProjected(EmployeeFields.parse(fields));
+    }
+    
+    @Transactional(readOnly = true)
+    public Optional<Map<String, Object>> getEmployeeFieldsById(Long id, String fields) {
+        return employeeRepository.findProjectedById(id, EmployeeFields.parse(fields));
+    }
+    
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getEmployeeFieldsByDepartment(String department, String fields) {
+        return employeeRepository.findProjectedByDepartment(department, EmployeeFields.parse(fields));
+    }
+    
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> searchEmployeeFields(String searchTerm, String fields) {
+        return employeeRepository.searchProjected(searchTerm, EmployeeFields.parse(fields));
+    }
+    
+    /**
+     * A page of search matches plus department and salary band counts. Both facets come from
+     * one grouped query over all matches, which also yields the total, so a request costs two
+     * statements however many departments there are. salaryBand is a label from the response.
+     */
+    @Transactional(readOnly = true)
+    public FacetedSearchResponse facetedSearch(String searchTerm, String department, String salaryBand,
+                                               int page, int size) {
+        List<BigDecimal> bounds = Arrays.asList(salaryBandBounds);
+        List<String> labels = new ArrayList<>();
+        for (int band = 0; band <= bounds.size(); band++) {
+            labels.add(bandLabel(bounds, band));
+        }
+        int selectedBand = salaryBand != null ? labels.indexOf(salaryBand) : -1;
+        if (salaryBand != null && selectedBand < 0) {
+            throw new IllegalArgumentException("Unknown salary band '" + salaryBand + "', expected one of " + labels);
+        }
+        
+        Map<String, long[]> cells = employeeRepository.countSearchFacets(searchTerm, bounds);
+        Map<String, Long> departmentCounts = new LinkedHashMap<>();
+        long[] bandCounts = new long[labels.size()];
+        long total = 0;
+        for (Map.Entry<String, long[]> cell : cells.entrySet()) {
+            long[] counts = cell.getValue();
+            boolean inDepartment = department == null || department.equals(cell.getKey());
+            long departmentCount = 0;
+            for (int band = 0; band < counts.length; band++) {
+                if (selectedBand < 0 || selectedBand == band) {
+                    departmentCount += counts[band];
+                }
+                if (inDepartment) {
+                    bandCounts[band] += counts[band];
+                }
+            }
+            if (departmentCount > 0) {
+                departmentCounts.put(cell.getKey(), departmentCount);
+            }
+            if (inDepartment) {
+                total += departmentCount;
+            }
+        }
+        
+        List<FacetedSearchResponse.SalaryBand> bands = new ArrayList<>(labels.size());
+        for (int band = 0; band < labels.size(); band++) {
+            bands.add(new FacetedSearchResponse.SalaryBand(labels.get(band),
+                    band > 0 ? bounds.get(band - 1) : null, band < bounds.size() ? bounds.get(band) : null,
+                    bandCounts[band]));
+        }
+        long offset = (long) page * size;
+        List<Employee> content = offset < total
+                ? employeeRepository.searchPage(searchTerm, department,
+                        selectedBand > 0 ? bounds.get(selectedBand - 1) : null,
+                        selectedBand >= 0 && selectedBand < bounds.size() ? bounds.get(selectedBand) : null,
+                        (int) offset, size)
+                : new ArrayList<>();
+        return new FacetedSearchResponse(new PageResponse<>(content, page, size, total), departmentCounts, bands);
+    }
+    
+    private static String bandLabel(List<BigDecimal> bounds, int band) {
+        if (band == 0) {
+            return "<" + bounds.get(0).toPlainString();
+        }
+        if (band == bounds.size()) {
+            return ">=" + bounds.get(band - 1).toPlainString();
+        }
+        return bounds.get(band - 1).toPlainString() + "-" + bounds.get(band).toPlainString();
     }
     
     public Optional<Employee> getEmployeeByEmail(String email) {
@@ -44,7 +234,28 @@ public class EmployeeService {
         return employeeRepository.searchEmployees(searchTerm);
     }
     
+    // Typo-tolerant search over names and email, most relevant first
+    public List<Employee> searchEmployeesFuzzy(String searchTerm, int limit) {
+        List<FuzzyIndex.Match> matches = fuzzySearchService.search(searchTerm, Math.min(limit, MAX_FUZZY_RESULTS));
+        List<Long> ids = new ArrayList<>(matches.size());
+        for (FuzzyIndex.Match match : matches) {
+            ids.add(match.getId());
+        }
+        Map<Long, Employee> employees = getEmployeesByIds(ids);
+        List<Employee> ranked = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Employee employee = employees.get(id);
+            if (employee != null) {
+                ranked.add(employee);
+            }
+        }
+        return ranked;
+    }
+    
+    @Transactional
     public Employee createEmployee(EmployeeRequest employeeRequest) {
+        orgHierarchyService.validateManager(null, employeeRequest.getManagerId());
+        
         Employee employee = new Employee();
         employee.setFirstName(employeeRequest.getFirstName());
         employee.setLastName(employeeRequest.getLastName());
@@ -53,8 +264,11 @@ public class EmployeeService {
         employee.setDepartment(employeeRequest.getDepartment());
         employee.setSalary(employeeRequest.getSalary());
         employee.setDateOfJoining(employeeRequest.getDateOfJoining());
+        employee.setManagerId(employeeRequest.getManagerId());
         
-                Employee savedEmployee = employeeRepository.save(employee);
+        Employee savedEmployee = employeeRepository.save(employee);
+        orgHierarchyService.onEmployeeCreated(savedEmployee);
+        eventPublisher.publishEvent(EmployeeChangedEvent.created(savedEmployee));
         if (StringUtils.hasText(employeeRequest.getPassword())) {
             User user = new User();
             user.setUsername(generateUsername(employeeRequest.getFirstName(), employeeRequest.getLastName()));
@@ -72,11 +286,14 @@ public class EmployeeService {
         // Generate username in format: firstname.lastname (lowercase)
         return (firstName + "." + lastName).toLowerCase().replaceAll("\\s+", "");
     }
-
+    
+    @Transactional
     public Employee updateEmployee(Long id, EmployeeRequest employeeRequest) {
-        Optional<Employee> existingEmployee = employeeRepository.findById(id);
+        Optional<Employee> existingEmployee = employeeRepository.findById(id)
+                .filter(employee -> TenantContext.isVisible(employee.getTenantId()));
         if (existingEmployee.isPresent()) {
             Employee employee = existingEmployee.get();
+            Employee before = employee.snapshot();
             employee.setFirstName(employeeRequest.getFirstName());
             employee.setLastName(employeeRequest.getLastName());
             employee.setEmail(employeeRequest.getEmail());
@@ -84,26 +301,66 @@ public class EmployeeService {
             employee.setDepartment(employeeRequest.getDepartment());
             employee.setSalary(employeeRequest.getSalary());
             employee.setDateOfJoining(employeeRequest.getDateOfJoining());
+            if (employeeRequest.getManagerId() != null) {
+                orgHierarchyService.validateManager(id, employeeRequest.getManagerId());
+                employee.setManagerId(employeeRequest.getManagerId());
+            }
             
-            return employeeRepository.save(employee);
+            Employee savedEmployee = employeeRepository.save(employee);
+            orgHierarchyService.onManagerChanged(savedEmployee, before.getManagerId());
+            eventPublisher.publishEvent(EmployeeChangedEvent.updated(before, savedEmployee));
+            return savedEmployee;
         }
         return null;
     }
     
+    @Transactional
+    public Employee changeManager(Long id, Long managerId) {
+        Optional<Employee> existingEmployee = employeeRepository.findById(id)
+                .filter(employee -> TenantContext.isVisible(employee.getTenantId()));
+        if (existingEmployee.isPresent()) {
+            orgHierarchyService.validateManager(id, managerId);
+            Employee employee = existingEmployee.get();
+            if (managerId != null && !employeeRepository.findById(managerId)
+                    .map(manager -> manager.getTenantId().equals(employee.getTenantId())).orElse(false)) {
+                throw new IllegalArgumentException("Manager " + managerId + " belongs to another tenant");
+            }
+            Employee before = employee.snapshot();
+            employee.setManagerId(managerId);
+            
+            Employee savedEmployee = employeeRepository.save(employee);
+            orgHierarchyService.onManagerChanged(savedEmployee, before.getManagerId());
+            eventPublisher.publishEvent(EmployeeChangedEvent.updated(before, savedEmployee));
+            return savedEmployee;
+        }
+        return null;
+    }
+    
+    @Transactional
     public boolean deleteEmployee(Long id) {
-        if (employeeRepository.existsById(id)) {
-            employeeRepository.deleteById(id);
+        Optional<Employee> existingEmployee = employeeRepository.findById(id)
+                .filter(employee -> TenantContext.isVisible(employee.getTenantId()));
+        if (existingEmployee.isPresent()) {
+            Employee employee = existingEmployee.get();
+            orgHierarchyService.onEmployeeDeleted(employee);
+            employeeRepository.delete(employee);
+            eventPublisher.publishEvent(EmployeeChangedEvent.deleted(employee));
             return true;
         }
         return false;
     }
     
     public boolean existsByEmail(String email) {
-        return employeeRepository.existsByEmail(email);
+        return existenceFilterService.exists(ExistenceFilterService.Kind.EMPLOYEE_EMAIL, email,
+                () -> employeeRepository.existsByEmail(email));
     }
     
     public boolean existsByEmailAndNotId(String email, Long id) {
+        if (!existenceFilterService.mightExist(ExistenceFilterService.Kind.EMPLOYEE_EMAIL, email)) {
+            return false;
+        }
         Optional<Employee> employee = employeeRepository.findByEmail(email);
+        existenceFilterService.recordLookup(ExistenceFilterService.Kind.EMPLOYEE_EMAIL, employee.isPresent());
         return employee.isPresent() && !employee.get().getId().equals(id);
     }
     
@@ -0,0 +1,167 @@
+package com.employeemanagement.service;
+
+import com.employeemanagement.cache.InvalidationBus;
+import com.employeemanagement.cache.InvalidationMessage;
+import com.employeemanagement.entity.Employee;
+import com.employeemanagement.event.BulkLoadCompletedEvent;
+import com.employeemanagement.repository.EmployeeHierarchyRepository;
+import com.employeemanagement.repository.EmployeeRepository;
+import com.employeemanagement.sharding.ShardMap;
+import com.employeemanagement.sharding.ShardQueryExecutor;
+import com.employeemanagement.sharding.TenantContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Maintains the employee_hierarchy closure table so reporting-chain queries are single
+ * indexed lookups instead of recursive walks over manager_id.
+ */
+@Service
+public class OrgHierarchyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrgHierarchyService.class);
+    
+    private static final int MAX_DEPTH = 1000;
+    
+    @Autowired
+    private EmployeeHierarchyRepository hierarchyRepository;
+    
+    @Autowired
+    private EmployeeRepository employeeRepository;
+    
+    @Autowired
+    private InvalidationBus invalidationBus;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Autowired
+    private ObjectProvider<ShardMap> shardMapProvider;
+    
+    @Autowired
+    private ObjectProvider<ShardQueryExecutor> shardQueryExecutorProvider;
+    
+    public List<Employee> getSubtree(Long employeeId, Integer maxDepth) {
+        return hierarchyRepository.findSubtree(employeeId, maxDepth != null ? maxDepth : MAX_DEPTH);
+    }
+    
+    public List<Employee> getAncestors(Long employeeId) {
+        return hierarchyRepository.findAncestors(employeeId);
+    }
+    
+    public List<Employee> getDirectReports(Long employeeId) {
+        return employeeRepository.findByManagerIdOrderById(employeeId);
+    }
+    
+    // Throws when managerId does not exist or lies inside the employee's own subtree
+    public void validateManager(Long employeeId, Long managerId) {
+        if (managerId == null) {
+            return;
+        }
+        if (managerId.equals(employeeId)) {
+            throw new IllegalArgumentException("An employee cannot be their own manager");
+        }
+        // A manager in another tenant is reported as missing, as it is to every other lookup
+        if (!employeeRepository.findById(managerId)
+                .filter(manager -> TenantContext.isVisible(manager.getTenantId())).isPresent()) {
+            throw new IllegalArgumentException("Manager not found with id " + managerId);
+        }
+        if (employeeId != null && hierarchyRepository.existsByAncestorIdAndDescendantId(employeeId, managerId)) {
+            throw new IllegalArgumentException("Employee " + managerId + " reports to employee " + employeeId
+                    + " and cannot become their manager");
+        }
+    }
+    
+    @Transactional
+    public void onEmployeeCreated(Employee employee) {
+        hierarchyRepository.insertSelfLink(employee.getId());
+        if (employee.getManagerId() != null) {
+            hierarchyRepository.attachSubtree(employee.getId(), employee.getManagerId());
+        }
+    }
+    
+    // Moves the whole subtree with two set-based statements, regardless of its size
+    @Transactional
+    public void onManagerChanged(Employee employee, Long previousManagerId) {
+        if (Objects.equals(previousManagerId, employee.getManagerId())) {
+            return;
+        }
+        hierarchyRepository.detachSubtree(employee.getId());
+        if (employee.getManagerId() != null) {
+            hierarchyRepository.attachSubtree(employee.getId(), employee.getManagerId());
+        }
+    }
+    
+    // Direct reports of a removed employee move up to the removed employee's manager
+    @Transactional
+    public void onEmployeeDeleted(Employee employee) {
+        hierarchyRepository.collapseNode(employee.getId());
+        hierarchyRepository.deleteNode(employee.getId());
+        // The bulk update publishes no change events, so cached reports are invalidated here
+        invalidationBus.publishAfterCommit(InvalidationMessage.EntityType.EMPLOYEE,
+                employeeRepository.findIdsByManagerId(employee.getId()));
+        employeeRepository.reassignReports(employee.getId(), employee.getManagerId());
+    }
+    
+    @EventListener({ApplicationReadyEvent.class, BulkLoadCompletedEvent.class})
+    public void verifyOnStartup() {
+        onEveryShard(() -> {
+            long employees = employeeRepository.count();
+            if (hierarchyRepository.countSelfLinks() != employees) {
+                rebuildCurrentShard();
+            }
+        });
+    }
+    
+    public void rebuild() {
+        onEveryShard(this::rebuildCurrentShard);
+    }
+    
+    // Each shard holds the closure table of its own employees only
+    private void onEveryShard(Runnable work) {
+        ShardMap shardMap = shardMapProvider.getIfAvailable();
+        ShardQueryExecutor executor = shardQueryExecutorProvider.getIfAvailable();
+        if (shardMap == null || executor == null) {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> work.run());
+            return;
+        }
+        for (String shardId : shardMap.getShardIds()) {
+            executor.executeOnShard(shardId, null, false, () -> {
+                work.run();
+                return null;
+            });
+        }
+    }
+    
+    // Recomputes the closure table level by level from manager_id
+    private void rebuildCurrentShard() {
+        long start = System.nanoTime();
+        hierarchyRepository.deleteAllLinks();
+        int inserted = hierarchyRepository.insertAllSelfLinks();
+        int depth = 0;
+        while (depth < MAX_DEPTH) {
+            int links = hierarchyRepository.insertLinksBelowDepth(depth);
+            if (links == 0) {
+                break;
+            }
+            inserted += links;
+            depth++;
+        }
+        if (depth == MAX_DEPTH) {
+            logger.warn("Stopped rebuilding the hierarchy at depth {}; manager_id may contain a cycle", MAX_DEPTH);
+        }
+        logger.info("Rebuilt employee hierarchy with {} links and depth {} in {} ms",
+                inserted, depth, (System.nanoTime() - start) / 1_000_000);
+    }
+}
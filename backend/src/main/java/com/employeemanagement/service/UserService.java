@@ -1,24 +1,37 @@
 package com.employeemanagement.service;
 
+import com.employeemanagement.cache.ExistenceFilterService;
 import com.employeemanagement.entity.Role;
 import com.employeemanagement.entity.User;
+import com.employeemanagement.event.UserChangedEvent;
 import com.employeemanagement.repository.UserRepository;
+import com.employeemanagement.sharding.TenantContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 
 @Service
 public class UserService {
-    
+
     @Autowired
     private UserRepository userRepository;
     
     @Autowired
     private PasswordEncoder passwordEncoder;
     
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    private ExistenceFilterService existenceFilterService;
+    
+    @Transactional
     public User createUser(String username, String email, String password, Set<Role> roles, Long employeeId) {
         User user = new User();
         user.setUsername(username);
@@ -28,10 +41,14 @@ public class UserService {
         user.setEmployeeId(employeeId);
         user.setEnabled(true);
         
-        return userRepository.save(user);
+        return createUser(user);
     }
+    // The outbox row written by the change event commits together with the user
+    @Transactional
      public User createUser(User user) { // Added this method
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.created(savedUser));
+        return savedUser;
     }
     
     public Optional<User> findByUsername(String username) {
@@ -47,19 +64,39 @@ public class UserService {
     }
     
     public boolean existsByUsername(String username) {
-        return userRepository.existsByUsername(username);
+        return existenceFilterService.exists(ExistenceFilterService.Kind.USERNAME, username,
+                () -> userRepository.existsByUsername(username));
     }
     
     public boolean existsByEmail(String email) {
-        return userRepository.existsByEmail(email);
+        return existenceFilterService.exists(ExistenceFilterService.Kind.USER_EMAIL, email,
+                () -> userRepository.existsByEmail(email));
     }
     
-    public User updateUser(User user) {
-        return userRepository.save(user);
+    // The snapshot is taken before the changes are applied; reloading afterwards would
+    // return the same managed, already changed instance
+    @Transactional
+    public User updateUser(Long userId, Consumer<User> changes) {
+        Optional<User> existingUser = userRepository.findById(userId)
+                .filter(user -> TenantContext.isVisible(user.getTenantId()));
+        if (existingUser.isPresent()) {
+            User user = existingUser.get();
+            User before = user.snapshot();
+            changes.accept(user);
+            User savedUser = userRepository.save(user);
+            eventPublisher.publishEvent(UserChangedEvent.updated(before, savedUser));
+            return savedUser;
+        }
+        return null;
     }
     
+    @Transactional
     public void deleteUser(Long userId) {
-        userRepository.deleteById(userId);
+        Optional<User> existingUser = userRepository.findById(userId);
+        if (existingUser.isPresent()) {
+            userRepository.delete(existingUser.get());
+            eventPublisher.publishEvent(UserChangedEvent.deleted(existingUser.get()));
+        }
     }
 }
 
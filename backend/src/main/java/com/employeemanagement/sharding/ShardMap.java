@@ -0,0 +1,176 @@
+package com.employeemanagement.sharding;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Owns the connection pool of every shard and decides which shard serves a tenant.
+ * Tenants without a static assignment are hashed onto a shard on first use and pinned
+ * there by persisting the assignment, so adding shards never moves existing tenants.
+ * Each shard generates ids from its own range, so a primary key is unique across shards
+ * and a row keeps its id when its tenant is moved.
+ */
+public class ShardMap implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardMap.class);
+    
+    public static final long ID_RANGE_SIZE = 1L << 40;
+    
+    private final Map<String, DataSource> dataSources = new TreeMap<>();
+    private final List<String> shardIds;
+    private final String directoryShard;
+    private final JdbcTemplate directory;
+    private final Map<String, Long> idRangeStarts = new TreeMap<>();
+    private final Map<String, String> assignments = new ConcurrentHashMap<>();
+    private final Set<String> frozenTenants = ConcurrentHashMap.newKeySet();
+    
+    public ShardMap(ShardingProperties properties) {
+        if (properties.getShards().isEmpty()) {
+            throw new IllegalStateException("sharding.enabled is set but no sharding.shards are configured");
+        }
+        for (Map.Entry<String, ShardingProperties.Shard> entry : properties.getShards().entrySet()) {
+            dataSources.put(entry.getKey(), createDataSource(entry.getKey(), entry.getValue()));
+        }
+        this.shardIds = Collections.unmodifiableList(new ArrayList<>(dataSources.keySet()));
+        this.directoryShard = properties.getDirectoryShard() != null ? properties.getDirectoryShard() : shardIds.get(0);
+        if (!dataSources.containsKey(directoryShard)) {
+            throw new IllegalStateException("Directory shard " + directoryShard + " is not configured");
+        }
+        for (String shardId : shardIds) {
+            Integer idBlock = properties.getShards().get(shardId).getIdBlock();
+            long start = (idBlock != null ? idBlock : shardIds.indexOf(shardId)) * ID_RANGE_SIZE;
+            if (idRangeStarts.containsValue(start)) {
+                throw new IllegalStateException("Shard " + shardId + " uses an id block taken by another shard");
+            }
+            idRangeStarts.put(shardId, start);
+        }
+        this.directory = new JdbcTemplate(dataSources.get(directoryShard));
+        
+        directory.execute("CREATE TABLE IF NOT EXISTS tenant_shard_assignments ("
+                + "tenant_id VARCHAR(64) NOT NULL PRIMARY KEY, shard_id VARCHAR(64) NOT NULL)");
+        assignments.putAll(properties.getTenants());
+        directory.query("SELECT tenant_id, shard_id FROM tenant_shard_assignments",
+                rs -> { assignments.put(rs.getString(1), rs.getString(2)); });
+        for (Map.Entry<String, String> assignment : assignments.entrySet()) {
+            requireShard(assignment.getValue());
+        }
+        logger.info("Sharding enabled with shards {} and {} tenant assignments", shardIds, assignments.size());
+    }
+    
+    public String shardFor(String tenantId) {
+        String shardId = assignments.get(tenantId);
+        if (shardId != null) {
+            return shardId;
+        }
+        return assignments.computeIfAbsent(tenantId, this::pin);
+    }
+    
+    public void assign(String tenantId, String shardId) {
+        requireShard(shardId);
+        int updated = directory.update("UPDATE tenant_shard_assignments SET shard_id = ? WHERE tenant_id = ?",
+                shardId, tenantId);
+        if (updated == 0) {
+            directory.update("INSERT INTO tenant_shard_assignments (tenant_id, shard_id) VALUES (?, ?)",
+                    tenantId, shardId);
+        }
+        assignments.put(tenantId, shardId);
+    }
+    
+    public boolean freeze(String tenantId) {
+        return frozenTenants.add(tenantId);
+    }
+    
+    public void unfreeze(String tenantId) {
+        frozenTenants.remove(tenantId);
+    }
+    
+    public boolean isFrozen(String tenantId) {
+        return tenantId != null && !frozenTenants.isEmpty() && frozenTenants.contains(tenantId);
+    }
+    
+    public List<String> getShardIds() {
+        return shardIds;
+    }
+    
+    public String getDirectoryShard() {
+        return directoryShard;
+    }
+    
+    public DataSource getDataSource(String shardId) {
+        requireShard(shardId);
+        return dataSources.get(shardId);
+    }
+    
+    // First id the shard generates; block 0 starts at 1 so an unsharded database keeps its ids
+    public long getIdRangeStart(String shardId) {
+        requireShard(shardId);
+        return Math.max(1, idRangeStarts.get(shardId));
+    }
+    
+    public Map<Object, Object> getTargetDataSources() {
+        return new LinkedHashMap<>(dataSources);
+    }
+    
+    public Map<String, String> getAssignments() {
+        return new TreeMap<>(assignments);
+    }
+    
+    @Override
+    public void destroy() {
+        for (DataSource dataSource : dataSources.values()) {
+            if (dataSource instanceof HikariDataSource) {
+                ((HikariDataSource) dataSource).close();
+            }
+        }
+    }
+    
+    private String pin(String tenantId) {
+        String shardId = shardIds.get(Math.floorMod(tenantId.hashCode(), shardIds.size()));
+        try {
+            directory.update("INSERT INTO tenant_shard_assignments (tenant_id, shard_id) VALUES (?, ?)",
+                    tenantId, shardId);
+        } catch (DataAccessException e) {
+            // Another node pinned the tenant first; its choice wins
+            List<String> existing = directory.queryForList(
+                    "SELECT shard_id FROM tenant_shard_assignments WHERE tenant_id = ?", String.class, tenantId);
+            if (!existing.isEmpty()) {
+                return existing.get(0);
+            }
+            throw e;
+        }
+        return shardId;
+    }
+    
+    private void requireShard(String shardId) {
+        if (!dataSources.containsKey(shardId)) {
+            throw new IllegalArgumentException("Unknown shard: " + shardId);
+        }
+    }
+    
+    private static DataSource createDataSource(String shardId, ShardingProperties.Shard shard) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("shard-" + shardId);
+        dataSource.setJdbcUrl(shard.getUrl());
+        dataSource.setUsername(shard.getUsername());
+        dataSource.setPassword(shard.getPassword());
+        if (shard.getDriverClassName() != null) {
+            dataSource.setDriverClassName(shard.getDriverClassName());
+        }
+        dataSource.setMaximumPoolSize(shard.getMaximumPoolSize());
+        return dataSource;
+    }
+}
@@ -0,0 +1,95 @@
+package com.employeemanagement.sharding;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Runs work against explicit shards. Each call executes on a pool thread inside its own
+ * transaction so that the shard is chosen when that transaction acquires its connection,
+ * independently of whatever transaction the caller already holds.
+ */
+public class ShardQueryExecutor implements DisposableBean {
+    
+    private final ShardMap shardMap;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate readWriteTransaction;
+    private final ExecutorService executor;
+    
+    public ShardQueryExecutor(ShardMap shardMap, PlatformTransactionManager transactionManager, int threads) {
+        this.shardMap = shardMap;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readWriteTransaction = new TransactionTemplate(transactionManager);
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "shard-query-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    // Fans a read out to every shard in parallel and concatenates the results in shard order
+    public <T> List<T> queryAllShards(Function<String, List<T>> query) {
+        Map<String, List<T>> perShard = mapAllShards(query);
+        List<T> merged = new ArrayList<>();
+        for (List<T> rows : perShard.values()) {
+            merged.addAll(rows);
+        }
+        return merged;
+    }
+    
+    public <T> Map<String, T> mapAllShards(Function<String, T> query) {
+        Map<String, Future<T>> futures = new LinkedHashMap<>();
+        for (String shardId : shardMap.getShardIds()) {
+            futures.put(shardId, submit(shardId, null, true, () -> query.apply(shardId)));
+        }
+        Map<String, T> results = new LinkedHashMap<>();
+        for (Map.Entry<String, Future<T>> entry : futures.entrySet()) {
+            results.put(entry.getKey(), await(entry.getValue()));
+        }
+        return results;
+    }
+    
+    public <T> T executeOnShard(String shardId, String tenantId, boolean readOnly, Supplier<T> work) {
+        return await(submit(shardId, tenantId, readOnly, work));
+    }
+    
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+    
+    private <T> Future<T> submit(String shardId, String tenantId, boolean readOnly, Supplier<T> work) {
+        TransactionTemplate transaction = readOnly ? readOnlyTransaction : readWriteTransaction;
+        return executor.submit(() -> TenantContext.callOnShard(shardId, tenantId,
+                () -> transaction.execute(status -> work.get())));
+    }
+    
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for shard query", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException("Shard query failed", cause);
+        }
+    }
+}
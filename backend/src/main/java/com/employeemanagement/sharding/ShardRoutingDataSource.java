@@ -0,0 +1,26 @@
+package com.employeemanagement.sharding;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+// Picks the shard when a connection is acquired, i.e. at transaction begin
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+    
+    private final ShardMap shardMap;
+    
+    public ShardRoutingDataSource(ShardMap shardMap) {
+        this.shardMap = shardMap;
+        setTargetDataSources(shardMap.getTargetDataSources());
+        setDefaultTargetDataSource(shardMap.getDataSource(shardMap.getDirectoryShard()));
+        setLenientFallback(false);
+    }
+    
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String shardOverride = TenantContext.getShardOverride();
+        if (shardOverride != null) {
+            return shardOverride;
+        }
+        String tenantId = TenantContext.getTenantId();
+        return tenantId != null ? shardMap.shardFor(tenantId) : shardMap.getDirectoryShard();
+    }
+}
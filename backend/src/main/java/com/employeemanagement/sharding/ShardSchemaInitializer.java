@@ -0,0 +1,99 @@
+package com.employeemanagement.sharding;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.hibernate.tool.hbm2ddl.SchemaUpdate;
+import org.hibernate.tool.schema.TargetType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hibernate only manages the schema of the shard it connects to at startup (the directory
+ * shard). This applies the same mapping metadata to every other shard, and moves each
+ * shard's identity columns into the shard's id range.
+ */
+public class ShardSchemaInitializer implements Integrator, SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardSchemaInitializer.class);
+    
+    private final ShardMap shardMap;
+    private final String dialect;
+    private final boolean enabled;
+    private volatile Metadata metadata;
+    
+    public ShardSchemaInitializer(ShardMap shardMap, String dialect, boolean enabled) {
+        this.shardMap = shardMap;
+        this.dialect = dialect;
+        this.enabled = enabled;
+    }
+    
+    @Override
+    public void integrate(Metadata metadata, SessionFactoryImplementor sessionFactory,
+                          SessionFactoryServiceRegistry serviceRegistry) {
+        this.metadata = metadata;
+    }
+    
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+    
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (enabled) {
+            updateSchemas();
+        }
+        for (String shardId : shardMap.getShardIds()) {
+            startIdRange(shardId);
+        }
+    }
+    
+    private void updateSchemas() {
+        if (metadata == null) {
+            logger.warn("Hibernate metadata was not captured; shard schemas were not updated");
+            return;
+        }
+        for (String shardId : shardMap.getShardIds()) {
+            if (shardId.equals(shardMap.getDirectoryShard())) {
+                continue;
+            }
+            StandardServiceRegistryBuilder builder = new StandardServiceRegistryBuilder()
+                    .applySetting(AvailableSettings.DATASOURCE, shardMap.getDataSource(shardId));
+            if (dialect != null) {
+                builder.applySetting(AvailableSettings.DIALECT, dialect);
+            }
+            StandardServiceRegistry registry = builder.build();
+            try {
+                new SchemaUpdate().execute(EnumSet.of(TargetType.DATABASE), metadata, registry);
+                logger.info("Schema of shard {} is up to date", shardId);
+            } finally {
+                StandardServiceRegistryBuilder.destroy(registry);
+            }
+        }
+    }
+    
+    // Only an identity still below the range is restarted, so no id is ever handed out twice
+    private void startIdRange(String shardId) {
+        long start = shardMap.getIdRangeStart(shardId);
+        JdbcTemplate jdbc = new JdbcTemplate(shardMap.getDataSource(shardId));
+        List<Map<String, Object>> columns = jdbc.queryForList("SELECT TABLE_NAME, COLUMN_NAME, IDENTITY_BASE "
+                + "FROM INFORMATION_SCHEMA.COLUMNS WHERE IS_IDENTITY = 'YES' AND TABLE_SCHEMA = SCHEMA()");
+        for (Map<String, Object> column : columns) {
+            if (((Number) column.get("IDENTITY_BASE")).longValue() < start) {
+                jdbc.execute("ALTER TABLE \"" + column.get("TABLE_NAME") + "\" ALTER COLUMN \""
+                        + column.get("COLUMN_NAME") + "\" RESTART WITH " + start);
+                logger.info("Ids of {} on shard {} now start at {}", column.get("TABLE_NAME"), shardId, start);
+            }
+        }
+    }
+}
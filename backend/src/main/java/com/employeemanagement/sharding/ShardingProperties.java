@@ -0,0 +1,100 @@
+package com.employeemanagement.sharding;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "sharding")
+public class ShardingProperties {
+
+    private boolean enabled = false;
+    
+    // Shard holding the tenant assignment table and tenants without an explicit assignment hash over all shards
+    private String directoryShard;
+    
+    private Map<String, Shard> shards = new LinkedHashMap<>();
+    
+    // Static tenant -> shard assignments; moves made at runtime are persisted in the directory shard
+    private Map<String, String> tenants = new LinkedHashMap<>();
+    
+    private int queryThreads = 8;
+    
+    private int moveBatchSize = 500;
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+    
+    public String getDirectoryShard() {
+        return directoryShard;
+    }
+    
+    public void setDirectoryShard(String directoryShard) {
+        this.directoryShard = directoryShard;
+    }
+    
+    public Map<String, Shard> getShards() {
+        return shards;
+    }
+    
+    public void setShards(Map<String, Shard> shards) {
+        this.shards = shards;
+    }
+    
+    public Map<String, String> getTenants() {
+        return tenants;
+    }
+    
+    public void setTenants(Map<String, String> tenants) {
+        this.tenants = tenants;
+    }
+    
+    public int getQueryThreads() {
+        return queryThreads;
+    }
+    
+    public void setQueryThreads(int queryThreads) {
+        this.queryThreads = queryThreads;
+    }
+    
+    public int getMoveBatchSize() {
+        return moveBatchSize;
+    }
+    
+    public void setMoveBatchSize(int moveBatchSize) {
+        this.moveBatchSize = moveBatchSize;
+    }
+    
+    public static class Shard {
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+        private int maximumPoolSize = 10;
+        // Ids on the shard start at idBlock * ShardMap.ID_RANGE_SIZE; defaults to the shard's position by id
+        private Integer idBlock;
+        
+        public String getUrl() { return url; }
+        public void setUrl(String url) { this.url = url; }
+        
+        public String getUsername() { return username; }
+        public void setUsername(String username) { this.username = username; }
+        
+        public String getPassword() { return password; }
+        public void setPassword(String password) { this.password = password; }
+        
+        public String getDriverClassName() { return driverClassName; }
+        public void setDriverClassName(String driverClassName) { this.driverClassName = driverClassName; }
+        
+        public int getMaximumPoolSize() { return maximumPoolSize; }
+        public void setMaximumPoolSize(int maximumPoolSize) { this.maximumPoolSize = maximumPoolSize; }
+        
+        public Integer getIdBlock() { return idBlock; }
+        public void setIdBlock(Integer idBlock) { this.idBlock = idBlock; }
+    }
+}
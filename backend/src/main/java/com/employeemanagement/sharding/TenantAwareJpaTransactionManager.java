@@ -0,0 +1,38 @@
+package com.employeemanagement.sharding;
+
+import org.hibernate.Session;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+/**
+ * Restricts entity queries to the current tenant's rows, since several tenants can share
+ * a shard. Cross-shard tooling runs without a tenant and therefore sees every row.
+ */
+public class TenantAwareJpaTransactionManager extends JpaTransactionManager {
+    
+    public static final String TENANT_FILTER = "tenantFilter";
+    
+    public TenantAwareJpaTransactionManager(EntityManagerFactory entityManagerFactory) {
+        super(entityManagerFactory);
+    }
+    
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        super.doBegin(transaction, definition);
+        EntityManager entityManager = EntityManagerFactoryUtils.getTransactionalEntityManager(getEntityManagerFactory());
+        if (entityManager == null) {
+            return;
+        }
+        Session session = entityManager.unwrap(Session.class);
+        String tenantId = TenantContext.getTenantId();
+        if (tenantId != null) {
+            session.enableFilter(TENANT_FILTER).setParameter("tenantId", tenantId);
+        } else {
+            session.disableFilter(TENANT_FILTER);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.employeemanagement.sharding;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Thread-bound tenant of the current request. The shard override is only used by
+ * cross-shard tooling that has to address a specific shard regardless of the tenant.
+ */
+public final class TenantContext {
+
+    public static final String DEFAULT_TENANT = "default";
+    
+    private static final ThreadLocal<String> CURRENT_TENANT = new ThreadLocal<>();
+    private static final ThreadLocal<String> SHARD_OVERRIDE = new ThreadLocal<>();
+    
+    private TenantContext() {}
+    
+    public static String getTenantId() {
+        return CURRENT_TENANT.get();
+    }
+    
+    public static String getTenantIdOrDefault() {
+        String tenantId = CURRENT_TENANT.get();
+        return tenantId != null ? tenantId : DEFAULT_TENANT;
+    }
+    
+    public static void setTenantId(String tenantId) {
+        if (tenantId == null) {
+            CURRENT_TENANT.remove();
+        } else {
+            CURRENT_TENANT.set(tenantId);
+        }
+    }
+    
+    public static String getShardOverride() {
+        return SHARD_OVERRIDE.get();
+    }
+    
+    // Only platform jobs run without a tenant and see every row; HTTP requests always have one bound
+    public static boolean isVisible(String tenantId) {
+        String current = CURRENT_TENANT.get();
+        return current == null || current.equals(tenantId);
+    }
+    
+    public static <T> T callOnShard(String shardId, String tenantId, Callable<T> work) throws Exception {
+        String previousShard = SHARD_OVERRIDE.get();
+        String previousTenant = CURRENT_TENANT.get();
+        SHARD_OVERRIDE.set(shardId);
+        setTenantId(tenantId);
+        try {
+            return work.call();
+        } finally {
+            if (previousShard == null) {
+                SHARD_OVERRIDE.remove();
+            } else {
+                SHARD_OVERRIDE.set(previousShard);
+            }
+            setTenantId(previousTenant);
+        }
+    }
+    
+    public static void clear() {
+        CURRENT_TENANT.remove();
+        SHARD_OVERRIDE.remove();
+    }
+}
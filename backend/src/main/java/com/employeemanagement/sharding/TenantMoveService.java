@@ -0,0 +1,192 @@
+package com.employeemanagement.sharding;
+
+import com.employeemanagement.dto.TenantMoveResponse;
+import com.employeemanagement.event.BulkLoadCompletedEvent;
+import com.employeemanagement.outbox.OutboxRelay;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves one tenant to another shard. Writes for the tenant are rejected while the copy runs;
+ * reads keep being served from the source shard until the assignment is switched. Rows are
+ * copied column for column, ids included: every shard generates ids from its own range, so
+ * they cannot clash on the target, and clients, audit entries and event consumers keep
+ * referring to the same rows.
+ */
+public class TenantMoveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TenantMoveService.class);
+    
+    // Table -> condition selecting the tenant's rows, parents before the rows referencing them
+    private static final Map<String, String> TENANT_ROWS = new LinkedHashMap<>();
+    
+    static {
+        TENANT_ROWS.put("employees", "tenant_id = ?");
+        TENANT_ROWS.put("employee_hierarchy", "descendant_id IN (SELECT id FROM employees WHERE tenant_id = ?)");
+        TENANT_ROWS.put("users", "tenant_id = ?");
+        TENANT_ROWS.put("user_roles", "user_id IN (SELECT id FROM users WHERE tenant_id = ?)");
+        TENANT_ROWS.put("archived_employees", "tenant_id = ?");
+        TENANT_ROWS.put("employee_history", "tenant_id = ?");
+    }
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    private OutboxRelay outboxRelay;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    private final ShardMap shardMap;
+    private final ShardQueryExecutor shardQueryExecutor;
+    private final int batchSize;
+    
+    public TenantMoveService(ShardMap shardMap, ShardQueryExecutor shardQueryExecutor, int batchSize) {
+        this.shardMap = shardMap;
+        this.shardQueryExecutor = shardQueryExecutor;
+        this.batchSize = batchSize;
+    }
+    
+    public TenantMoveResponse moveTenant(String tenantId, String targetShard) {
+        shardMap.getDataSource(targetShard);
+        String sourceShard = shardMap.shardFor(tenantId);
+        if (sourceShard.equals(targetShard)) {
+            throw new IllegalArgumentException("Tenant " + tenantId + " is already on shard " + targetShard);
+        }
+        if (!shardMap.freeze(tenantId)) {
+            throw new IllegalStateException("Tenant " + tenantId + " is already being moved");
+        }
+        long start = System.nanoTime();
+        try {
+            Map<String, TableRows> tables = shardQueryExecutor.executeOnShard(sourceShard, null, true,
+                    () -> session().doReturningWork(connection -> readTenant(connection, tenantId)));
+            shardQueryExecutor.executeOnShard(targetShard, null, false, () -> {
+                session().doWork(connection -> writeTenant(connection, tables));
+                return null;
+            });
+            
+            // Writes are frozen, so once drained the source outbox holds nothing more of this tenant
+            outboxRelay.drainShard(sourceShard);
+            shardMap.assign(tenantId, targetShard);
+            shardQueryExecutor.executeOnShard(sourceShard, null, false, () -> purgeTenant(tenantId));
+            int employees = tables.get("employees").rows.size();
+            int users = tables.get("users").rows.size();
+            // The copies were written without change events, so indexes derived from them are rebuilt
+            eventPublisher.publishEvent(new BulkLoadCompletedEvent("tenant-move", employees, users));
+            
+            long durationMs = (System.nanoTime() - start) / 1_000_000;
+            logger.info("Moved tenant {} from shard {} to {} ({} employees, {} users, {} archived) in {} ms",
+                    tenantId, sourceShard, targetShard, employees, users,
+                    tables.get("archived_employees").rows.size(), durationMs);
+            return new TenantMoveResponse(tenantId, sourceShard, targetShard, employees, users, durationMs);
+        } finally {
+            shardMap.unfreeze(tenantId);
+        }
+    }
+    
+    private Session session() {
+        return entityManager.unwrap(Session.class);
+    }
+    
+    private static Map<String, TableRows> readTenant(Connection connection, String tenantId) throws SQLException {
+        Map<String, TableRows> tables = new LinkedHashMap<>();
+        for (Map.Entry<String, String> table : TENANT_ROWS.entrySet()) {
+            TableRows rows = new TableRows(table.getKey(), insertableColumns(connection, table.getKey()));
+            String sql = "SELECT " + String.join(", ", rows.columns) + " FROM " + rows.table
+                    + " WHERE " + table.getValue();
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setString(1, tenantId);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        Object[] row = new Object[rows.columns.size()];
+                        for (int i = 0; i < row.length; i++) {
+                            row[i] = resultSet.getObject(i + 1);
+                        }
+                        rows.rows.add(row);
+                    }
+                }
+            }
+            tables.put(rows.table, rows);
+        }
+        return tables;
+    }
+    
+    private void writeTenant(Connection connection, Map<String, TableRows> tables) throws SQLException {
+        for (TableRows rows : tables.values()) {
+            String sql = "INSERT INTO " + rows.table + " (" + String.join(", ", rows.columns) + ") VALUES ("
+                    + String.join(", ", Collections.nCopies(rows.columns.size(), "?")) + ")";
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                int pending = 0;
+                for (Object[] row : rows.rows) {
+                    for (int i = 0; i < row.length; i++) {
+                        statement.setObject(i + 1, row[i]);
+                    }
+                    statement.addBatch();
+                    if (++pending == batchSize) {
+                        statement.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    statement.executeBatch();
+                }
+            }
+        }
+    }
+    
+    // Generated columns are left for the target to compute
+    private static List<String> insertableColumns(Connection connection, String table) throws SQLException {
+        List<String> columns = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement("SELECT COLUMN_NAME "
+                + "FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_SCHEMA = SCHEMA() AND TABLE_NAME = ? "
+                + "AND IS_GENERATED = 'NEVER' ORDER BY ORDINAL_POSITION")) {
+            statement.setString(1, table.toUpperCase());
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    columns.add(resultSet.getString(1));
+                }
+            }
+        }
+        return columns;
+    }
+    
+    // Rows referencing others go first, the reverse of the copy order
+    private Integer purgeTenant(String tenantId) {
+        List<Map.Entry<String, String>> tables = new ArrayList<>(TENANT_ROWS.entrySet());
+        int removed = 0;
+        for (int i = tables.size() - 1; i >= 0; i--) {
+            removed += entityManager.createNativeQuery("DELETE FROM " + tables.get(i).getKey()
+                    + " WHERE " + tables.get(i).getValue().replace("?", ":tenantId"))
+                    .setParameter("tenantId", tenantId).executeUpdate();
+        }
+        return removed;
+    }
+    
+    private static final class TableRows {
+    
+        private final String table;
+        private final List<String> columns;
+        private final List<Object[]> rows = new ArrayList<>();
+        
+        TableRows(String table, List<String> columns) {
+            this.table = table;
+            this.columns = columns;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.employeemanagement.sharding;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+// Rejects writes for a tenant while it is being moved so the copy stays consistent
+public class TenantWriteFreezeInterceptor implements HandlerInterceptor {
+    
+    private final ShardMap shardMap;
+    
+    public TenantWriteFreezeInterceptor(ShardMap shardMap) {
+        this.shardMap = shardMap;
+    }
+    
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws Exception {
+        if (HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod())
+                || HttpMethod.OPTIONS.matches(request.getMethod())) {
+            return true;
+        }
+        if (shardMap.isFrozen(TenantContext.getTenantId())) {
+            response.setHeader("Retry-After", "5");
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "Tenant is being moved to another shard");
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,249 @@
+package com.employeemanagement.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Append-only log of keyed records kept in fixed-size, memory-mapped segment files.
+ * Appends and {@link #force()} must come from a single writer thread; reads are safe
+ * from any thread once the position returned by {@link #append} has been published.
+ */
+public class MappedSegmentLog implements Closeable {
+
+    // Record layout: [int payloadLength][long key][payload]. A zero length marks the end of the data.
+    private static final int HEADER_SIZE = Integer.BYTES + Long.BYTES;
+    
+    private final Path directory;
+    private final String prefix;
+    private final int segmentSize;
+    private final Pattern fileNamePattern;
+    private final ConcurrentSkipListMap<Integer, Segment> segments = new ConcurrentSkipListMap<>();
+    private Segment active;
+    
+    public MappedSegmentLog(Path directory, String prefix, int segmentSize) throws IOException {
+        if (segmentSize < 1024) {
+            throw new IllegalArgumentException("Segment size must be at least 1024 bytes");
+        }
+        this.directory = directory;
+        this.prefix = prefix;
+        this.segmentSize = segmentSize;
+        this.fileNamePattern = Pattern.compile(Pattern.quote(prefix) + "-(\\d+)\\.seg");
+        
+        Files.createDirectories(directory);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, prefix + "-*.seg")) {
+            for (Path file : files) {
+                Matcher matcher = fileNamePattern.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    int number = Integer.parseInt(matcher.group(1));
+                    segments.put(number, Segment.open(file, number, segmentSize));
+                }
+            }
+        }
+        if (segments.isEmpty()) {
+            segments.put(0, Segment.open(segmentFile(0), 0, segmentSize));
+        }
+        active = segments.lastEntry().getValue();
+    }
+    
+    public long append(long key, byte[] payload) throws IOException {
+        if (payload.length == 0) {
+            throw new IllegalArgumentException("Payload must not be empty");
+        }
+        int recordSize = HEADER_SIZE + payload.length;
+        if (recordSize + Integer.BYTES > segmentSize) {
+            throw new IllegalArgumentException("Record of " + payload.length + " bytes does not fit in a segment");
+        }
+        if (active.remaining() < recordSize + Integer.BYTES) {
+            roll();
+        }
+        int offset = active.write(key, payload);
+        return position(active.number, offset);
+    }
+    
+    public byte[] read(long position) {
+        Segment segment = segments.get(segmentNumber(position));
+        if (segment == null) {
+            throw new IllegalArgumentException("No segment for position " + position);
+        }
+        return segment.read(offset(position));
+    }
+    
+    public long keyAt(long position) {
+        Segment segment = segments.get(segmentNumber(position));
+        if (segment == null) {
+            throw new IllegalArgumentException("No segment for position " + position);
+        }
+        return segment.buffer.getLong(offset(position) + Integer.BYTES);
+    }
+    
+    // Visits every record in append order; used to rebuild in-memory indexes on startup
+    public void scan(RecordVisitor visitor) {
+        for (Map.Entry<Integer, Segment> entry : segments.entrySet()) {
+            Segment segment = entry.getValue();
+            int offset = 0;
+            int end = segment.writePosition;
+            while (offset < end) {
+                int length = segment.buffer.getInt(offset);
+                long key = segment.buffer.getLong(offset + Integer.BYTES);
+                visitor.visit(key, position(segment.number, offset));
+                offset += HEADER_SIZE + length;
+            }
+        }
+    }
+    
+    // Position of the first record, from which a reader with no saved position starts
+    public long startPosition() {
+        return position(segments.firstKey(), 0);
+    }
+    
+    // Position where the next record will be appended; only the writer thread may call this
+    public long endPosition() {
+        return position(active.number, active.writePosition);
+    }
+    
+    /**
+     * Visits up to {@code maxRecords} records from {@code position} up to {@code end}, both
+     * positions returned by {@link #append}, {@link #startPosition()} or {@link #endPosition()},
+     * and returns the position to continue from. Safe from any thread once {@code end} has been
+     * published by the writer.
+     */
+    public long scanFrom(long position, long end, int maxRecords, RecordVisitor visitor) {
+        int visited = 0;
+        while (visited < maxRecords && position < end) {
+            Segment segment = segments.get(segmentNumber(position));
+            if (segment == null) {
+                throw new IllegalArgumentException("No segment for position " + position);
+            }
+            // Segments before the end one are sealed, so their write position no longer changes
+            int limit = segment.number == segmentNumber(end) ? offset(end) : segment.writePosition;
+            int offset = offset(position);
+            if (offset >= limit) {
+                position = position(segments.higherKey(segment.number), 0);
+                continue;
+            }
+            visitor.visit(segment.buffer.getLong(offset + Integer.BYTES), position);
+            position = position(segment.number, offset + HEADER_SIZE + segment.buffer.getInt(offset));
+            visited++;
+        }
+        return position;
+    }
+    
+    public void force() {
+        active.buffer.force();
+    }
+    
+    public int segmentCount() {
+        return segments.size();
+    }
+    
+    @Override
+    public void close() throws IOException {
+        force();
+        for (Segment segment : segments.values()) {
+            segment.channel.close();
+        }
+        segments.clear();
+    }
+    
+    private void roll() throws IOException {
+        active.buffer.force();
+        int next = active.number + 1;
+        Segment segment = Segment.open(segmentFile(next), next, segmentSize);
+        segments.put(next, segment);
+        active = segment;
+    }
+    
+    private Path segmentFile(int number) {
+        return directory.resolve(String.format("%s-%010d.seg", prefix, number));
+    }
+    
+    private static long position(int segmentNumber, int offset) {
+        return ((long) segmentNumber << 32) | (offset & 0xffffffffL);
+    }
+    
+    private static int segmentNumber(long position) {
+        return (int) (position >>> 32);
+    }
+    
+    private static int offset(long position) {
+        return (int) position;
+    }
+    
+    @FunctionalInterface
+    public interface RecordVisitor {
+        void visit(long key, long position);
+    }
+    
+    private static final class Segment {
+    
+        private final int number;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private int writePosition;
+        
+        private Segment(int number, FileChannel channel, MappedByteBuffer buffer) {
+            this.number = number;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+        
+        static Segment open(Path file, int number, int segmentSize) throws IOException {
+            FileChannel channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            long size = Math.max(channel.size(), segmentSize);
+            Segment segment = new Segment(number, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+            segment.writePosition = segment.recoverWritePosition();
+            return segment;
+        }
+        
+        // Walks the records until the end marker or a torn record left by a crash
+        private int recoverWritePosition() {
+            int capacity = buffer.capacity();
+            int offset = 0;
+            while (offset + HEADER_SIZE <= capacity) {
+                int length = buffer.getInt(offset);
+                if (length <= 0 || offset + HEADER_SIZE + length > capacity) {
+                    break;
+                }
+                offset += HEADER_SIZE + length;
+            }
+            return offset;
+        }
+        
+        int remaining() {
+            return buffer.capacity() - writePosition;
+        }
+        
+        int write(long key, byte[] payload) {
+            int start = writePosition;
+            ByteBuffer target = buffer.duplicate();
+            target.position(start + HEADER_SIZE);
+            target.put(payload);
+            buffer.putLong(start + Integer.BYTES, key);
+            // The length goes in last so a partially written record is never recovered
+            buffer.putInt(start, payload.length);
+            writePosition = start + HEADER_SIZE + payload.length;
+            return start;
+        }
+        
+        byte[] read(int offset) {
+            int length = buffer.getInt(offset);
+            byte[] payload = new byte[length];
+            ByteBuffer source = buffer.duplicate();
+            source.position(offset + HEADER_SIZE);
+            source.get(payload);
+            return payload;
+        }
+    }
+}
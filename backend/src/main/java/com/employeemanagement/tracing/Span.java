@@ -0,0 +1,114 @@
+package com.employeemanagement.tracing;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A timed operation within a trace. Spans are only touched by the thread that started them;
+ * when no trace is active {@link Tracer} hands out {@link #NOOP}, which ignores everything.
+ */
+public final class Span {
+    
+    static final Span NOOP = new Span(null, null, null, "noop", SpanKind.INTERNAL, 0);
+    
+    private final Trace trace;
+    private final String spanId;
+    private final String parentSpanId;
+    private final SpanKind kind;
+    private final long startNanoTime;
+    private String name;
+    private long endNanoTime;
+    private Map<String, Object> attributes;
+    private String errorMessage;
+    
+    Span(Trace trace, String spanId, String parentSpanId, String name, SpanKind kind, long startNanoTime) {
+        this.trace = trace;
+        this.spanId = spanId;
+        this.parentSpanId = parentSpanId;
+        this.name = name;
+        this.kind = kind;
+        this.startNanoTime = startNanoTime;
+    }
+    
+    public boolean isRecording() {
+        return trace != null;
+    }
+    
+    public String getTraceId() {
+        return trace != null ? trace.getTraceId() : null;
+    }
+    
+    public String getSpanId() {
+        return spanId;
+    }
+    
+    public Span setName(String name) {
+        if (trace != null) {
+            this.name = name;
+        }
+        return this;
+    }
+    
+    public Span setAttribute(String key, Object value) {
+        if (trace != null && value != null) {
+            if (attributes == null) {
+                attributes = new LinkedHashMap<>();
+            }
+            attributes.put(key, value);
+        }
+        return this;
+    }
+    
+    public Span setError(String message) {
+        if (trace != null) {
+            errorMessage = message != null ? message : "error";
+            trace.markError();
+        }
+        return this;
+    }
+    
+    public Span recordError(Throwable error) {
+        return setError(error.getClass().getSimpleName() + ": " + error.getMessage());
+    }
+    
+    Trace getTrace() {
+        return trace;
+    }
+    
+    String getParentSpanId() {
+        return parentSpanId;
+    }
+    
+    String getName() {
+        return name;
+    }
+    
+    SpanKind getKind() {
+        return kind;
+    }
+    
+    long getStartNanoTime() {
+        return startNanoTime;
+    }
+    
+    long getEndNanoTime() {
+        return endNanoTime;
+    }
+    
+    boolean isEnded() {
+        return endNanoTime != 0;
+    }
+    
+    void end(long endNanoTime) {
+        this.endNanoTime = endNanoTime;
+    }
+    
+    Map<String, Object> getAttributes() {
+        return attributes != null ? attributes : Collections.emptyMap();
+    }
+    
+    String getErrorMessage() {
+        return errorMessage;
+    }
+}
@@ -0,0 +1,18 @@
+package com.employeemanagement.tracing;
+
+// Numbered as in the OTLP protocol
+public enum SpanKind {
+    INTERNAL(1),
+    SERVER(2),
+    CLIENT(3);
+    
+    private final int code;
+    
+    SpanKind(int code) {
+        this.code = code;
+    }
+    
+    public int getCode() {
+        return code;
+    }
+}
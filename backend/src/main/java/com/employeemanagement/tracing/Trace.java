@@ -0,0 +1,73 @@
+package com.employeemanagement.tracing;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+// The spans of one request, recorded on the request thread until the root span ends
+final class Trace {
+    
+    private final String traceId;
+    private final boolean headSampled;
+    private final long epochOffsetNanos;
+    private final List<Span> spans = new ArrayList<>();
+    private final Deque<Span> open = new ArrayDeque<>();
+    private Span root;
+    private int droppedSpans;
+    private boolean error;
+    
+    Trace(String traceId, boolean headSampled) {
+        this.traceId = traceId;
+        this.headSampled = headSampled;
+        this.epochOffsetNanos = System.currentTimeMillis() * 1_000_000L - System.nanoTime();
+    }
+    
+    String getTraceId() {
+        return traceId;
+    }
+    
+    boolean isHeadSampled() {
+        return headSampled;
+    }
+    
+    long toEpochNanos(long nanoTime) {
+        return nanoTime + epochOffsetNanos;
+    }
+    
+    List<Span> getSpans() {
+        return spans;
+    }
+    
+    Deque<Span> getOpenSpans() {
+        return open;
+    }
+    
+    int getSpanCount() {
+        return spans.size() + open.size();
+    }
+    
+    Span getRoot() {
+        return root;
+    }
+    
+    void setRoot(Span root) {
+        this.root = root;
+    }
+    
+    int getDroppedSpans() {
+        return droppedSpans;
+    }
+    
+    void dropSpan() {
+        droppedSpans++;
+    }
+    
+    boolean hasError() {
+        return error;
+    }
+    
+    void markError() {
+        error = true;
+    }
+}
@@ -0,0 +1,217 @@
+package com.employeemanagement.tracing;
+
+import com.employeemanagement.util.MpscRingBuffer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Writes finished traces to a local file in the OTLP/JSON format, one
+ * {@code ExportTraceServiceRequest} per line, as read by the OpenTelemetry Collector's
+ * {@code otlpjsonfile} receiver. Traces are handed over through a lock-free ring buffer and
+ * written in batches on a background thread; when the buffer is full they are dropped.
+ */
+@Component
+public class TraceExporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(TraceExporter.class);
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    @Value("${tracing.file:logs/traces.jsonl}")
+    private String file;
+
+    @Value("${tracing.max-file-bytes:104857600}")
+    private long maxFileBytes;
+
+    @Value("${tracing.buffer-capacity:1024}")
+    private int bufferCapacity;
+
+    @Value("${tracing.batch-size:64}")
+    private int batchSize;
+
+    @Value("${spring.application.name:employee-management}")
+    private String serviceName;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong exported = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    private MpscRingBuffer<Trace> buffer;
+    private Path path;
+    private BufferedWriter writer;
+    private long fileBytes;
+    private Thread thread;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        buffer = new MpscRingBuffer<>(bufferCapacity);
+        path = Paths.get(file);
+        running = true;
+        thread = new Thread(this::run, "trace-exporter");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(thread);
+        thread.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    public boolean export(Trace trace) {
+        if (buffer.offer(trace)) {
+            return true;
+        }
+        dropped.incrementAndGet();
+        return false;
+    }
+
+    public long getExportedCount() {
+        return exported.get();
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    private void run() {
+        List<Trace> batch = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            buffer.drain(batch::add, batchSize);
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            } else if (running) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        closeWriter();
+    }
+
+    private void write(List<Trace> batch) {
+        try {
+            byte[] line = objectMapper.writeValueAsBytes(toExportRequest(batch));
+            if (writer == null || fileBytes + line.length + 1 > maxFileBytes) {
+                roll();
+            }
+            writer.write(new String(line, StandardCharsets.UTF_8));
+            writer.write('\n');
+            writer.flush();
+            fileBytes += line.length + 1;
+            exported.addAndGet(batch.size());
+        } catch (IOException e) {
+            dropped.addAndGet(batch.size());
+            logger.warn("Cannot write {} traces to {}: {}", batch.size(), path, e.getMessage());
+            closeWriter();
+        }
+    }
+
+    // Keeps one previous file, so the traces on disk never exceed twice the limit
+    private void roll() throws IOException {
+        closeWriter();
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        if (Files.exists(path) && Files.size(path) > 0) {
+            Files.move(path, path.resolveSibling(path.getFileName() + ".1"), StandardCopyOption.REPLACE_EXISTING);
+        }
+        writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        fileBytes = 0;
+    }
+
+    private void closeWriter() {
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                logger.debug("Cannot close {}: {}", path, e.getMessage());
+            }
+            writer = null;
+        }
+    }
+
+    private Map<String, Object> toExportRequest(List<Trace> traces) {
+        List<Object> spans = new ArrayList<>();
+        for (Trace trace : traces) {
+            for (Span span : trace.getSpans()) {
+                spans.add(toSpan(trace, span));
+            }
+        }
+        Map<String, Object> scope = new LinkedHashMap<>();
+        scope.put("scope", Collections.singletonMap("name", "com.employeemanagement"));
+        scope.put("spans", spans);
+        Map<String, Object> resource = new LinkedHashMap<>();
+        resource.put("resource", Collections.singletonMap("attributes",
+                Collections.singletonList(attribute("service.name", serviceName))));
+        resource.put("scopeSpans", Collections.singletonList(scope));
+        return Collections.singletonMap("resourceSpans", Collections.singletonList(resource));
+    }
+
+    private Map<String, Object> toSpan(Trace trace, Span span) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("traceId", trace.getTraceId());
+        json.put("spanId", span.getSpanId());
+        if (span.getParentSpanId() != null) {
+            json.put("parentSpanId", span.getParentSpanId());
+        }
+        json.put("name", span.getName());
+        json.put("kind", span.getKind().getCode());
+        // 64-bit integers are strings in the protobuf JSON mapping
+        json.put("startTimeUnixNano", Long.toString(trace.toEpochNanos(span.getStartNanoTime())));
+        json.put("endTimeUnixNano", Long.toString(trace.toEpochNanos(span.getEndNanoTime())));
+        List<Object> attributes = new ArrayList<>();
+        for (Map.Entry<String, Object> entry : span.getAttributes().entrySet()) {
+            attributes.add(attribute(entry.getKey(), entry.getValue()));
+        }
+        json.put("attributes", attributes);
+        if (span.getErrorMessage() != null) {
+            Map<String, Object> status = new LinkedHashMap<>();
+            status.put("code", 2);
+            status.put("message", span.getErrorMessage());
+            json.put("status", status);
+        }
+        return json;
+    }
+
+    private static Map<String, Object> attribute(String key, Object value) {
+        Map<String, Object> attribute = new LinkedHashMap<>();
+        attribute.put("key", key);
+        Object typed;
+        if (value instanceof Boolean) {
+            typed = Collections.singletonMap("boolValue", value);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short) {
+            typed = Collections.singletonMap("intValue", value.toString());
+        } else if (value instanceof Number) {
+            typed = Collections.singletonMap("doubleValue", ((Number) value).doubleValue());
+        } else {
+            typed = Collections.singletonMap("stringValue", value.toString());
+        }
+        attribute.put("value", typed);
+        return attribute;
+    }
+}
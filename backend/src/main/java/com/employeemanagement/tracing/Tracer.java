@@ -0,0 +1,196 @@
+package com.employeemanagement.tracing;
+
+import com.employeemanagement.dto.TraceStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records request traces. Every request is recorded in memory on its own thread, and the
+ * sampling decision is taken when the root span ends: a trace is exported when it was head
+ * sampled (by {@code tracing.head-sample-rate} or the caller's W3C {@code traceparent} flag),
+ * and always when it was slower than {@code tracing.slow-threshold-ms} or recorded an error.
+ */
+@Component
+public class Tracer {
+
+    private static final int TRACEPARENT_LENGTH = 55;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    @Autowired
+    private TraceExporter exporter;
+
+    @Value("${tracing.enabled:true}")
+    private boolean enabled;
+
+    @Value("${tracing.head-sample-rate:0.01}")
+    private double headSampleRate;
+
+    @Value("${tracing.slow-threshold-ms:500}")
+    private long slowThresholdMs;
+
+    @Value("${tracing.max-spans-per-trace:1000}")
+    private int maxSpansPerTrace;
+
+    private final ThreadLocal<Trace> currentTrace = new ThreadLocal<>();
+
+    private final LongAdder started = new LongAdder();
+    private final LongAdder keptByHead = new LongAdder();
+    private final LongAdder keptAsSlow = new LongAdder();
+    private final LongAdder keptAsError = new LongAdder();
+    private final LongAdder discarded = new LongAdder();
+
+    public boolean isTracing() {
+        return currentTrace.get() != null;
+    }
+
+    // Starts the root span of a request, continuing the caller's trace when a traceparent is given
+    public Span startTrace(String name, String traceparent) {
+        if (!enabled) {
+            return Span.NOOP;
+        }
+        String traceId;
+        String parentSpanId = null;
+        boolean sampled;
+        if (isValidTraceparent(traceparent)) {
+            traceId = traceparent.substring(3, 35);
+            parentSpanId = traceparent.substring(36, 52);
+            sampled = (Character.digit(traceparent.charAt(54), 16) & 1) != 0;
+        } else {
+            traceId = randomHex(16);
+            sampled = ThreadLocalRandom.current().nextDouble() < headSampleRate;
+        }
+        Trace trace = new Trace(traceId, sampled);
+        currentTrace.set(trace);
+        started.increment();
+        Span root = new Span(trace, randomHex(8), parentSpanId, name, SpanKind.SERVER, System.nanoTime());
+        trace.setRoot(root);
+        trace.getOpenSpans().push(root);
+        return root;
+    }
+
+    public Span startSpan(String name, SpanKind kind) {
+        return startSpan(name, kind, System.nanoTime());
+    }
+
+    public Span startSpan(String name, SpanKind kind, long startNanoTime) {
+        Trace trace = currentTrace.get();
+        if (trace == null) {
+            return Span.NOOP;
+        }
+        if (trace.getSpanCount() >= maxSpansPerTrace) {
+            trace.dropSpan();
+            return Span.NOOP;
+        }
+        Span parent = trace.getOpenSpans().peek();
+        Span span = new Span(trace, randomHex(8), parent != null ? parent.getSpanId() : null, name, kind,
+                startNanoTime);
+        trace.getOpenSpans().push(span);
+        return span;
+    }
+
+    public void endSpan(Span span) {
+        endSpan(span, System.nanoTime());
+    }
+
+    public void endSpan(Span span, long endNanoTime) {
+        Trace trace = span.getTrace();
+        if (trace == null || span.isEnded()) {
+            return;
+        }
+        span.end(endNanoTime);
+        trace.getOpenSpans().remove(span);
+        trace.getSpans().add(span);
+        if (span == trace.getRoot()) {
+            finish(trace, endNanoTime);
+        }
+    }
+
+    public String getTraceparent(Span span) {
+        if (!span.isRecording()) {
+            return null;
+        }
+        return "00-" + span.getTraceId() + "-" + span.getSpanId() + (span.getTrace().isHeadSampled() ? "-01" : "-00");
+    }
+
+    public TraceStats getStats() {
+        return new TraceStats(enabled, headSampleRate, slowThresholdMs, started.sum(), keptByHead.sum(),
+                keptAsSlow.sum(), keptAsError.sum(), discarded.sum(), exporter.getExportedCount(),
+                exporter.getDroppedCount());
+    }
+
+    private void finish(Trace trace, long endNanoTime) {
+        if (currentTrace.get() == trace) {
+            currentTrace.remove();
+        }
+        // Spans left open by an escaping exception end with the request
+        for (Iterator<Span> iterator = trace.getOpenSpans().iterator(); iterator.hasNext(); ) {
+            Span open = iterator.next();
+            open.end(endNanoTime);
+            trace.getSpans().add(open);
+            iterator.remove();
+        }
+        Span root = trace.getRoot();
+        String reason;
+        if (trace.hasError()) {
+            reason = "error";
+            keptAsError.increment();
+        } else if (endNanoTime - root.getStartNanoTime() >= TimeUnit.MILLISECONDS.toNanos(slowThresholdMs)) {
+            reason = "slow";
+            keptAsSlow.increment();
+        } else if (trace.isHeadSampled()) {
+            reason = "head";
+            keptByHead.increment();
+        } else {
+            discarded.increment();
+            return;
+        }
+        root.setAttribute("sampling.reason", reason);
+        if (trace.getDroppedSpans() > 0) {
+            root.setAttribute("tracing.dropped_spans", trace.getDroppedSpans());
+        }
+        exporter.export(trace);
+    }
+
+    private static boolean isValidTraceparent(String traceparent) {
+        if (traceparent == null || traceparent.length() != TRACEPARENT_LENGTH || !traceparent.startsWith("00-")
+                || traceparent.charAt(35) != '-' || traceparent.charAt(52) != '-') {
+            return false;
+        }
+        boolean nonZeroTraceId = false;
+        boolean nonZeroSpanId = false;
+        for (int i = 3; i < TRACEPARENT_LENGTH; i++) {
+            if (i == 35 || i == 52) {
+                continue;
+            }
+            char c = traceparent.charAt(i);
+            if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'))) {
+                return false;
+            }
+            if (c != '0' && i < 35) {
+                nonZeroTraceId = true;
+            } else if (c != '0' && i < 52) {
+                nonZeroSpanId = true;
+            }
+        }
+        return nonZeroTraceId && nonZeroSpanId;
+    }
+
+    private static String randomHex(int bytes) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        char[] chars = new char[bytes * 2];
+        for (int i = 0; i < chars.length; i += 16) {
+            long value = random.nextLong();
+            for (int j = i; j < Math.min(i + 16, chars.length); j++) {
+                chars[j] = HEX[(int) (value & 0xF)];
+                value >>>= 4;
+            }
+        }
+        return new String(chars);
+    }
+}
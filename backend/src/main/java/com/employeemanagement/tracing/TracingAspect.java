@@ -0,0 +1,59 @@
+package com.employeemanagement.tracing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Spans for controller and service calls. Runs outside the method security and transaction
+ * advice, so a controller span includes {@code @PreAuthorize} evaluation and a service span
+ * includes commit.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TracingAspect {
+    
+    @Autowired
+    private Tracer tracer;
+    
+    private final Map<Method, String> spanNames = new ConcurrentHashMap<>();
+    
+    @Around("within(com.employeemanagement.controller..*) && execution(public * *(..))")
+    public Object traceController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint);
+    }
+    
+    @Around("(within(com.employeemanagement.service..*) && execution(public * *(..)))"
+            + " || execution(* com.employeemanagement.security.UserDetailsServiceImpl.loadUserByUsername(..))")
+    public Object traceService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint);
+    }
+    
+    private Object trace(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!tracer.isTracing()) {
+            return joinPoint.proceed();
+        }
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        String name = spanNames.computeIfAbsent(method,
+                m -> m.getDeclaringClass().getSimpleName() + "." + m.getName());
+        Span span = tracer.startSpan(name, SpanKind.INTERNAL);
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            span.recordError(e);
+            throw e;
+        } finally {
+            tracer.endSpan(span);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.employeemanagement.tracing;
+
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Opens the root span of every request, outside the access log and security filters so that
+ * their time is part of the trace. The trace id is put in the MDC, so the event log can be
+ * joined with the exported traces, and returned in the W3C {@code traceresponse} header.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 2)
+public class TracingFilter extends OncePerRequestFilter {
+    
+    public static final String TRACEPARENT_HEADER = "traceparent";
+    public static final String TRACERESPONSE_HEADER = "traceresponse";
+    public static final String MDC_TRACE_ID = "traceId";
+    
+    @Autowired
+    private Tracer tracer;
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Span span = tracer.startTrace(request.getMethod(), request.getHeader(TRACEPARENT_HEADER));
+        if (!span.isRecording()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        MDC.put(MDC_TRACE_ID, span.getTraceId());
+        response.setHeader(TRACERESPONSE_HEADER, tracer.getTraceparent(span));
+        span.setAttribute("http.method", request.getMethod())
+                .setAttribute("http.target", request.getRequestURI());
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            span.recordError(e);
+            throw e;
+        } finally {
+            Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (route != null) {
+                span.setName(request.getMethod() + " " + route).setAttribute("http.route", route);
+            }
+            int status = response.getStatus();
+            span.setAttribute("http.status_code", status);
+            if (status >= 500) {
+                span.setError("HTTP " + status);
+            }
+            tracer.endSpan(span);
+            MDC.remove(MDC_TRACE_ID);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.employeemanagement.tracing;
+
+import com.employeemanagement.jdbc.StatementExecution;
+import com.employeemanagement.jdbc.StatementListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+
+// Records every JDBC statement of a traced request as a client span named after its operation
+@Component
+public class TracingStatementListener implements StatementListener {
+    
+    private static final int MAX_STATEMENT_LENGTH = 2000;
+    
+    @Autowired
+    private Tracer tracer;
+    
+    @Value("${spring.datasource.url:}")
+    private String datasourceUrl;
+    
+    private String dbSystem;
+    
+    @PostConstruct
+    public void init() {
+        // jdbc:h2:mem:testdb -> h2
+        String[] parts = datasourceUrl.split(":");
+        dbSystem = parts.length > 1 ? parts[1] : "other_sql";
+    }
+    
+    @Override
+    public boolean isActive() {
+        return tracer.isTracing();
+    }
+    
+    @Override
+    public void onExecuted(StatementExecution execution) {
+        String sql = execution.getSql() != null ? execution.getSql() : "";
+        String operation = operation(sql);
+        Span span = tracer.startSpan(operation, SpanKind.CLIENT, execution.getStartNanoTime());
+        span.setAttribute("db.system", dbSystem)
+                .setAttribute("db.operation", operation)
+                .setAttribute("db.statement", sql.length() > MAX_STATEMENT_LENGTH
+                        ? sql.substring(0, MAX_STATEMENT_LENGTH) : sql);
+        if (execution.getBatchSize() > 1) {
+            span.setAttribute("db.batch_size", execution.getBatchSize());
+        }
+        if (execution.getError() != null) {
+            span.recordError(execution.getError());
+        }
+        tracer.endSpan(span, execution.getStartNanoTime() + execution.getElapsedNanos());
+    }
+    
+    private static String operation(String sql) {
+        int start = 0;
+        while (start < sql.length() && !Character.isLetter(sql.charAt(start))) {
+            start++;
+        }
+        int end = start;
+        while (end < sql.length() && Character.isLetter(sql.charAt(end))) {
+            end++;
+        }
+        return end > start ? sql.substring(start, end).toUpperCase() : "SQL";
+    }
+}
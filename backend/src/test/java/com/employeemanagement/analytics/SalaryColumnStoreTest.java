@@ -0,0 +1,80 @@
+package com.employeemanagement.analytics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SalaryColumnStoreTest {
+    
+    private SalaryColumnStore store;
+    
+    @BeforeEach
+    void setUp() {
+        store = new SalaryColumnStore();
+        for (int i = 1; i <= 100; i++) {
+            store.upsert(i, i * 100_00L, i % 2 == 0 ? "Engineering" : "Marketing", 19000 + i);
+        }
+    }
+    
+    @Test
+    void testPercentiles() {
+        long[] result = store.percentiles(new double[] {50, 90, 100}, ColumnFilter.ALL);
+        
+        assertArrayEquals(new long[] {50 * 100_00L, 90 * 100_00L, 100 * 100_00L}, result);
+    }
+    
+    @Test
+    void testPercentilesForDepartment() {
+        ColumnFilter engineering = store.filter("Engineering", Integer.MIN_VALUE, Integer.MAX_VALUE);
+        
+        long[] result = store.percentiles(new double[] {50}, engineering);
+        
+        assertEquals(50 * 100_00L, result[0]);
+        assertEquals(50, store.range(engineering)[0]);
+    }
+    
+    @Test
+    void testUnknownDepartmentMatchesNothing() {
+        ColumnFilter unknown = store.filter("Legal", Integer.MIN_VALUE, Integer.MAX_VALUE);
+        
+        assertEquals(0, store.range(unknown)[0]);
+        assertEquals(-1, store.percentiles(new double[] {50}, unknown)[0]);
+    }
+    
+    @Test
+    void testRemoveKeepsRemainingRows() {
+        store.remove(100);
+        store.remove(1);
+        
+        long[] range = store.range(ColumnFilter.ALL);
+        assertEquals(98, range[0]);
+        assertEquals(2 * 100_00L, range[1]);
+        assertEquals(99 * 100_00L, range[2]);
+    }
+    
+    @Test
+    void testUpsertMovesEmployeeBetweenDepartments() {
+        store.upsert(2, 500_00L, "Marketing", 19002);
+        
+        long[] aggregates = store.departmentAggregates(ColumnFilter.ALL);
+        int marketing = store.departmentCode("Marketing");
+        int engineering = store.departmentCode("Engineering");
+        assertEquals(51, aggregates[marketing * 4]);
+        assertEquals(49, aggregates[engineering * 4]);
+        assertEquals(4 * 100_00L, aggregates[engineering * 4 + 2]);
+    }
+    
+    @Test
+    void testHistogramAndRaiseSimulation() {
+        long[] histogram = store.histogram(ColumnFilter.ALL, 100_00L, 1000_00L, 10);
+        assertEquals(10, histogram[0]);
+        assertEquals(10, histogram[9]);
+        
+        int[] raises = new int[2];
+        raises[store.departmentCode("Engineering")] = 1000;
+        long[] payroll = store.simulateRaise(ColumnFilter.ALL, raises);
+        int engineering = store.departmentCode("Engineering");
+        assertEquals(payroll[engineering * 2] * 11 / 10, payroll[engineering * 2 + 1]);
+    }
+}
@@ -0,0 +1,79 @@
+package com.employeemanagement.audit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class AuditWriterTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AuditLogStore store = mock(AuditLogStore.class);
+    private final ExecutorService producer = Executors.newSingleThreadExecutor();
+    private AuditWriter writer;
+    
+    @AfterEach
+    void stop() throws InterruptedException {
+        release.countDown();
+        producer.shutdownNow();
+        writer.stop();
+    }
+    
+    @Test
+    void testFullBufferMakesTheProducerWaitInsteadOfDropping() throws Exception {
+        writer = startWriter(10_000);
+        
+        Future<?> enqueued = producer.submit(() -> {
+            for (long id = 1; id <= 5; id++) {
+                writer.enqueue(entry(id));
+            }
+        });
+        assertThrows(TimeoutException.class, () -> enqueued.get(200, TimeUnit.MILLISECONDS));
+        release.countDown();
+        enqueued.get(10, TimeUnit.SECONDS);
+        
+        verify(store, timeout(10_000).times(5)).append(any());
+        assertTrue(writer.getStalledCount() > 0);
+        assertEquals(0, writer.getFailedCount());
+    }
+    
+    @Test
+    void testEnqueueFailsWhenTheWriterCannotMakeRoomInTime() throws Exception {
+        writer = startWriter(50);
+        
+        assertThrows(IllegalStateException.class, () -> {
+            for (long id = 1; id <= 5; id++) {
+                writer.enqueue(entry(id));
+            }
+        });
+        assertEquals(1, writer.getFailedCount());
+    }
+    
+    // The store blocks every append until the test releases it, so the two-slot buffer fills up
+    private AuditWriter startWriter(long enqueueTimeoutMs) throws Exception {
+        doAnswer(invocation -> release.await(10, TimeUnit.SECONDS)).when(store).append(any());
+        AuditWriter auditWriter = new AuditWriter();
+        ReflectionTestUtils.setField(auditWriter, "auditLogStore", store);
+        ReflectionTestUtils.setField(auditWriter, "bufferCapacity", 2);
+        ReflectionTestUtils.setField(auditWriter, "batchSize", 1);
+        ReflectionTestUtils.setField(auditWriter, "fsyncIntervalMs", 1000L);
+        ReflectionTestUtils.setField(auditWriter, "enqueueTimeoutMs", enqueueTimeoutMs);
+        auditWriter.start();
+        return auditWriter;
+    }
+    
+    private static AuditEntry entry(long id) {
+        return new AuditEntry(AuditEntityType.EMPLOYEE, id, "default", "UPDATED", "test", Instant.now(), null, null);
+    }
+}
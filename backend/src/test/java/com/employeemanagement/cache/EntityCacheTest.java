@@ -0,0 +1,39 @@
+package com.employeemanagement.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityCacheTest {
+    
+    @Test
+    void testLoadRacingAnInvalidationIsNotCached() {
+        EntityCache<Long, String> cache = new EntityCache<>(100, 60_000);
+        long before = cache.beginLoad();
+        cache.invalidate(1L);
+        cache.put(1L, null, "stale", before);
+        assertNull(cache.get(1L, null));
+        
+        long after = cache.beginLoad();
+        cache.put(1L, null, "fresh", after);
+        assertEquals("fresh", cache.get(1L, null));
+        
+        long beforeFlush = cache.beginLoad();
+        cache.invalidateAll();
+        cache.put(2L, null, "stale", beforeFlush);
+        assertNull(cache.get(2L, null));
+    }
+    
+    @Test
+    void testScopeMismatchIsAMissAndSizeIsBounded() {
+        EntityCache<Long, String> cache = new EntityCache<>(100, 60_000);
+        cache.put(1L, "acme", "acme-1", cache.beginLoad());
+        assertNull(cache.get(1L, "globex"));
+        assertEquals("acme-1", cache.get(1L, "acme"));
+        
+        for (long id = 0; id < 1_000; id++) {
+            cache.put(id, null, "v" + id, cache.beginLoad());
+        }
+        assertTrue(cache.size() <= 100);
+    }
+}
@@ -1,12 +1,16 @@
 package com.employeemanagement.controller;
 
 import com.employeemanagement.dto.EmployeeRequest;
+import com.employeemanagement.dto.LoginRequest;
 import com.employeemanagement.entity.Employee;
 import com.employeemanagement.entity.Role;
 import com.employeemanagement.entity.User;
+import com.employeemanagement.jdbc.Inspection;
+import com.employeemanagement.jdbc.StatementInspector;
 import com.employeemanagement.repository.EmployeeRepository;
 import com.employeemanagement.repository.UserRepository;
 import com.employeemanagement.security.JwtUtils;
+import com.employeemanagement.serialization.ProtobufEmployeeHttpMessageConverter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,11 +28,15 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 
+import javax.persistence.EntityManager;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
+import static com.employeemanagement.jdbc.QueryCountAssertions.assertNoRepeatedStatements;
+import static com.employeemanagement.jdbc.QueryCountAssertions.assertStatementCount;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -57,6 +65,12 @@ class EmployeeControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
     
+    @Autowired
+    private StatementInspector statementInspector;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
     private MockMvc mockMvc;
     private String adminToken;
     private String employeeToken;
@@ -134,6 +148,15 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$.lastName").value("Doe"));
     }
     
+    @Test
+    void testGetEmployeeById_WithProtobufAccept_ShouldReturnProtobuf() throws Exception {
+        mockMvc.perform(get("/employees/{id}", testEmployee.getId())
+                .header("Authorization", "Bearer " + adminToken)
+                .accept(ProtobufEmployeeHttpMessageConverter.PROTOBUF))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(ProtobufEmployeeHttpMessageConverter.PROTOBUF));
+    }
+    
     @Test
     void testCreateEmployee_WithAdminRole_ShouldCreateEmployee() throws Exception {
         EmployeeRequest newEmployee = new EmployeeRequest();
@@ -207,6 +230,16 @@ class EmployeeControllerTest {
                 .andExpect(status().isForbidden());
     }
     
+    @Test
+    void testSalaryAnalytics_WithEmployeeRole_ShouldReturnForbidden() throws Exception {
+        mockMvc.perform(get("/employees/analytics/departments")
+                .header("Authorization", "Bearer " + employeeToken))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/employees/analytics/departments")
+                .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk());
+    }
+    
     @Test
     void testSearchEmployees_WithValidQuery_ShouldReturnResults() throws Exception {
         mockMvc.perform(get("/employees/search")
@@ -216,5 +249,163 @@ class EmployeeControllerTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$").isArray());
     }
+    
+    @Test
+    void testBatchGet_ShouldReturnResultsInRequestOrder() throws Exception {
+        mockMvc.perform(get("/employees")
+                .param("ids", "999999", String.valueOf(testEmployee.getId()))
+                .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].status").value("NOT_FOUND"))
+                .andExpect(jsonPath("$.results[1].status").value("FOUND"))
+                .andExpect(jsonPath("$.results[1].employee.firstName").value("John"))
+                .andExpect(jsonPath("$.found").value(1));
+    }
+    
+    @Test
+    void testBatchGet_WithEmployeeRole_ShouldMarkOtherEmployeesForbidden() throws Exception {
+        mockMvc.perform(post("/employees/batch-get")
+                .header("Authorization", "Bearer " + employeeToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\": [" + testEmployee.getId() + ", 999999]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].status").value("FOUND"))
+                .andExpect(jsonPath("$.results[1].status").value("FORBIDDEN"));
+    }
+    
+    @Test
+    void testGetEmployeeById_WithFields_ShouldReturnOnlyRequestedFields() throws Exception {
+        mockMvc.perform(get("/employees/{id}", testEmployee.getId())
+                .param("fields", "firstName,department")
+                .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(testEmployee.getId()))
+                .andExpect(jsonPath("$.firstName").value("John"))
+                .andExpect(jsonPath("$.department").value("Engineering"))
+                .andExpect(jsonPath("$.salary").doesNotExist());
+        
+        mockMvc.perform(get("/employees")
+                .param("fields", "password")
+                .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isBadRequest());
+    }
+    
+    @Test
+    void testFacetedSearch_ShouldReturnPageAndCounts() throws Exception {
+        mockMvc.perform(get("/employees/search/faceted")
+                .param("q", "doe")
+                .param("salaryBand", "75000-100000")
+                .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.totalElements").value(1))
+                .andExpect(jsonPath("$.results.content[0].lastName").value("Doe"))
+                .andExpect(jsonPath("$.departments.Engineering").value(1))
+                .andExpect(jsonPath("$.salaryBands[2].label").value("75000-100000"))
+                .andExpect(jsonPath("$.salaryBands[2].count").value(1))
+                .andExpect(jsonPath("$.salaryBands[0].count").value(0));
+        
+        mockMvc.perform(get("/employees/search/faceted")
+                .param("salaryBand", "unknown")
+                .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isBadRequest());
+    }
+    
+    @Test
+    void testGetAllEmployees_StatementCountDoesNotGrowWithEmployees() throws Exception {
+        // Warm up caches so that both measured requests issue only their own statements
+        mockMvc.perform(get("/employees").header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk());
+        Inspection few = assertNoRepeatedStatements(statementInspector, () ->
+                mockMvc.perform(get("/employees").header("Authorization", "Bearer " + adminToken))
+                        .andExpect(status().isOk()));
+        
+        List<Employee> more = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            more.add(new Employee("First" + i, "Last" + i, "n-plus-one" + i + "@test.com", null, "Sales",
+                    new BigDecimal("50000"), LocalDate.of(2021, 1, 1)));
+        }
+        employeeRepository.saveAllAndFlush(more);
+        
+        assertStatementCount(statementInspector, few.getStatementCount(), () ->
+                mockMvc.perform(get("/employees").header("Authorization", "Bearer " + adminToken))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$").isArray()));
+    }
+    
+    // Exact counts against a cold persistence context. Every authenticated request starts with the
+    // two statements that load the caller: the user row, then its eagerly fetched user_roles
+    @Test
+    void testGetEmployeeById_StatementCount() throws Exception {
+        clearPersistenceContext();
+        assertStatementCount(statementInspector, 3, () ->
+                mockMvc.perform(get("/employees/{id}", testEmployee.getId())
+                        .header("Authorization", "Bearer " + adminToken))
+                        .andExpect(status().isOk()));
+    }
+    
+    @Test
+    void testGetProfile_StatementCount() throws Exception {
+        clearPersistenceContext();
+        assertStatementCount(statementInspector, 3, () ->
+                mockMvc.perform(get("/employees/profile")
+                        .header("Authorization", "Bearer " + employeeToken))
+                        .andExpect(status().isOk()));
+    }
+    
+    @Test
+    void testCreateEmployee_StatementCount() throws Exception {
+        EmployeeRequest newEmployee = new EmployeeRequest("Jane", "Smith", "jane.smith@test.com", null,
+                "Marketing", new BigDecimal("65000"), LocalDate.of(2023, 3, 1));
+        clearPersistenceContext();
+        assertStatementCount(statementInspector, 5, () -> {
+            mockMvc.perform(post("/employees")
+                    .header("Authorization", "Bearer " + adminToken)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(newEmployee)))
+                    .andExpect(status().isCreated());
+            entityManager.flush();
+        });
+    }
+    
+    @Test
+    void testUpdateEmployee_StatementCount() throws Exception {
+        EmployeeRequest update = new EmployeeRequest("John", "Doe", "john.doe@test.com", "+1-555-0101",
+                "Engineering", new BigDecimal("80000"), LocalDate.of(2022, 1, 15));
+        clearPersistenceContext();
+        assertStatementCount(statementInspector, 7, () -> {
+            mockMvc.perform(put("/employees/{id}", testEmployee.getId())
+                    .header("Authorization", "Bearer " + adminToken)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(update)))
+                    .andExpect(status().isOk());
+            entityManager.flush();
+        });
+    }
+    
+    @Test
+    void testDeleteEmployee_StatementCount() throws Exception {
+        clearPersistenceContext();
+        assertStatementCount(statementInspector, 9, () -> {
+            mockMvc.perform(delete("/employees/{id}", testEmployee.getId())
+                    .header("Authorization", "Bearer " + adminToken))
+                    .andExpect(status().isOk());
+            entityManager.flush();
+        });
+    }
+    
+    @Test
+    void testLogin_StatementCount() throws Exception {
+        clearPersistenceContext();
+        assertStatementCount(statementInspector, 2, () ->
+                mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest("john.doe", "password123"))))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.roles[0]").value("ROLE_EMPLOYEE")));
+    }
+    
+    private void clearPersistenceContext() {
+        entityManager.flush();
+        entityManager.clear();
+    }
 }
-
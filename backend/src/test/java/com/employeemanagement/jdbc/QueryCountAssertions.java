@@ -0,0 +1,48 @@
+package com.employeemanagement.jdbc;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Asserts on the SQL a block of test code issues, e.g. that an endpoint does not select per row
+public final class QueryCountAssertions {
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+    
+    private QueryCountAssertions() {
+    }
+    
+    public static Inspection inspect(StatementInspector inspector, Action action) throws Exception {
+        try (Inspection inspection = inspector.open("test")) {
+            action.run();
+            return inspection;
+        }
+    }
+    
+    public static Inspection assertStatementCount(StatementInspector inspector, int expected, Action action)
+            throws Exception {
+        Inspection inspection = inspect(inspector, action);
+        assertEquals(expected, inspection.getStatementCount(), () -> describe(inspection));
+        return inspection;
+    }
+    
+    public static Inspection assertNoRepeatedStatements(StatementInspector inspector, Action action)
+            throws Exception {
+        Inspection inspection = inspect(inspector, action);
+        Map<String, Integer> repeated = inspection.getRepeatedShapes(inspector.getRepeatThreshold());
+        assertTrue(repeated.isEmpty(), () -> "Repeated statements " + repeated + "\n" + describe(inspection));
+        return inspection;
+    }
+    
+    private static String describe(Inspection inspection) {
+        StringBuilder description = new StringBuilder("Statements executed:");
+        for (StatementExecution execution : inspection.getStatements()) {
+            description.append("\n  ").append(execution.getSql());
+        }
+        return description.toString();
+    }
+}
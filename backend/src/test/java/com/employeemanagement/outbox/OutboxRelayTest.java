@@ -0,0 +1,141 @@
+package com.employeemanagement.outbox;
+
+import com.employeemanagement.dto.EmployeeRequest;
+import com.employeemanagement.entity.Employee;
+import com.employeemanagement.service.EmployeeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Not transactional: the relay only sees committed outbox rows
+@SpringBootTest(properties = {"outbox.enabled=true", "outbox.poll-interval-ms=20", "outbox.sink-retry-ms=50"})
+@ActiveProfiles("test")
+class OutboxRelayTest {
+
+    @Autowired
+    private EmployeeService employeeService;
+    
+    @Autowired
+    private OutboxRelay outboxRelay;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    private RecordingSink recordingSink;
+    
+    private final List<Long> createdIds = new ArrayList<>();
+    
+    // A fresh event log per run, so replays never see employees of an earlier run with the same ids
+    @DynamicPropertySource
+    static void eventLogDirectory(DynamicPropertyRegistry registry) {
+        registry.add("outbox.directory", () -> "target/test-events-" + UUID.randomUUID());
+    }
+    
+    @TestConfiguration
+    static class SinkConfiguration {
+        @Bean
+        RecordingSink recordingSink() {
+            return new RecordingSink();
+        }
+    }
+    
+    static class RecordingSink implements EventSink {
+        final List<ChangeEvent> events = new CopyOnWriteArrayList<>();
+        volatile int failuresToInject;
+        
+        @Override
+        public String getName() {
+            return "recording";
+        }
+        
+        @Override
+        public void deliver(List<ChangeEventRecord> records) {
+            if (failuresToInject > 0) {
+                failuresToInject--;
+                throw new IllegalStateException("broker unavailable");
+            }
+            records.forEach(record -> events.add(record.getEvent()));
+        }
+        
+        long count(long employeeId, String type) {
+            return events.stream().filter(event -> OutboxService.EMPLOYEE.equals(event.getAggregateType())
+                    && event.getAggregateId() == employeeId && type.equals(event.getType())).count();
+        }
+    }
+    
+    @AfterEach
+    void tearDown() {
+        createdIds.forEach(employeeService::deleteEmployee);
+    }
+    
+    @Test
+    void testCommittedChangesReachTheSinkAndRolledBackOnesDoNot() throws InterruptedException {
+        Long rolledBack = transactionTemplate.execute(status -> {
+            Employee employee = employeeService.createEmployee(request("rolled.back@outbox.test"));
+            status.setRollbackOnly();
+            return employee.getId();
+        });
+        recordingSink.failuresToInject = 2;
+        Employee created = create("committed@outbox.test");
+        
+        awaitTrue(() -> recordingSink.count(created.getId(), "CREATED") == 1);
+        assertEquals(0, recordingSink.count(rolledBack, "CREATED"));
+        ChangeEvent event = recordingSink.events.stream()
+                .filter(candidate -> candidate.getAggregateId().equals(created.getId())).findFirst().orElseThrow();
+        assertEquals("committed@outbox.test", event.getPayload().get("email").asText());
+        assertTrue(outboxRelay.getStats().getSinks().get(0).getFailures() >= 2);
+    }
+    
+    @Test
+    void testReplayDeliversTheLogAgain() throws InterruptedException {
+        Employee created = create("replayed@outbox.test");
+        awaitTrue(() -> recordingSink.count(created.getId(), "CREATED") == 1);
+        
+        assertTrue(outboxRelay.replay("recording"));
+        assertFalse(outboxRelay.replay("unknown"));
+        awaitTrue(() -> recordingSink.count(created.getId(), "CREATED") == 2);
+    }
+    
+    private Employee create(String email) {
+        Employee employee = employeeService.createEmployee(request(email));
+        createdIds.add(employee.getId());
+        return employee;
+    }
+    
+    private static EmployeeRequest request(String email) {
+        EmployeeRequest request = new EmployeeRequest();
+        request.setFirstName("Outbox");
+        request.setLastName("Test");
+        request.setEmail(email);
+        request.setDepartment("Payroll");
+        request.setSalary(new BigDecimal("50000"));
+        request.setDateOfJoining(LocalDate.of(2023, 5, 1));
+        return request;
+    }
+    
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Timed out waiting for the event sink");
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.employeemanagement.repository;
+
+import com.employeemanagement.dto.EmployeeFilter;
+import com.employeemanagement.entity.Employee;
+import com.employeemanagement.service.EmployeeService;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Every combination of GET /employees filters must be answered from an index, not a table scan
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.employeemanagement.repository.EmployeeQueryPlanTest$RecordingInspector")
+@ActiveProfiles("test")
+// ANALYZE commits on H2, so the rows are committed and removed explicitly rather than rolled back
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EmployeeQueryPlanTest {
+    
+    private static final String[] DEPARTMENTS = {"Engineering", "Sales", "Finance", "HR"};
+    private static final String[] LAST_NAMES = {"Smith", "Jones", "Brown", "Taylor", "Wilson"};
+    
+    @Autowired
+    private EmployeeRepository employeeRepository;
+    
+    @Autowired
+    private EmployeeService employeeService;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    private List<Employee> employees;
+    
+    public static class RecordingInspector implements StatementInspector {
+        static final List<String> STATEMENTS = Collections.synchronizedList(new ArrayList<>());
+        
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+    
+    @BeforeEach
+    void setUp() {
+        employees = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            employees.add(new Employee("First" + i, LAST_NAMES[i % LAST_NAMES.length] + i, "plan" + i + "@test.com",
+                    null, DEPARTMENTS[i % DEPARTMENTS.length], BigDecimal.valueOf(40_000 + i * 250L),
+                    LocalDate.of(2010, 1, 1).plusDays(i * 11L)));
+        }
+        employees = employeeRepository.saveAll(employees);
+        jdbcTemplate.execute("ANALYZE");
+    }
+    
+    @AfterEach
+    void tearDown() {
+        employeeRepository.deleteAllInBatch(employees);
+    }
+    
+    @Test
+    void testEveryFilterCombinationUsesAnIndex() {
+        for (int combination = 1; combination < 16; combination++) {
+            EmployeeFilter filter = new EmployeeFilter();
+            if ((combination & 1) != 0) {
+                filter.setMinSalary(new BigDecimal("60000"));
+                filter.setMaxSalary(new BigDecimal("70000"));
+            }
+            if ((combination & 2) != 0) {
+                filter.setJoinedFrom(LocalDate.of(2015, 1, 1));
+                filter.setJoinedTo(LocalDate.of(2016, 1, 1));
+            }
+            if ((combination & 4) != 0) {
+                filter.setDepartments(List.of("Engineering", "Sales"));
+            }
+            if ((combination & 8) != 0) {
+                filter.setNamePrefix("Smi");
+            }
+            filter.setSort("salary,desc");
+            
+            RecordingInspector.STATEMENTS.clear();
+            employeeService.findEmployees(filter, 0, 10);
+            
+            List<String> queries = new ArrayList<>();
+            for (String sql : RecordingInspector.STATEMENTS) {
+                if (sql.toLowerCase(Locale.ROOT).startsWith("select") && sql.contains("employees")) {
+                    queries.add(sql);
+                }
+            }
+            assertFalse(queries.isEmpty(), "no query recorded for combination " + combination);
+            for (String sql : queries) {
+                String plan = explain(sql);
+                assertFalse(plan.contains("tableScan"), "combination " + combination + " scans the table: " + plan);
+            }
+        }
+    }
+    
+    @Test
+    void testFiltersSortAndPaginate() {
+        EmployeeFilter filter = new EmployeeFilter();
+        filter.setDepartments(List.of("Engineering"));
+        filter.setNamePrefix("smi");
+        filter.setSort("salary,desc");
+        
+        List<Employee> page = employeeService.findEmployees(filter, 0, 5).getContent();
+        
+        assertEquals(5, page.size());
+        for (int i = 0; i < page.size(); i++) {
+            assertEquals("Engineering", page.get(i).getDepartment());
+            assertTrue(page.get(i).getLastName().startsWith("Smith"));
+            if (i > 0) {
+                assertTrue(page.get(i - 1).getSalary().compareTo(page.get(i).getSalary()) >= 0);
+            }
+        }
+        assertEquals(20, employeeService.findEmployees(filter, 0, 5).getTotalElements());
+        assertThrows(IllegalArgumentException.class, () -> {
+            filter.setSort("password");
+            employeeService.findEmployees(filter, 0, 5);
+        });
+    }
+    
+    // Binds representative values, judged by the SQL between each parameter and the previous one
+    private String explain(String sql) {
+        List<Object> args = new ArrayList<>();
+        int from = 0;
+        for (int i = sql.indexOf('?'); i >= 0; i = sql.indexOf('?', i + 1)) {
+            String before = sql.substring(from, i).toLowerCase(Locale.ROOT).trim();
+            from = i + 1;
+            if (before.endsWith("limit") || before.endsWith("offset")) {
+                args.add(10);
+            } else if (before.contains("date_of_joining")) {
+                args.add(LocalDate.of(2015, 1, 1));
+            } else if (before.contains("salary")) {
+                args.add(new BigDecimal("60000"));
+            } else if (before.contains("like")) {
+                args.add("smi%");
+            } else {
+                args.add("Engineering");
+            }
+        }
+        return jdbcTemplate.queryForList("EXPLAIN " + sql, args.toArray()).toString();
+    }
+}
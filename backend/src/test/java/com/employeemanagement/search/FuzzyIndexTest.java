@@ -0,0 +1,53 @@
+package com.employeemanagement.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FuzzyIndexTest {
+    
+    @Test
+    void testToleratesTyposAndRanksByRelevance() {
+        FuzzyIndex index = new FuzzyIndex();
+        index.put(1, "default", "John", "Smith", "john.smith@example.com");
+        index.put(2, "default", "Joan", "Baker", "jbaker@example.com");
+        index.put(3, "default", "Jonathan", "Reed", "jreed@example.com");
+        index.put(4, "default", "Mary", "Jones", "mary.jones@example.com");
+        
+        // Prefix matches rank above edit-distance matches, last name above first name
+        assertEquals(List.of(4L, 3L, 1L, 2L), ids(index.search("Jon", 10, null)));
+        assertEquals(List.of(1L), ids(index.search("Jonh", 10, null)));
+        assertEquals(List.of(1L), ids(index.search("jonh smtih", 10, null)));
+        assertEquals(List.of(4L, 3L), ids(index.search("jon", 2, null)));
+        assertTrue(index.search("xyzzy", 10, null).isEmpty());
+    }
+    
+    @Test
+    void testUpdatesRemovalsAndTenants() {
+        FuzzyIndex index = new FuzzyIndex();
+        index.put(1, "acme", "Olga", "Ivanova", "olga@acme.com");
+        index.put(2, "globex", "Olga", "Novak", "onovak@globex.com");
+        
+        assertEquals(List.of(1L, 2L), ids(index.search("olag", 10, null)));
+        assertEquals(List.of(2L), ids(index.search("olag", 10, "globex")));
+        
+        index.put(1, "acme", "Helga", "Ivanova", "helga@acme.com");
+        assertEquals(List.of(2L), ids(index.search("olga", 10, null)));
+        index.remove(2);
+        assertTrue(index.search("olga", 10, null).isEmpty());
+    }
+    
+    @Test
+    void testDistanceCountsTranspositionOnce() {
+        assertEquals(1, FuzzyIndex.distance("jonh", "john", 2));
+        assertEquals(1, FuzzyIndex.distance("smtih", "smith", 2));
+        assertEquals(3, FuzzyIndex.distance("abcdef", "uvwxyz", 2));
+    }
+    
+    private static List<Long> ids(List<FuzzyIndex.Match> matches) {
+        return matches.stream().map(FuzzyIndex.Match::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,61 @@
+package com.employeemanagement.search;
+
+import com.employeemanagement.dto.EmployeeSuggestion;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SuggestionIndexTest {
+    
+    @Test
+    void testMatchesAnyKeyPrefixOnce() {
+        SuggestionIndex index = new SuggestionIndex(10, 0);
+        index.put(1, "default", "John", "Smith", "john.smith@example.com");
+        index.put(2, "default", "Johanna", "Jones", "jj@example.com");
+        index.put(3, "default", "Mary", "Johnson", "mary@example.com");
+        
+        assertEquals(List.of(1L, 2L, 3L), ids(index.suggest("Jo", 10, null)));
+        assertEquals(List.of(1L), ids(index.suggest("john s", 10, null)));
+        assertEquals(List.of(2L), ids(index.suggest("jj@", 10, null)));
+        assertEquals("John Smith", index.suggest("john.", 10, null).get(0).getDisplayName());
+        assertTrue(index.suggest("x", 10, null).isEmpty());
+    }
+    
+    @Test
+    void testRanksByViewsAndFollowsUpdates() {
+        SuggestionIndex index = new SuggestionIndex(2, 0);
+        index.put(1, "default", "Anna", "Berg", "anna@example.com");
+        index.put(2, "default", "Anton", "Cole", "anton@example.com");
+        index.put(3, "default", "Andre", "Diaz", "andre@example.com");
+        index.recordView(3);
+        index.recordView(3);
+        index.recordView(2);
+        
+        assertEquals(List.of(3L, 2L), ids(index.suggest("an", 10, null)));
+        
+        index.put(3, "default", "Bruno", "Diaz", "bruno@example.com");
+        assertEquals(List.of(2L, 1L), ids(index.suggest("an", 10, null)));
+        assertEquals(List.of(3L), ids(index.suggest("bru", 10, null)));
+        
+        index.remove(2);
+        assertEquals(List.of(1L), ids(index.suggest("an", 10, null)));
+    }
+    
+    @Test
+    void testTenantsAreSeparate() {
+        SuggestionIndex index = new SuggestionIndex(10, 0);
+        index.put(1, "acme", "Lena", "Ng", "lena@acme.com");
+        index.put(2, "globex", "Leo", "Park", "leo@globex.com");
+        
+        assertEquals(List.of(1L), ids(index.suggest("le", 10, "acme")));
+        assertEquals(List.of(1L, 2L), ids(index.suggest("le", 10, null)));
+        assertTrue(index.suggest("le", 10, "initech").isEmpty());
+    }
+    
+    private static List<Long> ids(List<EmployeeSuggestion> suggestions) {
+        return suggestions.stream().map(EmployeeSuggestion::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,117 @@
+package com.employeemanagement.security;
+
+import com.employeemanagement.controller.EmployeeController;
+import com.employeemanagement.entity.Role;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.security.access.expression.ExpressionUtils;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.util.SimpleMethodInvocation;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares the per-request cost of the {@code @PreAuthorize} SpEL rule that used to guard
+ * {@code GET /employees/{id}} with the compiled {@link Authorize} rule that replaced it.
+ * Run the main method from the IDE or with
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=...AuthorizationBenchmark}.
+ */
+public class AuthorizationBenchmark {
+    
+    private static final String OWNER_OR_ADMIN =
+            "hasRole('ADMIN') or (hasRole('EMPLOYEE') and @employeeController.isOwnerOrAdmin(#id, authentication))";
+    private static final int WARMUP_ROUNDS = 200_000;
+    private static final int MEASURED_ROUNDS = 1_000_000;
+    
+    private interface Check {
+        boolean permits(Authentication authentication, long id);
+    }
+    
+    // The helper bean the SpEL rule called, as it was before roles became a bitmask
+    public static class LegacyOwnerCheck {
+        public boolean isOwnerOrAdmin(Long employeeId, Authentication authentication) {
+            UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+            if (userPrincipal.getAuthorities().stream()
+                    .anyMatch(auth -> auth.getAuthority().equals("ROLE_" + Role.ADMIN.name()))) {
+                return true;
+            }
+            return userPrincipal.getEmployeeId() != null && userPrincipal.getEmployeeId().equals(employeeId);
+        }
+    }
+    
+    public static class Target {
+        public void getEmployeeById(Long id) {
+        }
+    }
+    
+    public static void main(String[] args) throws Exception {
+        Authentication[] callers = {
+                authentication(1L, Role.ADMIN),
+                authentication(42L, Role.EMPLOYEE),
+                authentication(7L, Role.EMPLOYEE)
+        };
+        System.out.printf("%-10s %12s %14s%n", "path", "ns/op", "bytes/op");
+        run("spel", spel(), callers);
+        run("compiled", compiled(), callers);
+    }
+    
+    private static void run(String name, Check check, Authentication[] callers) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sink += check.permits(callers[i % callers.length], 42L) ? 1 : 0;
+        }
+        long allocated = allocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            sink += check.permits(callers[i % callers.length], 42L) ? 1 : 0;
+        }
+        long nanos = System.nanoTime() - start;
+        allocated = allocatedBytes() - allocated;
+        System.out.printf("%-10s %12.1f %14.1f   (%d)%n", name, (double) nanos / MEASURED_ROUNDS,
+                (double) allocated / MEASURED_ROUNDS, sink % 10);
+    }
+    
+    private static Check spel() throws Exception {
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.registerBean("employeeController", LegacyOwnerCheck.class, LegacyOwnerCheck::new);
+        context.refresh();
+        DefaultMethodSecurityExpressionHandler handler = new DefaultMethodSecurityExpressionHandler();
+        handler.setApplicationContext(context);
+        Expression expression = handler.getExpressionParser().parseExpression(OWNER_OR_ADMIN);
+        Target target = new Target();
+        Method method = Target.class.getMethod("getEmployeeById", Long.class);
+        return (authentication, id) -> {
+            EvaluationContext evaluationContext = handler.createEvaluationContext(authentication,
+                    new SimpleMethodInvocation(target, method, id));
+            return ExpressionUtils.evaluateAsBoolean(expression, evaluationContext);
+        };
+    }
+    
+    private static Check compiled() throws Exception {
+        Method method = EmployeeController.class.getMethod("getEmployeeById", Long.class, String.class);
+        AccessRule rule = AccessRule.compile(method.getAnnotation(Authorize.class));
+        Map<String, String> uriVariables = Collections.singletonMap("id", "42");
+        return (authentication, id) -> rule.permits((UserPrincipal) authentication.getPrincipal(), uriVariables);
+    }
+    
+    private static Authentication authentication(long employeeId, Role role) {
+        List<GrantedAuthority> authorities = Collections.singletonList(new SimpleGrantedAuthority(role.getAuthority()));
+        UserPrincipal principal = new UserPrincipal(employeeId, "user" + employeeId, "user" + employeeId + "@example.com",
+                "", employeeId, authorities);
+        return new UsernamePasswordAuthenticationToken(principal, null, authorities);
+    }
+    
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
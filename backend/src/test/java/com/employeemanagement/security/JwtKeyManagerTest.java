@@ -0,0 +1,72 @@
+package com.employeemanagement.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtKeyManagerTest {
+    
+    @TempDir
+    Path directory;
+    
+    private JwtKeyManager manager;
+    
+    @AfterEach
+    void tearDown() {
+        if (manager != null) {
+            manager.close();
+        }
+    }
+    
+    @Test
+    void testRotationPublishesNextKeyBeforeItSigns() {
+        manager = newManager();
+        JwtSigningKey first = manager.getSigningKey();
+        
+        JwtSigningKey next = manager.rotate();
+        assertNotEquals(first.getKid(), next.getKid());
+        assertEquals(first.getKid(), manager.getSigningKey().getKid());
+        assertEquals(2, jwkIds(manager).size());
+        assertTrue(jwkIds(manager).contains(next.getKid()));
+    }
+    
+    @Test
+    void testKeysAreSharedThroughTheDirectory() {
+        manager = newManager();
+        JwtKeyManager other = newManager();
+        try {
+            assertEquals(manager.getSigningKey().getKid(), other.getSigningKey().getKid());
+            JwtSigningKey next = manager.rotate();
+            ReflectionTestUtils.setField(other, "lastReload", 0L);
+            assertNotNull(other.findKey(next.getKid()));
+        } finally {
+            other.close();
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static List<Object> jwkIds(JwtKeyManager manager) {
+        List<Map<String, Object>> keys = (List<Map<String, Object>>) manager.getJwks().get("keys");
+        return List.of(keys.stream().map(key -> key.get("kid")).toArray());
+    }
+    
+    private JwtKeyManager newManager() {
+        JwtKeyManager keyManager = new JwtKeyManager();
+        ReflectionTestUtils.setField(keyManager, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(keyManager, "directory", directory.toString());
+        ReflectionTestUtils.setField(keyManager, "keySize", 1024);
+        ReflectionTestUtils.setField(keyManager, "rotationIntervalMs", 3_600_000L);
+        ReflectionTestUtils.setField(keyManager, "publishAheadMs", 600_000L);
+        ReflectionTestUtils.setField(keyManager, "tokenLifetimeMs", 3_600_000L);
+        keyManager.open();
+        return keyManager;
+    }
+}
@@ -0,0 +1,75 @@
+package com.employeemanagement.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtKeyResolverTest {
+
+    private static final String SECRET = "testSecretKey123456789012345678901234567890";
+    private static final long LIFETIME_MS = Duration.ofHours(1).toMillis();
+    
+    @Test
+    void testHs256IsRejectedByDefault() {
+        JwtKeyResolver resolver = newResolver(false, "");
+        String token = legacyToken(Instant.now().minusSeconds(60));
+        
+        assertThrows(UnsupportedJwtException.class, () -> parse(resolver, token));
+    }
+    
+    @Test
+    void testHs256IsAcceptedOnlyWhenIssuedBeforeTheCutover() {
+        Instant cutover = Instant.now().minusSeconds(600);
+        JwtKeyResolver resolver = newResolver(true, cutover.toString());
+        
+        assertEquals("legacy", parse(resolver, legacyToken(cutover.minusSeconds(60))));
+        assertThrows(UnsupportedJwtException.class, () -> parse(resolver, legacyToken(cutover.plusSeconds(60))));
+        assertThrows(UnsupportedJwtException.class, () -> parse(resolver, legacyToken(null)));
+    }
+    
+    @Test
+    void testHs256IsRejectedOneLifetimeAfterTheCutover() {
+        Instant cutover = Instant.now().minusMillis(LIFETIME_MS).minusSeconds(60);
+        JwtKeyResolver resolver = newResolver(true, cutover.toString());
+        
+        assertThrows(UnsupportedJwtException.class, () -> parse(resolver, legacyToken(cutover.minusSeconds(60))));
+    }
+    
+    @Test
+    void testAcceptingHs256RequiresACutover() {
+        assertThrows(IllegalStateException.class, () -> newResolver(true, ""));
+    }
+    
+    private static String parse(JwtKeyResolver resolver, String token) {
+        return Jwts.parserBuilder().setSigningKeyResolver(resolver).build()
+                .parseClaimsJws(token).getBody().getSubject();
+    }
+    
+    // Shaped like the tokens issued before RS256: no key id, no token id and no tenant claim
+    private static String legacyToken(Instant issuedAt) {
+        return Jwts.builder()
+                .setSubject("legacy")
+                .setIssuedAt(issuedAt != null ? Date.from(issuedAt) : null)
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()), SignatureAlgorithm.HS256)
+                .compact();
+    }
+    
+    private static JwtKeyResolver newResolver(boolean acceptHs256, String cutover) {
+        JwtKeyResolver resolver = new JwtKeyResolver();
+        ReflectionTestUtils.setField(resolver, "legacySecret", SECRET);
+        ReflectionTestUtils.setField(resolver, "acceptHs256", acceptHs256);
+        ReflectionTestUtils.setField(resolver, "hs256Cutover", cutover);
+        ReflectionTestUtils.setField(resolver, "tokenLifetimeMs", LIFETIME_MS);
+        resolver.init();
+        return resolver;
+    }
+}
@@ -0,0 +1,40 @@
+package com.employeemanagement.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RevocationBucketsTest {
+    
+    @Test
+    void testContainsOnlyRevokedIdsAndDropsExpiredBuckets() {
+        RevocationBuckets buckets = new RevocationBuckets(60_000);
+        List<UUID> revoked = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            UUID id = UUID.randomUUID();
+            revoked.add(id);
+            assertTrue(buckets.add(id.getMostSignificantBits(), id.getLeastSignificantBits(), 60_000L * (i % 10)));
+        }
+        UUID first = revoked.get(0);
+        assertFalse(buckets.add(first.getMostSignificantBits(), first.getLeastSignificantBits(), 0));
+        
+        for (int i = 0; i < revoked.size(); i++) {
+            UUID id = revoked.get(i);
+            assertTrue(buckets.contains(id.getMostSignificantBits(), id.getLeastSignificantBits(), 60_000L * (i % 10)));
+        }
+        UUID other = UUID.randomUUID();
+        assertFalse(buckets.contains(other.getMostSignificantBits(), other.getLeastSignificantBits(), 0));
+        assertEquals(1_000, buckets.size());
+        assertEquals(10, buckets.bucketCount());
+        
+        assertEquals(500, buckets.purgeExpired(60_000L * 5));
+        assertEquals(500, buckets.size());
+        assertFalse(buckets.contains(first.getMostSignificantBits(), first.getLeastSignificantBits(), 0));
+        UUID last = revoked.get(999);
+        assertTrue(buckets.contains(last.getMostSignificantBits(), last.getLeastSignificantBits(), 60_000L * 9));
+    }
+}
@@ -0,0 +1,54 @@
+package com.employeemanagement.seed;
+
+import com.employeemanagement.entity.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SyntheticDataGeneratorTest {
+    
+    @Test
+    void testSameSeedGivesSameRows() {
+        Employee first = new SyntheticDataGenerator(7, 1.1).employee(1234, 100, "default");
+        Employee second = new SyntheticDataGenerator(7, 1.1).employee(1234, 100, "default");
+        Employee other = new SyntheticDataGenerator(8, 1.1).employee(1234, 100, "default");
+        
+        assertEquals(first.toString(), second.toString());
+        assertEquals(first.getManagerId(), second.getManagerId());
+        assertNotEquals(first.toString(), other.toString());
+        assertEquals(1334L, first.getId());
+    }
+    
+    @Test
+    void testEmailsUniqueAndManagersPrecedeReports() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(42, 1.1);
+        Set<String> emails = new HashSet<>();
+        for (int index = 0; index < 50_000; index++) {
+            Employee employee = generator.employee(index, 1, "default");
+            assertTrue(emails.add(employee.getEmail()), employee.getEmail());
+            if (index == 0) {
+                assertNull(employee.getManagerId());
+            } else {
+                assertTrue(employee.getManagerId() < employee.getId());
+            }
+        }
+    }
+    
+    @Test
+    void testDepartmentSizesAreSkewed() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(42, 1.1);
+        Map<String, Integer> counts = new HashMap<>();
+        for (int index = 0; index < 20_000; index++) {
+            counts.merge(generator.employee(index, 1, "default").getDepartment(), 1, Integer::sum);
+        }
+        
+        String largest = SyntheticDataGenerator.DEPARTMENTS[0];
+        String smallest = SyntheticDataGenerator.DEPARTMENTS[SyntheticDataGenerator.DEPARTMENTS.length - 1];
+        assertTrue(counts.get(largest) > 5 * counts.get(smallest));
+    }
+}
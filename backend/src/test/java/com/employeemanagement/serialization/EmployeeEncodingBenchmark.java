@@ -0,0 +1,103 @@
+package com.employeemanagement.serialization;
+
+import com.employeemanagement.entity.Employee;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Compares payload size and encode/decode cost of the employee list representations.
+ * Run the main method from the IDE or with
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=...EmployeeEncodingBenchmark}.
+ */
+public class EmployeeEncodingBenchmark {
+    
+    private static final int EMPLOYEES = 1_000;
+    private static final int WARMUP_ROUNDS = 2_000;
+    private static final int MEASURED_ROUNDS = 2_000;
+    
+    private interface Codec {
+        byte[] encode(List<Employee> employees) throws Exception;
+        
+        List<Employee> decode(byte[] bytes) throws Exception;
+    }
+    
+    public static void main(String[] args) throws Exception {
+        List<Employee> employees = sampleEmployees();
+        System.out.printf("%-10s %12s %14s %14s%n", "format", "bytes", "encode us/op", "decode us/op");
+        run("json", jackson(Jackson2ObjectMapperBuilder.json().build()), employees);
+        run("cbor", jackson(Jackson2ObjectMapperBuilder.cbor().build()), employees);
+        run("smile", jackson(Jackson2ObjectMapperBuilder.smile().build()), employees);
+        run("protobuf", new Codec() {
+            @Override
+            public byte[] encode(List<Employee> list) {
+                return EmployeeProtobufCodec.encodeEmployees(list);
+            }
+            
+            @Override
+            public List<Employee> decode(byte[] bytes) {
+                return EmployeeProtobufCodec.decodeEmployees(bytes);
+            }
+        }, employees);
+    }
+    
+    private static void run(String name, Codec codec, List<Employee> employees) throws Exception {
+        byte[] encoded = codec.encode(employees);
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sink += codec.encode(employees).length + codec.decode(encoded).size();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            sink += codec.encode(employees).length;
+        }
+        long encodeNanos = System.nanoTime() - start;
+        start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            sink += codec.decode(encoded).size();
+        }
+        long decodeNanos = System.nanoTime() - start;
+        System.out.printf("%-10s %12d %14.1f %14.1f   (%d)%n", name, encoded.length,
+                encodeNanos / 1000.0 / MEASURED_ROUNDS, decodeNanos / 1000.0 / MEASURED_ROUNDS, sink % 10);
+    }
+    
+    private static Codec jackson(ObjectMapper mapper) {
+        JavaType listType = mapper.getTypeFactory().constructCollectionType(List.class, Employee.class);
+        return new Codec() {
+            @Override
+            public byte[] encode(List<Employee> list) throws Exception {
+                return mapper.writeValueAsBytes(list);
+            }
+            
+            @Override
+            public List<Employee> decode(byte[] bytes) throws Exception {
+                return mapper.readValue(bytes, listType);
+            }
+        };
+    }
+    
+    private static List<Employee> sampleEmployees() {
+        SplittableRandom random = new SplittableRandom(42);
+        String[] departments = {"Engineering", "Marketing", "Sales", "Finance", "Operations"};
+        List<Employee> employees = new ArrayList<>(EMPLOYEES);
+        for (int i = 1; i <= EMPLOYEES; i++) {
+            Employee employee = new Employee("First" + i, "Last" + i, "employee" + i + "@example.com",
+                    "+1-555-" + (1000 + i), departments[random.nextInt(departments.length)],
+                    BigDecimal.valueOf(random.nextLong(3_000_000, 20_000_000), 2),
+                    LocalDate.ofEpochDay(random.nextInt(15_000, 19_500)));
+            employee.setId((long) i);
+            employee.setManagerId(i > 1 ? (long) random.nextInt(1, i) : null);
+            employee.setTenantId("default");
+            employee.setCreatedAt(LocalDate.of(2024, 1, 1));
+            employee.setUpdatedAt(LocalDate.of(2024, 6, 1));
+            employees.add(employee);
+        }
+        return employees;
+    }
+}
@@ -0,0 +1,54 @@
+package com.employeemanagement.serialization;
+
+import com.employeemanagement.dto.ApiResponse;
+import com.employeemanagement.entity.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeProtobufCodecTest {
+    
+    @Test
+    void testEmployeeListRoundTrip() {
+        Employee first = employee(1L, "Ada", new BigDecimal("123456.78"), LocalDate.of(1965, 3, 1));
+        first.setManagerId(0L);
+        Employee second = employee(2L, "Grace", new BigDecimal("99000"), LocalDate.of(2022, 1, 15));
+        second.setPhone(null);
+        
+        List<Employee> decoded = EmployeeProtobufCodec.decodeEmployees(
+                EmployeeProtobufCodec.encodeEmployees(List.of(first, second)));
+        
+        assertEquals(2, decoded.size());
+        assertEquals(first.toString(), decoded.get(0).toString());
+        assertEquals(second.toString(), decoded.get(1).toString());
+        assertEquals(0L, decoded.get(0).getManagerId());
+        assertNull(decoded.get(1).getManagerId());
+        assertEquals(new BigDecimal("123456.78"), decoded.get(0).getSalary());
+        assertEquals("default", decoded.get(1).getTenantId());
+    }
+    
+    @Test
+    void testApiResponseRoundTrip() {
+        ApiResponse response = new ApiResponse(true, "Employee created successfully",
+                employee(7L, "Linus", new BigDecimal("1.5"), LocalDate.of(2020, 2, 29)));
+        
+        ApiResponse decoded = EmployeeProtobufCodec.decodeApiResponse(EmployeeProtobufCodec.encodeApiResponse(response));
+        
+        assertTrue(decoded.isSuccess());
+        assertEquals(response.getMessage(), decoded.getMessage());
+        assertEquals(response.getData().toString(), decoded.getData().toString());
+    }
+    
+    private static Employee employee(Long id, String firstName, BigDecimal salary, LocalDate joined) {
+        Employee employee = new Employee(firstName, "Tester", firstName.toLowerCase() + "@test.com",
+                "+1-555-0100", "Engineering", salary, joined);
+        employee.setId(id);
+        employee.setTenantId("default");
+        employee.setCreatedAt(LocalDate.of(2024, 5, 1));
+        return employee;
+    }
+}
@@ -0,0 +1,76 @@
+package com.employeemanagement.service;
+
+import com.employeemanagement.dto.EmployeeRequest;
+import com.employeemanagement.dto.TerminationRequest;
+import com.employeemanagement.entity.ArchivedEmployee;
+import com.employeemanagement.entity.Employee;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class EmployeeArchiveServiceTest {
+
+    @Autowired
+    private EmployeeArchiveService employeeArchiveService;
+    
+    @Autowired
+    private EmployeeService employeeService;
+    
+    @Autowired
+    private OrgHierarchyService orgHierarchyService;
+    
+    @Test
+    void testTerminatedEmployeeIsArchivedOnceTheDateIsReached() {
+        Employee manager = createEmployee("Manager", null);
+        Employee lead = createEmployee("Lead", manager.getId());
+        Employee developer = createEmployee("Developer", lead.getId());
+        LocalDate terminationDate = LocalDate.now().plusDays(30);
+        
+        employeeArchiveService.terminateEmployee(lead.getId(), new TerminationRequest(terminationDate, "Resigned"));
+        
+        assertEquals(0, employeeArchiveService.archiveDueBatch(terminationDate.minusDays(1), 10));
+        assertTrue(employeeService.getEmployeeById(lead.getId()).isPresent());
+        assertEquals(1, employeeArchiveService.archiveDueBatch(terminationDate, 10));
+        
+        assertFalse(employeeService.getEmployeeById(lead.getId()).isPresent());
+        assertEquals(manager.getId(),
+                employeeService.getEmployeeById(developer.getId()).orElseThrow().getManagerId());
+        assertEquals(1, orgHierarchyService.getSubtree(manager.getId(), null).size());
+        ArchivedEmployee archived = employeeArchiveService.findArchivedById(lead.getId()).orElseThrow();
+        assertEquals(terminationDate.getYear(), archived.getTerminationYear());
+        assertEquals("Resigned", archived.getTerminationReason());
+        assertEquals(1, employeeArchiveService.findArchived(terminationDate.getYear(), 0, 20).getContent().stream()
+                .filter(employee -> employee.getId().equals(lead.getId())).count());
+        
+        assertEquals(0, employeeArchiveService.purgeBatch(terminationDate.getYear(), 10));
+        assertTrue(employeeArchiveService.purgeBatch(terminationDate.getYear() + 1, 10) >= 1);
+        assertFalse(employeeArchiveService.findArchivedById(lead.getId()).isPresent());
+    }
+    
+    @Test
+    void testTerminationBeforeJoiningIsRejected() {
+        Employee employee = createEmployee("Newcomer", null);
+        
+        assertThrows(IllegalArgumentException.class, () -> employeeArchiveService.terminateEmployee(
+                employee.getId(), new TerminationRequest(LocalDate.of(2021, 12, 31), null)));
+        assertTrue(employeeArchiveService.terminateEmployee(999999L, new TerminationRequest()).isEmpty());
+    }
+    
+    private Employee createEmployee(String firstName, Long managerId) {
+        EmployeeRequest request = new EmployeeRequest(firstName, "Archive",
+                firstName.toLowerCase() + ".archive@test.com", null, "Engineering",
+                new BigDecimal("50000"), LocalDate.of(2022, 1, 1));
+        request.setManagerId(managerId);
+        return employeeService.createEmployee(request);
+    }
+}
@@ -0,0 +1,90 @@
+package com.employeemanagement.service;
+
+import com.employeemanagement.dto.BatchMutationRequest;
+import com.employeemanagement.dto.BatchMutationRequest.Mode;
+import com.employeemanagement.dto.BatchMutationRequest.Operation;
+import com.employeemanagement.dto.BatchMutationRequest.OperationType;
+import com.employeemanagement.dto.BatchMutationResponse;
+import com.employeemanagement.dto.EmployeeRequest;
+import com.employeemanagement.entity.Employee;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class EmployeeBatchServiceTest {
+    
+    @Autowired
+    private EmployeeBatchService employeeBatchService;
+    
+    @Autowired
+    private EmployeeService employeeService;
+    
+    @Autowired
+    private OrgHierarchyService orgHierarchyService;
+    
+    @Test
+    void testBestEffortAppliesValidOperations() {
+        Employee manager = createEmployee("Manager", null);
+        Employee lead = createEmployee("Lead", manager.getId());
+        Employee developer = createEmployee("Developer", lead.getId());
+        
+        Operation move = new Operation(OperationType.UPDATE, developer.getId());
+        move.setDepartment("Platform");
+        Operation raise = new Operation(OperationType.UPDATE, manager.getId());
+        raise.setSalary(new BigDecimal("90000"));
+        Operation delete = new Operation(OperationType.DELETE, lead.getId());
+        Operation missing = new Operation(OperationType.DELETE, 999999L);
+        
+        BatchMutationResponse response = employeeBatchService.applyBatch(
+                new BatchMutationRequest(Mode.BEST_EFFORT, List.of(move, raise, delete, missing)));
+        
+        assertTrue(response.isCommitted());
+        assertEquals(3, response.getApplied());
+        assertEquals(BatchMutationResponse.Status.NOT_FOUND, response.getResults().get(3).getStatus());
+        Employee movedDeveloper = employeeService.getEmployeeById(developer.getId()).orElseThrow();
+        assertEquals("Platform", movedDeveloper.getDepartment());
+        assertEquals(manager.getId(), movedDeveloper.getManagerId());
+        assertEquals(0, new BigDecimal("90000").compareTo(
+                employeeService.getEmployeeById(manager.getId()).orElseThrow().getSalary()));
+        assertFalse(employeeService.getEmployeeById(lead.getId()).isPresent());
+        assertEquals(1, orgHierarchyService.getSubtree(manager.getId(), null).size());
+    }
+    
+    @Test
+    void testAtomicBatchIsRejectedWhenAnOperationFails() {
+        Employee manager = createEmployee("Manager", null);
+        Employee developer = createEmployee("Developer", manager.getId());
+        
+        Operation move = new Operation(OperationType.UPDATE, developer.getId());
+        move.setDepartment("Platform");
+        Operation cycle = new Operation(OperationType.UPDATE, manager.getId());
+        cycle.setManagerId(developer.getId());
+        
+        BatchAbortedException exception = assertThrows(BatchAbortedException.class, () -> employeeBatchService.applyBatch(
+                new BatchMutationRequest(Mode.ATOMIC, List.of(move, cycle))));
+        
+        List<BatchMutationResponse.OperationResult> results = exception.getResponse().getResults();
+        assertFalse(exception.getResponse().isCommitted());
+        assertEquals(BatchMutationResponse.Status.ROLLED_BACK, results.get(0).getStatus());
+        assertEquals(BatchMutationResponse.Status.FAILED, results.get(1).getStatus());
+    }
+    
+    private Employee createEmployee(String firstName, Long managerId) {
+        EmployeeRequest request = new EmployeeRequest(firstName, "Batch",
+                firstName.toLowerCase() + ".batch@test.com", null, "Engineering",
+                new BigDecimal("50000"), LocalDate.of(2022, 1, 1));
+        request.setManagerId(managerId);
+        return employeeService.createEmployee(request);
+    }
+}
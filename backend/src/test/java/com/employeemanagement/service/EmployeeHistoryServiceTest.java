@@ -0,0 +1,65 @@
+package com.employeemanagement.service;
+
+import com.employeemanagement.dto.EmployeeRequest;
+import com.employeemanagement.entity.Employee;
+import com.employeemanagement.entity.EmployeeHistory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class EmployeeHistoryServiceTest {
+
+    @Autowired
+    private EmployeeHistoryService employeeHistoryService;
+    
+    @Autowired
+    private EmployeeService employeeService;
+    
+    @Test
+    void testAsOfReturnsTheVersionInEffectOnTheDate() {
+        LocalDate pastDate = LocalDate.of(2023, 6, 1);
+        LocalDate today = LocalDate.now();
+        EmployeeRequest request = new EmployeeRequest("Hannah", "History", "hannah.history@test.com", null,
+                "Engineering", new BigDecimal("50000"), LocalDate.of(2022, 1, 1));
+        Employee employee = employeeService.createEmployee(request);
+        
+        request.setSalary(new BigDecimal("60000"));
+        request.setDepartment("Platform");
+        employeeService.updateEmployee(employee.getId(), request);
+        
+        List<EmployeeHistory> history = employeeHistoryService.getHistory(employee.getId());
+        assertEquals(3, history.size());
+        assertEquals(1, history.stream().filter(version -> version.getSupersededAt() != null).count());
+        EmployeeHistory before = versionOf(employee, pastDate).orElseThrow();
+        assertEquals("Engineering", before.getDepartment());
+        assertEquals(today, before.getValidTo());
+        EmployeeHistory after = versionOf(employee, today).orElseThrow();
+        assertEquals("Platform", after.getDepartment());
+        assertEquals(0, new BigDecimal("60000").compareTo(after.getSalary()));
+        assertEquals(EmployeeHistory.OPEN_END, after.getValidTo());
+        
+        employeeService.deleteEmployee(employee.getId());
+        
+        assertFalse(versionOf(employee, today).isPresent());
+        assertEquals("Engineering", versionOf(employee, pastDate).orElseThrow().getDepartment());
+        assertFalse(versionOf(employee, LocalDate.of(2021, 12, 31)).isPresent());
+    }
+    
+    private Optional<EmployeeHistory> versionOf(Employee employee, LocalDate date) {
+        return employeeHistoryService.getAsOf(date, null).stream()
+                .filter(version -> version.getEmployeeId().equals(employee.getId()))
+                .findFirst();
+    }
+}
@@ -1,14 +1,19 @@
 package com.employeemanagement.service;
 
+import com.employeemanagement.cache.EmployeeCache;
+import com.employeemanagement.cache.ExistenceFilterService;
 import com.employeemanagement.dto.EmployeeRequest;
 import com.employeemanagement.entity.Employee;
+import com.employeemanagement.event.EmployeeChangedEvent;
 import com.employeemanagement.repository.EmployeeRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -26,6 +31,19 @@ class EmployeeServiceTest {
     @Mock
     private EmployeeRepository employeeRepository;
     
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Mock
+    private OrgHierarchyService orgHierarchyService;
+    
+    @Mock
+    private EmployeeCache employeeCache;
+    
+    // Filters are not built, so every check falls through to the repository mock
+    @Spy
+    private ExistenceFilterService existenceFilterService = new ExistenceFilterService();
+    
     @InjectMocks
     private EmployeeService employeeService;
     
@@ -145,30 +163,32 @@ class EmployeeServiceTest {
     @Test
     void testDeleteEmployee() {
         // Given
-        when(employeeRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(employeeRepository).deleteById(1L);
+        when(employeeRepository.findById(1L)).thenReturn(Optional.of(testEmployee));
+        doNothing().when(employeeRepository).delete(testEmployee);
         
         // When
         boolean result = employeeService.deleteEmployee(1L);
         
         // Then
         assertTrue(result);
-        verify(employeeRepository, times(1)).existsById(1L);
-        verify(employeeRepository, times(1)).deleteById(1L);
+        verify(employeeRepository, times(1)).findById(1L);
+        verify(employeeRepository, times(1)).delete(testEmployee);
+        verify(eventPublisher, times(1)).publishEvent(any(EmployeeChangedEvent.class));
     }
     
     @Test
     void testDeleteEmployeeNotFound() {
         // Given
-        when(employeeRepository.existsById(1L)).thenReturn(false);
+        when(employeeRepository.findById(1L)).thenReturn(Optional.empty());
         
         // When
         boolean result = employeeService.deleteEmployee(1L);
         
         // Then
         assertFalse(result);
-        verify(employeeRepository, times(1)).existsById(1L);
-        verify(employeeRepository, never()).deleteById(1L);
+        verify(employeeRepository, times(1)).findById(1L);
+        verify(employeeRepository, never()).delete(any(Employee.class));
+        verify(eventPublisher, never()).publishEvent(any());
     }
     
     @Test
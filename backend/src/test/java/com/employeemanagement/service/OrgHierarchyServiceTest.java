@@ -0,0 +1,91 @@
+package com.employeemanagement.service;
+
+import com.employeemanagement.dto.EmployeeRequest;
+import com.employeemanagement.entity.Employee;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class OrgHierarchyServiceTest {
+    
+    @Autowired
+    private EmployeeService employeeService;
+    
+    @Autowired
+    private OrgHierarchyService orgHierarchyService;
+    
+    @Test
+    void testSubtreeAncestorsAndDirectReports() {
+        Employee vp = createEmployee("Vp", null);
+        Employee lead = createEmployee("Lead", vp.getId());
+        Employee developer = createEmployee("Developer", lead.getId());
+        
+        assertEquals(List.of(lead.getId(), developer.getId()), ids(orgHierarchyService.getSubtree(vp.getId(), null)));
+        assertEquals(List.of(lead.getId()), ids(orgHierarchyService.getSubtree(vp.getId(), 1)));
+        assertEquals(List.of(lead.getId(), vp.getId()), ids(orgHierarchyService.getAncestors(developer.getId())));
+        assertEquals(List.of(lead.getId()), ids(orgHierarchyService.getDirectReports(vp.getId())));
+    }
+    
+    @Test
+    void testChangeManagerMovesWholeSubtree() {
+        Employee vp = createEmployee("Vp", null);
+        Employee otherVp = createEmployee("Othervp", null);
+        Employee lead = createEmployee("Lead", vp.getId());
+        Employee developer = createEmployee("Developer", lead.getId());
+        
+        employeeService.changeManager(lead.getId(), otherVp.getId());
+        
+        assertTrue(orgHierarchyService.getSubtree(vp.getId(), null).isEmpty());
+        assertEquals(List.of(lead.getId(), developer.getId()), ids(orgHierarchyService.getSubtree(otherVp.getId(), null)));
+        assertEquals(List.of(lead.getId(), otherVp.getId()), ids(orgHierarchyService.getAncestors(developer.getId())));
+    }
+    
+    @Test
+    void testChangeManagerRejectsCycles() {
+        Employee vp = createEmployee("Vp", null);
+        Employee lead = createEmployee("Lead", vp.getId());
+        Employee developer = createEmployee("Developer", lead.getId());
+        
+        assertThrows(IllegalArgumentException.class,
+                () -> employeeService.changeManager(vp.getId(), developer.getId()));
+        assertThrows(IllegalArgumentException.class,
+                () -> employeeService.changeManager(vp.getId(), vp.getId()));
+    }
+    
+    @Test
+    void testDeleteMovesReportsUpOneLevel() {
+        Employee vp = createEmployee("Vp", null);
+        Employee lead = createEmployee("Lead", vp.getId());
+        Employee developer = createEmployee("Developer", lead.getId());
+        
+        employeeService.deleteEmployee(lead.getId());
+        
+        assertEquals(List.of(vp.getId()), ids(orgHierarchyService.getAncestors(developer.getId())));
+        assertEquals(List.of(developer.getId()), ids(orgHierarchyService.getDirectReports(vp.getId())));
+        assertEquals(List.of(developer.getId()), ids(orgHierarchyService.getSubtree(vp.getId(), null)));
+    }
+    
+    private Employee createEmployee(String firstName, Long managerId) {
+        EmployeeRequest request = new EmployeeRequest(firstName, "Hierarchy",
+                firstName.toLowerCase() + ".hierarchy@test.com", null, "Engineering",
+                new BigDecimal("50000"), LocalDate.of(2022, 1, 1));
+        request.setManagerId(managerId);
+        return employeeService.createEmployee(request);
+    }
+    
+    private static List<Long> ids(List<Employee> employees) {
+        return employees.stream().map(Employee::getId).collect(Collectors.toList());
+    }
+}
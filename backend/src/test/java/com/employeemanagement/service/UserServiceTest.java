@@ -0,0 +1,51 @@
+package com.employeemanagement.service;
+
+import com.employeemanagement.entity.Role;
+import com.employeemanagement.entity.User;
+import com.employeemanagement.event.ChangeType;
+import com.employeemanagement.event.UserChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@RecordApplicationEvents
+class UserServiceTest {
+
+    @Autowired
+    private UserService userService;
+    
+    @Autowired
+    private ApplicationEvents events;
+    
+    @Test
+    void testUpdateEventCarriesTheStateBeforeTheChange() {
+        User user = userService.createUser("umberto", "umberto@test.com", "password123",
+                new HashSet<>(Set.of(Role.EMPLOYEE)), null);
+        
+        userService.updateUser(user.getId(), changed -> changed.setEmail("umberto.updated@test.com"));
+        
+        UserChangedEvent event = events.stream(UserChangedEvent.class)
+                .filter(changed -> changed.getType() == ChangeType.UPDATED)
+                .findFirst().orElseThrow();
+        assertEquals("umberto@test.com", event.getBefore().getEmail());
+        assertEquals("umberto.updated@test.com", event.getAfter().getEmail());
+    }
+    
+    @Test
+    void testUpdateOfMissingUserReturnsNull() {
+        assertNull(userService.updateUser(Long.MAX_VALUE, changed -> changed.setEnabled(false)));
+        assertEquals(0, events.stream(UserChangedEvent.class).count());
+    }
+}
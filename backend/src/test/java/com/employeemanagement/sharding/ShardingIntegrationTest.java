@@ -0,0 +1,352 @@
+package com.employeemanagement.sharding;
+
+import com.employeemanagement.analytics.SalaryAnalyticsService;
+import com.employeemanagement.audit.AuditService;
+import com.employeemanagement.dto.EmployeeRequest;
+import com.employeemanagement.dto.SalaryPercentilesResponse;
+import com.employeemanagement.dto.TenantMoveResponse;
+import com.employeemanagement.dto.TerminationRequest;
+import com.employeemanagement.entity.ArchivedEmployee;
+import com.employeemanagement.entity.Employee;
+import com.employeemanagement.entity.Role;
+import com.employeemanagement.repository.ArchivedEmployeeRepository;
+import com.employeemanagement.repository.EmployeeHierarchyRepository;
+import com.employeemanagement.repository.EmployeeHistoryRepository;
+import com.employeemanagement.repository.EmployeeRepository;
+import com.employeemanagement.security.JwtKeyManager;
+import com.employeemanagement.security.JwtSigningKey;
+import com.employeemanagement.security.JwtUtils;
+import com.employeemanagement.service.EmployeeArchiveService;
+import com.employeemanagement.service.EmployeeService;
+import com.employeemanagement.service.OrgHierarchyService;
+import com.employeemanagement.service.UserService;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ActiveProfiles({"test", "sharding"})
+@DirtiesContext
+class ShardingIntegrationTest {
+
+    @Autowired
+    private EmployeeService employeeService;
+    
+    @Autowired
+    private OrgHierarchyService orgHierarchyService;
+    
+    @Autowired
+    private EmployeeRepository employeeRepository;
+    
+    @Autowired
+    private ShardMap shardMap;
+    
+    @Autowired
+    private ShardQueryExecutor shardQueryExecutor;
+    
+    @Autowired
+    private TenantMoveService tenantMoveService;
+    
+    @Autowired
+    private EmployeeArchiveService employeeArchiveService;
+    
+    @Autowired
+    private ArchivedEmployeeRepository archivedEmployeeRepository;
+    
+    @Autowired
+    private EmployeeHistoryRepository employeeHistoryRepository;
+    
+    @Autowired
+    private EmployeeHierarchyRepository employeeHierarchyRepository;
+    
+    @Autowired
+    private UserService userService;
+    
+    @Autowired
+    private AuditService auditService;
+    
+    @Autowired
+    private SalaryAnalyticsService salaryAnalyticsService;
+    
+    @Autowired
+    private JwtKeyManager jwtKeyManager;
+    
+    @Autowired
+    private JwtUtils jwtUtils;
+    
+    @Autowired
+    private WebApplicationContext context;
+    
+    @AfterEach
+    void clearTenant() {
+        TenantContext.clear();
+    }
+    
+    @Test
+    void testTenantDataIsStoredOnItsShardOnly() {
+        TenantContext.setTenantId("acme");
+        Employee manager = createEmployee("Acme", "Manager", null);
+        createEmployee("Acme", "Engineer", manager.getId());
+        assertEquals(2, employeeService.getAllEmployees().size());
+        
+        // acme is on the second shard, so its ids come from the second range
+        assertTrue(manager.getId() >= ShardMap.ID_RANGE_SIZE);
+        Map<String, Long> acmeRows = countTenantRows("acme");
+        assertEquals(0L, acmeRows.get("shard0"));
+        assertEquals(2L, acmeRows.get("shard1"));
+        
+        // Another tenant on the same shard does not see acme's rows
+        TenantContext.setTenantId("acme-sibling");
+        shardMap.assign("acme-sibling", "shard1");
+        assertTrue(employeeService.getAllEmployees().isEmpty());
+        assertFalse(employeeService.getEmployeeById(manager.getId()).isPresent());
+        assertFalse(employeeService.deleteEmployee(manager.getId()));
+        assertNull(employeeService.changeManager(manager.getId(), null));
+    }
+    
+    @Test
+    void testTokenWithoutTenantSeesOnlyTheDefaultTenant() throws Exception {
+        String tenant = "umbrella";
+        shardMap.assign(tenant, shardMap.shardFor(TenantContext.DEFAULT_TENANT));
+        TenantContext.setTenantId(tenant);
+        createEmployee("Umbrella", "Chemist", null);
+        TenantContext.setTenantId(TenantContext.DEFAULT_TENANT);
+        userService.createUser("tenantless.admin", "tenantless.admin@sharding.test", "password123",
+                Set.of(Role.ADMIN), null);
+        TenantContext.clear();
+        
+        // Signed like a real token, but without the tenant claim
+        JwtSigningKey key = jwtKeyManager.getSigningKey();
+        String token = Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, key.getKid())
+                .setSubject("tenantless.admin")
+                .setId(UUID.randomUUID().toString())
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(key.getPrivateKey(), SignatureAlgorithm.RS256)
+                .compact();
+        
+        mockMvc().perform(get("/employees").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.tenantId != 'default')]").isEmpty());
+    }
+    
+    @Test
+    void testSparseReadsSeeOnlyTheCallersTenant() throws Exception {
+        shardMap.assign("wayne", shardMap.shardFor("acme"));
+        TenantContext.setTenantId("wayne");
+        Employee neighbour = createEmployee("Wayne", "Butler", null);
+        TenantContext.setTenantId("acme");
+        Employee own = createEmployee("Acme", "Auditor", null);
+        userService.createUser("acme.admin", "acme.admin@sharding.test", "password123", Set.of(Role.ADMIN), null);
+        String token = jwtUtils.generateJwtToken(new UsernamePasswordAuthenticationToken("acme.admin", null,
+                List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))));
+        TenantContext.clear();
+        
+        MockMvc mockMvc = mockMvc();
+        String ownRow = "$[?(@.email == '" + own.getEmail() + "')]";
+        String neighbourRow = "$[?(@.email == '" + neighbour.getEmail() + "')]";
+        for (String path : List.of("/employees", "/employees/department/Engineering", "/employees/search?q=sharding")) {
+            mockMvc.perform(get(path).param("fields", "id,email").header("Authorization", "Bearer " + token))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath(ownRow).isNotEmpty())
+                    .andExpect(jsonPath(neighbourRow).isEmpty());
+        }
+        mockMvc.perform(get("/employees/{id}", neighbour.getId()).param("fields", "id,email")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isNotFound());
+    }
+    
+    @Test
+    void testPlatformEndpointsRequireAnAdminOfTheDefaultTenant() throws Exception {
+        TenantContext.setTenantId("stark");
+        userService.createUser("stark.admin", "stark.admin@sharding.test", "password123", Set.of(Role.ADMIN), null);
+        String tenantAdmin = adminToken("stark.admin");
+        TenantContext.setTenantId(TenantContext.DEFAULT_TENANT);
+        userService.createUser("platform.admin", "platform.admin@sharding.test", "password123",
+                Set.of(Role.ADMIN), null);
+        String platformAdmin = adminToken("platform.admin");
+        TenantContext.clear();
+        
+        MockMvc mockMvc = mockMvc();
+        for (String path : List.of("/admin/keys", "/admin/caches", "/admin/shards")) {
+            mockMvc.perform(get(path).header("Authorization", "Bearer " + tenantAdmin))
+                    .andExpect(status().isForbidden());
+            mockMvc.perform(get(path).header("Authorization", "Bearer " + platformAdmin))
+                    .andExpect(status().isOk());
+        }
+    }
+    
+    @Test
+    void testSalaryAnalyticsCoverOnlyTheCallersTenant() {
+        shardMap.assign("hooli", "shard0");
+        shardMap.assign("initrode", "shard1");
+        TenantContext.setTenantId("hooli");
+        employeeService.createEmployee(new EmployeeRequest("Hooli", "Analyst", "hooli.analyst@sharding.test", null,
+                "Analytics", new BigDecimal("70000"), LocalDate.of(2021, 6, 1)));
+        TenantContext.setTenantId("initrode");
+        employeeService.createEmployee(new EmployeeRequest("Initrode", "Analyst", "initrode.analyst@sharding.test",
+                null, "Analytics", new BigDecimal("90000"), LocalDate.of(2021, 6, 1)));
+        TenantContext.clear();
+        
+        // Rebuilt from every shard, as after startup
+        salaryAnalyticsService.rebuild();
+        
+        TenantContext.setTenantId("hooli");
+        double[] max = {100};
+        SalaryPercentilesResponse hooli = salaryAnalyticsService.getPercentiles(max, "Analytics", null, null);
+        assertEquals(1, hooli.getCount());
+        assertEquals(0, new BigDecimal("70000").compareTo(hooli.getPercentiles().get("p100")));
+        TenantContext.setTenantId("initrode");
+        SalaryPercentilesResponse initrode = salaryAnalyticsService.getPercentiles(max, "Analytics", null, null);
+        assertEquals(1, initrode.getCount());
+        assertEquals(0, new BigDecimal("90000").compareTo(initrode.getPercentiles().get("p100")));
+        TenantContext.setTenantId("piedpiper");
+        assertTrue(salaryAnalyticsService.getDepartmentStats(null, null).isEmpty());
+    }
+    
+    @Test
+    void testHierarchyIsVerifiedOnEveryShard() {
+        shardMap.assign("vandelay", "shard1");
+        TenantContext.setTenantId("vandelay");
+        Employee ceo = createEmployee("Vandelay", "Ceo", null);
+        createEmployee("Vandelay", "Importer", ceo.getId());
+        TenantContext.clear();
+        // shard1 is not the directory shard, which was the only one checked before
+        shardQueryExecutor.executeOnShard("shard1", null, false, employeeHierarchyRepository::deleteAllLinks);
+        
+        orgHierarchyService.verifyOnStartup();
+        
+        TenantContext.setTenantId("vandelay");
+        assertEquals(1, orgHierarchyService.getSubtree(ceo.getId(), null).size());
+    }
+    
+    @Test
+    void testMoveTenantCopiesRowsAndHierarchy() throws InterruptedException {
+        String tenant = "initech";
+        String source = shardMap.shardFor(tenant);
+        String target = source.equals("shard0") ? "shard1" : "shard0";
+        
+        TenantContext.setTenantId(tenant);
+        Employee ceo = createEmployee("Initech", "Ceo", null);
+        Employee lead = createEmployee("Initech", "Lead", ceo.getId());
+        createEmployee("Initech", "Engineer", lead.getId());
+        TenantContext.clear();
+        
+        TenantMoveResponse response = tenantMoveService.moveTenant(tenant, target);
+        
+        assertEquals(3, response.getEmployeesMoved());
+        assertEquals(target, shardMap.shardFor(tenant));
+        assertFalse(shardMap.isFrozen(tenant));
+        assertEquals(0L, countTenantRows(tenant).get(source));
+        assertEquals(3L, countTenantRows(tenant).get(target));
+        Map<String, Long> historyRows = shardQueryExecutor.mapAllShards(shardId -> employeeHistoryRepository.findAll()
+                .stream().filter(version -> tenant.equals(version.getTenantId())).count());
+        assertEquals(0L, historyRows.get(source));
+        assertEquals(3L, historyRows.get(target));
+        
+        TenantContext.setTenantId(tenant);
+        // Ids survive the move, so they still name the same employees
+        assertEquals(ceo.getEmail(), employeeService.getEmployeeById(ceo.getId()).orElseThrow().getEmail());
+        assertEquals(1, employeeHistoryRepository.findByEmployeeIdOrderByValidFromAscRecordedAtAsc(ceo.getId()).size());
+        List<Employee> subtree = orgHierarchyService.getSubtree(ceo.getId(), null);
+        assertEquals(2, subtree.size());
+        assertEquals(3, employeeService.getAllEmployees().size());
+        awaitTrue(() -> !auditService.getEmployeeHistory(ceo.getId()).isEmpty());
+        
+        TenantContext.setTenantId("acme");
+        assertTrue(auditService.getEmployeeHistory(ceo.getId()).isEmpty());
+    }
+    
+    @Test
+    void testMoveTenantCarriesArchivedEmployees() {
+        String tenant = "globex";
+        String source = shardMap.shardFor(tenant);
+        String target = source.equals("shard0") ? "shard1" : "shard0";
+        
+        TenantContext.setTenantId(tenant);
+        Employee lead = createEmployee("Globex", "Lead", null);
+        Employee engineer = createEmployee("Globex", "Engineer", lead.getId());
+        employeeArchiveService.terminateEmployee(engineer.getId(),
+                new TerminationRequest(LocalDate.of(2022, 1, 31), "Resigned"));
+        TenantContext.clear();
+        assertEquals(1, shardQueryExecutor.executeOnShard(source, null, false,
+                () -> employeeArchiveService.archiveDueBatch(LocalDate.now(), 10)));
+        
+        assertEquals(1, tenantMoveService.moveTenant(tenant, target).getEmployeesMoved());
+        
+        Map<String, List<ArchivedEmployee>> archived = shardQueryExecutor.mapAllShards(
+                shardId -> archivedEmployeeRepository.findAll());
+        assertTrue(archived.get(source).stream().noneMatch(employee -> tenant.equals(employee.getTenantId())));
+        ArchivedEmployee moved = archived.get(target).stream()
+                .filter(employee -> tenant.equals(employee.getTenantId()))
+                .findFirst().orElseThrow();
+        assertEquals(engineer.getId(), moved.getId());
+        assertEquals(lead.getId(), moved.getManagerId());
+        assertFalse(shardQueryExecutor.executeOnShard(target, null, true,
+                () -> employeeRepository.existsById(engineer.getId())));
+    }
+    
+    @Test
+    void testMoveToCurrentShardIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> tenantMoveService.moveTenant("acme", "shard1"));
+        assertThrows(IllegalArgumentException.class, () -> tenantMoveService.moveTenant("acme", "missing"));
+    }
+    
+    private MockMvc mockMvc() {
+        return MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+    }
+    
+    private String adminToken(String username) {
+        return jwtUtils.generateJwtToken(new UsernamePasswordAuthenticationToken(username, null,
+                List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))));
+    }
+    
+    private Map<String, Long> countTenantRows(String tenant) {
+        return shardQueryExecutor.mapAllShards(shardId -> employeeRepository.findAll().stream()
+                .filter(employee -> tenant.equals(employee.getTenantId()))
+                .count());
+    }
+    
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Timed out waiting for the audit writer");
+            Thread.sleep(20);
+        }
+    }
+    
+    private Employee createEmployee(String tenantName, String role, Long managerId) {
+        EmployeeRequest request = new EmployeeRequest(tenantName, role,
+                (tenantName + "." + role + "@sharding.test").toLowerCase(), null, "Engineering",
+                new BigDecimal("60000"), LocalDate.of(2021, 6, 1));
+        request.setManagerId(managerId);
+        return employeeService.createEmployee(request);
+    }
+}
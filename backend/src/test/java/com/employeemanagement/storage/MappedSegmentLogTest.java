@@ -0,0 +1,78 @@
+package com.employeemanagement.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedSegmentLogTest {
+    
+    @TempDir
+    Path directory;
+    
+    @Test
+    void testAppendAndRead() throws Exception {
+        try (MappedSegmentLog log = new MappedSegmentLog(directory, "test", 4096)) {
+            long first = log.append(1L, bytes("first"));
+            long second = log.append(2L, bytes("second"));
+            
+            assertEquals("first", text(log.read(first)));
+            assertEquals("second", text(log.read(second)));
+            assertEquals(2L, log.keyAt(second));
+        }
+    }
+    
+    @Test
+    void testRollsToNewSegmentWhenFull() throws Exception {
+        try (MappedSegmentLog log = new MappedSegmentLog(directory, "test", 1024)) {
+            List<Long> positions = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                positions.add(log.append(i, bytes("record-" + i + "-padding-padding-padding")));
+            }
+            
+            assertTrue(log.segmentCount() > 1);
+            for (int i = 0; i < 50; i++) {
+                assertEquals("record-" + i + "-padding-padding-padding", text(log.read(positions.get(i))));
+            }
+        }
+    }
+    
+    @Test
+    void testRecoversRecordsAfterReopen() throws Exception {
+        try (MappedSegmentLog log = new MappedSegmentLog(directory, "test", 1024)) {
+            for (int i = 0; i < 30; i++) {
+                log.append(i, bytes("entry-" + i + "-padding-padding"));
+            }
+        }
+        
+        try (MappedSegmentLog log = new MappedSegmentLog(directory, "test", 1024)) {
+            List<Long> keys = new ArrayList<>();
+            log.scan((key, position) -> keys.add(key));
+            assertEquals(30, keys.size());
+            assertEquals(29L, keys.get(29));
+            
+            long next = log.append(99L, bytes("after-reopen"));
+            assertEquals("after-reopen", text(log.read(next)));
+        }
+    }
+    
+    @Test
+    void testRejectsRecordLargerThanSegment() throws Exception {
+        try (MappedSegmentLog log = new MappedSegmentLog(directory, "test", 1024)) {
+            assertThrows(IllegalArgumentException.class, () -> log.append(1L, new byte[2048]));
+        }
+    }
+    
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+    
+    private static String text(byte[] value) {
+        return new String(value, StandardCharsets.UTF_8);
+    }
+}